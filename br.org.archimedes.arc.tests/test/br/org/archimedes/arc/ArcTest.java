@@ -472,5 +472,15 @@ public class ArcTest extends Tester {
 
     }
 
+    @Test
+    public void intersectsRectanglesCrossedByTheArc () throws Exception {
+
+        assertTrue(arc1.intersects(new Rectangle( -0.1, 0.9, 0.1, 1.1)));
+        assertTrue(arc1.intersects(new Rectangle(0.9, -0.1, 1.1, 0.1)));
+        assertTrue(arc1.intersects(new Rectangle( -2, -2, 2, 2)));
+        assertFalse(arc1.intersects(new Rectangle( -0.1, -1.1, 0.1, -0.9)));
+        assertFalse(arc1.intersects(new Rectangle( -0.5, -0.5, 0.5, 0.5)));
+    }
+
     // TODO Tests for mirror of an arc
 }
@@ -27,6 +27,7 @@ import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Offsetable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
 import br.org.archimedes.model.ReferencePoint;
 import br.org.archimedes.model.Vector;
 import br.org.archimedes.model.references.CirclePoint;
@@ -41,7 +42,7 @@ import java.util.List;
  * This class represents an Arc of a circle. It is very similar to the circle but adds some
  * complexity to restrict the start and end of the arc.
  */
-public class Arc extends CurvedShape implements Offsetable {
+public class Arc extends CurvedShape implements Offsetable, RectangleIntersectable {
 
     private Point initialPoint;
 
@@ -485,20 +486,83 @@ public class Arc extends CurvedShape implements Offsetable {
      */
     public boolean contains (Point point) throws NullArgumentException {
 
-        boolean result = false;
+        if (point == null) {
+            throw new NullArgumentException();
+        }
+        return contains(point.getX(), point.getY());
+    }
 
-        double distance = Geometrics.calculateDistance(point, centerPoint);
-        double radius = Geometrics.calculateDistance(initialPoint, centerPoint);
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
+     */
+    public boolean intersects (Rectangle rectangle) throws NullArgumentException {
 
-        if (Math.abs(distance - radius) <= Constant.EPSILON) {
-            double intermediateSign = Geometrics.calculateDeterminant(initialPoint, endingPoint,
-                    intermediatePoint);
-            double pointSign = Geometrics.calculateDeterminant(initialPoint, endingPoint, point);
+        if (rectangle == null) {
+            throw new NullArgumentException();
+        }
+        if (initialPoint.isInside(rectangle) || endingPoint.isInside(rectangle)) {
+            return true;
+        }
 
-            result = ((intermediateSign * pointSign) >= 0.0);
+        // Otherwise the arc can only touch the rectangle by crossing one of its borders
+        double radius = getRadius();
+        return crossesBorder(rectangle.getMinX(), rectangle.getMinY(), rectangle.getMaxY(), true,
+                radius)
+                || crossesBorder(rectangle.getMaxX(), rectangle.getMinY(), rectangle.getMaxY(),
+                        true, radius)
+                || crossesBorder(rectangle.getMinY(), rectangle.getMinX(), rectangle.getMaxX(),
+                        false, radius)
+                || crossesBorder(rectangle.getMaxY(), rectangle.getMinX(), rectangle.getMaxX(),
+                        false, radius);
+    }
+
+    /**
+     * @param fixed
+     *            The coordinate shared by all points of the border
+     * @param minimum
+     *            The smallest value of the other coordinate on the border
+     * @param maximum
+     *            The biggest value of the other coordinate on the border
+     * @param vertical
+     *            true if the border is vertical (fixed is a x coordinate), false otherwise
+     * @param radius
+     *            The radius of the arc
+     * @return true if the arc crosses the border, false otherwise
+     */
+    private boolean crossesBorder (double fixed, double minimum, double maximum,
+            boolean vertical, double radius) {
+
+        double offset = fixed - (vertical ? centerPoint.getX() : centerPoint.getY());
+        if (Math.abs(offset) > radius + Constant.EPSILON) {
+            return false;
         }
 
-        return result;
+        double middle = vertical ? centerPoint.getY() : centerPoint.getX();
+        double root = Math.sqrt(Math.max(0, radius * radius - offset * offset));
+        for (int sign = -1; sign <= 1; sign += 2) {
+            double value = middle + sign * root;
+            if (value >= minimum && value <= maximum
+                    && (vertical ? isOnArcSide(fixed, value) : isOnArcSide(value, fixed))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the point of the arc circle is on the same side of the chord as the
+     *         intermediate point, false otherwise
+     */
+    private boolean isOnArcSide (double x, double y) {
+
+        double pointSide = Geometrics.calculateDeterminant(initialPoint.getX(), initialPoint
+                .getY(), endingPoint.getX(), endingPoint.getY(), x, y);
+        double intermediateSide = Geometrics.calculateDeterminant(initialPoint.getX(),
+                initialPoint.getY(), endingPoint.getX(), endingPoint.getY(), intermediatePoint
+                        .getX(), intermediatePoint.getY());
+
+        return pointSide * intermediateSide >= 0.0;
     }
 
     public boolean contains (Arc arc) throws NullArgumentException {
@@ -523,13 +587,21 @@ public class Arc extends CurvedShape implements Offsetable {
     private boolean contains (double x, double y) {
 
         boolean result = false;
-        try {
-            result = contains(new Point(x, y));
-        }
-        catch (NullArgumentException e) {
-            // Should not reach this code
-            e.printStackTrace();
+
+        double distance = Geometrics.calculateDistance(x, y, centerPoint.getX(), centerPoint
+                .getY());
+        double radius = getRadius();
+
+        if (Math.abs(distance - radius) <= Constant.EPSILON) {
+            double intermediateSign = Geometrics.calculateDeterminant(initialPoint.getX(),
+                    initialPoint.getY(), endingPoint.getX(), endingPoint.getY(),
+                    intermediatePoint.getX(), intermediatePoint.getY());
+            double pointSign = Geometrics.calculateDeterminant(initialPoint.getX(), initialPoint
+                    .getY(), endingPoint.getX(), endingPoint.getY(), x, y);
+
+            result = ((intermediateSign * pointSign) >= 0.0);
         }
+
         return result;
     }
 
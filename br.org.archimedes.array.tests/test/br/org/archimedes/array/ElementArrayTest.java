@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array.tests project.<br>
+ */
+package br.org.archimedes.array;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.Tester;
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.LineStyle;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+import br.org.archimedes.stub.StubElement;
+
+/**
+ * Belongs to package br.org.archimedes.array.
+ *
+ * @author agent
+ */
+public class ElementArrayTest extends Tester {
+
+    private List<Element> selection;
+
+    private Layer layer;
+
+
+    @Before
+    public void setUp () {
+
+        layer = new Layer(Constant.WHITE, "Layer", LineStyle.CONTINUOUS, 1); //$NON-NLS-1$
+        selection = new ArrayList<Element>();
+        Element element = new StubElement();
+        element.setLayer(layer);
+        selection.add(element);
+        element = new StubElement();
+        element.setLayer(layer);
+        selection.add(element);
+    }
+
+    @Test
+    public void rectangularArrayReferencesOneDefinition () throws Exception {
+
+        ElementArray array = new ElementArray(selection, new Point(1, 1));
+        assertEquals(1, array.getDefinitions().size());
+
+        List<Element> copies = array.createRectangular(2, 3, new Vector(new Point(10, 5)));
+        assertEquals(5, copies.size());
+
+        BlockReference last = (BlockReference) copies.get(4);
+        assertSame(array.getDefinitions().get(layer), last.getDefinition());
+        assertSame(layer, last.getLayer());
+        assertEquals(new Point(21, 6), last.getInsertionPoint());
+        assertEquals(2, last.getDefinition().getElements().size());
+    }
+
+    @Test
+    public void polarArrayTurnsTheCopies () throws Exception {
+
+        ElementArray array = new ElementArray(selection, new Point(0, 0));
+
+        List<Element> copies = array.createPolar(4, 2 * Math.PI);
+        assertEquals(3, copies.size());
+        assertEquals(Math.PI / 2, ((BlockReference) copies.get(0)).getRotation(),
+                Constant.EPSILON);
+        assertEquals(3 * Math.PI / 2, ((BlockReference) copies.get(2)).getRotation(),
+                Constant.EPSILON);
+
+        copies = array.createPolar(3, Math.PI);
+        assertEquals(2, copies.size());
+        assertEquals(Math.PI, ((BlockReference) copies.get(1)).getRotation(), Constant.EPSILON);
+    }
+
+    @Test
+    public void oneDefinitionPerLayer () throws Exception {
+
+        Element other = new StubElement();
+        other.setLayer(new Layer(Constant.RED, "Other", LineStyle.CONTINUOUS, 1)); //$NON-NLS-1$
+        selection.add(other);
+
+        ElementArray array = new ElementArray(selection, new Point(0, 0));
+        assertEquals(2, array.getDefinitions().size());
+        assertEquals(4, array.createRectangular(1, 3, new Vector(new Point(1, 0))).size());
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void polarArrayNeedsTwoItems () throws Exception {
+
+        new ElementArray(selection, new Point(0, 0)).createPolar(1, Math.PI);
+    }
+}
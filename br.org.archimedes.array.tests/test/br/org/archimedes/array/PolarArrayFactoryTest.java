@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array.tests project.<br>
+ */
+package br.org.archimedes.array;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.controller.Controller;
+import br.org.archimedes.helper.FactoryTester;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+import br.org.archimedes.stub.StubElement;
+
+/**
+ * Belongs to package br.org.archimedes.array.
+ *
+ * @author agent
+ */
+public class PolarArrayFactoryTest extends FactoryTester {
+
+    private Set<Element> selection;
+
+    private Point center;
+
+    private Vector direction;
+
+    private PolarArrayFactory factory;
+
+
+    @Before
+    public void setUp () {
+
+        factory = new PolarArrayFactory();
+
+        selection = new HashSet<Element>();
+        selection.add(new StubElement());
+        selection.add(new StubElement());
+        center = new Point(0, 0);
+        direction = new Vector(new Point(0, 10));
+
+        Controller controller = br.org.archimedes.Utils.getController();
+        controller.deselectAll();
+        controller.setActiveDrawing(new Drawing("Test")); //$NON-NLS-1$
+    }
+
+    @After
+    public void tearDown () {
+
+        factory = null;
+        direction = null;
+        center = null;
+        selection = null;
+        Controller controller = br.org.archimedes.Utils.getController();
+        controller.deselectAll();
+        controller.setActiveDrawing(null);
+    }
+
+    @Test
+    public void testUsualArray () {
+
+        assertBegin(factory, false);
+        sendsInvalids();
+        assertInvalidNext(factory, center);
+
+        assertSafeNext(factory, selection, false);
+        sendsInvalids();
+        assertInvalidNext(factory, 1);
+        assertInvalidNext(factory, center);
+
+        assertSafeNext(factory, 6, false);
+        sendsInvalids();
+        assertInvalidNext(factory, 6);
+
+        assertSafeNext(factory, center, false);
+        assertInvalidNext(factory, new Object());
+        assertInvalidNext(factory, 0.0);
+        assertInvalidNext(factory, center);
+
+        assertSafeNext(factory, direction, true);
+        sendsInvalids();
+
+        // Use the same factory with an angle
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 4, false);
+        assertSafeNext(factory, center, false);
+        assertSafeNext(factory, 180.0, true);
+    }
+
+    @Test
+    public void testNoAngleFillsTheCircle () {
+
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 8, false);
+        assertSafeNext(factory, center, false);
+        assertSafeNext(factory, null, true);
+    }
+
+    /**
+     * Sends garbage to the factory.
+     */
+    private void sendsInvalids () {
+
+        assertInvalidNext(factory, new Object());
+        assertInvalidNext(factory, null);
+    }
+
+    @Test
+    public void testCancel () {
+
+        assertBegin(factory, false);
+        assertCancel(factory, false);
+
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 3, false);
+        assertCancel(factory, false);
+
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 3, false);
+        assertSafeNext(factory, center, false);
+        assertCancel(factory, false);
+    }
+
+    @Override
+    @Test
+    public void testFactoryName () {
+
+        assertNotNull(factory.getName());
+    }
+}
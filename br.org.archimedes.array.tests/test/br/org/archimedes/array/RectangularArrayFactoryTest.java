@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array.tests project.<br>
+ */
+package br.org.archimedes.array;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.controller.Controller;
+import br.org.archimedes.helper.FactoryTester;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+import br.org.archimedes.stub.StubElement;
+
+/**
+ * Belongs to package br.org.archimedes.array.
+ *
+ * @author agent
+ */
+public class RectangularArrayFactoryTest extends FactoryTester {
+
+    private Set<Element> selection;
+
+    private Point base;
+
+    private Vector spacing;
+
+    private RectangularArrayFactory factory;
+
+
+    @Before
+    public void setUp () {
+
+        factory = new RectangularArrayFactory();
+
+        selection = new HashSet<Element>();
+        selection.add(new StubElement());
+        selection.add(new StubElement());
+        base = new Point(0, 0);
+        spacing = new Vector(new Point(10, 20));
+
+        Controller controller = br.org.archimedes.Utils.getController();
+        controller.deselectAll();
+        controller.setActiveDrawing(new Drawing("Test")); //$NON-NLS-1$
+    }
+
+    @After
+    public void tearDown () {
+
+        factory = null;
+        spacing = null;
+        base = null;
+        selection = null;
+        Controller controller = br.org.archimedes.Utils.getController();
+        controller.deselectAll();
+        controller.setActiveDrawing(null);
+    }
+
+    @Test
+    public void testUsualArray () {
+
+        assertBegin(factory, false);
+        sendsInvalids();
+        assertInvalidNext(factory, base);
+
+        assertSafeNext(factory, selection, false);
+        sendsInvalids();
+        assertInvalidNext(factory, 0);
+        assertInvalidNext(factory, -2);
+
+        assertSafeNext(factory, 2, false);
+        sendsInvalids();
+        assertInvalidNext(factory, 0);
+
+        assertSafeNext(factory, 3, false);
+        sendsInvalids();
+        assertInvalidNext(factory, 3);
+
+        assertSafeNext(factory, base, false);
+        assertInvalidNext(factory, new Object());
+        assertInvalidNext(factory, base);
+
+        assertSafeNext(factory, spacing, true);
+        sendsInvalids();
+
+        // Use the same factory
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 1, false);
+        assertSafeNext(factory, 2, false);
+        assertSafeNext(factory, base, false);
+        assertSafeNext(factory, spacing, true);
+    }
+
+    @Test
+    public void testSingleCellHasNoCopy () {
+
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 1, false);
+        assertInvalidNext(factory, 1);
+        assertSafeNext(factory, 4, false);
+    }
+
+    /**
+     * Sends garbage to the factory.
+     */
+    private void sendsInvalids () {
+
+        assertInvalidNext(factory, new Object());
+        assertInvalidNext(factory, null);
+    }
+
+    @Test
+    public void testCancel () {
+
+        assertBegin(factory, false);
+        assertCancel(factory, false);
+
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 2, false);
+        assertCancel(factory, false);
+
+        assertBegin(factory, false);
+        assertSafeNext(factory, selection, false);
+        assertSafeNext(factory, 2, false);
+        assertSafeNext(factory, 2, false);
+        assertSafeNext(factory, base, false);
+        assertCancel(factory, false);
+    }
+
+    @Override
+    @Test
+    public void testFactoryName () {
+
+        assertNotNull(factory.getName());
+    }
+}
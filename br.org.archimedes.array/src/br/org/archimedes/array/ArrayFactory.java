@@ -0,0 +1,299 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array project.<br>
+ */
+package br.org.archimedes.array;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import br.org.archimedes.controller.commands.PutOrRemoveElementCommand;
+import br.org.archimedes.exceptions.InvalidParameterException;
+import br.org.archimedes.exceptions.NoActiveDrawingException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.factories.CommandFactory;
+import br.org.archimedes.gui.opengl.OpenGLWrapper;
+import br.org.archimedes.interfaces.Command;
+import br.org.archimedes.interfaces.Parser;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.parser.SimpleSelectionParser;
+
+/**
+ * Belongs to package br.org.archimedes.array.<br>
+ * Base of the array factories. Gets the selection and puts all the copies on the drawing with a
+ * single command so that one undo removes the whole array.
+ *
+ * @author agent
+ */
+public abstract class ArrayFactory implements CommandFactory {
+
+    private Set<Element> selection;
+
+    private Rectangle selectionBoundary;
+
+    private boolean active;
+
+    private Command command;
+
+
+    public ArrayFactory () {
+
+        deactivate();
+    }
+
+    public String begin () {
+
+        active = true;
+        String returnValue = Messages.SelectionExpected;
+        try {
+            Set<Element> selection = br.org.archimedes.Utils.getController()
+                    .getCurrentSelectedElements();
+
+            if (selection != null && !selection.isEmpty()) {
+                returnValue = next(selection);
+            }
+        }
+        catch (NoActiveDrawingException e) {
+            returnValue = cancel();
+        }
+        catch (InvalidParameterException e) {
+            // Should not happen
+            e.printStackTrace();
+        }
+
+        return returnValue;
+    }
+
+    /**
+     * Deactivates this factory
+     */
+    private void deactivate () {
+
+        active = false;
+        selection = null;
+        selectionBoundary = null;
+        reset();
+    }
+
+    /**
+     * Forgets every parameter given after the selection.
+     */
+    protected abstract void reset ();
+
+    public String next (Object parameter) throws InvalidParameterException {
+
+        if ( !active) {
+            throw new InvalidParameterException();
+        }
+
+        String result;
+        if (selection == null) {
+            result = tryGetSelection(parameter);
+        }
+        else {
+            result = nextParameter(parameter);
+        }
+        return result;
+    }
+
+    /**
+     * Tries to get a selection from the parameter.
+     *
+     * @param parameter
+     *            Potentially a selection.
+     * @return A nice message for the user.
+     * @throws InvalidParameterException
+     *             Thrown if the parameter is not a valid selection.
+     */
+    @SuppressWarnings("unchecked")//$NON-NLS-1$
+    private String tryGetSelection (Object parameter) throws InvalidParameterException {
+
+        if (parameter == null) {
+            throw new InvalidParameterException(Messages.SelectionExpected);
+        }
+        try {
+            selection = (Set<Element>) parameter;
+        }
+        catch (ClassCastException e) {
+            throw new InvalidParameterException(Messages.SelectionExpected);
+        }
+
+        String result;
+        if (selection.isEmpty()) {
+            selection = null;
+            result = Messages.SelectionExpected;
+        }
+        else {
+            selectionBoundary = calculateBoundary(selection);
+            result = getFirstMessage();
+        }
+        return result;
+    }
+
+    /**
+     * @param elements
+     *            The elements to bound
+     * @return The rectangle containing the elements or null if none is bounded
+     */
+    private Rectangle calculateBoundary (Set<Element> elements) {
+
+        Rectangle boundary = null;
+        for (Element element : elements) {
+            Rectangle rectangle = element.getBoundaryRectangle();
+            if (rectangle == null) {
+                continue;
+            }
+            if (boundary == null) {
+                boundary = rectangle;
+            }
+            else {
+                boundary = new Rectangle(Math.min(boundary.getMinX(), rectangle.getMinX()), Math
+                        .min(boundary.getMinY(), rectangle.getMinY()), Math.max(boundary
+                        .getMaxX(), rectangle.getMaxX()), Math.max(boundary.getMaxY(), rectangle
+                        .getMaxY()));
+            }
+        }
+        return boundary;
+    }
+
+    /**
+     * @return The message asking for the first parameter after the selection
+     */
+    protected abstract String getFirstMessage ();
+
+    /**
+     * @param parameter
+     *            The parameter given after the selection
+     * @return A nice message for the user.
+     * @throws InvalidParameterException
+     *             Thrown if the parameter is not valid
+     */
+    protected abstract String nextParameter (Object parameter) throws InvalidParameterException;
+
+    /**
+     * Creates the command that puts the copies on the drawing and deactivates the factory.
+     *
+     * @param copies
+     *            The copies created from the array
+     * @return A nice message for the user.
+     */
+    protected String finish (List<Element> copies) {
+
+        try {
+            command = new PutOrRemoveElementCommand(copies, false);
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+        }
+        deactivate();
+        return Messages.Created;
+    }
+
+    /**
+     * @return The selected elements
+     */
+    protected Set<Element> getSelection () {
+
+        return selection;
+    }
+
+    public boolean isDone () {
+
+        return !active;
+    }
+
+    public String cancel () {
+
+        deactivate();
+        return Messages.Canceled;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#getNextParser()
+     */
+    public Parser getNextParser () {
+
+        Parser returnParser = null;
+        if ( !active) {
+            returnParser = null;
+        }
+        else if (selection == null) {
+            returnParser = new SimpleSelectionParser();
+        }
+        else {
+            returnParser = getNextParameterParser();
+        }
+        return returnParser;
+    }
+
+    /**
+     * @return The parser for the next parameter after the selection
+     */
+    protected abstract Parser getNextParameterParser ();
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#drawVisualHelper()
+     */
+    public void drawVisualHelper () {
+
+        if ( !isDone() && selectionBoundary != null) {
+            OpenGLWrapper wrapper = br.org.archimedes.Utils.getOpenGLWrapper();
+            wrapper.setLineStyle(OpenGLWrapper.STIPPLED_LINE);
+            wrapper.setPrimitiveType(OpenGLWrapper.PRIMITIVE_LINE_LOOP);
+            drawPreview(wrapper, selectionBoundary.getPoints());
+            wrapper.setPrimitiveType(OpenGLWrapper.PRIMITIVE_LINE);
+            wrapper.setLineStyle(OpenGLWrapper.CONTINUOUS_LINE);
+        }
+    }
+
+    /**
+     * Draws where the copies will be. Drawing the outline of the selection is enough and does not
+     * depend on how many elements were selected.
+     *
+     * @param wrapper
+     *            The wrapper to draw with, set to draw closed stippled lines
+     * @param outline
+     *            The corners of the rectangle containing the selection
+     */
+    protected abstract void drawPreview (OpenGLWrapper wrapper, List<Point> outline);
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#getCommands()
+     */
+    public List<Command> getCommands () {
+
+        List<Command> cmds = null;
+
+        if (command != null) {
+            cmds = new ArrayList<Command>();
+            cmds.add(command);
+            command = null;
+        }
+
+        return cmds;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#isTransformFactory()
+     */
+    public boolean isTransformFactory () {
+
+        return true;
+    }
+}
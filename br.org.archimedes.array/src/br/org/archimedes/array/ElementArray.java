@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array project.<br>
+ */
+package br.org.archimedes.array;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.block.BlockDefinition;
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+
+/**
+ * Belongs to package br.org.archimedes.array.<br>
+ * Places copies of a selection as block references. The selection is copied once into one block
+ * definition per layer and every copy is a reference to it, so an array costs the selection plus
+ * a few numbers per copy. The original elements stay where they are and count as the first copy.
+ *
+ * @author agent
+ */
+public class ElementArray {
+
+    private static int arrays;
+
+    private Point basePoint;
+
+    private Map<Layer, BlockDefinition> definitions;
+
+
+    /**
+     * @param selection
+     *            The elements to copy
+     * @param basePoint
+     *            The point that will be the origin of the blocks
+     * @throws NullArgumentException
+     *             Thrown if any argument is null
+     */
+    public ElementArray (Collection<Element> selection, Point basePoint)
+            throws NullArgumentException {
+
+        if (selection == null || basePoint == null) {
+            throw new NullArgumentException();
+        }
+        this.basePoint = basePoint.clone();
+
+        Map<Layer, List<Element>> byLayer = new LinkedHashMap<Layer, List<Element>>();
+        for (Element element : selection) {
+            List<Element> elements = byLayer.get(element.getLayer());
+            if (elements == null) {
+                elements = new ArrayList<Element>();
+                byLayer.put(element.getLayer(), elements);
+            }
+            elements.add(element);
+        }
+
+        int array = ++arrays;
+        definitions = new LinkedHashMap<Layer, BlockDefinition>();
+        for (Layer layer : byLayer.keySet()) {
+            String name = "*U" + array + "_" + definitions.size(); //$NON-NLS-1$ //$NON-NLS-2$
+            definitions.put(layer, new BlockDefinition(name, byLayer.get(layer), basePoint));
+        }
+    }
+
+    /**
+     * @return The definitions of the array by layer of the copied elements
+     */
+    public Map<Layer, BlockDefinition> getDefinitions () {
+
+        return definitions;
+    }
+
+    /**
+     * Creates the copies of a rectangular array. The original elements are on the first row and
+     * first column.
+     *
+     * @param rows
+     *            The number of rows
+     * @param columns
+     *            The number of columns
+     * @param spacing
+     *            The distance between columns on the x axis and between rows on the y axis
+     * @return The references to add to the drawing
+     * @throws NullArgumentException
+     *             Thrown if the spacing is null
+     * @throws InvalidArgumentException
+     *             Thrown if there is less than one row or column
+     */
+    public List<Element> createRectangular (int rows, int columns, Vector spacing)
+            throws NullArgumentException, InvalidArgumentException {
+
+        if (spacing == null) {
+            throw new NullArgumentException();
+        }
+        if (rows < 1 || columns < 1) {
+            throw new InvalidArgumentException();
+        }
+
+        List<Element> copies = new ArrayList<Element>(rows * columns * definitions.size());
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (row > 0 || column > 0) {
+                    Point insertion = new Point(basePoint.getX() + column * spacing.getX(),
+                            basePoint.getY() + row * spacing.getY());
+                    addReferences(copies, insertion, 0);
+                }
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Creates the copies of a polar array around the base point. The copies are turned like the
+     * position they are in.
+     *
+     * @param items
+     *            The number of items, counting the original elements
+     * @param fillAngle
+     *            The angle, in radians, between the original elements and the last copy. A full
+     *            circle (or more) spreads the items evenly around it. Negative angles fill
+     *            clockwise.
+     * @return The references to add to the drawing
+     * @throws InvalidArgumentException
+     *             Thrown if there are less than two items or the angle is zero
+     */
+    public List<Element> createPolar (int items, double fillAngle)
+            throws InvalidArgumentException {
+
+        if (items < 2 || Math.abs(fillAngle) <= Constant.EPSILON) {
+            throw new InvalidArgumentException();
+        }
+
+        double step;
+        if (Math.abs(fillAngle) >= 2 * Math.PI - Constant.EPSILON) {
+            step = Math.signum(fillAngle) * 2 * Math.PI / items;
+        }
+        else {
+            step = fillAngle / (items - 1);
+        }
+
+        List<Element> copies = new ArrayList<Element>(items * definitions.size());
+        for (int item = 1; item < items; item++) {
+            addReferences(copies, basePoint, item * step);
+        }
+        return copies;
+    }
+
+    /**
+     * Adds one reference to each definition. Each reference gets its own copy of the insertion
+     * point.
+     *
+     * @param copies
+     *            The list to add to
+     * @param insertion
+     *            The insertion point of the references
+     * @param rotation
+     *            The rotation of the references
+     */
+    private void addReferences (List<Element> copies, Point insertion, double rotation) {
+
+        for (Map.Entry<Layer, BlockDefinition> entry : definitions.entrySet()) {
+            try {
+                BlockReference reference = new BlockReference(entry.getValue(), insertion
+                        .clone(), rotation, 1.0, false);
+                reference.setLayer(entry.getKey());
+                copies.add(reference);
+            }
+            catch (NullArgumentException e) {
+                // Should never happen
+                e.printStackTrace();
+            }
+            catch (InvalidArgumentException e) {
+                // Should never happen since the scale is 1
+                e.printStackTrace();
+            }
+        }
+    }
+}
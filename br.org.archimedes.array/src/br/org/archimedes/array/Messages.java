@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array project.<br>
+ */
+package br.org.archimedes.array;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Belongs to package br.org.archimedes.array.
+ *
+ * @author agent
+ */
+public class Messages extends NLS {
+
+    private static final String BUNDLE_NAME = "br.org.archimedes.array.messages"; //$NON-NLS-1$
+
+    public static String SelectionExpected;
+
+    public static String RowsExpected;
+
+    public static String ColumnsExpected;
+
+    public static String BaseExpected;
+
+    public static String SpacingExpected;
+
+    public static String ItemsExpected;
+
+    public static String CenterExpected;
+
+    public static String AngleExpected;
+
+    public static String AtLeastOne;
+
+    public static String AtLeastTwo;
+
+    public static String NoCopies;
+
+    public static String ExpectedPoint;
+
+    public static String Created;
+
+    public static String Canceled;
+    static {
+        // initialize resource bundle
+        NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+    }
+
+
+    private Messages () {
+
+    }
+}
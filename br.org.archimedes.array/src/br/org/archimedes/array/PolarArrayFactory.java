@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array project.<br>
+ */
+package br.org.archimedes.array;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.InvalidParameterException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.gui.opengl.OpenGLWrapper;
+import br.org.archimedes.interfaces.Parser;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+import br.org.archimedes.parser.DoubleDecoratorParser;
+import br.org.archimedes.parser.IntegerParser;
+import br.org.archimedes.parser.PointParser;
+import br.org.archimedes.parser.ReturnDecoratorParser;
+import br.org.archimedes.parser.VectorParser;
+
+/**
+ * Belongs to package br.org.archimedes.array.<br>
+ * Copies the selection around a center, turning each copy. Asks for the number of items, the
+ * center and the angle to fill, that can be given in degrees, as a point whose direction from the
+ * center is the angle or skipped to fill the whole circle.
+ *
+ * @author agent
+ */
+public class PolarArrayFactory extends ArrayFactory {
+
+    private int items;
+
+    private Point center;
+
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#reset()
+     */
+    @Override
+    protected void reset () {
+
+        items = 0;
+        center = null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#getFirstMessage()
+     */
+    @Override
+    protected String getFirstMessage () {
+
+        return Messages.ItemsExpected;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#nextParameter(java.lang.Object)
+     */
+    @Override
+    protected String nextParameter (Object parameter) throws InvalidParameterException {
+
+        String result;
+        if (items == 0) {
+            int count;
+            try {
+                count = (Integer) parameter;
+            }
+            catch (ClassCastException e) {
+                throw new InvalidParameterException(Messages.AtLeastTwo);
+            }
+            catch (NullPointerException e) {
+                throw new InvalidParameterException(Messages.AtLeastTwo);
+            }
+            if (count < 2) {
+                throw new InvalidParameterException(Messages.AtLeastTwo);
+            }
+            items = count;
+            result = Messages.CenterExpected;
+        }
+        else if (center == null) {
+            try {
+                center = (Point) parameter;
+            }
+            catch (ClassCastException e) {
+                throw new InvalidParameterException(Messages.ExpectedPoint);
+            }
+            if (center == null) {
+                throw new InvalidParameterException(Messages.ExpectedPoint);
+            }
+            br.org.archimedes.Utils.getWorkspace().setPerpendicularGripReferencePoint(center);
+            result = Messages.AngleExpected;
+        }
+        else {
+            result = completeCommand(getFillAngle(parameter));
+        }
+        return result;
+    }
+
+    /**
+     * @param parameter
+     *            An angle in degrees, a vector from the center or null for a full circle
+     * @return The angle to fill in radians
+     * @throws InvalidParameterException
+     *             Thrown if the parameter is none of those or a null angle
+     */
+    private double getFillAngle (Object parameter) throws InvalidParameterException {
+
+        double angle;
+        if (parameter == null) {
+            angle = 2 * Math.PI;
+        }
+        else if (parameter instanceof Double) {
+            angle = Math.toRadians((Double) parameter);
+        }
+        else if (parameter instanceof Vector) {
+            Vector vector = (Vector) parameter;
+            angle = Math.atan2(vector.getY(), vector.getX());
+            if (angle < 0) {
+                angle += 2 * Math.PI;
+            }
+        }
+        else {
+            throw new InvalidParameterException(Messages.AngleExpected);
+        }
+
+        if (Math.abs(angle) <= Constant.EPSILON) {
+            throw new InvalidParameterException(Messages.AngleExpected);
+        }
+        return angle;
+    }
+
+    /**
+     * Creates the copies of the selection.
+     *
+     * @param fillAngle
+     *            The angle to fill in radians
+     * @return A nice message for the user.
+     */
+    private String completeCommand (double fillAngle) {
+
+        try {
+            ElementArray array = new ElementArray(getSelection(), center);
+            return finish(array.createPolar(items, fillAngle));
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since there is a selection and a center
+            e.printStackTrace();
+        }
+        catch (InvalidArgumentException e) {
+            // Should never happen since the items and angle were checked
+            e.printStackTrace();
+        }
+        return cancel();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#getNextParameterParser()
+     */
+    @Override
+    protected Parser getNextParameterParser () {
+
+        Parser returnParser;
+        if (items == 0) {
+            returnParser = new IntegerParser();
+        }
+        else if (center == null) {
+            returnParser = new PointParser();
+        }
+        else {
+            returnParser = new ReturnDecoratorParser(new DoubleDecoratorParser(new VectorParser(
+                    center)));
+        }
+        return returnParser;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#drawPreview(br.org.archimedes.gui.opengl.OpenGLWrapper,
+     *      java.util.List)
+     */
+    @Override
+    protected void drawPreview (OpenGLWrapper wrapper, List<Point> outline) {
+
+        if (center == null) {
+            return;
+        }
+
+        double fillAngle = 2 * Math.PI;
+        Point mouse = br.org.archimedes.Utils.getWorkspace().getMousePosition();
+        try {
+            mouse = br.org.archimedes.Utils.transformVector(center, mouse);
+            if ( !center.equals(mouse)) {
+                wrapper.drawFromModel(center, mouse);
+                fillAngle = Geometrics.calculateAngle(center, mouse);
+                if (fillAngle <= Constant.EPSILON) {
+                    fillAngle = 2 * Math.PI;
+                }
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+            return;
+        }
+
+        double step;
+        if (fillAngle >= 2 * Math.PI - Constant.EPSILON) {
+            step = fillAngle / items;
+        }
+        else {
+            step = fillAngle / (items - 1);
+        }
+
+        List<Point> copy = new ArrayList<Point>(outline.size());
+        for (int item = 0; item < items; item++) {
+            copy.clear();
+            for (Point corner : outline) {
+                Point turned = corner.clone();
+                try {
+                    turned.rotate(center, item * step);
+                }
+                catch (NullArgumentException e) {
+                    // Should never happen
+                    e.printStackTrace();
+                }
+                copy.add(turned);
+            }
+            try {
+                wrapper.drawFromModel(copy);
+            }
+            catch (NullArgumentException e) {
+                // Should never happen
+                e.printStackTrace();
+            }
+        }
+    }
+
+    public String getName () {
+
+        return "polararray"; //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.array on the br.org.archimedes.array project.<br>
+ */
+package br.org.archimedes.array;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.InvalidParameterException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.gui.opengl.OpenGLWrapper;
+import br.org.archimedes.interfaces.Parser;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+import br.org.archimedes.parser.IntegerParser;
+import br.org.archimedes.parser.PointParser;
+import br.org.archimedes.parser.VectorParser;
+
+/**
+ * Belongs to package br.org.archimedes.array.<br>
+ * Copies the selection on rows and columns. Asks for the number of rows, the number of columns,
+ * a base point and the vector from the base point to the same point on the next row and column.
+ *
+ * @author agent
+ */
+public class RectangularArrayFactory extends ArrayFactory {
+
+    private int rows;
+
+    private int columns;
+
+    private Point base;
+
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#reset()
+     */
+    @Override
+    protected void reset () {
+
+        rows = 0;
+        columns = 0;
+        base = null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#getFirstMessage()
+     */
+    @Override
+    protected String getFirstMessage () {
+
+        return Messages.RowsExpected;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#nextParameter(java.lang.Object)
+     */
+    @Override
+    protected String nextParameter (Object parameter) throws InvalidParameterException {
+
+        String result;
+        if (rows == 0) {
+            rows = getCount(parameter);
+            result = Messages.ColumnsExpected;
+        }
+        else if (columns == 0) {
+            int count = getCount(parameter);
+            if (rows * count < 2) {
+                throw new InvalidParameterException(Messages.NoCopies);
+            }
+            columns = count;
+            result = Messages.BaseExpected;
+        }
+        else if (base == null) {
+            try {
+                base = (Point) parameter;
+            }
+            catch (ClassCastException e) {
+                throw new InvalidParameterException(Messages.ExpectedPoint);
+            }
+            if (base == null) {
+                throw new InvalidParameterException(Messages.ExpectedPoint);
+            }
+            br.org.archimedes.Utils.getWorkspace().setPerpendicularGripReferencePoint(base);
+            result = Messages.SpacingExpected;
+        }
+        else {
+            Vector spacing;
+            try {
+                spacing = (Vector) parameter;
+            }
+            catch (ClassCastException e) {
+                throw new InvalidParameterException(Messages.ExpectedPoint);
+            }
+            result = completeCommand(spacing);
+        }
+        return result;
+    }
+
+    /**
+     * @param parameter
+     *            Potentially a positive integer
+     * @return The integer
+     * @throws InvalidParameterException
+     *             Thrown if the parameter is not a positive integer
+     */
+    private int getCount (Object parameter) throws InvalidParameterException {
+
+        int count;
+        try {
+            count = (Integer) parameter;
+        }
+        catch (ClassCastException e) {
+            throw new InvalidParameterException(Messages.AtLeastOne);
+        }
+        catch (NullPointerException e) {
+            throw new InvalidParameterException(Messages.AtLeastOne);
+        }
+        if (count < 1) {
+            throw new InvalidParameterException(Messages.AtLeastOne);
+        }
+        return count;
+    }
+
+    /**
+     * Creates the copies of the selection.
+     *
+     * @param spacing
+     *            The distance between columns on the x axis and between rows on the y axis
+     * @return A nice message for the user.
+     * @throws InvalidParameterException
+     *             Thrown if the spacing is null
+     */
+    private String completeCommand (Vector spacing) throws InvalidParameterException {
+
+        try {
+            ElementArray array = new ElementArray(getSelection(), base);
+            return finish(array.createRectangular(rows, columns, spacing));
+        }
+        catch (NullArgumentException e) {
+            throw new InvalidParameterException(Messages.ExpectedPoint);
+        }
+        catch (InvalidArgumentException e) {
+            // Should never happen since rows and columns were checked
+            e.printStackTrace();
+            return cancel();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#getNextParameterParser()
+     */
+    @Override
+    protected Parser getNextParameterParser () {
+
+        Parser returnParser;
+        if (rows == 0 || columns == 0) {
+            returnParser = new IntegerParser();
+        }
+        else if (base == null) {
+            returnParser = new PointParser();
+        }
+        else {
+            returnParser = new VectorParser(base);
+        }
+        return returnParser;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.array.ArrayFactory#drawPreview(br.org.archimedes.gui.opengl.OpenGLWrapper,
+     *      java.util.List)
+     */
+    @Override
+    protected void drawPreview (OpenGLWrapper wrapper, List<Point> outline) {
+
+        if (base == null) {
+            return;
+        }
+
+        Point mouse = br.org.archimedes.Utils.getWorkspace().getMousePosition();
+        try {
+            mouse = br.org.archimedes.Utils.transformVector(base, mouse);
+            wrapper.drawFromModel(base, mouse);
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+            return;
+        }
+        double dx = mouse.getX() - base.getX();
+        double dy = mouse.getY() - base.getY();
+
+        List<Point> copy = new ArrayList<Point>(outline.size());
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                copy.clear();
+                for (Point corner : outline) {
+                    copy.add(new Point(corner.getX() + column * dx, corner.getY() + row * dy));
+                }
+                try {
+                    wrapper.drawFromModel(copy);
+                }
+                catch (NullArgumentException e) {
+                    // Should never happen
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    public String getName () {
+
+        return "rectangulararray"; //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:57:29, by agent.<br>
+ * It is part of package br.org.archimedes.benchmarks on the br.org.archimedes.benchmarks project.<br>
+ */
+
+package br.org.archimedes.benchmarks;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Belongs to package br.org.archimedes.benchmarks.<br>
+ * Headless application that runs the benchmarks inside the running platform. The benchmarks need
+ * the extension registry (intersectors, trimmers, exporters...) so they cannot run in a forked
+ * plain JVM. JMH is in this bundle's class path so it finds the generated benchmark list here.<br>
+ * <br>
+ * Accepted arguments:
+ * <ul>
+ * <li>-result &lt;file&gt;: where to write the results (default benchmarks.json)</li>
+ * <li>-format &lt;json|csv|text&gt;: the result format (default json)</li>
+ * <li>-include &lt;regexp&gt;: only runs the matching benchmarks (default all)</li>
+ * <li>-sizes &lt;n1,n2,...&gt;: overrides the number of elements of the drawings</li>
+ * <li>-quick: runs less iterations. Useful to check nothing is broken.</li>
+ * </ul>
+ *
+ * @author agent
+ */
+public class BenchmarkApplication implements IApplication {
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.equinox.app.IApplication#start(org.eclipse.equinox.app.IApplicationContext)
+     */
+    public Object start (IApplicationContext context) throws Exception {
+
+        String[] args = (String[]) context.getArguments().get(
+                IApplicationContext.APPLICATION_ARGS);
+
+        String result = "benchmarks.json"; //$NON-NLS-1$
+        String format = "json"; //$NON-NLS-1$
+        String include = ".*"; //$NON-NLS-1$
+        String sizes = null;
+        boolean quick = false;
+        for (int i = 0; args != null && i < args.length; i++) {
+            if ("-result".equals(args[i]) && i + 1 < args.length) { //$NON-NLS-1$
+                result = args[++i];
+            }
+            else if ("-format".equals(args[i]) && i + 1 < args.length) { //$NON-NLS-1$
+                format = args[++i];
+            }
+            else if ("-include".equals(args[i]) && i + 1 < args.length) { //$NON-NLS-1$
+                include = args[++i];
+            }
+            else if ("-sizes".equals(args[i]) && i + 1 < args.length) { //$NON-NLS-1$
+                sizes = args[++i];
+            }
+            else if ("-quick".equals(args[i])) { //$NON-NLS-1$
+                quick = true;
+            }
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().include(include).forks(0)
+                .shouldFailOnError(true).result(result).resultFormat(
+                        ResultFormatType.valueOf(format.toUpperCase()));
+        if (quick) {
+            options.warmupIterations(1).measurementIterations(1).warmupTime(
+                    TimeValue.seconds(1)).measurementTime(TimeValue.seconds(1));
+        }
+        else {
+            options.warmupIterations(5).measurementIterations(10);
+        }
+        if (sizes != null) {
+            String[] values = sizes.split(","); //$NON-NLS-1$
+            options.param("size", values).param("vertices", values); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(getClass().getClassLoader());
+        try {
+            new Runner(options.build()).run();
+        }
+        finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+
+        return IApplication.EXIT_OK;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.equinox.app.IApplication#stop()
+     */
+    public void stop () {
+
+        // Nothing to do. JMH cannot be interrupted.
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:57:29, by agent.<br>
+ * It is part of package br.org.archimedes.benchmarks on the br.org.archimedes.benchmarks project.<br>
+ */
+
+package br.org.archimedes.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.org.archimedes.Utils;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.generator.Distribution;
+import br.org.archimedes.generator.DrawingGenerator;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+
+/**
+ * Belongs to package br.org.archimedes.benchmarks.<br>
+ * Shared benchmark state holding a synthetic drawing of the requested size and a fixed set of
+ * query positions. Queries cycle through the positions so every invocation works on a different
+ * part of the drawing without paying for the random generator.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class DrawingState {
+
+    /**
+     * Seed used for all generated data so results are comparable between runs.
+     */
+    public static final long SEED = 0x41524348L;
+
+    private static final int QUERIES = 1024;
+
+    /**
+     * Number of elements in the drawing.
+     */
+    @Param( {"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Drawing drawing;
+
+    private List<Element> elements;
+
+    private Rectangle extent;
+
+    private Point[] positions;
+
+    private int next;
+
+
+    /**
+     * Generates the drawing and the query positions. Also makes the drawing active since some
+     * operations (such as model to screen conversions) look for it in the controller.
+     */
+    @Setup
+    public void setUp () throws InvalidArgumentException {
+
+        DrawingGenerator generator = new DrawingGenerator(size, 1, Distribution.UNIFORM, 1.0,
+                SEED);
+        elements = generator.generateElements();
+        drawing = generator.createDrawing(elements);
+        extent = generator.getExtent();
+        Utils.getController().setActiveDrawing(drawing);
+
+        Random random = new Random(SEED);
+        positions = new Point[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            positions[i] = new Point(random.nextDouble() * extent.getWidth(), random.nextDouble()
+                    * extent.getHeight());
+        }
+    }
+
+    /**
+     * @return The drawing
+     */
+    public Drawing getDrawing () {
+
+        return drawing;
+    }
+
+    /**
+     * @return The elements of the drawing
+     */
+    public List<Element> getElements () {
+
+        return elements;
+    }
+
+    /**
+     * @return The square containing all elements
+     */
+    public Rectangle getExtent () {
+
+        return extent;
+    }
+
+    /**
+     * @return The next query position
+     */
+    public Point nextPosition () {
+
+        next = (next + 1) % QUERIES;
+        return positions[next];
+    }
+
+    /**
+     * @param side
+     *            The side of the square
+     * @return A square of the given side centered on the next query position
+     */
+    public Rectangle nextWindow (double side) {
+
+        Point center = nextPosition();
+        double half = side / 2;
+        return new Rectangle(center.getX() - half, center.getY() - half, center.getX() + half,
+                center.getY() + half);
+    }
+
+    /**
+     * @return An element of the drawing chosen from the next query position
+     */
+    public Element nextElement () {
+
+        List<Element> elements = getElements();
+        next = (next + 1) % QUERIES;
+        return elements.get((next * 7919) % elements.size());
+    }
+
+    /**
+     * @param elementClass
+     *            The class of the wanted element
+     * @return An element of the given class chosen from the next query position or null if the
+     *         drawing has none
+     */
+    public Element nextElement (Class<? extends Element> elementClass) {
+
+        List<Element> elements = getElements();
+        next = (next + 1) % QUERIES;
+        int start = (next * 7919) % elements.size();
+        for (int i = 0; i < elements.size(); i++) {
+            Element element = elements.get((start + i) % elements.size());
+            if (elementClass.isInstance(element)) {
+                return element;
+            }
+        }
+        return null;
+    }
+}
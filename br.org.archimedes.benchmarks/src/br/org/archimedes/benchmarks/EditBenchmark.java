@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:57:29, by agent.<br>
+ * It is part of package br.org.archimedes.benchmarks on the br.org.archimedes.benchmarks project.<br>
+ */
+
+package br.org.archimedes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.interfaces.ExtendManager;
+import br.org.archimedes.interfaces.IntersectionManager;
+import br.org.archimedes.interfaces.TrimManager;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.rcp.extensionpoints.ExtendManagerEPLoader;
+import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
+import br.org.archimedes.rcp.extensionpoints.TrimManagerEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.benchmarks.<br>
+ * Measures the editing operations that use every other element of the drawing as reference:
+ * intersections, trim and extend. The references are the whole drawing, as when the user selects
+ * everything as cutting edge.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EditBenchmark {
+
+    /**
+     * Computes all intersections between one element and the rest of the drawing.
+     */
+    @Benchmark
+    public Collection<Point> intersectWithAll (DrawingState state)
+            throws NullArgumentException {
+
+        IntersectionManager manager = new IntersectionManagerEPLoader()
+                .getIntersectionManager();
+        Element element = state.nextElement();
+
+        return manager.getIntersectionsBetween(element, references(state, element));
+    }
+
+    /**
+     * Trims a line against the rest of the drawing, removing the part around its middle point.
+     */
+    @Benchmark
+    public Collection<Element> trim (DrawingState state) throws NullArgumentException {
+
+        IntersectionManager intersectionManager = new IntersectionManagerEPLoader()
+                .getIntersectionManager();
+        TrimManager trimManager = new TrimManagerEPLoader().getTrimManager();
+        Line line = (Line) state.nextElement(Line.class);
+
+        Collection<Point> cutPoints = intersectionManager.getIntersectionsBetween(line,
+                references(state, line));
+        Point middle = Geometrics.getMeanPoint(line.getInitialPoint(), line.getEndingPoint());
+        return trimManager.getTrimOf(line, cutPoints, middle);
+    }
+
+    /**
+     * Extends a line up to the nearest element of the drawing.
+     */
+    @Benchmark
+    public Element extend (DrawingState state) throws NullArgumentException {
+
+        ExtendManager manager = new ExtendManagerEPLoader().getExtendManager();
+        Line line = (Line) state.nextElement(Line.class);
+
+        return manager.extend(line, references(state, line), line.getEndingPoint());
+    }
+
+    /**
+     * @return All elements of the drawing but the given one
+     */
+    private Collection<Element> references (DrawingState state, Element element) {
+
+        Collection<Element> references = new ArrayList<Element>(state.getElements());
+        references.remove(element);
+        return references;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:57:29, by agent.<br>
+ * It is part of package br.org.archimedes.benchmarks on the br.org.archimedes.benchmarks project.<br>
+ */
+
+package br.org.archimedes.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.InvalidParameterException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.benchmarks.<br>
+ * Measures the geometry of a single polyline with many vertices and the headless tessellation of
+ * whole drawings.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GeometryBenchmark {
+
+    /**
+     * Holds a zigzag polyline with the requested number of vertices.
+     */
+    @State(Scope.Benchmark)
+    public static class PolylineState {
+
+        /**
+         * Number of vertices of the polyline.
+         */
+        @Param( {"1000", "10000", "100000", "1000000"})
+        public int vertices;
+
+        private Polyline polyline;
+
+        private Point probe;
+
+
+        /**
+         * Generates the polyline.
+         */
+        @Setup
+        public void setUp () throws NullArgumentException, InvalidArgumentException {
+
+            Random random = new Random(DrawingState.SEED);
+            List<Point> points = new ArrayList<Point>(vertices);
+            for (int i = 0; i < vertices; i++) {
+                points.add(new Point(i, (i % 2) * 10.0 + random.nextDouble()));
+            }
+            polyline = new Polyline(points);
+            probe = new Point(vertices / 2.0, -5.0);
+        }
+    }
+
+
+    /**
+     * Splits the polyline in its segments.
+     */
+    @Benchmark
+    public List<Line> polylineLines (PolylineState state) {
+
+        return state.polyline.getLines();
+    }
+
+    /**
+     * Computes the polyline bounding box.
+     */
+    @Benchmark
+    public Rectangle polylineBoundary (PolylineState state) {
+
+        return state.polyline.getBoundaryRectangle();
+    }
+
+    /**
+     * Projects a point on the polyline.
+     */
+    @Benchmark
+    public Point polylineProjection (PolylineState state) throws NullArgumentException {
+
+        return state.polyline.getProjectionOf(state.probe);
+    }
+
+    /**
+     * Offsets the polyline.
+     */
+    @Benchmark
+    public Element polylineOffset (PolylineState state) throws InvalidParameterException {
+
+        return state.polyline.cloneWithDistance(1.0);
+    }
+
+    /**
+     * Tessellates the polyline.
+     */
+    @Benchmark
+    public double polylineTessellation (PolylineState state) {
+
+        HeadlessWrapper wrapper = new HeadlessWrapper();
+        state.polyline.draw(wrapper);
+        return wrapper.getChecksum();
+    }
+
+    /**
+     * Tessellates every element of the drawing.
+     */
+    @Benchmark
+    public double drawingTessellation (DrawingState state) {
+
+        HeadlessWrapper wrapper = new HeadlessWrapper();
+        for (Layer layer : state.getDrawing().getLayerMap().values()) {
+            layer.draw(wrapper);
+        }
+        return wrapper.getChecksum();
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:57:29, by agent.<br>
+ * It is part of package br.org.archimedes.benchmarks on the br.org.archimedes.benchmarks project.<br>
+ */
+
+package br.org.archimedes.benchmarks;
+
+import java.util.List;
+
+import org.apache.batik.svggen.font.Font;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.gui.model.Workspace;
+import br.org.archimedes.gui.opengl.Color;
+import br.org.archimedes.gui.opengl.OpenGLWrapper;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+
+/**
+ * Belongs to package br.org.archimedes.benchmarks.<br>
+ * OpenGL wrapper that does everything elements ask when drawing (tessellating curves and
+ * converting points to screen coordinates) but, instead of sending the vertices to OpenGL, only
+ * counts them. Allows measuring the drawing code without a display.
+ *
+ * @author agent
+ */
+public class HeadlessWrapper extends OpenGLWrapper {
+
+    private final Workspace workspace;
+
+    private long vertices;
+
+    private double checksum;
+
+
+    /**
+     * Constructor.
+     */
+    public HeadlessWrapper () {
+
+        this.workspace = br.org.archimedes.Utils.getWorkspace();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#drawFromModel(java.util.List)
+     */
+    @Override
+    public void drawFromModel (List<Point> points) throws NullArgumentException {
+
+        if (points == null) {
+            throw new NullArgumentException();
+        }
+        for (Point point : points) {
+            draw(workspace.modelToScreen(point));
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#drawFromModel(br.org.archimedes.model.Point[])
+     */
+    @Override
+    public void drawFromModel (Point... points) {
+
+        for (Point point : points) {
+            try {
+                draw(workspace.modelToScreen(point));
+            }
+            catch (NullArgumentException e) {
+                // Ignores if the list contains a null point
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#draw(java.util.List)
+     */
+    @Override
+    public void draw (List<Point> points) throws NullArgumentException {
+
+        if (points == null) {
+            throw new NullArgumentException();
+        }
+        for (Point point : points) {
+            draw(point);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#draw(br.org.archimedes.model.Point[])
+     */
+    @Override
+    public void draw (Point... points) {
+
+        for (Point point : points) {
+            vertices++;
+            checksum += point.getX() + point.getY();
+        }
+    }
+
+    /**
+     * Texts are only positioned. Glyph outlines come from the font and do not depend on the
+     * drawing.
+     *
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#drawFromModel(java.lang.String,
+     *      br.org.archimedes.model.Point, br.org.archimedes.model.Vector,
+     *      br.org.archimedes.model.Vector, org.apache.batik.svggen.font.Font)
+     */
+    @Override
+    public void drawFromModel (String text, Point originPoint, Vector vertical,
+            Vector horizontal, Font font) throws NullArgumentException {
+
+        Point origin = workspace.modelToScreen(originPoint);
+        for (int i = 0; i < text.length(); i++) {
+            draw(origin.addVector(horizontal.multiply(i)));
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#setColor(br.org.archimedes.gui.opengl.Color)
+     */
+    @Override
+    public void setColor (Color color) {
+
+        // No OpenGL state to change
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#setLineStyle(int)
+     */
+    @Override
+    public void setLineStyle (int lineStyle) {
+
+        // No OpenGL state to change
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.gui.opengl.OpenGLWrapper#setLineWidth(double)
+     */
+    @Override
+    public void setLineWidth (double width) {
+
+        // No OpenGL state to change
+    }
+
+    /**
+     * @return The number of vertices drawn so far
+     */
+    public long getVertices () {
+
+        return vertices;
+    }
+
+    /**
+     * @return A value depending on every vertex drawn so far so the work cannot be optimized away
+     */
+    public double getChecksum () {
+
+        return checksum;
+    }
+}
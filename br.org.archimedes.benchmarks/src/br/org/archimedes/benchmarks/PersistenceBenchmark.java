@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:57:29, by agent.<br>
+ * It is part of package br.org.archimedes.benchmarks on the br.org.archimedes.benchmarks project.<br>
+ */
+
+package br.org.archimedes.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.arc.Arc;
+import br.org.archimedes.circle.Circle;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.InvalidFileFormatException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.generator.Distribution;
+import br.org.archimedes.generator.DrawingGenerator;
+import br.org.archimedes.io.dxf.DXFImporter;
+import br.org.archimedes.io.xml.XMLExporter;
+import br.org.archimedes.io.xml.XMLImporter;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.benchmarks.<br>
+ * Measures saving and loading drawings in the native XML format and importing DXF files. Since
+ * the DXF exporter does not write anything yet, the DXF input is written here with the entities
+ * the importer understands.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PersistenceBenchmark {
+
+    /**
+     * Number of elements in the drawing. Smaller than the other benchmarks since a whole file is
+     * written or read on each invocation.
+     */
+    @Param( {"1000", "10000", "100000"})
+    public int size;
+
+    private Drawing drawing;
+
+    private byte[] xmlContent;
+
+    private byte[] dxfContent;
+
+
+    /**
+     * Generates the drawing and the files to be read.
+     */
+    @Setup
+    public void setUp () throws InvalidArgumentException, IOException {
+
+        DrawingGenerator generator = new DrawingGenerator(size, 1, Distribution.UNIFORM, 1.0,
+                DrawingState.SEED);
+        List<Element> elements = generator.generateElements();
+        drawing = generator.createDrawing(elements);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new XMLExporter().exportDrawing(drawing, output);
+        xmlContent = output.toByteArray();
+
+        output = new ByteArrayOutputStream();
+        writeDXF(elements, output);
+        dxfContent = output.toByteArray();
+    }
+
+    /**
+     * Saves the drawing as XML.
+     */
+    @Benchmark
+    public byte[] saveXML () throws IOException {
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream(xmlContent.length);
+        new XMLExporter().exportDrawing(drawing, output);
+        return output.toByteArray();
+    }
+
+    /**
+     * Loads the drawing from XML.
+     */
+    @Benchmark
+    public Drawing loadXML () throws InvalidFileFormatException, IOException {
+
+        return new XMLImporter().importDrawing(new ByteArrayInputStream(xmlContent));
+    }
+
+    /**
+     * Imports the drawing from DXF.
+     */
+    @Benchmark
+    public Drawing importDXF () throws InvalidFileFormatException, IOException {
+
+        return new DXFImporter().importDrawing(new ByteArrayInputStream(dxfContent));
+    }
+
+    /**
+     * Writes the lines, arcs, circles and polylines as a DXF entities section on layer 0.
+     *
+     * @param elements
+     *            The elements to write
+     * @param output
+     *            The stream to write to
+     */
+    private void writeDXF (List<Element> elements, ByteArrayOutputStream output) {
+
+        PrintStream dxf = new PrintStream(output);
+        dxf.print("0\nSECTION\n2\nENTITIES\n"); //$NON-NLS-1$
+        for (Element element : elements) {
+            if (element instanceof Line) {
+                Line line = (Line) element;
+                dxf.print("0\nLINE\n8\n0\n"); //$NON-NLS-1$
+                writePoint(dxf, 10, line.getInitialPoint());
+                writePoint(dxf, 11, line.getEndingPoint());
+            }
+            else if (element instanceof Circle) {
+                Circle circle = (Circle) element;
+                dxf.print("0\nCIRCLE\n8\n0\n"); //$NON-NLS-1$
+                writePoint(dxf, 10, circle.getCenter());
+                dxf.print("40\n" + circle.getRadius() + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+            }
+            else if (element instanceof Arc) {
+                Arc arc = (Arc) element;
+                dxf.print("0\nARC\n8\n0\n"); //$NON-NLS-1$
+                writePoint(dxf, 10, arc.getCenter());
+                dxf.print("40\n" + arc.getRadius() + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+                try {
+                    double start = Geometrics.calculateAngle(arc.getCenter(), arc
+                            .getInitialPoint());
+                    double end = Geometrics.calculateAngle(arc.getCenter(), arc
+                            .getEndingPoint());
+                    dxf.print("50\n" + Math.toDegrees(start) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+                    dxf.print("51\n" + Math.toDegrees(end) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+                }
+                catch (NullArgumentException e) {
+                    // Should never happen
+                    e.printStackTrace();
+                }
+            }
+            else if (element instanceof Polyline) {
+                List<Point> points = element.getPoints();
+                dxf.print("0\nLWPOLYLINE\n8\n0\n90\n" + points.size() + "\n70\n0\n"); //$NON-NLS-1$ //$NON-NLS-2$
+                for (Point point : points) {
+                    writePoint(dxf, 10, point);
+                }
+            }
+        }
+        dxf.print("0\nENDSEC\n0\nEOF\n"); //$NON-NLS-1$
+        dxf.flush();
+    }
+
+    /**
+     * Writes a point as its x and y group codes.
+     */
+    private void writePoint (PrintStream dxf, int code, Point point) {
+
+        dxf.print(code + "\n" + point.getX() + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+        dxf.print((code + 10) + "\n" + point.getY() + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:57:29, by agent.<br>
+ * It is part of package br.org.archimedes.benchmarks on the br.org.archimedes.benchmarks project.<br>
+ */
+
+package br.org.archimedes.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.interfaces.IntersectionManager;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.ReferencePoint;
+import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.benchmarks.<br>
+ * Measures the queries the user triggers while moving the mouse over a drawing: window
+ * selection, crossing selection and snapping to reference and intersection points.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SelectionBenchmark {
+
+    /**
+     * Side of the selection window. Covers around a hundred elements.
+     */
+    private static final double WINDOW_SIDE = 100.0;
+
+    /**
+     * Side of the area around the mouse used to look for snap points.
+     */
+    private static final double APERTURE_SIDE = 2.0;
+
+
+    /**
+     * Selects the elements completely inside a window (left to right drag).
+     */
+    @Benchmark
+    public Set<Element> selectByWindow (DrawingState state) throws NullArgumentException {
+
+        return state.getDrawing().getSelectionInside(state.nextWindow(WINDOW_SIDE));
+    }
+
+    /**
+     * Selects the elements crossing a window (right to left drag).
+     */
+    @Benchmark
+    public Set<Element> selectByCrossing (DrawingState state) throws NullArgumentException {
+
+        return state.getDrawing().getSelectionIntersection(state.nextWindow(WINDOW_SIDE));
+    }
+
+    /**
+     * Picks the elements under a mouse click.
+     */
+    @Benchmark
+    public Set<Element> pick (DrawingState state) throws NullArgumentException {
+
+        return state.getDrawing().getSelectionIntersection(state.nextWindow(APERTURE_SIDE));
+    }
+
+    /**
+     * Looks for the snap points around the mouse the same way the mouse position manager does:
+     * reference points of the elements under the aperture and intersections between them.
+     */
+    @Benchmark
+    public void snap (DrawingState state, Blackhole blackhole) throws NullArgumentException {
+
+        Rectangle aperture = state.nextWindow(APERTURE_SIDE);
+        Set<Element> closeElements = state.getDrawing().getSelectionIntersection(aperture);
+        IntersectionManager manager = new IntersectionManagerEPLoader()
+                .getIntersectionManager();
+
+        for (Element element : closeElements) {
+            for (ReferencePoint reference : element.getReferencePoints(aperture)) {
+                if (reference.getPoint().isInside(aperture)) {
+                    blackhole.consume(reference);
+                }
+            }
+            for (Element otherElement : closeElements) {
+                if (element != otherElement) {
+                    for (Point point : manager.getIntersectionsBetween(element, otherElement)) {
+                        if (point.isInside(aperture)) {
+                            blackhole.consume(point);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the boundary of the whole drawing (used by zoom extents).
+     */
+    @Benchmark
+    public Rectangle boundary (DrawingState state) {
+
+        return state.getDrawing().getBoundary();
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.block on the br.org.archimedes.block.tests project.<br>
+ */
+package br.org.archimedes.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.stub.StubElement;
+
+/**
+ * Belongs to package br.org.archimedes.block.
+ *
+ * @author agent
+ */
+public class BlockReferenceTest extends Tester {
+
+    public class PointElement extends StubElement {
+
+        private Point point;
+
+
+        public PointElement (Point point) {
+
+            this.point = point;
+        }
+
+        @Override
+        public Element clone () {
+
+            return new PointElement(point.clone());
+        }
+
+        @Override
+        public List<Point> getPoints () {
+
+            return Collections.singletonList(point);
+        }
+
+        @Override
+        public Rectangle getBoundaryRectangle () {
+
+            return new Rectangle(point.getX(), point.getY(), point.getX(), point.getY());
+        }
+    }
+
+
+    private BlockDefinition definition;
+
+
+    @Before
+    public void setUp () throws Exception {
+
+        List<Element> elements = new ArrayList<Element>();
+        elements.add(new PointElement(new Point(10, 10)));
+        elements.add(new PointElement(new Point(12, 11)));
+        definition = new BlockDefinition("Block", elements, new Point(10, 10)); //$NON-NLS-1$
+    }
+
+    @Test
+    public void definitionMovesCopiesToTheBasePoint () throws Exception {
+
+        List<Element> elements = definition.getElements();
+        assertEquals(2, elements.size());
+        assertEquals(new Point(0, 0), elements.get(0).getPoints().get(0));
+        assertEquals(new Point(2, 1), elements.get(1).getPoints().get(0));
+        assertEquals(new Rectangle(0, 0, 2, 1), definition.getBoundaryRectangle());
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void nullScaleIsInvalid () throws Exception {
+
+        new BlockReference(definition, new Point(0, 0), 0, 0, false);
+    }
+
+    @Test
+    public void toBlockUndoesToDrawing () throws Exception {
+
+        BlockReference reference = new BlockReference(definition, new Point(5, -3), 0.7, 2.5,
+                true);
+
+        Point drawing = reference.toDrawing(2, 1);
+        assertEquals(new Point(2, 1), reference.toBlock(drawing));
+    }
+
+    @Test
+    public void boundaryIsTransformed () throws Exception {
+
+        BlockReference reference = new BlockReference(definition, new Point(100, 100),
+                Math.PI / 2, 2, false);
+
+        assertEquals(new Rectangle(98, 100, 100, 104), reference.getBoundaryRectangle());
+    }
+
+    @Test
+    public void explodeMatchesTheReference () throws Exception {
+
+        BlockReference reference = new BlockReference(definition, new Point(1, 2), 0.3, 1.5, true);
+
+        List<Element> exploded = reference.explode();
+        assertEquals(2, exploded.size());
+        assertEquals(reference.toDrawing(0, 0), exploded.get(0).getPoints().get(0));
+        assertEquals(reference.toDrawing(2, 1), exploded.get(1).getPoints().get(0));
+    }
+
+    @Test
+    public void transformationsMatchTheExplodedElements () throws Exception {
+
+        BlockReference reference = new BlockReference(definition, new Point(1, 2), 0.3, 1.5,
+                false);
+        Point reference1 = new Point(4, -2);
+        Point reference2 = new Point(7, 3);
+
+        reference.rotate(reference1, 1.1);
+        reference.scale(reference2, 0.5);
+        reference.mirror(reference1, reference2);
+
+        assertTrue(reference.isMirrored());
+        List<Element> exploded = reference.explode();
+        Element expected = new PointElement(new Point(4, 3.5));
+        expected.rotate(new Point(1, 2), 0.3);
+        expected.rotate(reference1, 1.1);
+        expected.scale(reference2, 0.5);
+        expected.mirror(reference1, reference2);
+        assertEquals(expected.getPoints().get(0), exploded.get(1).getPoints().get(0));
+    }
+
+    @Test
+    public void clonesShareTheDefinition () throws Exception {
+
+        BlockReference reference = new BlockReference(definition, new Point(1, 2), 0, 1, false);
+
+        BlockReference clone = (BlockReference) reference.clone();
+        assertSame(definition, clone.getDefinition());
+        assertNotSame(reference.getInsertionPoint(), clone.getInsertionPoint());
+        assertEquals(reference, clone);
+
+        clone.move(1, 0);
+        assertFalse(reference.equals(clone));
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.block on the br.org.archimedes.block project.<br>
+ */
+package br.org.archimedes.block;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.opengl.GLCanvas;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.gui.opengl.OpenGLWrapper;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+
+/**
+ * Belongs to package br.org.archimedes.block.<br>
+ * Geometry shared by many block references. The elements are kept in the coordinate system of
+ * the block, whose origin is the insertion point of the references, and never change. Each canvas
+ * records them once in a display list that every reference draws with its own placement.
+ *
+ * @author agent
+ */
+public class BlockDefinition {
+
+    private String name;
+
+    private List<Element> elements;
+
+    private Rectangle boundary;
+
+    private Map<GLCanvas, Integer> lists;
+
+
+    /**
+     * Creates a definition from copies of the elements moved so that the base point becomes the
+     * origin of the block.
+     *
+     * @param name
+     *            The name of the block
+     * @param elements
+     *            The elements of the block. They are not changed.
+     * @param basePoint
+     *            The point of the elements that will be placed on the insertion point of the
+     *            references
+     * @throws NullArgumentException
+     *             Thrown if any argument is null
+     */
+    public BlockDefinition (String name, Collection<? extends Element> elements, Point basePoint)
+            throws NullArgumentException {
+
+        if (name == null || elements == null || basePoint == null) {
+            throw new NullArgumentException();
+        }
+        this.name = name;
+
+        List<Element> copies = new ArrayList<Element>(elements.size());
+        for (Element element : elements) {
+            Element copy = element.clone();
+            copy.setLayer(null);
+            copy.move( -basePoint.getX(), -basePoint.getY());
+            copies.add(copy);
+        }
+        this.elements = Collections.unmodifiableList(copies);
+        this.boundary = calculateBoundary();
+        this.lists = new HashMap<GLCanvas, Integer>();
+    }
+
+    /**
+     * @return The rectangle containing all bounded elements of the block or null if there is none
+     */
+    private Rectangle calculateBoundary () {
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (Element element : elements) {
+            Rectangle rectangle = element.getBoundaryRectangle();
+            if (rectangle != null) {
+                minX = Math.min(minX, rectangle.getMinX());
+                minY = Math.min(minY, rectangle.getMinY());
+                maxX = Math.max(maxX, rectangle.getMaxX());
+                maxY = Math.max(maxY, rectangle.getMaxY());
+            }
+        }
+        if (minX > maxX) {
+            return null;
+        }
+        return new Rectangle(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * @return The name of the block
+     */
+    public String getName () {
+
+        return name;
+    }
+
+    /**
+     * @return The elements of the block in its own coordinate system. They must not be changed.
+     */
+    public List<Element> getElements () {
+
+        return elements;
+    }
+
+    /**
+     * @return The rectangle containing the block in its own coordinate system or null if the
+     *         block has no bounded element
+     */
+    public Rectangle getBoundaryRectangle () {
+
+        return boundary;
+    }
+
+    /**
+     * Draws the block placed by a reference. The display list of the current canvas is recorded
+     * the first time the block is drawn on it.
+     *
+     * @param wrapper
+     *            The wrapper to draw with
+     * @param reference
+     *            The reference placing the block
+     */
+    public void draw (OpenGLWrapper wrapper, BlockReference reference) {
+
+        GLCanvas canvas = wrapper.getCurrentCanvas();
+        if (canvas == null) {
+            return;
+        }
+
+        Integer list = lists.get(canvas);
+        if (list == null) {
+            // Lists cannot be recorded while recording another one
+            int newList = wrapper.isCompilingList() ? 0 : wrapper.startModelList();
+            if (newList == 0) {
+                for (Element element : reference.explode()) {
+                    element.draw(wrapper);
+                }
+                return;
+            }
+            for (Element element : elements) {
+                element.draw(wrapper);
+            }
+            wrapper.endModelList();
+            list = newList;
+            lists.put(canvas, list);
+        }
+
+        try {
+            wrapper.drawModelList(list, reference.getInsertionPoint(), reference.getRotation(),
+                    reference.getScale(), reference.isMirrored());
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since references always have an insertion point
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Frees the display list recorded on the current canvas, if any.
+     *
+     * @param wrapper
+     *            The wrapper used to draw the block
+     */
+    public void releaseList (OpenGLWrapper wrapper) {
+
+        Integer list = lists.remove(wrapper.getCurrentCanvas());
+        if (list != null) {
+            wrapper.deleteModelList(list);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString () {
+
+        return "Block " + name + " with " + elements.size() + " elements"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+}
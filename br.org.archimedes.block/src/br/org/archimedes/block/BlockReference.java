@@ -0,0 +1,569 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:58:13, by agent.<br>
+ * It is part of package br.org.archimedes.block on the br.org.archimedes.block project.<br>
+ */
+package br.org.archimedes.block;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.exceptions.IllegalActionException;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.gui.opengl.OpenGLWrapper;
+import br.org.archimedes.interfaces.IntersectionManager;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
+import br.org.archimedes.model.ReferencePoint;
+import br.org.archimedes.model.references.SquarePoint;
+import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.block.<br>
+ * An instance of a block definition. The reference only keeps where the block is placed: the
+ * elements of the block are mirrored on its x axis (if the reference is mirrored), scaled,
+ * rotated and then moved to the insertion point. Any number of references share the same
+ * definition.
+ *
+ * @author agent
+ */
+public class BlockReference extends Element implements RectangleIntersectable {
+
+    private BlockDefinition definition;
+
+    private Point insertionPoint;
+
+    private double rotation;
+
+    private double scale;
+
+    private boolean mirrored;
+
+
+    /**
+     * @param definition
+     *            The block to place
+     * @param insertionPoint
+     *            The point where the origin of the block is placed
+     * @param rotation
+     *            The counter-clockwise rotation of the block in radians
+     * @param scale
+     *            The scale of the block
+     * @param mirrored
+     *            true if the block is mirrored on its x axis, false otherwise
+     * @throws NullArgumentException
+     *             Thrown if the definition or the insertion point is null
+     * @throws InvalidArgumentException
+     *             Thrown if the scale is not positive
+     */
+    public BlockReference (BlockDefinition definition, Point insertionPoint, double rotation,
+            double scale, boolean mirrored) throws NullArgumentException,
+            InvalidArgumentException {
+
+        if (definition == null || insertionPoint == null) {
+            throw new NullArgumentException();
+        }
+        if (scale <= Constant.EPSILON) {
+            throw new InvalidArgumentException();
+        }
+        this.definition = definition;
+        this.insertionPoint = insertionPoint;
+        this.rotation = rotation;
+        this.scale = scale;
+        this.mirrored = mirrored;
+    }
+
+    /**
+     * @return The block placed by this reference
+     */
+    public BlockDefinition getDefinition () {
+
+        return definition;
+    }
+
+    /**
+     * @return The point where the origin of the block is placed
+     */
+    public Point getInsertionPoint () {
+
+        return insertionPoint;
+    }
+
+    /**
+     * @return The counter-clockwise rotation of the block in radians
+     */
+    public double getRotation () {
+
+        return rotation;
+    }
+
+    /**
+     * @return The scale of the block
+     */
+    public double getScale () {
+
+        return scale;
+    }
+
+    /**
+     * @return true if the block is mirrored on its x axis before being scaled and rotated
+     */
+    public boolean isMirrored () {
+
+        return mirrored;
+    }
+
+    /**
+     * @param x
+     *            The x coordinate in the block
+     * @param y
+     *            The y coordinate in the block
+     * @return The point of the drawing where the point of the block is placed
+     */
+    public Point toDrawing (double x, double y) {
+
+        if (mirrored) {
+            y = -y;
+        }
+        double cos = Math.cos(rotation) * scale;
+        double sin = Math.sin(rotation) * scale;
+        return new Point(insertionPoint.getX() + x * cos - y * sin, insertionPoint.getY() + x
+                * sin + y * cos);
+    }
+
+    /**
+     * @param point
+     *            A point of the drawing
+     * @return The point of the block placed on the given point
+     */
+    public Point toBlock (Point point) {
+
+        double x = point.getX() - insertionPoint.getX();
+        double y = point.getY() - insertionPoint.getY();
+        double cos = Math.cos(rotation) / scale;
+        double sin = Math.sin(rotation) / scale;
+        double blockX = x * cos + y * sin;
+        double blockY = y * cos - x * sin;
+        return new Point(blockX, mirrored ? -blockY : blockY);
+    }
+
+    /**
+     * Places a copy of an element of the drawing in the block. Cheaper than exploding this
+     * reference when the element only has to be compared with the elements of the block.
+     *
+     * @param element
+     *            An element of the drawing
+     * @return A copy of the element without layer placed on the coordinates of the block
+     * @throws NullArgumentException
+     *             Thrown if the element is null
+     */
+    public Element placeInBlock (Element element) throws NullArgumentException {
+
+        if (element == null) {
+            throw new NullArgumentException();
+        }
+
+        Point origin = new Point(0, 0);
+        Element copy = element.clone();
+        copy.setLayer(null);
+        copy.move( -insertionPoint.getX(), -insertionPoint.getY());
+        try {
+            copy.rotate(origin, -rotation);
+            if (Math.abs(scale - 1.0) > Constant.EPSILON) {
+                copy.scale(origin, 1.0 / scale);
+            }
+            if (mirrored) {
+                copy.mirror(origin, new Point(0, 1));
+                copy.rotate(origin, Math.PI);
+            }
+        }
+        catch (IllegalActionException e) {
+            // Should never happen since the copy has no layer and the scale is positive
+            e.printStackTrace();
+        }
+        return copy;
+    }
+
+    /**
+     * @return Copies of the elements of the block placed as this reference places them, on the
+     *         layer of this reference
+     */
+    public List<Element> explode () {
+
+        Point origin = new Point(0, 0);
+        List<Element> exploded = new ArrayList<Element>(definition.getElements().size());
+        for (Element element : definition.getElements()) {
+            Element copy = element.clone();
+            copy.setLayer(null);
+            try {
+                double angle = rotation;
+                if (mirrored) {
+                    // Mirroring on the y axis is mirroring on the x axis and turning half a circle
+                    copy.mirror(origin, new Point(0, 1));
+                    angle += Math.PI;
+                }
+                if (Math.abs(scale - 1.0) > Constant.EPSILON) {
+                    copy.scale(origin, scale);
+                }
+                copy.rotate(origin, angle);
+            }
+            catch (NullArgumentException e) {
+                // Should never happen
+                e.printStackTrace();
+            }
+            catch (IllegalActionException e) {
+                // Should never happen since the copy has no layer and the scale is positive
+                e.printStackTrace();
+            }
+            copy.move(insertionPoint.getX(), insertionPoint.getY());
+            copy.setLayer(getLayer());
+            exploded.add(copy);
+        }
+        return exploded;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#clone()
+     */
+    @Override
+    public Element clone () {
+
+        BlockReference clone = null;
+        try {
+            clone = new BlockReference(definition, insertionPoint.clone(), rotation, scale,
+                    mirrored);
+            clone.setLayer(getLayer());
+        }
+        catch (NullArgumentException e) {
+            // Should never reach this block
+            e.printStackTrace();
+        }
+        catch (InvalidArgumentException e) {
+            // Should never reach this block
+            e.printStackTrace();
+        }
+        return clone;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode () {
+
+        final int prime = 31;
+        int result = definition.hashCode();
+        result = prime * result + insertionPoint.hashCode();
+        result = prime * result + (mirrored ? 1231 : 1237);
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals (Object object) {
+
+        if (this == object) {
+            return true;
+        }
+        if ( !(object instanceof BlockReference)) {
+            return false;
+        }
+
+        BlockReference other = (BlockReference) object;
+        double turns = (rotation - other.rotation) / (2 * Math.PI);
+        return definition == other.definition && mirrored == other.mirrored
+                && insertionPoint.equals(other.insertionPoint)
+                && Math.abs(scale - other.scale) <= Constant.EPSILON
+                && Math.abs(turns - Math.round(turns)) <= Constant.EPSILON;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#getBoundaryRectangle()
+     */
+    @Override
+    public Rectangle getBoundaryRectangle () {
+
+        Rectangle boundary = getCachedBoundary();
+        if (boundary != null) {
+            return boundary;
+        }
+
+        Rectangle blockBoundary = definition.getBoundaryRectangle();
+        if (blockBoundary == null) {
+            boundary = new Rectangle(insertionPoint.getX(), insertionPoint.getY(),
+                    insertionPoint.getX(), insertionPoint.getY());
+        }
+        else {
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (Point corner : blockBoundary.getPoints()) {
+                Point placed = toDrawing(corner.getX(), corner.getY());
+                minX = Math.min(minX, placed.getX());
+                minY = Math.min(minY, placed.getY());
+                maxX = Math.max(maxX, placed.getX());
+                maxY = Math.max(maxY, placed.getY());
+            }
+            boundary = new Rectangle(minX, minY, maxX, maxY);
+        }
+        setCachedBoundary(boundary);
+        return boundary;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
+     */
+    public boolean intersects (Rectangle rectangle) throws NullArgumentException {
+
+        if (rectangle == null) {
+            throw new NullArgumentException();
+        }
+        Rectangle boundary = getBoundaryRectangle();
+        if ( !boundary.overlaps(rectangle)) {
+            return false;
+        }
+        if (boundary.isInside(rectangle)) {
+            return true;
+        }
+
+        double quarters = rotation / (Math.PI / 2);
+        if (Math.abs(quarters - Math.round(quarters)) <= Constant.EPSILON) {
+            // The rectangle is still a rectangle inside the block
+            Point corner = toBlock(rectangle.getLowerLeft());
+            Point opposite = toBlock(rectangle.getUpperRight());
+            Rectangle blockRectangle = new Rectangle(corner.getX(), corner.getY(), opposite
+                    .getX(), opposite.getY());
+            return anyIntersects(definition.getElements(), blockRectangle);
+        }
+        return anyIntersects(explode(), rectangle);
+    }
+
+    /**
+     * @param elements
+     *            The elements to test
+     * @param rectangle
+     *            The rectangle in the same coordinate system as the elements
+     * @return true if any of the elements intersects the rectangle, false otherwise
+     * @throws NullArgumentException
+     *             Thrown if the rectangle is null
+     */
+    private boolean anyIntersects (Collection<Element> elements, Rectangle rectangle)
+            throws NullArgumentException {
+
+        IntersectionManager manager = null;
+        for (Element element : elements) {
+            boolean intersects;
+            if (element instanceof RectangleIntersectable) {
+                intersects = ((RectangleIntersectable) element).intersects(rectangle);
+            }
+            else if (element.isInside(rectangle)) {
+                intersects = true;
+            }
+            else {
+                if (manager == null) {
+                    manager = new IntersectionManagerEPLoader().getIntersectionManager();
+                }
+                intersects = manager.intersects(rectangle, element);
+            }
+            if (intersects) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#getReferencePoints(br.org.archimedes.model.Rectangle)
+     */
+    @Override
+    public Collection<? extends ReferencePoint> getReferencePoints (Rectangle area) {
+
+        Collection<ReferencePoint> references = new ArrayList<ReferencePoint>();
+        try {
+            ReferencePoint reference = new SquarePoint(insertionPoint, insertionPoint);
+            if (reference.isInside(area)) {
+                references.add(reference);
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should never reach this block
+            e.printStackTrace();
+        }
+        return references;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#getProjectionOf(br.org.archimedes.model.Point)
+     */
+    @Override
+    public Point getProjectionOf (Point point) throws NullArgumentException {
+
+        if (point == null) {
+            throw new NullArgumentException();
+        }
+
+        // The placement keeps proportions so the closest projection is the same in the block
+        Point blockPoint = toBlock(point);
+        Point closest = null;
+        double distance = Double.MAX_VALUE;
+        for (Element element : definition.getElements()) {
+            Point projection = element.getProjectionOf(blockPoint);
+            if (projection != null) {
+                double projectionDistance = projection.calculateDistance(blockPoint);
+                if (projectionDistance < distance) {
+                    distance = projectionDistance;
+                    closest = projection;
+                }
+            }
+        }
+
+        if (closest == null) {
+            return insertionPoint.clone();
+        }
+        return toDrawing(closest.getX(), closest.getY());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#contains(br.org.archimedes.model.Point)
+     */
+    @Override
+    public boolean contains (Point point) throws NullArgumentException {
+
+        if (point == null) {
+            throw new NullArgumentException();
+        }
+
+        Point blockPoint = toBlock(point);
+        for (Element element : definition.getElements()) {
+            if (element.contains(blockPoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#getPoints()
+     */
+    @Override
+    public List<Point> getPoints () {
+
+        return Collections.singletonList(insertionPoint);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#rotate(br.org.archimedes.model.Point, double)
+     */
+    @Override
+    public void rotate (Point rotateReference, double angle) throws NullArgumentException {
+
+        if (rotateReference == null) {
+            throw new NullArgumentException();
+        }
+        willChange();
+        insertionPoint.rotate(rotateReference, angle);
+        rotation += angle;
+        invalidateBoundary();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#scale(br.org.archimedes.model.Point, double)
+     */
+    @Override
+    public void scale (Point scaleReference, double proportion) throws NullArgumentException,
+            IllegalActionException {
+
+        if (scaleReference == null) {
+            throw new NullArgumentException();
+        }
+        if (proportion <= 0) {
+            throw new IllegalActionException();
+        }
+        willChange();
+        insertionPoint.scale(scaleReference, proportion);
+        scale *= proportion;
+        invalidateBoundary();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#mirror(br.org.archimedes.model.Point,
+     *      br.org.archimedes.model.Point)
+     */
+    @Override
+    public void mirror (Point p1, Point p2) throws NullArgumentException, IllegalActionException {
+
+        if (p1 == null || p2 == null) {
+            throw new NullArgumentException();
+        }
+        if (getLayer() != null && getLayer().isLocked()) {
+            throw new IllegalActionException();
+        }
+        double dx = p2.getX() - p1.getX();
+        double dy = p2.getY() - p1.getY();
+        double length = dx * dx + dy * dy;
+        if (length <= Constant.EPSILON * Constant.EPSILON) {
+            throw new IllegalActionException();
+        }
+
+        willChange();
+        double x = insertionPoint.getX() - p1.getX();
+        double y = insertionPoint.getY() - p1.getY();
+        double along = (x * dx + y * dy) / length;
+        insertionPoint.setX(2 * (p1.getX() + along * dx) - insertionPoint.getX());
+        insertionPoint.setY(2 * (p1.getY() + along * dy) - insertionPoint.getY());
+        // Mirroring on an axis turned by a is mirroring on the x axis and turning by 2a
+        rotation = 2 * Math.atan2(dy, dx) - rotation;
+        mirrored = !mirrored;
+        invalidateBoundary();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#draw(br.org.archimedes.gui.opengl.OpenGLWrapper)
+     */
+    @Override
+    public void draw (OpenGLWrapper wrapper) {
+
+        definition.draw(wrapper, this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString () {
+
+        return "Reference to " + definition.getName() + " at " + insertionPoint //$NON-NLS-1$ //$NON-NLS-2$
+                + " rotated by " + rotation + " scaled by " + scale //$NON-NLS-1$ //$NON-NLS-2$
+                + (mirrored ? " mirrored" : ""); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+}
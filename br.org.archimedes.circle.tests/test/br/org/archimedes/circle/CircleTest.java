@@ -161,6 +161,15 @@ public class CircleTest extends Tester {
 		assertNotNull(circle1.cloneWithDistance(-CIRCLE_RADIUS));
 	}
 	
+	@Test
+	public void intersectsRectanglesCrossedByTheCircumference() throws Exception {
+		assertTrue(circle1.intersects(new Rectangle(0.5, 0.5, 2, 2)));
+		assertTrue(circle1.intersects(new Rectangle(-2, -2, 2, 2)));
+		assertTrue(circle1.intersects(new Rectangle(1, -0.5, 2, 0.5)));
+		assertFalse(circle1.intersects(new Rectangle(-0.5, -0.5, 0.5, 0.5)));
+		assertFalse(circle1.intersects(new Rectangle(2, 2, 3, 3)));
+	}
+	
 	// TODO Test isPositiveDirection regarding a circle
 	
 	// TODO Test scale for a circle
@@ -26,6 +26,7 @@ import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Offsetable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
 import br.org.archimedes.model.ReferencePoint;
 import br.org.archimedes.model.Vector;
 import br.org.archimedes.model.references.CirclePoint;
@@ -39,7 +40,7 @@ import java.util.List;
 /**
  * Belongs to package br.org.archimedes.model.
  */
-public class Circle extends CurvedShape implements Offsetable {
+public class Circle extends CurvedShape implements Offsetable, RectangleIntersectable {
 
     private Point center;
 
@@ -262,6 +263,30 @@ public class Circle extends CurvedShape implements Offsetable {
         return Math.abs(distance - this.getRadius()) <= Constant.EPSILON;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
+     */
+    public boolean intersects (Rectangle rectangle) throws NullArgumentException {
+
+        if (rectangle == null) {
+            throw new NullArgumentException();
+        }
+
+        double x = center.getX();
+        double y = center.getY();
+        // The circle touches the rectangle if it passes between its nearest and farthest points
+        double nearestX = Math.max(rectangle.getMinX(), Math.min(x, rectangle.getMaxX()));
+        double nearestY = Math.max(rectangle.getMinY(), Math.min(y, rectangle.getMaxY()));
+        double farthestX = Math.max(Math.abs(x - rectangle.getMinX()), Math.abs(x
+                - rectangle.getMaxX()));
+        double farthestY = Math.max(Math.abs(y - rectangle.getMinY()), Math.abs(y
+                - rectangle.getMaxY()));
+
+        return Math.hypot(nearestX - x, nearestY - y) <= radius + Constant.EPSILON
+                && Math.hypot(farthestX, farthestY) >= radius - Constant.EPSILON;
+    }
+
     /**
      * @return The circle's center
      */
@@ -323,8 +348,10 @@ public class Circle extends CurvedShape implements Offsetable {
     public void scale (Point reference, double proportion) throws NullArgumentException,
             IllegalActionException {
 
+        willChange();
         center.scale(reference, proportion);
         radius *= proportion;
+        invalidateBoundary();
     }
 
     /*
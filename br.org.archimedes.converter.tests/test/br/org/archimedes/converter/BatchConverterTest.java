@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:18:33, by agent.<br>
+ * It is part of package br.org.archimedes.converter on the br.org.archimedes.converter.tests project.<br>
+ */
+
+package br.org.archimedes.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.InvalidFileFormatException;
+import br.org.archimedes.exceptions.NotSupportedException;
+import br.org.archimedes.interfaces.Exporter;
+import br.org.archimedes.interfaces.Importer;
+import br.org.archimedes.model.Drawing;
+
+/**
+ * Belongs to package br.org.archimedes.converter.
+ *
+ * @author agent
+ */
+public class BatchConverterTest extends Tester {
+
+    private File inputDirectory;
+
+    private File outputDirectory;
+
+    private FormatRegistry registry;
+
+
+    @Before
+    public void setUp () throws Exception {
+
+        inputDirectory = createDirectory("input"); //$NON-NLS-1$
+        outputDirectory = createDirectory("output"); //$NON-NLS-1$
+        registry = new FormatRegistry();
+        registry.registerImporter("in", TitleImporter.class); //$NON-NLS-1$
+        registry.registerExporter("out", TitleExporter.class); //$NON-NLS-1$
+    }
+
+    @After
+    public void tearDown () {
+
+        delete(inputDirectory);
+        delete(outputDirectory);
+    }
+
+    @Test
+    public void convertsEveryReadableFileOfTheDirectoryInOrder () throws Exception {
+
+        createFile("b.in", "second"); //$NON-NLS-1$ //$NON-NLS-2$
+        createFile("a.in", "first"); //$NON-NLS-1$ //$NON-NLS-2$
+        createFile("c.in", "third"); //$NON-NLS-1$ //$NON-NLS-2$
+        createFile("notes.txt", "ignored"); //$NON-NLS-1$ //$NON-NLS-2$
+        BatchConverter converter = new BatchConverter(registry, "out", outputDirectory, 2); //$NON-NLS-1$
+
+        List<Conversion> conversions = converter.convert(converter.listInputs(inputDirectory));
+
+        assertEquals(3, conversions.size());
+        assertEquals("a.in", conversions.get(0).getInput().getName()); //$NON-NLS-1$
+        assertEquals("c.in", conversions.get(2).getInput().getName()); //$NON-NLS-1$
+        for (Conversion conversion : conversions) {
+            assertTrue(conversion.isSuccessful());
+        }
+        assertEquals("first", read(new File(outputDirectory, "a.out"))); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals("second", read(new File(outputDirectory, "b.out"))); //$NON-NLS-1$ //$NON-NLS-2$
+        assertFalse(new File(outputDirectory, "notes.out").exists()); //$NON-NLS-1$
+    }
+
+    @Test
+    public void keepsConvertingAfterAFailure () throws Exception {
+
+        createFile("a.in", "first"); //$NON-NLS-1$ //$NON-NLS-2$
+        createFile("b.in", TitleImporter.INVALID); //$NON-NLS-1$
+        createFile("c.in", "third"); //$NON-NLS-1$ //$NON-NLS-2$
+        BatchConverter converter = new BatchConverter(registry, "out", outputDirectory, 3); //$NON-NLS-1$
+
+        List<Conversion> conversions = converter.convert(converter.listInputs(inputDirectory));
+
+        assertTrue(conversions.get(0).isSuccessful());
+        assertTrue(conversions.get(1).getError() instanceof InvalidFileFormatException);
+        assertTrue(conversions.get(2).isSuccessful());
+        assertFalse(new File(outputDirectory, "b.out").exists()); //$NON-NLS-1$
+    }
+
+    @Test
+    public void failsFilesWithoutImporter () throws Exception {
+
+        File input = createFile("drawing.unknown", "content"); //$NON-NLS-1$ //$NON-NLS-2$
+        BatchConverter converter = new BatchConverter(registry, "out", outputDirectory, 1); //$NON-NLS-1$
+
+        Conversion conversion = converter.convert(input);
+
+        assertTrue(conversion.getError() instanceof NotSupportedException);
+        assertEquals(new File(outputDirectory, "drawing.out"), conversion.getOutput()); //$NON-NLS-1$
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void refusesFormatWithoutExporter () throws Exception {
+
+        new BatchConverter(registry, "in", outputDirectory, 1); //$NON-NLS-1$
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void refusesConversionWithoutThreads () throws Exception {
+
+        new BatchConverter(registry, "out", outputDirectory, 0); //$NON-NLS-1$
+    }
+
+    @Test
+    public void createsNewImportersForEachConversion () throws Exception {
+
+        assertNotSame(registry.createImporter("IN"), registry.createImporter("in")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals(null, registry.createExporter("in")); //$NON-NLS-1$
+    }
+
+    private File createDirectory (String prefix) throws IOException {
+
+        File directory = File.createTempFile(prefix, ""); //$NON-NLS-1$
+        directory.delete();
+        directory.mkdirs();
+        return directory;
+    }
+
+    private File createFile (String name, String content) throws IOException {
+
+        File file = new File(inputDirectory, name);
+        Writer writer = new FileWriter(file);
+        try {
+            writer.write(content);
+        }
+        finally {
+            writer.close();
+        }
+        return file;
+    }
+
+    private String read (File file) throws IOException {
+
+        BufferedReader reader = new BufferedReader(new FileReader(file));
+        try {
+            return reader.readLine();
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private void delete (File directory) {
+
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+
+    /**
+     * Reads the title of a drawing from the first line of the file.
+     */
+    public static class TitleImporter implements Importer {
+
+        public static final String INVALID = "invalid"; //$NON-NLS-1$
+
+        private boolean used;
+
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.interfaces.Importer#importDrawing(java.io.InputStream)
+         */
+        public Drawing importDrawing (InputStream input) throws InvalidFileFormatException,
+                IOException {
+
+            if (used) {
+                throw new IllegalStateException("Importers should not be shared"); //$NON-NLS-1$
+            }
+            used = true;
+            String title = new BufferedReader(new InputStreamReader(input)).readLine();
+            if (INVALID.equals(title)) {
+                throw new InvalidFileFormatException();
+            }
+            return new Drawing(title);
+        }
+    }
+
+    /**
+     * Writes the title of a drawing.
+     */
+    public static class TitleExporter implements Exporter {
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.interfaces.Exporter#exportDrawing(br.org.archimedes.model.Drawing,
+         *      java.io.OutputStream)
+         */
+        public void exportDrawing (Drawing drawing, OutputStream output) throws IOException {
+
+            output.write(drawing.getTitle().getBytes());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:18:33, by agent.<br>
+ * It is part of package br.org.archimedes.converter on the br.org.archimedes.converter project.<br>
+ */
+
+package br.org.archimedes.converter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NotSupportedException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.interfaces.Exporter;
+import br.org.archimedes.interfaces.Importer;
+import br.org.archimedes.model.Drawing;
+
+/**
+ * Belongs to package br.org.archimedes.converter.<br>
+ * Converts files to a single format. Each file is read and written by its own importer and
+ * exporter on one of the threads of a pool so files are converted in parallel.
+ *
+ * @author agent
+ */
+public class BatchConverter {
+
+    private FormatRegistry registry;
+
+    private String targetExtension;
+
+    private File outputDirectory;
+
+    private int threads;
+
+
+    /**
+     * @param registry
+     *            The formats that can be read and written
+     * @param targetExtension
+     *            The extension of the format to write
+     * @param outputDirectory
+     *            The directory that receives the converted files
+     * @param threads
+     *            The number of files converted at the same time
+     * @throws NullArgumentException
+     *             Thrown if any argument is null
+     * @throws InvalidArgumentException
+     *             Thrown if the format cannot be written or there are no threads
+     */
+    public BatchConverter (FormatRegistry registry, String targetExtension,
+            File outputDirectory, int threads) throws NullArgumentException,
+            InvalidArgumentException {
+
+        if (registry == null || targetExtension == null || outputDirectory == null) {
+            throw new NullArgumentException();
+        }
+        if (threads < 1
+                || !registry.getExporterExtensions().contains(targetExtension.toLowerCase())) {
+            throw new InvalidArgumentException();
+        }
+        this.registry = registry;
+        this.targetExtension = targetExtension;
+        this.outputDirectory = outputDirectory;
+        this.threads = threads;
+    }
+
+    /**
+     * @param input
+     *            A file or a directory
+     * @return The input if it is a file or the files of the directory that can be read, sorted
+     *         by name. Sub directories are not visited.
+     */
+    public List<File> listInputs (File input) {
+
+        List<File> inputs = new ArrayList<File>();
+        if ( !input.isDirectory()) {
+            inputs.add(input);
+            return inputs;
+        }
+
+        File[] files = input.listFiles();
+        if (files != null) {
+            Arrays.sort(files);
+            for (File file : files) {
+                if (file.isFile()
+                        && registry.getImporterExtensions().contains(getExtension(file))) {
+                    inputs.add(file);
+                }
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Converts the files and waits for all of them.
+     *
+     * @param inputs
+     *            The files to convert
+     * @return The conversion of each file in the same order as the inputs
+     * @throws InterruptedException
+     *             Thrown if the calling thread is interrupted while waiting
+     */
+    public List<Conversion> convert (List<File> inputs) throws InterruptedException {
+
+        // The shared workspace is created lazily without synchronization and importers read it
+        br.org.archimedes.Utils.getWorkspace();
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(
+                inputs.size(), 1)));
+        try {
+            List<Future<Conversion>> futures = new ArrayList<Future<Conversion>>();
+            for (final File input : inputs) {
+                futures.add(executor.submit(new Callable<Conversion>() {
+
+                    public Conversion call () {
+
+                        return convert(input);
+                    }
+                }));
+            }
+
+            List<Conversion> conversions = new ArrayList<Conversion>();
+            for (Future<Conversion> future : futures) {
+                try {
+                    conversions.add(future.get());
+                }
+                catch (ExecutionException e) {
+                    // Should never happen since conversions keep their own errors
+                    e.printStackTrace();
+                }
+            }
+            return conversions;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Converts one file on the calling thread.
+     *
+     * @param input
+     *            The file to convert
+     * @return The conversion of the file
+     */
+    public Conversion convert (File input) {
+
+        Conversion conversion = new Conversion(input, getOutputFile(input));
+        long start = System.nanoTime();
+        try {
+            Drawing drawing = read(input);
+            long read = System.nanoTime();
+            conversion.setImportMillis((read - start) / 1000000);
+
+            write(drawing, conversion.getOutput());
+            conversion.setExportMillis((System.nanoTime() - read) / 1000000);
+        }
+        catch (Exception e) {
+            conversion.setError(e);
+        }
+        conversion.setMillis((System.nanoTime() - start) / 1000000);
+        return conversion;
+    }
+
+    /**
+     * @return The file in the output directory with the name of the input and the extension of
+     *         the target format
+     */
+    public File getOutputFile (File input) {
+
+        String name = input.getName();
+        int separator = name.lastIndexOf('.');
+        if (separator > 0) {
+            name = name.substring(0, separator);
+        }
+        return new File(outputDirectory, name + "." + targetExtension); //$NON-NLS-1$
+    }
+
+    /**
+     * @return The drawing in the file
+     */
+    private Drawing read (File input) throws Exception {
+
+        Importer importer = registry.createImporter(getExtension(input));
+        if (importer == null) {
+            throw new NotSupportedException(Messages.bind(Messages.BatchConverter_NoImporter,
+                    getExtension(input)));
+        }
+
+        InputStream stream = new BufferedInputStream(new FileInputStream(input));
+        try {
+            return importer.importDrawing(stream);
+        }
+        finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Writes the drawing in the target format. Deletes the output if it could not be written.
+     */
+    private void write (Drawing drawing, File output) throws Exception {
+
+        Exporter exporter = registry.createExporter(targetExtension);
+        File parent = output.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+
+        boolean written = false;
+        OutputStream stream = new BufferedOutputStream(new FileOutputStream(output));
+        try {
+            exporter.exportDrawing(drawing, stream);
+            written = true;
+        }
+        finally {
+            stream.close();
+            if ( !written) {
+                output.delete();
+            }
+        }
+    }
+
+    /**
+     * @return The lower case extension of the file without the dot or an empty string if it has
+     *         none
+     */
+    private String getExtension (File file) {
+
+        String name = file.getName();
+        int separator = name.lastIndexOf('.');
+        return separator < 0 ? "" : name.substring(separator + 1).toLowerCase(); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:18:33, by agent.<br>
+ * It is part of package br.org.archimedes.converter on the br.org.archimedes.converter project.<br>
+ */
+
+package br.org.archimedes.converter;
+
+import java.io.File;
+
+/**
+ * Belongs to package br.org.archimedes.converter.<br>
+ * Outcome of the conversion of one file.
+ *
+ * @author agent
+ */
+public class Conversion {
+
+    private File input;
+
+    private File output;
+
+    private long millis;
+
+    private long importMillis;
+
+    private long exportMillis;
+
+    private Exception error;
+
+
+    /**
+     * @param input
+     *            The file that was read
+     * @param output
+     *            The file that was written
+     */
+    public Conversion (File input, File output) {
+
+        this.input = input;
+        this.output = output;
+    }
+
+    /**
+     * @return The file that was read
+     */
+    public File getInput () {
+
+        return input;
+    }
+
+    /**
+     * @return The file that was written
+     */
+    public File getOutput () {
+
+        return output;
+    }
+
+    /**
+     * @return The time spent reading the input in milliseconds
+     */
+    public long getImportMillis () {
+
+        return importMillis;
+    }
+
+    void setImportMillis (long importMillis) {
+
+        this.importMillis = importMillis;
+    }
+
+    /**
+     * @return The time spent writing the output in milliseconds
+     */
+    public long getExportMillis () {
+
+        return exportMillis;
+    }
+
+    void setExportMillis (long exportMillis) {
+
+        this.exportMillis = exportMillis;
+    }
+
+    /**
+     * @return The total time spent on this file in milliseconds, even if it failed
+     */
+    public long getMillis () {
+
+        return millis;
+    }
+
+    void setMillis (long millis) {
+
+        this.millis = millis;
+    }
+
+    /**
+     * @return The problem that stopped the conversion or null if it succeeded
+     */
+    public Exception getError () {
+
+        return error;
+    }
+
+    void setError (Exception error) {
+
+        this.error = error;
+    }
+
+    /**
+     * @return true if the output was written, false otherwise
+     */
+    public boolean isSuccessful () {
+
+        return error == null;
+    }
+}
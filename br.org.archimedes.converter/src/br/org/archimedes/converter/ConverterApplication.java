@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:18:33, by agent.<br>
+ * It is part of package br.org.archimedes.converter on the br.org.archimedes.converter project.<br>
+ */
+
+package br.org.archimedes.converter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.rcp.ExtensionLoader;
+import br.org.archimedes.rcp.StaticExtensionRegistry;
+
+/**
+ * Belongs to package br.org.archimedes.converter.<br>
+ * Headless application that converts a file or every readable file of a directory to another
+ * format. It only needs the extension registry so it runs without the workbench, a display or
+ * OpenGL. Run with -application br.org.archimedes.converter.application.<br>
+ * It can also run from {@link #main(String[])} without an OSGi framework. Every bundle must
+ * then be on the class path so the extensions are read from their plugin.xml files.<br>
+ * <br>
+ * Accepted arguments:
+ * <ul>
+ * <li>-input &lt;file|directory&gt;: what to convert</li>
+ * <li>-output &lt;directory&gt;: where to write the converted files</li>
+ * <li>-format &lt;extension&gt;: the extension of the format to write (arc, xml, dxf, svg, pdf...)</li>
+ * <li>-threads &lt;count&gt;: how many files are converted at the same time (default the number of
+ * processors)</li>
+ * </ul>
+ * Prints the time spent on each file and exits with 1 if any file could not be converted.
+ *
+ * @author agent
+ */
+public class ConverterApplication implements IApplication {
+
+    private static final Integer EXIT_ERROR = Integer.valueOf(1);
+
+
+    /**
+     * Converts without an OSGi framework. The extensions are read from the plugin.xml files on
+     * the class path.
+     *
+     * @param args
+     *            The same arguments as the application
+     */
+    public static void main (String[] args) {
+
+        try {
+            ExtensionLoader.setFallbackRegistry(StaticExtensionRegistry
+                    .fromClassPath(ConverterApplication.class.getClassLoader()));
+        }
+        catch (IOException e) {
+            System.err.println(Messages.bind(Messages.ConverterApplication_NoRegistry, e
+                    .getMessage()));
+            System.exit(EXIT_ERROR.intValue());
+        }
+
+        int exitCode = EXIT_ERROR.intValue();
+        try {
+            exitCode = new ConverterApplication().convert(args).intValue();
+        }
+        catch (InterruptedException e) {
+            // Interrupted while waiting for the conversions. Exits with an error.
+        }
+        System.exit(exitCode);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.equinox.app.IApplication#start(org.eclipse.equinox.app.IApplicationContext)
+     */
+    public Object start (IApplicationContext context) throws Exception {
+
+        String[] args = (String[]) context.getArguments().get(
+                IApplicationContext.APPLICATION_ARGS);
+        return convert(args);
+    }
+
+    /**
+     * @param args
+     *            The command line arguments
+     * @return IApplication.EXIT_OK if every file was converted, 1 otherwise
+     * @throws InterruptedException
+     *             Thrown if the thread is interrupted while waiting for the conversions
+     */
+    private Integer convert (String[] args) throws InterruptedException {
+
+        String input = null;
+        String output = null;
+        String format = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; args != null && i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                if ("-input".equals(args[i])) { //$NON-NLS-1$
+                    input = value;
+                }
+                else if ("-output".equals(args[i])) { //$NON-NLS-1$
+                    output = value;
+                }
+                else if ("-format".equals(args[i])) { //$NON-NLS-1$
+                    format = value;
+                }
+                else if ("-threads".equals(args[i])) { //$NON-NLS-1$
+                    threads = Integer.parseInt(value);
+                }
+            }
+        }
+        catch (NumberFormatException e) {
+            System.err.println(Messages.ConverterApplication_InvalidArguments);
+            input = null;
+        }
+
+        if (input == null || output == null || format == null) {
+            System.err.println(Messages.ConverterApplication_Usage);
+            return EXIT_ERROR;
+        }
+
+        FormatRegistry registry = FormatRegistry.fromExtensions();
+        BatchConverter converter;
+        try {
+            converter = new BatchConverter(registry, format, new File(output), threads);
+        }
+        catch (InvalidArgumentException e) {
+            if (threads < 1) {
+                System.err.println(Messages.ConverterApplication_InvalidArguments);
+                System.err.println(Messages.ConverterApplication_Usage);
+            }
+            else {
+                System.err.println(Messages.bind(Messages.ConverterApplication_NoExporter, format,
+                        registry.getExporterExtensions()));
+            }
+            return EXIT_ERROR;
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since the arguments were checked
+            e.printStackTrace();
+            return EXIT_ERROR;
+        }
+
+        List<File> inputs = converter.listInputs(new File(input));
+        if (inputs.isEmpty()) {
+            System.err.println(Messages.bind(Messages.ConverterApplication_NoInputs, input,
+                    registry.getImporterExtensions()));
+            return EXIT_ERROR;
+        }
+
+        long start = System.currentTimeMillis();
+        List<Conversion> conversions = converter.convert(inputs);
+        long elapsed = System.currentTimeMillis() - start;
+
+        int converted = 0;
+        for (Conversion conversion : conversions) {
+            if (conversion.isSuccessful()) {
+                converted++;
+                System.out.println(Messages.bind(Messages.ConverterApplication_Converted,
+                        new Object[] {conversion.getInput(), conversion.getOutput(),
+                                conversion.getMillis(), conversion.getImportMillis(),
+                                conversion.getExportMillis()}));
+            }
+            else {
+                System.err.println(Messages.bind(Messages.ConverterApplication_Failed,
+                        new Object[] {conversion.getInput(), conversion.getMillis(),
+                                conversion.getError()}));
+            }
+        }
+        System.out.println(Messages.bind(Messages.ConverterApplication_Summary, new Object[] {
+                converted, inputs.size(), elapsed, Math.min(threads, inputs.size())}));
+
+        return converted == inputs.size() ? IApplication.EXIT_OK : EXIT_ERROR;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.equinox.app.IApplication#stop()
+     */
+    public void stop () {
+
+        // Nothing to do
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:18:33, by agent.<br>
+ * It is part of package br.org.archimedes.converter on the br.org.archimedes.converter project.<br>
+ */
+
+package br.org.archimedes.converter;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.interfaces.Exporter;
+import br.org.archimedes.interfaces.Importer;
+import br.org.archimedes.rcp.extensionpoints.FileExporterEPLoader;
+import br.org.archimedes.rcp.extensionpoints.NativeFormatEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.converter.<br>
+ * Importer and exporter classes by file extension. The contributed importers and exporters keep
+ * state between calls (the DXF importer accumulates layers for instance) so each conversion
+ * gets new instances of the registered classes instead of sharing the ones of the extension
+ * points.<br>
+ * Formats can be registered by hand so conversions can run without the extension registry.
+ *
+ * @author agent
+ */
+public class FormatRegistry {
+
+    private Map<String, Class<? extends Importer>> importers;
+
+    private Map<String, Class<? extends Exporter>> exporters;
+
+
+    /**
+     * Creates an empty registry.
+     */
+    public FormatRegistry () {
+
+        importers = new HashMap<String, Class<? extends Importer>>();
+        exporters = new HashMap<String, Class<? extends Exporter>>();
+    }
+
+    /**
+     * May be called from any thread since the extension point loaders fill their static maps
+     * under a lock.
+     *
+     * @return A registry with the native formats and the exporters contributed to the extension
+     *         points
+     */
+    public static FormatRegistry fromExtensions () {
+
+        FormatRegistry registry = new FormatRegistry();
+        NativeFormatEPLoader nativeLoader = new NativeFormatEPLoader();
+        for (String extension : nativeLoader.getExtensionsArray()) {
+            Importer importer = nativeLoader.getImporter(extension);
+            if (importer != null) {
+                registry.importers.put(extension.toLowerCase(), importer.getClass());
+            }
+        }
+        FileExporterEPLoader exporterLoader = new FileExporterEPLoader();
+        for (String extension : exporterLoader.getExtensions()) {
+            Exporter exporter = exporterLoader.getExporter(extension);
+            if (exporter != null) {
+                registry.exporters.put(extension.toLowerCase(), exporter.getClass());
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * @param extension
+     *            The file extension (without the dot)
+     * @param importer
+     *            The class that reads files with that extension. Must have a public empty
+     *            constructor.
+     * @throws NullArgumentException
+     *             Thrown if any argument is null
+     */
+    public void registerImporter (String extension, Class<? extends Importer> importer)
+            throws NullArgumentException {
+
+        if (extension == null || importer == null) {
+            throw new NullArgumentException();
+        }
+        importers.put(extension.toLowerCase(), importer);
+    }
+
+    /**
+     * @param extension
+     *            The file extension (without the dot)
+     * @param exporter
+     *            The class that writes files with that extension. Must have a public empty
+     *            constructor.
+     * @throws NullArgumentException
+     *             Thrown if any argument is null
+     */
+    public void registerExporter (String extension, Class<? extends Exporter> exporter)
+            throws NullArgumentException {
+
+        if (extension == null || exporter == null) {
+            throw new NullArgumentException();
+        }
+        exporters.put(extension.toLowerCase(), exporter);
+    }
+
+    /**
+     * @param extension
+     *            The file extension (without the dot)
+     * @return A new importer for that extension or null if there is none
+     * @throws InstantiationException
+     *             Thrown if the registered class is abstract
+     * @throws IllegalAccessException
+     *             Thrown if the empty constructor of the registered class is not public
+     * @throws InvocationTargetException
+     *             Thrown if the constructor of the registered class failed
+     * @throws NoSuchMethodException
+     *             Thrown if the registered class has no empty constructor
+     */
+    public Importer createImporter (String extension) throws InstantiationException,
+            IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+
+        Class<? extends Importer> importer = importers.get(extension.toLowerCase());
+        return importer == null ? null : importer.getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * @param extension
+     *            The file extension (without the dot)
+     * @return A new exporter for that extension or null if there is none
+     * @throws InstantiationException
+     *             Thrown if the registered class is abstract
+     * @throws IllegalAccessException
+     *             Thrown if the empty constructor of the registered class is not public
+     * @throws InvocationTargetException
+     *             Thrown if the constructor of the registered class failed
+     * @throws NoSuchMethodException
+     *             Thrown if the registered class has no empty constructor
+     */
+    public Exporter createExporter (String extension) throws InstantiationException,
+            IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+
+        Class<? extends Exporter> exporter = exporters.get(extension.toLowerCase());
+        return exporter == null ? null : exporter.getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * @return The sorted extensions that can be read
+     */
+    public Set<String> getImporterExtensions () {
+
+        return new TreeSet<String>(importers.keySet());
+    }
+
+    /**
+     * @return The sorted extensions that can be written
+     */
+    public Set<String> getExporterExtensions () {
+
+        return new TreeSet<String>(exporters.keySet());
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:18:33, by agent.<br>
+ * It is part of package br.org.archimedes.converter on the br.org.archimedes.converter project.<br>
+ */
+package br.org.archimedes.converter;
+
+import org.eclipse.osgi.util.NLS;
+
+/*
+ * Belongs to package br.org.archimedes.converter.
+ * @author agent
+ */
+public class Messages extends NLS {
+
+    private static final String BUNDLE_NAME = "br.org.archimedes.converter.messages"; //$NON-NLS-1$
+
+    public static String ConverterApplication_Usage;
+
+    public static String ConverterApplication_InvalidArguments;
+
+    public static String ConverterApplication_NoRegistry;
+
+    public static String ConverterApplication_NoExporter;
+
+    public static String ConverterApplication_NoInputs;
+
+    public static String ConverterApplication_Converted;
+
+    public static String ConverterApplication_Failed;
+
+    public static String ConverterApplication_Summary;
+
+    public static String BatchConverter_NoImporter;
+    static {
+        // initialize resource bundle
+        NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+    }
+
+
+    private Messages () {
+
+    }
+}
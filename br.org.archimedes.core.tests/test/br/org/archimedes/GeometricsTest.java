@@ -544,6 +544,27 @@ public class GeometricsTest extends Tester {
     	Assert.assertEquals(Math.sqrt(2.0), Geometrics.calculateDistance(initLine, endLine, point), Constant.EPSILON);
     	Assert.assertEquals(0.0, Geometrics.calculateDistance(initLine, endLine, new Point(0,0)), Constant.EPSILON);
     }
+
+    @Test
+    public void testCalculateDistanceCoordinatesLine () {
+
+        Assert.assertEquals(Math.sqrt(2.0), Geometrics.calculateDistance(1, -1, -1, 1, 1, 1),
+                Constant.EPSILON);
+        Assert.assertEquals(0.0, Geometrics.calculateDistance(1, -1, -1, 1, 0, 0),
+                Constant.EPSILON);
+    }
+
+    @Test
+    public void testCalculateDeterminantCoordinates () throws NullArgumentException {
+
+        Assert.assertEquals(2.0, Geometrics.calculateDeterminant(0, 0, 1, 0, 0, 2),
+                Constant.EPSILON);
+        Assert.assertEquals( -2.0, Geometrics.calculateDeterminant(0, 0, 0, 2, 1, 0),
+                Constant.EPSILON);
+        Assert.assertEquals(Geometrics.calculateDeterminant(new Point(1, 2), new Point(3, 5),
+                new Point( -1, 4)), Geometrics.calculateDeterminant(1, 2, 3, 5, -1, 4),
+                Constant.EPSILON);
+    }
     
     @Test
     public void testGetMeanOfTwoPoints() throws NullArgumentException {
@@ -643,4 +664,32 @@ public class GeometricsTest extends Tester {
     	buggie.add(new Point(1,-1));
     	Assert.assertEquals(9.0 + Math.sqrt(2.0) + Math.sqrt(5.0), Geometrics.calculatePerimeter(buggie), Constant.EPSILON);
     }
+
+    @Test
+    public void testSimplify () throws NullArgumentException {
+
+        List<Point> points = new ArrayList<Point>();
+        points.add(new Point(0, 0));
+        points.add(new Point(1, 0.01));
+        points.add(new Point(2, -0.01));
+        points.add(new Point(3, 0));
+        points.add(new Point(3, 5));
+        points.add(new Point(3.01, 6));
+        points.add(new Point(3, 7));
+
+        List<Point> expected = new ArrayList<Point>();
+        expected.add(new Point(0, 0));
+        expected.add(new Point(3, 0));
+        expected.add(new Point(3, 7));
+        Assert.assertEquals(expected, Geometrics.simplify(points, 0.1));
+
+        Assert.assertEquals(points, Geometrics.simplify(points, 0.001));
+        Assert.assertEquals(points, Geometrics.simplify(points, 0));
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void testSimplifyNull () throws NullArgumentException {
+
+        Geometrics.simplify(null, 1);
+    }
 }
@@ -49,7 +49,7 @@ public abstract class Tester {
     public Tester () {
 
         // To ensure Constant will be correctly loaded for tests.
-        Assert.assertNotNull(Constant.DEFAULT_FONT);
+        Assert.assertNotNull(Constant.getDefaultFont());
     }
 
     @Before
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:48:14, by agent.<br>
+ * It is part of package br.org.archimedes.gui.model on the br.org.archimedes.core.tests project.<br>
+ */
+package br.org.archimedes.gui.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.LineStyle;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.stub.StubElement;
+
+public class ClipboardTest {
+
+    public class PointElement extends StubElement {
+
+        private Point point;
+
+
+        public PointElement (Point point) {
+
+            this.point = point;
+        }
+
+        @Override
+        public Element clone () {
+
+            return new PointElement(point.clone());
+        }
+
+        @Override
+        public List<Point> getPoints () {
+
+            return Collections.singletonList(point);
+        }
+    }
+
+
+    private Clipboard clipboard;
+
+    private Layer layer;
+
+
+    @Before
+    public void setUp () {
+
+        clipboard = new Clipboard();
+        layer = new Layer(Constant.WHITE, "Layer", LineStyle.CONTINUOUS, 1);
+    }
+
+    @Test
+    public void copyKeepsTheElementsUntilTheyChange () throws Exception {
+
+        Element element = new PointElement(new Point(0, 0));
+        element.setLayer(layer);
+
+        clipboard.copy(Collections.singleton(element));
+
+        assertSame(element, clipboard.iterator().next());
+    }
+
+    @Test
+    public void keepsTheGeometryOfElementsChangedAfterCopy () throws Exception {
+
+        Element element = new PointElement(new Point(0, 0));
+        element.setLayer(layer);
+        clipboard.copy(Collections.singleton(element));
+
+        element.move(1, 1);
+
+        Element kept = clipboard.iterator().next();
+        assertNotSame(element, kept);
+        assertEquals(new Point(0, 0), kept.getPoints().get(0));
+        assertEquals(new Point(0, 0), clipboard.paste().get(0).getPoints().get(0));
+    }
+
+    @Test
+    public void stopsTrackingElementsAfterBeingCleared () throws Exception {
+
+        Element element = new PointElement(new Point(0, 0));
+        element.setLayer(layer);
+        clipboard.copy(Collections.singleton(element));
+        Element other = new PointElement(new Point(2, 2));
+        other.setLayer(layer);
+        clipboard.copy(Collections.singleton(other));
+
+        element.move(1, 1);
+
+        assertEquals(1, clipboard.size());
+        assertSame(other, clipboard.iterator().next());
+    }
+
+    @Test
+    public void pastedElementsShareOneLayerCopyPerPaste () throws Exception {
+
+        List<Element> selection = new ArrayList<Element>();
+        for (int i = 0; i < 3; i++) {
+            Element element = new PointElement(new Point(i, i));
+            element.setLayer(layer);
+            selection.add(element);
+        }
+        clipboard.copy(selection);
+
+        List<Element> firstPaste = clipboard.paste();
+        List<Element> secondPaste = clipboard.paste();
+
+        assertEquals(3, firstPaste.size());
+        Layer pastedLayer = firstPaste.get(0).getLayer();
+        assertNotSame(layer, pastedLayer);
+        assertEquals(layer.getName(), pastedLayer.getName());
+        for (Element pasted : firstPaste) {
+            assertSame(pastedLayer, pasted.getLayer());
+        }
+        assertNotSame(pastedLayer, secondPaste.get(0).getLayer());
+        assertNotSame(firstPaste.get(0), secondPaste.get(0));
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:21:44, by agent.<br>
+ * It is part of package br.org.archimedes.gui.rca on the br.org.archimedes.core.tests project.<br>
+ */
+package br.org.archimedes.gui.rca;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Belongs to package br.org.archimedes.gui.rca.
+ * 
+ * @author agent
+ */
+public class StartupTimerTest {
+
+    @Before
+    public void setUp () {
+
+        StartupTimer.start();
+    }
+
+    @Test
+    public void keepsOnlyTheFirstTimeAStepIsReached () throws Exception {
+
+        long first = StartupTimer.mark("first frame"); //$NON-NLS-1$
+        Thread.sleep(20);
+
+        assertEquals(first, StartupTimer.mark("first frame")); //$NON-NLS-1$
+        assertEquals(1, StartupTimer.getSteps().size());
+    }
+
+    @Test
+    public void keepsStepsInTheOrderTheyWereReached () throws Exception {
+
+        StartupTimer.mark("window opened"); //$NON-NLS-1$
+        Thread.sleep(20);
+        StartupTimer.mark("first frame"); //$NON-NLS-1$
+
+        Map<String, Long> steps = StartupTimer.getSteps();
+        List<String> names = new ArrayList<String>(steps.keySet());
+        assertEquals("window opened", names.get(0)); //$NON-NLS-1$
+        assertEquals("first frame", names.get(1)); //$NON-NLS-1$
+        assertTrue(steps.get("first frame") >= steps.get("window opened") + 20); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    public void restartForgetsReachedSteps () {
+
+        StartupTimer.mark("window opened"); //$NON-NLS-1$
+
+        StartupTimer.start();
+
+        assertTrue(StartupTimer.getSteps().isEmpty());
+    }
+}
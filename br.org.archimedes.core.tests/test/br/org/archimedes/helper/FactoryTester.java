@@ -43,7 +43,7 @@ public abstract class FactoryTester extends Tester {
         // To load the correct font within the controller.
         // This hack is needed since the singletons within Utils set an activator so the Constant
         // cant find out it is a test.
-        Assert.assertNotNull(Constant.DEFAULT_FONT);
+        Assert.assertNotNull(Constant.getDefaultFont());
     }
 
     /**
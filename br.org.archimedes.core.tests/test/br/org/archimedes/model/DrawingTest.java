@@ -26,7 +26,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
@@ -39,6 +41,8 @@ public class DrawingTest extends Tester {
 
         private Rectangle bounds;
 
+        private int boundaryCalculations;
+
 
         public BoundedStubElement (double x1, double y1, double x2, double y2) {
 
@@ -58,8 +62,19 @@ public class DrawingTest extends Tester {
         @Override
         public Rectangle getBoundaryRectangle () {
 
+            boundaryCalculations++;
             return bounds;
         }
+
+        @Override
+        public void move (double deltaX, double deltaY) {
+
+            super.move(deltaX, deltaY);
+            if (bounds != null) {
+                bounds = new Rectangle(bounds.getMinX() + deltaX, bounds.getMinY() + deltaY,
+                        bounds.getMaxX() + deltaX, bounds.getMaxY() + deltaY);
+            }
+        }
     }
 
     public class ContainedStubElement extends StubElement {
@@ -285,6 +300,209 @@ public class DrawingTest extends Tester {
         Assert.assertEquals(expectedBoundary, realBoundary);
     }
 
+    @Test
+    public void boundaryFollowsMovedElements () {
+
+        Element element = new BoundedStubElement(0.0, 0.0, 10.0, 10.0);
+        putSafeElementOnDrawing(element, drawing);
+        assertEquals(new Rectangle(0, 0, 10, 10), drawing.getBoundary());
+
+        element.move(5.0, -5.0);
+        assertEquals(new Rectangle(5, -5, 15, 5), drawing.getBoundary());
+    }
+
+    @Test
+    public void boundaryIgnoresHiddenLayers () {
+
+        putSafeElementOnDrawing(new BoundedStubElement(0.0, 0.0, 10.0, 10.0), drawing);
+        assertEquals(new Rectangle(0, 0, 10, 10), drawing.getBoundary());
+
+        drawing.getCurrentLayer().setVisible(false);
+        Assert.assertNull(drawing.getBoundary());
+
+        drawing.getCurrentLayer().setVisible(true);
+        assertEquals(new Rectangle(0, 0, 10, 10), drawing.getBoundary());
+    }
+
+    @Test
+    public void boundaryIsNotRecalculatedWithoutChangesOnItsBorder () {
+
+        BoundedStubElement outer = new BoundedStubElement(0.0, 0.0, 10.0, 10.0);
+        BoundedStubElement inner = new BoundedStubElement(2.0, 2.0, 8.0, 8.0);
+        putSafeElementOnDrawing(outer, drawing);
+        putSafeElementOnDrawing(inner, drawing);
+        drawing.getBoundary();
+        int calculations = outer.boundaryCalculations;
+
+        assertEquals(new Rectangle(0, 0, 10, 10), drawing.getBoundary());
+        removeSafeElement(inner);
+        assertEquals(new Rectangle(0, 0, 10, 10), drawing.getBoundary());
+        assertEquals(calculations, outer.boundaryCalculations);
+
+        putSafeElementOnDrawing(inner, drawing);
+        removeSafeElement(outer);
+        assertEquals(new Rectangle(2, 2, 8, 8), drawing.getBoundary());
+    }
+
+    @Test
+    public void notifiesOnceForEachTransaction () {
+
+        List<List<DrawingEvent>> notifications = listenToDrawing();
+        Element first = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        Element second = new BoundedStubElement(1.0, 1.0, 2.0, 2.0);
+        Element third = new BoundedStubElement(2.0, 2.0, 3.0, 3.0);
+
+        drawing.beginTransaction();
+        putSafeElementOnDrawing(first, drawing);
+        putSafeElementOnDrawing(second, drawing);
+        drawing.beginTransaction();
+        putSafeElementOnDrawing(third, drawing);
+        removeSafeElement(second);
+        drawing.commitTransaction();
+        assertTrue(notifications.isEmpty());
+        drawing.commitTransaction();
+
+        assertEquals(1, notifications.size());
+        List<DrawingEvent> events = notifications.get(0);
+        assertEquals(1, events.size());
+        DrawingEvent.ElementsAdded added = (DrawingEvent.ElementsAdded) events.get(0);
+        assertEquals(2, added.getElements().size());
+        assertTrue(added.getElements().contains(first));
+        assertTrue(added.getElements().contains(third));
+    }
+
+    @Test
+    public void reportsTheOldBoundariesOfChangedElements () {
+
+        Element moved = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        Element removed = new BoundedStubElement(1.0, 1.0, 2.0, 2.0);
+        putSafeElementOnDrawing(moved, drawing);
+        putSafeElementOnDrawing(removed, drawing);
+        List<List<DrawingEvent>> notifications = listenToDrawing();
+
+        moved.move(1.0, 1.0);
+        assertTrue("Changes outside transactions are not reported", notifications.isEmpty());
+
+        drawing.beginTransaction();
+        moved.move(1.0, 1.0);
+        moved.move(1.0, 1.0);
+        removed.move(1.0, 1.0);
+        removeSafeElement(removed);
+        drawing.commitTransaction();
+
+        assertEquals(1, notifications.size());
+        List<DrawingEvent> events = notifications.get(0);
+        assertEquals(2, events.size());
+        DrawingEvent.ElementsRemoved removal = (DrawingEvent.ElementsRemoved) events.get(0);
+        assertEquals(1, removal.getElements().size());
+        assertEquals(new Rectangle(1, 1, 2, 2), removal.getOldBoundary(removed));
+        DrawingEvent.ElementsTransformed transformation = (DrawingEvent.ElementsTransformed) events
+                .get(1);
+        assertEquals(1, transformation.getElements().size());
+        assertEquals(new Rectangle(1, 1, 2, 2), transformation.getOldBoundary(moved));
+    }
+
+    @Test
+    public void dropsTheIndexesOfElementsChangedOutsideTransactions () throws Exception {
+
+        Element moved = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        putSafeElementOnDrawing(moved, drawing);
+        SnapIndex snapIndex = drawing.getSnapIndex();
+        drawing.getUnlockedIndex();
+
+        moved.move(10.0, 10.0);
+
+        Assert.assertNotSame(snapIndex, drawing.getSnapIndex());
+        assertTrue(drawing.getUnlockedIndex().getElementsIn(new Rectangle(9, 9, 12, 12))
+                .contains(moved));
+    }
+
+    @Test
+    public void ignoresCopiesThatReferToALayer () {
+
+        Element original = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        putSafeElementOnDrawing(original, drawing);
+        SnapIndex snapIndex = drawing.getSnapIndex();
+        Element copy = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        copy.setLayer(drawing.getCurrentLayer());
+        List<List<DrawingEvent>> notifications = listenToDrawing();
+
+        drawing.beginTransaction();
+        copy.move(1.0, 1.0);
+        drawing.commitTransaction();
+        copy.move(1.0, 1.0);
+
+        assertTrue(notifications.isEmpty());
+        assertEquals(snapIndex, drawing.getSnapIndex());
+    }
+
+    @Test
+    public void ignoresElementsRemovedFromTheirLayer () throws Exception {
+
+        Element removed = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        putSafeElementOnDrawing(removed, drawing);
+        drawing.getCurrentLayer().removeElement(removed);
+        SnapIndex snapIndex = drawing.getSnapIndex();
+        List<List<DrawingEvent>> notifications = listenToDrawing();
+
+        removed.move(1.0, 1.0);
+
+        assertTrue(notifications.isEmpty());
+        assertEquals(snapIndex, drawing.getSnapIndex());
+    }
+
+    @Test
+    public void countsOnlyChangesOfItsOwnElements () {
+
+        Element held = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        putSafeElementOnDrawing(held, drawing);
+        Element preview = new BoundedStubElement(0.0, 0.0, 1.0, 1.0);
+        long modifications = drawing.getModifications();
+
+        preview.move(1.0, 1.0);
+        assertEquals(modifications, drawing.getModifications());
+
+        held.move(1.0, 1.0);
+        assertEquals(modifications + 1, drawing.getModifications());
+    }
+
+    @Test
+    public void reportsLayerAndViewportChanges () {
+
+        List<List<DrawingEvent>> notifications = listenToDrawing();
+        Layer layer = new Layer(Constant.RED, "layerTest", LineStyle.CONTINUOUS, 2);
+
+        drawing.addLayer(layer);
+        layer.setName("renamed");
+        drawing.setZoom(2.0);
+
+        assertEquals(3, notifications.size());
+        assertEquals(layer, ((DrawingEvent.LayerAdded) notifications.get(0).get(0)).getLayer());
+        DrawingEvent event = notifications.get(1).get(0);
+        DrawingEvent.LayerPropertyChanged renaming = (DrawingEvent.LayerPropertyChanged) event;
+        assertEquals("layerTest", renaming.getOldName());
+        assertTrue(drawing.getLayerNames().contains("renamed"));
+        DrawingEvent.ViewportChanged zooming = (DrawingEvent.ViewportChanged) notifications.get(2)
+                .get(0);
+        assertEquals(1.0, zooming.getOldZoom(), 0.0);
+    }
+
+    /**
+     * @return The list that will receive the events of each notification of the drawing
+     */
+    private List<List<DrawingEvent>> listenToDrawing () {
+
+        final List<List<DrawingEvent>> notifications = new ArrayList<List<DrawingEvent>>();
+        drawing.addDrawingListener(new DrawingListener() {
+
+            public void drawingChanged (List<DrawingEvent> events) {
+
+                notifications.add(events);
+            }
+        });
+        return notifications;
+    }
+
     // TODO Test undo on the drawing
 
     @Test
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:09:29, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core.tests project.<br>
+ */
+
+package br.org.archimedes.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.stub.StubElement;
+
+/**
+ * Belongs to package br.org.archimedes.model.
+ *
+ * @author agent
+ */
+public class RectangleSelectorTest extends Tester {
+
+    private List<Element> grid;
+
+
+    @Before
+    public void setUp () {
+
+        // Enough elements to be split in several batches
+        grid = new ArrayList<Element>();
+        for (int i = 0; i < 3 * RectangleSelector.ELEMENTS_PER_BATCH; i++) {
+            int x = (i % 100) * 10;
+            int y = (i / 100) * 10;
+            grid.add(new BoxElement(new Rectangle(x, y, x + 5, y + 5)));
+        }
+    }
+
+    @Test
+    public void windowChoosesOnlyElementsInside () throws Exception {
+
+        Rectangle window = new Rectangle(2, 0, 105, 95);
+
+        Set<Element> chosen = new RectangleSelector(window, false).select(grid);
+
+        assertEquals(100, chosen.size());
+        for (Element element : grid) {
+            assertEquals(element.isInside(window), chosen.contains(element));
+        }
+    }
+
+    @Test
+    public void crossingChoosesElementsTouchingTheRectangle () throws Exception {
+
+        Rectangle crossing = new Rectangle(2, 0, 105, 95);
+
+        Set<Element> chosen = new RectangleSelector(crossing, true).select(grid);
+
+        assertEquals(110, chosen.size());
+        assertTrue(chosen.contains(grid.get(0)));
+        assertFalse(chosen.contains(grid.get(11)));
+    }
+
+    @Test
+    public void keepsEqualElementsApart () throws Exception {
+
+        List<Element> twins = new ArrayList<Element>();
+        twins.add(new EqualBoxElement(new Rectangle(0, 0, 1, 1)));
+        twins.add(new EqualBoxElement(new Rectangle(0, 0, 1, 1)));
+
+        Set<Element> chosen = new RectangleSelector(new Rectangle(0, 0, 2, 2), false)
+                .select(twins);
+
+        assertEquals(2, chosen.size());
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void refusesNullRectangle () throws Exception {
+
+        new RectangleSelector(null, false);
+    }
+
+
+    /**
+     * Stub element with a given boundary rectangle that intersects the rectangles it overlaps.
+     */
+    private static class BoxElement extends StubElement implements RectangleIntersectable {
+
+        private Rectangle boundary;
+
+
+        public BoxElement (Rectangle boundary) {
+
+            this.boundary = boundary;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.stub.StubElement#getBoundaryRectangle()
+         */
+        @Override
+        public Rectangle getBoundaryRectangle () {
+
+            return boundary;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
+         */
+        public boolean intersects (Rectangle rectangle) {
+
+            return boundary.overlaps(rectangle);
+        }
+    }
+
+    /**
+     * Box element equal to any other with the same boundary.
+     */
+    private static class EqualBoxElement extends BoxElement {
+
+        public EqualBoxElement (Rectangle boundary) {
+
+            super(boundary);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.stub.StubElement#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals (Object object) {
+
+            return object instanceof EqualBoxElement
+                    && getBoundaryRectangle().equals(((EqualBoxElement) object)
+                            .getBoundaryRectangle());
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode () {
+
+            return getBoundaryRectangle().hashCode();
+        }
+    }
+}
@@ -54,4 +54,56 @@ public class RectangleTest extends Tester {
         Assert.assertFalse("The rectangle should not be inside " + rectangle.toString(),
                 testedRectangle.isInside(rectangle));
     }
+
+    @Test
+    public void testOverlaps () {
+
+        Rectangle testedRectangle = new Rectangle(0, 0, 50, 50);
+
+        Assert.assertTrue(testedRectangle.overlaps(new Rectangle( -15, -15, 75, 75)));
+        Assert.assertTrue(testedRectangle.overlaps(new Rectangle(40, 40, 75, 75)));
+        Assert.assertTrue(testedRectangle.overlaps(new Rectangle(50, 10, 75, 20)));
+        Assert.assertFalse(testedRectangle.overlaps(new Rectangle(51, 10, 75, 20)));
+        Assert.assertFalse(testedRectangle.overlaps(new Rectangle(10, -10, 20, -1)));
+    }
+
+    @Test
+    public void testIntersectsSegment () {
+
+        Rectangle testedRectangle = new Rectangle(0, 0, 50, 50);
+
+        Assert.assertTrue(testedRectangle.intersectsSegment( -10, 25, 60, 25));
+        Assert.assertTrue(testedRectangle.intersectsSegment(10, 10, 20, 20));
+        Assert.assertTrue(testedRectangle.intersectsSegment( -10, 50, 60, 50));
+        Assert.assertTrue(testedRectangle.intersectsSegment( -10, 40, 10, 60));
+        Assert.assertFalse(testedRectangle.intersectsSegment( -10, 45, 10, 65));
+        Assert.assertFalse(testedRectangle.intersectsSegment(60, 0, 60, 50));
+        Assert.assertFalse(testedRectangle.intersectsSegment(55, 55, 55, 55));
+    }
+
+    @Test
+    public void testIntersectsLine () {
+
+        Rectangle testedRectangle = new Rectangle(0, 0, 50, 50);
+
+        Assert.assertTrue(testedRectangle.intersectsLine(100, 25, 1, 0, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY));
+        Assert.assertFalse(testedRectangle.intersectsLine(100, 25, 1, 0, 0,
+                Double.POSITIVE_INFINITY));
+        Assert.assertTrue(testedRectangle.intersectsLine(100, 25, -1, 0, 0,
+                Double.POSITIVE_INFINITY));
+        Assert.assertFalse(testedRectangle.intersectsLine(100, 60, -1, 0,
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void testBounds () {
+
+        Rectangle testedRectangle = new Rectangle(10, 5, -2, 8);
+
+        Assert.assertEquals( -2.0, testedRectangle.getMinX(), 0.0);
+        Assert.assertEquals(5.0, testedRectangle.getMinY(), 0.0);
+        Assert.assertEquals(10.0, testedRectangle.getMaxX(), 0.0);
+        Assert.assertEquals(8.0, testedRectangle.getMaxY(), 0.0);
+    }
 }
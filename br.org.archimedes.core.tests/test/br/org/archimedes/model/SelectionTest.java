@@ -14,12 +14,14 @@ package br.org.archimedes.model;
 
 import br.org.archimedes.Tester;
 import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.gui.opengl.Color;
 import br.org.archimedes.stub.StubElement;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -230,4 +232,58 @@ public class SelectionTest extends Tester {
         assertCollectionContains(selection.getSelectedElements(), circle);
         assertCollectionContains(selectionRect.getSelectedElements(), circle);
     }
+
+    @Test
+    public void testInvert () {
+
+        Element kept = new StubElement();
+        Element removed = new StubElement();
+        Element added = new StubElement();
+        selection.add(kept);
+        selection.add(removed);
+
+        Set<Element> elements = new HashSet<Element>();
+        elements.add(removed);
+        elements.add(added);
+        selection.invert(elements);
+
+        assertCollectionTheSame(Arrays.asList(kept, added), selection
+                .getSelectedElements());
+    }
+
+    @Test
+    public void testRemoveAfterElementChanged () throws Exception {
+
+        Element element = new StubElement() {
+
+            @Override
+            public int hashCode () {
+
+                return System.identityHashCode(getLayer());
+            }
+        };
+        selection.add(element);
+        element.setLayer(new Layer(new Color(0, 0, 0), "changed",
+                LineStyle.CONTINUOUS, 1));
+
+        Assert.assertTrue("Should remove element", selection.remove(element));
+        Assert.assertTrue("Selection should be empty", selection.isEmpty());
+    }
+
+    @Test
+    public void testModificationsOnlyCountChanges () {
+
+        Element element = new StubElement();
+        long modifications = selection.getModifications();
+
+        selection.add(element);
+        Assert.assertEquals(modifications + 1, selection.getModifications());
+        selection.add(element);
+        Assert.assertEquals(modifications + 1, selection.getModifications());
+
+        selection.remove(element);
+        Assert.assertEquals(modifications + 2, selection.getModifications());
+        selection.remove(element);
+        Assert.assertEquals(modifications + 2, selection.getModifications());
+    }
 }
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:14:55, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core.tests project.<br>
+ */
+
+package br.org.archimedes.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.references.SquarePoint;
+import br.org.archimedes.stub.StubElement;
+
+/**
+ * Belongs to package br.org.archimedes.model.
+ *
+ * @author agent
+ */
+public class SnapIndexTest extends Tester {
+
+    private static final Rectangle VIEW = new Rectangle( -1000, -1000, 2000, 2000);
+
+    private List<PointElement> row;
+
+
+    @Before
+    public void setUp () {
+
+        row = new ArrayList<PointElement>();
+        for (int i = 0; i < 100; i++) {
+            row.add(new PointElement(new Point(i * 10, 0), true));
+        }
+    }
+
+    @Test
+    public void returnsOnlyReferencesInsideTheArea () throws Exception {
+
+        SnapIndex index = new SnapIndex(row);
+
+        List<ReferencePoint> found = new ArrayList<ReferencePoint>();
+        index.getReferencesIn(new Rectangle(15, -1, 35, 1), VIEW, found);
+
+        assertEquals(2, found.size());
+        assertTrue(containsPoint(found, new Point(20, 0)));
+        assertTrue(containsPoint(found, new Point(30, 0)));
+    }
+
+    @Test
+    public void asksBoundedElementsOnlyOnce () throws Exception {
+
+        SnapIndex index = new SnapIndex(row);
+
+        List<ReferencePoint> found = new ArrayList<ReferencePoint>();
+        index.getReferencesIn(new Rectangle(15, -1, 35, 1), VIEW, found);
+        index.getReferencesIn(new Rectangle(45, -1, 65, 1), VIEW, found);
+
+        assertEquals(4, found.size());
+        for (PointElement element : row) {
+            assertEquals(1, element.asked);
+        }
+    }
+
+    @Test
+    public void asksUnboundedElementsWithTheViewArea () throws Exception {
+
+        PointElement unbounded = new PointElement(new Point(20, 1), false);
+        List<Element> elements = new ArrayList<Element>(row);
+        elements.add(unbounded);
+        SnapIndex index = new SnapIndex(elements);
+
+        List<ReferencePoint> found = new ArrayList<ReferencePoint>();
+        index.getReferencesIn(new Rectangle(15, -1, 25, 2), VIEW, found);
+        assertEquals(2, found.size());
+        assertSame(VIEW, unbounded.lastArea);
+
+        found.clear();
+        index.getReferencesIn(new Rectangle(15, -1, 25, 2), new Rectangle(0, 0, 10, 10), found);
+        assertEquals(1, found.size());
+        assertEquals(2, unbounded.asked);
+    }
+
+    @Test
+    public void removesAnElementThatAlreadyMoved () throws Exception {
+
+        SnapIndex index = new SnapIndex(row);
+        PointElement moved = row.get(2);
+        moved.point.setX(505);
+
+        assertTrue(index.remove(moved));
+        assertFalse(index.remove(moved));
+        index.add(moved);
+
+        List<ReferencePoint> found = new ArrayList<ReferencePoint>();
+        index.getReferencesIn(new Rectangle(15, -1, 25, 1), VIEW, found);
+        assertTrue(found.isEmpty());
+        index.getReferencesIn(new Rectangle(501, -1, 509, 1), VIEW, found);
+        assertEquals(1, found.size());
+        assertEquals(100, index.size());
+    }
+
+    @Test
+    public void findsReferencesAddedOutsideTheGrid () throws Exception {
+
+        SnapIndex index = new SnapIndex(row);
+        index.add(new PointElement(new Point(5000, 5000), true));
+
+        List<ReferencePoint> found = new ArrayList<ReferencePoint>();
+        index.getReferencesIn(new Rectangle(4999, 4999, 5001, 5001), VIEW, found);
+
+        assertEquals(1, found.size());
+        assertEquals(new Point(5000, 5000), found.get(0).getPoint());
+    }
+
+    @Test
+    public void worksWithoutBoundedElements () throws Exception {
+
+        SnapIndex index = new SnapIndex(Collections.<Element> emptyList());
+        index.add(new PointElement(new Point(1, 1), true));
+
+        List<ReferencePoint> found = new ArrayList<ReferencePoint>();
+        index.getReferencesIn(new Rectangle(0, 0, 2, 2), VIEW, found);
+
+        assertEquals(1, found.size());
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void refusesNullArea () throws Exception {
+
+        new SnapIndex(row).getReferencesIn(null, VIEW, new ArrayList<ReferencePoint>());
+    }
+
+    private boolean containsPoint (Collection<ReferencePoint> references, Point point) {
+
+        for (ReferencePoint reference : references) {
+            if (reference.getPoint().equals(point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Stub element with a single reference point.
+     */
+    private static class PointElement extends StubElement {
+
+        private Point point;
+
+        private boolean bounded;
+
+        private int asked;
+
+        private Rectangle lastArea;
+
+
+        public PointElement (Point point, boolean bounded) {
+
+            this.point = point;
+            this.bounded = bounded;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.stub.StubElement#getBoundaryRectangle()
+         */
+        @Override
+        public Rectangle getBoundaryRectangle () {
+
+            if ( !bounded) {
+                return null;
+            }
+            return new Rectangle(point.getX(), point.getY(), point.getX(), point.getY());
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.stub.StubElement#getReferencePoints(br.org.archimedes.model.Rectangle)
+         */
+        @Override
+        public Collection<? extends ReferencePoint> getReferencePoints (Rectangle area) {
+
+            asked++;
+            lastArea = area;
+            Collection<ReferencePoint> references = new ArrayList<ReferencePoint>();
+            if (point.isInside(area)) {
+                try {
+                    references.add(new SquarePoint(point));
+                }
+                catch (NullArgumentException e) {
+                    // Should never happen since the point is not null
+                    e.printStackTrace();
+                }
+            }
+            return references;
+        }
+    }
+}
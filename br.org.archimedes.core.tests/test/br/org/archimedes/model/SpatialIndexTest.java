@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:04:24, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core.tests project.<br>
+ */
+
+package br.org.archimedes.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.stub.StubElement;
+
+/**
+ * Belongs to package br.org.archimedes.model.
+ *
+ * @author agent
+ */
+public class SpatialIndexTest extends Tester {
+
+    private List<Element> row;
+
+    private Element unbounded;
+
+
+    @Before
+    public void setUp () {
+
+        row = new ArrayList<Element>();
+        for (int i = 0; i < 100; i++) {
+            row.add(new BoxElement(new Rectangle(i * 10, 0, i * 10 + 5, 5)));
+        }
+        unbounded = new BoxElement(null);
+    }
+
+    @Test
+    public void returnsOnlyElementsOverlappingTheArea () throws Exception {
+
+        List<Element> elements = new ArrayList<Element>(row);
+        elements.add(unbounded);
+        SpatialIndex index = new SpatialIndex(elements);
+
+        Collection<Element> found = index.getElementsIn(new Rectangle(12, 1, 33, 2));
+
+        assertEquals(4, found.size());
+        assertTrue(found.contains(row.get(1)));
+        assertTrue(found.contains(row.get(2)));
+        assertTrue(found.contains(row.get(3)));
+        assertTrue(found.contains(unbounded));
+    }
+
+    @Test
+    public void returnsUnboundedElementsFarFromTheirBoundary () throws Exception {
+
+        List<Element> elements = new ArrayList<Element>(row);
+        Element ray = new BoxElement(new Rectangle(0, 0, 5, 5)) {
+
+            @Override
+            public boolean isUnbounded () {
+
+                return true;
+            }
+        };
+        elements.add(ray);
+        SpatialIndex index = new SpatialIndex(elements);
+
+        Collection<Element> found = index.getElementsIn(new Rectangle(5000, 5000, 5001, 5001));
+
+        assertEquals(1, found.size());
+        assertTrue(found.contains(ray));
+    }
+
+    @Test
+    public void returnsElementsCoveringManyCellsOnlyOnce () throws Exception {
+
+        List<Element> elements = new ArrayList<Element>(row);
+        Element wide = new BoxElement(new Rectangle(0, 0, 995, 5));
+        elements.add(wide);
+        SpatialIndex index = new SpatialIndex(elements);
+
+        Collection<Element> found = index.getElementsIn(new Rectangle( -10, -10, 1000, 10));
+
+        assertEquals(101, found.size());
+        assertEquals(101, new HashSet<Element>(found).size());
+        assertTrue(found.contains(wide));
+    }
+
+    @Test
+    public void visitsCellsInOrderAlongTheRay () throws Exception {
+
+        SpatialIndex index = new SpatialIndex(row);
+
+        SpatialIndex.Ray ray = index.castRay(new Point(502, 2), new Vector(new Point(1, 0)));
+        List<Element> visited = new ArrayList<Element>();
+        double distance = 0;
+        while (ray.hasNext()) {
+            visited.addAll(ray.next());
+            assertTrue("Cells should be visited in order", ray.getDistance() >= distance);
+            distance = ray.getDistance();
+        }
+
+        assertTrue(visited.containsAll(row.subList(50, 100)));
+        assertFalse("Elements behind the origin should not be visited", visited.contains(row
+                .get(40)));
+        double x = 0;
+        for (Element element : visited) {
+            assertTrue(element.getBoundaryRectangle().getLowerLeft().getX() >= x);
+            x = element.getBoundaryRectangle().getLowerLeft().getX();
+        }
+    }
+
+    @Test
+    public void rayMissingTheGridOnlyReturnsElementsAside () throws Exception {
+
+        SpatialIndex index = new SpatialIndex(row);
+        Element far = new BoxElement(new Rectangle(5000, 5000, 5001, 5001));
+        index.add(far);
+
+        SpatialIndex.Ray ray = index.castRay(new Point(0, 100), new Vector(new Point(1, 0)));
+        List<Element> visited = new ArrayList<Element>();
+        while (ray.hasNext()) {
+            visited.addAll(ray.next());
+        }
+
+        assertEquals(1, visited.size());
+        assertTrue(visited.contains(far));
+    }
+
+    @Test
+    public void removedElementsAreNotReturned () throws Exception {
+
+        SpatialIndex index = new SpatialIndex(row);
+
+        assertTrue(index.remove(row.get(2)));
+        assertFalse(index.remove(row.get(2)));
+
+        assertEquals(99, index.size());
+        assertTrue(index.getElementsIn(new Rectangle(20, 0, 25, 5)).isEmpty());
+    }
+
+    @Test
+    public void returnsTheNearestElementsSortedByDistance () throws Exception {
+
+        SpatialIndex index = new SpatialIndex(row);
+
+        List<Element> nearest = index.getNearest(new Point(502, 2), 3, Double.MAX_VALUE, null);
+
+        assertEquals(3, nearest.size());
+        assertEquals(row.get(50), nearest.get(0));
+        assertEquals(row.get(49), nearest.get(1));
+        assertEquals(row.get(51), nearest.get(2));
+    }
+
+    @Test
+    public void ignoresElementsFartherThanTheMaximumDistance () throws Exception {
+
+        SpatialIndex index = new SpatialIndex(row);
+
+        assertTrue(index.getNearest(new Point(507, 2), 1, 1, null).isEmpty());
+        assertEquals(row.get(50), index.getNearest(new Point(507, 2), 1, 2, null).get(0));
+    }
+
+    @Test
+    public void filtersTheNearestElementsByClass () throws Exception {
+
+        SpatialIndex index = new SpatialIndex(row);
+        Element other = new OtherBoxElement(new Rectangle(300, 20, 301, 21));
+        index.add(other);
+
+        List<Element> nearest = index.getNearest(new Point(502, 2), 1, Double.MAX_VALUE,
+                OtherBoxElement.class);
+
+        assertEquals(1, nearest.size());
+        assertEquals(other, nearest.get(0));
+    }
+
+    @Test
+    public void findsTheNearestElementFromOutsideTheGrid () throws Exception {
+
+        SpatialIndex index = new SpatialIndex(row);
+
+        List<Element> nearest = index.getNearest(new Point( -1000, 2), 1, Double.MAX_VALUE, null);
+
+        assertEquals(1, nearest.size());
+        assertEquals(row.get(0), nearest.get(0));
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void refusesRayWithoutDirection () throws Exception {
+
+        new SpatialIndex(row).castRay(new Point(0, 0), new Vector(new Point(0, 0)));
+    }
+
+
+    /**
+     * Stub element with a given boundary rectangle.
+     */
+    private static class BoxElement extends StubElement {
+
+        private Rectangle boundary;
+
+
+        public BoxElement (Rectangle boundary) {
+
+            this.boundary = boundary;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see br.org.archimedes.stub.StubElement#getBoundaryRectangle()
+         */
+        @Override
+        public Rectangle getBoundaryRectangle () {
+
+            return boundary;
+        }
+    }
+
+    /**
+     * Box element of another class.
+     */
+    private static class OtherBoxElement extends BoxElement {
+
+        public OtherBoxElement (Rectangle boundary) {
+
+            super(boundary);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 20:05:30, by agent.<br>
+ * It is part of package br.org.archimedes.rcp on the br.org.archimedes.core.tests project.<br>
+ */
+
+package br.org.archimedes.rcp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IExecutableExtension;
+import org.eclipse.core.runtime.Platform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Belongs to package br.org.archimedes.rcp.
+ *
+ * @author agent
+ */
+public class StaticExtensionRegistryTest {
+
+    private static final String POINT = "br.org.archimedes.tests.point"; //$NON-NLS-1$
+
+    private StaticExtensionRegistry registry;
+
+
+    @Before
+    public void setUp () throws Exception {
+
+        registry = new StaticExtensionRegistry(getClass().getClassLoader());
+        read("<plugin>" //$NON-NLS-1$
+                + "<extension-point id=\"point\" name=\"Point\"/>" //$NON-NLS-1$
+                + "<extension point=\"" + POINT + "\">" //$NON-NLS-1$ //$NON-NLS-2$
+                + "<tag id=\"first\" class=\"" + Created.class.getName() + ":data\">" //$NON-NLS-1$ //$NON-NLS-2$
+                + "<shortcut id=\"f\"/><shortcut id=\"fi\"/><other>text</other>" //$NON-NLS-1$
+                + "</tag></extension>" //$NON-NLS-1$
+                + "<extension point=\"another.point\"><tag id=\"ignored\"/></extension>" //$NON-NLS-1$
+                + "</plugin>"); //$NON-NLS-1$
+        read("<plugin><extension point=\"" + POINT + "\">" //$NON-NLS-1$ //$NON-NLS-2$
+                + "<tag id=\"second\" class=\"missing.Class\"/>" //$NON-NLS-1$
+                + "</extension></plugin>"); //$NON-NLS-1$
+    }
+
+    @After
+    public void tearDown () {
+
+        ExtensionLoader.setFallbackRegistry(null);
+    }
+
+    @Test
+    public void keepsTheTagsOfEachPointInReadingOrder () {
+
+        IConfigurationElement[] tags = registry.getConfigurationElementsFor(POINT);
+
+        assertEquals(2, tags.length);
+        assertEquals("first", tags[0].getAttribute("id")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals("second", tags[1].getAttribute("id")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals(0, registry.getConfigurationElementsFor("unknown.point").length); //$NON-NLS-1$
+    }
+
+    @Test
+    public void readsChildrenAndValues () {
+
+        IConfigurationElement tag = registry.getConfigurationElementsFor(POINT)[0];
+
+        assertEquals(3, tag.getChildren().length);
+        IConfigurationElement[] shortcuts = tag.getChildren("shortcut"); //$NON-NLS-1$
+        assertEquals(2, shortcuts.length);
+        assertEquals("fi", shortcuts[1].getAttribute("id")); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals(tag, shortcuts[1].getParent());
+        assertEquals("text", tag.getChildren("other")[0].getValue()); //$NON-NLS-1$ //$NON-NLS-2$
+        assertNull(tag.getValue());
+    }
+
+    @Test
+    public void createsExecutableExtensionsWithTheirData () throws Exception {
+
+        IConfigurationElement tag = registry.getConfigurationElementsFor(POINT)[0];
+
+        Created created = (Created) tag.createExecutableExtension("class"); //$NON-NLS-1$
+
+        assertEquals("data", created.data); //$NON-NLS-1$
+        assertEquals(tag, created.tag);
+    }
+
+    @Test(expected = CoreException.class)
+    public void failsToCreateMissingClasses () throws Exception {
+
+        registry.getConfigurationElementsFor(POINT)[1].createExecutableExtension("class"); //$NON-NLS-1$
+    }
+
+    @Test
+    public void loaderUsesTheFallbackWithoutPlatformRegistry () {
+
+        if (Platform.getExtensionRegistry() != null) {
+            // Running as a plugin test so the platform registry is always used
+            return;
+        }
+        final List<String> ids = new ArrayList<String>();
+        ExtensionTagHandler handler = new ExtensionTagHandler() {
+
+            public void handleTag (IConfigurationElement tag) {
+
+                ids.add(tag.getAttribute("id")); //$NON-NLS-1$
+            }
+        };
+
+        new ExtensionLoader(POINT).loadExtension(handler);
+        assertTrue(ids.isEmpty());
+
+        ExtensionLoader.setFallbackRegistry(registry);
+        new ExtensionLoader(POINT).loadExtension(handler);
+        assertEquals(2, ids.size());
+        assertEquals("first", ids.get(0)); //$NON-NLS-1$
+    }
+
+    private void read (String plugin) throws IOException {
+
+        registry.read(new ByteArrayInputStream(plugin.getBytes("UTF-8"))); //$NON-NLS-1$
+    }
+
+
+    /**
+     * Executable extension that keeps its initialization data.
+     */
+    public static class Created implements IExecutableExtension {
+
+        private IConfigurationElement tag;
+
+        private Object data;
+
+
+        /*
+         * (non-Javadoc)
+         * @see org.eclipse.core.runtime.IExecutableExtension#setInitializationData(org.eclipse.core.runtime.IConfigurationElement,
+         *      java.lang.String, java.lang.Object)
+         */
+        public void setInitializationData (IConfigurationElement config, String propertyName,
+                Object initData) {
+
+            this.tag = config;
+            this.data = initData;
+        }
+    }
+}
@@ -69,9 +69,7 @@ public class Constant {
 
     public static final double SPACE_WIDTH = 1.0;
 
-    public static final File USER_HOME;
-
-    public static final Font DEFAULT_FONT;
+    public static final File USER_HOME = new File(System.getProperty("user.home")); //$NON-NLS-1$
 
     public static final double DEFAULT_FONT_SIZE = 18.0;
 
@@ -79,27 +77,51 @@ public class Constant {
 
     public static final String DEFAULT_FONT_NAME = Messages.Constant_defaultFontFileName;
 
-    static {
-        
-        String fontPath = FONT_FOLDER + File.separator + DEFAULT_FONT_NAME;
-        
-        Activator activator = Activator.getDefault();
-        if (activator != null) {
-            Bundle bundle = activator.getBundle();
-            Path path = new Path(fontPath); //$NON-NLS-1$
-            URL fontUrl = FileLocator.find(bundle, path, Collections.EMPTY_MAP);
-            try {
-                fontUrl = FileLocator.toFileURL(fontUrl);
-            }
-            catch (IOException e) {
-                // Shouldn't happen. We ensured the font is there
-                e.printStackTrace();
+
+    /**
+     * The font is only parsed the first time it is needed since reading it is one of the most
+     * expensive steps of the startup.
+     * 
+     * @return The font used by texts and dimensions
+     */
+    public static Font getDefaultFont () {
+
+        return DefaultFontHolder.FONT;
+    }
+
+
+    /**
+     * Holds the default font so it is read when the holder class is loaded.
+     */
+    private static class DefaultFontHolder {
+
+        private static final Font FONT = loadDefaultFont();
+
+
+        /**
+         * @return The default font from the core bundle or from the working directory if the
+         *         plugin is not running
+         */
+        private static Font loadDefaultFont () {
+
+            String fontPath = FONT_FOLDER + File.separator + DEFAULT_FONT_NAME;
+
+            Activator activator = Activator.getDefault();
+            Bundle bundle = activator == null ? null : activator.getBundle();
+            if (bundle != null) {
+                Path path = new Path(fontPath); //$NON-NLS-1$
+                URL fontUrl = FileLocator.find(bundle, path, Collections.EMPTY_MAP);
+                try {
+                    fontUrl = FileLocator.toFileURL(fontUrl);
+                }
+                catch (IOException e) {
+                    // Shouldn't happen. We ensured the font is there
+                    e.printStackTrace();
+                }
+                return Font.create(fontUrl.getPath());
             }
-            DEFAULT_FONT = Font.create(fontUrl.getPath());
-        }
-        else { // Used for non plugin tests
-            DEFAULT_FONT = Font.create(fontPath);
+            // Used for non plugin tests and conversions without OSGi
+            return Font.create(fontPath);
         }
-        USER_HOME = new File(System.getProperty("user.home")); //$NON-NLS-1$
     }
 }
@@ -158,14 +158,37 @@ public class Geometrics {
         if (point == null || startLine == null || endLine == null) {
             throw new NullArgumentException();
         }
-        
+
+        return calculateDistance(startLine.getX(), startLine.getY(), endLine.getX(), endLine
+                .getY(), point.getX(), point.getY());
+    }
+
+    /**
+     * Give the value of the distance from a point to the line defined by two other points.
+     * 
+     * @param startX
+     *            the x coordinate of the first point of the line
+     * @param startY
+     *            the y coordinate of the first point of the line
+     * @param endX
+     *            the x coordinate of the second point of the line
+     * @param endY
+     *            the y coordinate of the second point of the line
+     * @param x
+     *            the x coordinate of the point
+     * @param y
+     *            the y coordinate of the point
+     * @return distance from point to line.
+     */
+    public static double calculateDistance (double startX, double startY, double endX,
+            double endY, double x, double y) {
+
         double a, b, c;
-        a = startLine.getY() - endLine.getY();
-        b = endLine.getX() - startLine.getX();
-        c = startLine.getX() * endLine.getY() - endLine.getX() * startLine.getY();
-        double distance = Math.abs(point.getX() * a + point.getY() * b + c) / Math.sqrt(a*a + b*b);
+        a = startY - endY;
+        b = endX - startX;
+        c = startX * endY - endX * startY;
 
-        return distance;
+        return Math.abs(x * a + y * b + c) / Math.sqrt(a * a + b * b);
     }
 
     /**
@@ -606,14 +629,17 @@ public class Geometrics {
             throw new NullArgumentException();
         }
 
-        double x1 = p1.getX();
-        double y1 = p1.getY();
-
-        double x2 = p2.getX();
-        double y2 = p2.getY();
+        return calculateDeterminant(p1.getX(), p1.getY(), p2.getX(), p2.getY(), p3.getX(), p3
+                .getY());
+    }
 
-        double x3 = p3.getX();
-        double y3 = p3.getY();
+    /**
+     * Calculates the determinant from the coordinates of 3 points
+     * 
+     * @return The determinant value
+     */
+    public static double calculateDeterminant (double x1, double y1, double x2, double y2,
+            double x3, double y3) {
 
         return (x1 * y2 + x2 * y3 + x3 * y1) - (x1 * y3 + x2 * y1 + x3 * y2);
     }
@@ -919,4 +945,96 @@ public class Geometrics {
 
         return pointAngle;
     }
+
+    /**
+     * Simplifies a sequence of points with the Douglas-Peucker algorithm. Every removed point is
+     * closer than the tolerance to the simplified path. The first and last points are always kept.
+     * 
+     * @param points
+     *            The points to be simplified in order.
+     * @param tolerance
+     *            The maximum distance between a removed point and the simplified path.
+     * @return The kept points in the same order. A new list is returned even if nothing was
+     *         removed.
+     * @throws NullArgumentException
+     *             In case the list of points is null.
+     */
+    public static List<Point> simplify (List<Point> points, double tolerance)
+            throws NullArgumentException {
+
+        if (points == null) {
+            throw new NullArgumentException();
+        }
+        int size = points.size();
+        if (size < 3 || tolerance <= 0) {
+            return new ArrayList<Point>(points);
+        }
+
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        int index = 0;
+        for (Point point : points) {
+            xs[index] = point.getX();
+            ys[index] = point.getY();
+            index++;
+        }
+
+        boolean[] kept = new boolean[size];
+        kept[0] = true;
+        kept[size - 1] = true;
+        double squaredTolerance = tolerance * tolerance;
+        // Explicit stack of ranges so that millions of points do not overflow the call stack
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = size - 1;
+        while (top > 0) {
+            int last = stack[--top];
+            int first = stack[--top];
+
+            double dx = xs[last] - xs[first];
+            double dy = ys[last] - ys[first];
+            double squaredLength = dx * dx + dy * dy;
+            double farthest = squaredTolerance;
+            int farthestIndex = -1;
+            for (int i = first + 1; i < last; i++) {
+                double px = xs[i] - xs[first];
+                double py = ys[i] - ys[first];
+                double squaredDistance;
+                if (squaredLength == 0) {
+                    squaredDistance = px * px + py * py;
+                }
+                else {
+                    double cross = px * dy - py * dx;
+                    squaredDistance = cross * cross / squaredLength;
+                }
+                if (squaredDistance > farthest) {
+                    farthest = squaredDistance;
+                    farthestIndex = i;
+                }
+            }
+
+            if (farthestIndex > 0) {
+                kept[farthestIndex] = true;
+                if (top + 4 > stack.length) {
+                    int[] bigger = new int[2 * stack.length];
+                    System.arraycopy(stack, 0, bigger, 0, top);
+                    stack = bigger;
+                }
+                stack[top++] = first;
+                stack[top++] = farthestIndex;
+                stack[top++] = farthestIndex;
+                stack[top++] = last;
+            }
+        }
+
+        List<Point> simplified = new ArrayList<Point>();
+        index = 0;
+        for (Point point : points) {
+            if (kept[index++]) {
+                simplified.add(point);
+            }
+        }
+        return simplified;
+    }
 }
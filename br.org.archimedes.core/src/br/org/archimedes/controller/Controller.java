@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import br.org.archimedes.Geometrics;
 import br.org.archimedes.Utils;
 import br.org.archimedes.exceptions.IllegalActionException;
 import br.org.archimedes.exceptions.NoActiveDrawingException;
@@ -30,12 +31,10 @@ import br.org.archimedes.factories.QuickMoveFactory;
 import br.org.archimedes.interfaces.Command;
 import br.org.archimedes.model.Drawing;
 import br.org.archimedes.model.Element;
-import br.org.archimedes.model.Layer;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
 import br.org.archimedes.model.ReferencePoint;
 import br.org.archimedes.model.Selection;
-import br.org.archimedes.model.Vector;
 
 /**
  * Belongs to package br.org.archimedes.controller.
@@ -151,15 +150,7 @@ public class Controller {
      */
     public void copyToClipboard (Set<Element> selection) {
 
-        br.org.archimedes.Utils.getWorkspace().getClipboard().clear();
-
-        for (Element element : selection) {
-            // For now, elements that go to the clipboard have no layer.
-            Element cloned = element.clone();
-            Layer layerClone = element.getLayer().clone();
-            cloned.setLayer(layerClone);
-            br.org.archimedes.Utils.getWorkspace().getClipboard().add(cloned);
-        }
+        br.org.archimedes.Utils.getWorkspace().getClipboard().copy(selection);
     }
 
     /**
@@ -173,6 +164,22 @@ public class Controller {
      */
     public Element getElementUnder (Point point, Class<?> name) throws NoActiveDrawingException {
 
+        Drawing drawing = getActiveDrawing();
+        double delta = br.org.archimedes.Utils.getWorkspace().getSelectionSize() / 2.0;
+        delta = br.org.archimedes.Utils.getWorkspace().screenToModel(delta);
+
+        try {
+            List<Element> nearest = drawing.getUnlockedIndex().getNearest(point, 1, delta, name);
+            if ( !nearest.isEmpty()) {
+                return nearest.get(0);
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should not happen since the point was used to select
+            e.printStackTrace();
+        }
+
+        // Elements like texts are selected by their area rather than their geometry
         Collection<Element> elementsUnder = getElementsUnder(point, name);
         return getClosests(elementsUnder, point);
     }
@@ -195,9 +202,9 @@ public class Controller {
                 }
 
                 Point projection = element.getProjectionOf(point);
-                Vector distanceVector = new Vector(point, projection);
-                if (dist > distanceVector.getNorm()) {
-                    dist = distanceVector.getNorm();
+                double distance = Geometrics.calculateDistance(point, projection);
+                if (dist > distance) {
+                    dist = distance;
                     closest = element;
                 }
             }
@@ -424,11 +431,7 @@ public class Controller {
                 currentSelection.addAll(selectedElements);
             }
             else {
-                for (Element element : selectedElements) {
-                    if ( !currentSelection.remove(element)) {
-                        currentSelection.add(element);
-                    }
-                }
+                currentSelection.invert(selectedElements);
             }
             currentSelection.setRectangle(null);
         }
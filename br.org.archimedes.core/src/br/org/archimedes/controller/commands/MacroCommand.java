@@ -64,8 +64,17 @@ public class MacroCommand implements UndoableCommand {
      */
     public void doIt (Drawing drawing) throws IllegalActionException, NullArgumentException {
 
-        for (UndoableCommand cmd : commands) {
-            cmd.doIt(drawing);
+        if (drawing == null) {
+            throw new NullArgumentException();
+        }
+        drawing.beginTransaction();
+        try {
+            for (UndoableCommand cmd : commands) {
+                cmd.doIt(drawing);
+            }
+        }
+        finally {
+            drawing.commitTransaction();
         }
     }
 
@@ -77,8 +86,17 @@ public class MacroCommand implements UndoableCommand {
 
         List<UndoableCommand> reversedCommands = new ArrayList<UndoableCommand>(commands);
         Collections.reverse(reversedCommands);
-        for (UndoableCommand cmd : reversedCommands) {
-            cmd.undoIt(drawing);
+        if (drawing == null) {
+            throw new NullArgumentException();
+        }
+        drawing.beginTransaction();
+        try {
+            for (UndoableCommand cmd : reversedCommands) {
+                cmd.undoIt(drawing);
+            }
+        }
+        finally {
+            drawing.commitTransaction();
         }
     }
 
@@ -1,8 +1,6 @@
 
 package br.org.archimedes.gui.handlers;
 
-import java.util.Collection;
-
 import org.eclipse.core.commands.AbstractHandler;
 import org.eclipse.core.commands.ExecutionEvent;
 import org.eclipse.core.commands.ExecutionException;
@@ -10,7 +8,6 @@ import org.eclipse.core.commands.ExecutionException;
 import br.org.archimedes.Utils;
 import br.org.archimedes.exceptions.NoActiveDrawingException;
 import br.org.archimedes.model.Drawing;
-import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Selection;
 
 public class SelectionHandler extends AbstractHandler {
@@ -42,11 +39,8 @@ public class SelectionHandler extends AbstractHandler {
 
         Drawing activeDrawing =  Utils.getController().getActiveDrawing();
         if (activeDrawing != null) {
-            Collection<Element> unlockedContents = activeDrawing.getUnlockedContents();
             Selection selection = new Selection();
-            for (Element element : unlockedContents) {
-                selection.add(element);
-            }
+            selection.addAll(activeDrawing.getUnlockedIndex());
             activeDrawing.setSelection(selection);
         }
     }
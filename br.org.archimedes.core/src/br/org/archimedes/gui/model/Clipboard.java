@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:48:14, by agent.<br>
+ * It is part of package br.org.archimedes.gui.model on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.gui.model;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.LayerListener;
+
+/**
+ * Belongs to package br.org.archimedes.gui.model.<br>
+ * Holds the copied elements. Copying only keeps references to the selected elements; an element
+ * is cloned when it is about to change on the drawing, so the clipboard keeps its geometry as it
+ * was when copied, and every paste clones the elements again. Layers are kept once per name and
+ * cloned once per paste.
+ *
+ * @author agent
+ */
+public class Clipboard extends AbstractCollection<Element> implements LayerListener {
+
+    private List<Element> elements;
+
+    private List<String> layerNames;
+
+    private Map<String, Layer> layers;
+
+    private Map<Element, Integer> shared;
+
+    private Map<Layer, Layer> listenedLayers;
+
+
+    /**
+     * Creates an empty clipboard.
+     */
+    public Clipboard () {
+
+        elements = new ArrayList<Element>();
+        layerNames = new ArrayList<String>();
+        layers = new HashMap<String, Layer>();
+        shared = new IdentityHashMap<Element, Integer>();
+        listenedLayers = new IdentityHashMap<Layer, Layer>();
+    }
+
+    /**
+     * Replaces the contents of the clipboard.
+     *
+     * @param selection
+     *            The elements to copy
+     */
+    public void copy (Collection<? extends Element> selection) {
+
+        clear();
+        for (Element element : selection) {
+            add(element);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractCollection#add(java.lang.Object)
+     */
+    @Override
+    public boolean add (Element element) {
+
+        if (shared.containsKey(element)) {
+            return false;
+        }
+
+        String layerName = null;
+        Layer layer = element.getLayer();
+        if (layer != null) {
+            layerName = layer.getName();
+            if ( !layers.containsKey(layerName)) {
+                layers.put(layerName, layer);
+            }
+            if ( !listenedLayers.containsKey(layer)) {
+                listenedLayers.put(layer, layer);
+                layer.addLayerListener(this);
+            }
+        }
+        shared.put(element, elements.size());
+        elements.add(element);
+        layerNames.add(layerName);
+        return true;
+    }
+
+    /**
+     * @return Copies of the elements on the clipboard, ready to be put on a drawing. Copies that
+     *         came from the same layer share a copy of that layer.
+     */
+    public List<Element> paste () {
+
+        Map<String, Layer> layerCopies = new HashMap<String, Layer>();
+        List<Element> copies = new ArrayList<Element>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            Element copy = elements.get(i).clone();
+            String layerName = layerNames.get(i);
+            Layer layerCopy = null;
+            if (layerName != null) {
+                layerCopy = layerCopies.get(layerName);
+                if (layerCopy == null) {
+                    layerCopy = layers.get(layerName).clone();
+                    layerCopies.put(layerName, layerCopy);
+                }
+            }
+            copy.setLayer(layerCopy);
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractCollection#clear()
+     */
+    @Override
+    public void clear () {
+
+        for (Layer layer : listenedLayers.keySet()) {
+            layer.removeLayerListener(this);
+        }
+        elements.clear();
+        layerNames.clear();
+        layers.clear();
+        shared.clear();
+        listenedLayers.clear();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractCollection#iterator()
+     */
+    @Override
+    public Iterator<Element> iterator () {
+
+        return Collections.unmodifiableList(elements).iterator();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractCollection#size()
+     */
+    @Override
+    public int size () {
+
+        return elements.size();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.LayerListener#elementWillChange(br.org.archimedes.model.Layer,
+     *      br.org.archimedes.model.Element)
+     */
+    public void elementWillChange (Layer layer, Element element) {
+
+        Integer index = shared.remove(element);
+        if (index != null) {
+            elements.set(index, element.clone());
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.LayerListener#layerChanged(br.org.archimedes.model.Layer,
+     *      java.lang.String)
+     */
+    public void layerChanged (Layer layer, String oldName) {
+
+        // Layers are only cloned when pasting
+    }
+}
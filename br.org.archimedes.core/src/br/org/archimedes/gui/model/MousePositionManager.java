@@ -15,11 +15,10 @@ package br.org.archimedes.gui.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Observable;
 import java.util.Observer;
-import java.util.Set;
 
 import br.org.archimedes.Utils;
 import br.org.archimedes.exceptions.NoActiveDrawingException;
@@ -120,17 +119,17 @@ public class MousePositionManager implements Observer {
         Rectangle mouseArea = getMouseArea(workspace);
 
         try {
-            Set<Element> closeElements = getViewableElements(drawing,
-                    modelDrawingArea);
+            drawing.getSnapIndex().getReferencesIn(mouseArea, modelDrawingArea,
+                    closePoints);
 
+            // Only elements whose boundary overlaps the mouse area can have
+            // an intersection or orthogonal point inside it
+            List<Element> closeElements = drawing.getUnlockedIndex()
+                    .getElementsIn(mouseArea);
             for (Element element : closeElements) {
 
-                Collection<ReferencePoint> basicReferences = getBasicReferences(
-                        modelDrawingArea, mouseArea, element);
                 Collection<XPoint> intersectionReferences = getIntersectionReferences(
                         mouseArea, closeElements, element);
-
-                closePoints.addAll(basicReferences);
                 closePoints.addAll(intersectionReferences);
 
                 OrthogonalPoint ortho = getOrthogonalPoint(mouseArea, element);
@@ -175,30 +174,6 @@ public class MousePositionManager implements Observer {
         return ortho;
     }
 
-    /**
-     * @param modelDrawingArea
-     *            The area being viewed
-     * @param mouseArea
-     *            The area of the mouse that selected the points
-     * @param element
-     *            The element from which we wish the reference points
-     * @return A collection of reference points close to the mouse area
-     */
-    private Collection<ReferencePoint> getBasicReferences (
-            Rectangle modelDrawingArea, Rectangle mouseArea, Element element) {
-
-        Collection<ReferencePoint> basicReferences = new LinkedList<ReferencePoint>();
-        Collection<? extends ReferencePoint> references = element
-                .getReferencePoints(modelDrawingArea);
-
-        for (ReferencePoint reference : references) {
-            if (reference.getPoint().isInside(mouseArea)) {
-                basicReferences.add(reference);
-            }
-        }
-        return basicReferences;
-    }
-
     /**
      * @param mouseArea
      *            The mouse area to select the intersections
@@ -211,7 +186,7 @@ public class MousePositionManager implements Observer {
      *             Thrown if the element is null.
      */
     private Collection<XPoint> getIntersectionReferences (Rectangle mouseArea,
-            Set<Element> closeElements, Element element)
+            Collection<Element> closeElements, Element element)
             throws NullArgumentException {
 
         Collection<XPoint> intersectionsReferences = new LinkedList<XPoint>();
@@ -230,31 +205,6 @@ public class MousePositionManager implements Observer {
         return intersectionsReferences;
     }
 
-    /**
-     * @param drawing
-     *            The drawing from which we want the elements
-     * @param modelDrawingArea
-     *            The area currently being seen by the user
-     * @return A set of elements that are inside the view area or intersect it
-     *         or elements that are close enough of the viewing area to produce
-     *         some sort of grip.
-     * @throws NullArgumentException
-     *             Thrown if something is null.
-     */
-    private Set<Element> getViewableElements (Drawing drawing,
-            Rectangle modelDrawingArea) throws NullArgumentException {
-
-        Set<Element> closeElements = new HashSet<Element>();
-
-        for (Element element : drawing.getUnlockedContents()) {
-            if (elementIsInsideOrIntersects(element, modelDrawingArea)
-                    || elementIsCloseEnoughToScreen(element)) {
-                closeElements.add(element);
-            }
-        }
-        return closeElements;
-    }
-
     /**
      * @param workspace
      *            The current workspace
@@ -269,36 +219,6 @@ public class MousePositionManager implements Observer {
         return mouseArea;
     }
 
-    /**
-     * @param element
-     *            The element to be verified
-     * @return true if the element is close enough to the screen (its boundary
-     *         rectangle contains the mouse area), false otherwise
-     */
-    private boolean elementIsCloseEnoughToScreen (Element element) {
-
-        return (element.getBoundaryRectangle() != null && mousePosition
-                .isInside(element.getBoundaryRectangle()));
-    }
-
-    /**
-     * @param element
-     *            The element to be verified
-     * @param modelDrawingArea
-     *            The area currently being seen
-     * @return true if the element is currently being viewed (even if only
-     *         partially)
-     * @throws NullArgumentException
-     *             Thrown if something is null
-     */
-    private boolean elementIsInsideOrIntersects (Element element,
-            Rectangle modelDrawingArea) throws NullArgumentException {
-
-        boolean inside = (element.isInside(modelDrawingArea));
-
-        return inside || manager.intersects(modelDrawingArea, element);
-    }
-
     /**
      * @param closePoints
      *            The reference points
@@ -34,7 +34,6 @@ import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.gui.opengl.Color;
 import br.org.archimedes.gui.opengl.OpenGLWrapper;
 import br.org.archimedes.model.Drawing;
-import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
 import br.org.archimedes.model.ReferencePoint;
@@ -62,7 +61,7 @@ public class Workspace extends Observable {
 
     private Rectangle windowSize;
 
-    private Collection<Element> clipboard;
+    private Clipboard clipboard;
 
     private MousePositionManager mousePositionManager;
 
@@ -84,7 +83,7 @@ public class Workspace extends Observable {
         mouseDown = false;
         currentZoom = -1;
         currentViewport = new Point(0.0, 0.0);
-        clipboard = new ArrayList<Element>();
+        clipboard = new Clipboard();
         mousePositionManager = new MousePositionManager();
         windowSize = new Rectangle(0, 0, 0, 0);
 
@@ -365,7 +364,10 @@ public class Workspace extends Observable {
         setProperty("mouseSize", mouseSize); //$NON-NLS-1$
     }
 
-    public Collection<Element> getClipboard () {
+    /**
+     * @return The clipboard shared by all drawings
+     */
+    public Clipboard getClipboard () {
 
         return clipboard;
     }
@@ -464,6 +466,24 @@ public class Workspace extends Observable {
         setProperty("selectionSize", selectionSize); //$NON-NLS-1$
     }
 
+    /**
+     * @return The maximum number of grips drawn on the selected elements. No grip is drawn if
+     *         the selection has more.
+     */
+    public long getMaxSelectionGrips () {
+
+        return getLongProperty("maxSelectionGrips", 5000); //$NON-NLS-1$
+    }
+
+    /**
+     * @param maxSelectionGrips
+     *            The value to be set.
+     */
+    public void setMaxSelectionGrips (long maxSelectionGrips) {
+
+        setProperty("maxSelectionGrips", maxSelectionGrips); //$NON-NLS-1$
+    }
+
     /**
      * @param mouseDown
      *            True if the first mouse button is down, false otherwise.
@@ -653,6 +673,7 @@ public class Workspace extends Observable {
         double gripSize = 10.0;
         double mouseSize = 10.0;
         double selectionSize = 10.0;
+        long maxSelectionGrips = 5000;
         long saveInterval = 1000 * 60 * 5; // 5 minutes
         String tmpFolder = System.getProperty("java.io.tmpdir"); //$NON-NLS-1$
         String userHome = System.getProperty("user.home"); //$NON-NLS-1$
@@ -675,6 +696,9 @@ public class Workspace extends Observable {
         property = properties.getProperty("selectionSize", "" + selectionSize); //$NON-NLS-1$ //$NON-NLS-2$
         properties.setProperty("selectionSize", property); //$NON-NLS-1$
 
+        property = properties.getProperty("maxSelectionGrips", "" + maxSelectionGrips); //$NON-NLS-1$ //$NON-NLS-2$
+        properties.setProperty("maxSelectionGrips", property); //$NON-NLS-1$
+
         property = properties.getProperty("orto", "" + ortoOn); //$NON-NLS-1$ //$NON-NLS-2$
         properties.setProperty("orto", property); //$NON-NLS-1$
 
@@ -74,6 +74,8 @@ public class OpenGLWrapper {
 
     private int primitiveType;
 
+    private boolean compilingList;
+
 
     /**
      * Constructor. Starts the drawing to canvas map and the default line type.<br>
@@ -223,8 +225,7 @@ public class OpenGLWrapper {
         GL11.glBegin(primitiveType);
         for (Point point : points) {
             try {
-                Point convertedPoint = br.org.archimedes.Utils.getWorkspace()
-                        .modelToScreen(point);
+                Point convertedPoint = toScreen(point);
                 GL11.glVertex2d(convertedPoint.getX(), convertedPoint.getY());
             }
             catch (NullArgumentException e) {
@@ -247,8 +248,7 @@ public class OpenGLWrapper {
         GL11.glBegin(primitiveType);
         for (Point point : points) {
             try {
-                Point convertedPoint = br.org.archimedes.Utils.getWorkspace()
-                        .modelToScreen(point);
+                Point convertedPoint = toScreen(point);
                 GL11.glVertex2d(convertedPoint.getX(), convertedPoint.getY());
             }
             catch (NullArgumentException e) {
@@ -259,6 +259,117 @@ public class OpenGLWrapper {
         GL11.glEnd();
     }
 
+    /**
+     * @param point
+     *            A point in the model coordinate system
+     * @return The point to send to OpenGL. The point itself if a model list is being recorded,
+     *         its screen coordinates otherwise.
+     * @throws NullArgumentException
+     *             Thrown if the point is null
+     */
+    private Point toScreen (Point point) throws NullArgumentException {
+
+        if (compilingList) {
+            if (point == null) {
+                throw new NullArgumentException();
+            }
+            return point;
+        }
+        return br.org.archimedes.Utils.getWorkspace().modelToScreen(point);
+    }
+
+    /**
+     * Starts recording a display list on the current canvas. Until {@link #endModelList()} is
+     * called nothing is drawn and everything drawn from the model is recorded in model
+     * coordinates, so that the list can later be drawn with any zoom, viewport or placement.
+     * 
+     * @return The id of the new list or 0 if there is no current canvas
+     */
+    public int startModelList () {
+
+        if (currentCanvas == null || compilingList) {
+            return 0;
+        }
+        int list = GL11.glGenLists(1);
+        if (list != 0) {
+            GL11.glNewList(list, GL11.GL_COMPILE);
+            compilingList = true;
+        }
+        return list;
+    }
+
+    /**
+     * Stops recording the list started by {@link #startModelList()}.
+     */
+    public void endModelList () {
+
+        if (compilingList) {
+            GL11.glEndList();
+            compilingList = false;
+        }
+    }
+
+    /**
+     * @return true if a model list is being recorded, false otherwise
+     */
+    public boolean isCompilingList () {
+
+        return compilingList;
+    }
+
+    /**
+     * Draws a list recorded with {@link #startModelList()} on the current canvas. The recorded
+     * model coordinates are mirrored on the x axis if asked, scaled, rotated and then moved to the
+     * origin before being converted to the screen.
+     * 
+     * @param list
+     *            The id of the list on the current canvas
+     * @param origin
+     *            The point of the model where the origin of the list should be
+     * @param angle
+     *            The rotation of the list in radians
+     * @param scale
+     *            The scale of the list
+     * @param mirrored
+     *            true if the list should be mirrored on its x axis before anything else
+     * @throws NullArgumentException
+     *             Thrown if the origin is null
+     */
+    public void drawModelList (int list, Point origin, double angle, double scale,
+            boolean mirrored) throws NullArgumentException {
+
+        if (origin == null) {
+            throw new NullArgumentException();
+        }
+        if (list == 0) {
+            return;
+        }
+
+        Point screenOrigin = toScreen(origin);
+        double zoom = compilingList ? 1.0 : br.org.archimedes.Utils.getWorkspace()
+                .getCurrentZoom();
+
+        GL11.glPushMatrix();
+        GL11.glTranslated(screenOrigin.getX(), screenOrigin.getY(), 0);
+        GL11.glRotated(Math.toDegrees(angle), 0, 0, 1);
+        GL11.glScaled(zoom * scale, (mirrored ? -zoom : zoom) * scale, 1);
+        GL11.glCallList(list);
+        GL11.glPopMatrix();
+    }
+
+    /**
+     * Frees a list recorded with {@link #startModelList()} on the current canvas.
+     * 
+     * @param list
+     *            The id of the list
+     */
+    public void deleteModelList (int list) {
+
+        if (list != 0 && currentCanvas != null) {
+            GL11.glDeleteLists(list, 1);
+        }
+    }
+
     /**
      * Draws the collection of points based on the current geometric primitive.
      * 
@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:11:14, by agent.<br>
+ * It is part of package br.org.archimedes.gui.opengl on the br.org.archimedes.core project.<br>
+ */
+
+package br.org.archimedes.gui.opengl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.opengl.GLCanvas;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.ReferencePoint;
+import br.org.archimedes.model.Selection;
+
+/**
+ * Belongs to package br.org.archimedes.gui.opengl.<br>
+ * Draws the highlight of a selection. The bounded selected elements are recorded once in a
+ * display list of each canvas and that list is drawn twice per frame (continuous in the
+ * background color then stippled in the drawing color). Elements without a boundary depend on
+ * the viewport and are drawn every frame. The grips are computed once for each viewport and
+ * are not drawn at all if there are more than the workspace allows.<br>
+ * Everything is recorded again only when the selection or the geometry of an element of the
+ * drawing changes.
+ *
+ * @author agent
+ */
+public class SelectionRenderer {
+
+    private Drawing drawing;
+
+    private Map<GLCanvas, RecordedSelection> recorded;
+
+    private Selection gripSelection;
+
+    private long gripSelectionModifications;
+
+    private long gripElementModifications;
+
+    private Rectangle gripArea;
+
+    private long gripLimit;
+
+    private List<ReferencePoint> grips;
+
+
+    /**
+     * @param drawing
+     *            The drawing whose selection is drawn
+     */
+    public SelectionRenderer (Drawing drawing) {
+
+        this.drawing = drawing;
+        recorded = new HashMap<GLCanvas, RecordedSelection>();
+    }
+
+    /**
+     * Draws the highlight of the selection.
+     *
+     * @param wrapper
+     *            The wrapper to draw with
+     * @param selection
+     *            The selection to highlight
+     * @param drawableArea
+     *            The area of the model shown. Only grips in this area are drawn.
+     */
+    public void draw (OpenGLWrapper wrapper, Selection selection, Rectangle drawableArea) {
+
+        if (selection.isEmpty()) {
+            return;
+        }
+
+        RecordedSelection geometry = getRecorded(wrapper, selection);
+
+        wrapper.setLineStyle(OpenGLWrapper.CONTINUOUS_LINE);
+        wrapper.setColor(OpenGLWrapper.COLOR_BACKGROUND);
+        drawGeometry(wrapper, selection, geometry);
+
+        wrapper.setLineStyle(OpenGLWrapper.STIPPLED_LINE);
+        wrapper.setColor(OpenGLWrapper.COLOR_DRAWING);
+        drawGeometry(wrapper, selection, geometry);
+
+        List<ReferencePoint> references = getGrips(selection, drawableArea);
+        if ( !references.isEmpty()) {
+            wrapper.setColor(br.org.archimedes.Utils.getWorkspace().getGripSelectionColor());
+            wrapper.setLineWidth(OpenGLWrapper.GRIP_WIDTH);
+            wrapper.setLineStyle(OpenGLWrapper.CONTINUOUS_LINE);
+            wrapper.setPrimitiveType(OpenGLWrapper.PRIMITIVE_LINE_LOOP);
+            for (ReferencePoint reference : references) {
+                reference.draw();
+            }
+            wrapper.setLineWidth(OpenGLWrapper.NORMAL_WIDTH);
+        }
+    }
+
+    /**
+     * Draws the recorded list and the elements that could not be recorded. Draws every element
+     * if nothing could be recorded.
+     */
+    private void drawGeometry (OpenGLWrapper wrapper, Selection selection,
+            RecordedSelection geometry) {
+
+        if (geometry == null) {
+            for (Element element : selection.getSelectedElements()) {
+                element.draw(wrapper);
+            }
+            return;
+        }
+
+        try {
+            wrapper.drawModelList(geometry.list, new Point(0, 0), 0, 1, false);
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since the origin was just created
+            e.printStackTrace();
+        }
+        for (Element element : geometry.unbounded) {
+            element.draw(wrapper);
+        }
+    }
+
+    /**
+     * @return The geometry of the selection recorded on the current canvas, recording it again
+     *         if it is out of date, or null if it cannot be recorded.
+     */
+    private RecordedSelection getRecorded (OpenGLWrapper wrapper, Selection selection) {
+
+        GLCanvas canvas = wrapper.getCurrentCanvas();
+        if (canvas == null || wrapper.isCompilingList()) {
+            return null;
+        }
+
+        RecordedSelection geometry = recorded.get(canvas);
+        if (geometry != null && geometry.isUpToDate(selection, drawing.getModifications())) {
+            return geometry;
+        }
+        if (geometry != null) {
+            wrapper.deleteModelList(geometry.list);
+            recorded.remove(canvas);
+        }
+
+        int list = wrapper.startModelList();
+        if (list == 0) {
+            return null;
+        }
+        geometry = new RecordedSelection(list, selection, drawing.getModifications());
+        for (Element element : selection.getSelectedElements()) {
+            if (element.getBoundaryRectangle() == null) {
+                geometry.unbounded.add(element);
+            }
+            else {
+                element.draw(wrapper);
+            }
+        }
+        wrapper.endModelList();
+        recorded.put(canvas, geometry);
+        return geometry;
+    }
+
+    /**
+     * @return The grips of the selected elements in the area or an empty list if there are more
+     *         grips than the workspace allows.
+     */
+    private List<ReferencePoint> getGrips (Selection selection, Rectangle drawableArea) {
+
+        long maxGrips = br.org.archimedes.Utils.getWorkspace().getMaxSelectionGrips();
+        if (grips == null || gripSelection != selection
+                || gripSelectionModifications != selection.getModifications()
+                || gripElementModifications != drawing.getModifications()
+                || !drawableArea.equals(gripArea) || gripLimit != maxGrips) {
+            gripSelection = selection;
+            gripSelectionModifications = selection.getModifications();
+            gripElementModifications = drawing.getModifications();
+            gripArea = drawableArea;
+            gripLimit = maxGrips;
+
+            grips = new ArrayList<ReferencePoint>();
+            for (Element element : selection.getSelectedElements()) {
+                grips.addAll(element.getReferencePoints(drawableArea));
+                if (grips.size() > maxGrips) {
+                    grips.clear();
+                    break;
+                }
+            }
+        }
+        return grips;
+    }
+
+
+    /**
+     * Display list of the bounded selected elements and the state it was recorded from.
+     */
+    private static class RecordedSelection {
+
+        private int list;
+
+        private Selection selection;
+
+        private long selectionModifications;
+
+        private long elementModifications;
+
+        private List<Element> unbounded;
+
+
+        public RecordedSelection (int list, Selection selection, long elementModifications) {
+
+            this.list = list;
+            this.selection = selection;
+            this.selectionModifications = selection.getModifications();
+            this.elementModifications = elementModifications;
+            this.unbounded = new ArrayList<Element>();
+        }
+
+        /**
+         * @return true if the selection and its elements did not change since recorded
+         */
+        public boolean isUpToDate (Selection current, long currentElementModifications) {
+
+            return selection == current
+                    && selectionModifications == current.getModifications()
+                    && elementModifications == currentElementModifications;
+        }
+    }
+}
@@ -30,5 +30,9 @@ public class ApplicationWorkbenchWindowAdvisor extends WorkbenchWindowAdvisor {
         configurer.setShowProgressIndicator(true);
         configurer.setShowStatusLine(true);
     }
+
+    public void postWindowOpen() {
+        StartupTimer.mark("window opened"); //$NON-NLS-1$
+    }
     
 }
@@ -29,7 +29,10 @@ public class Archimedes implements IApplication {
      */
     public Object start (IApplicationContext context) throws Exception {
 
+        StartupTimer.start();
+        WarmUp.start();
         Display display = PlatformUI.createDisplay();
+        StartupTimer.mark("display created"); //$NON-NLS-1$
         try {
             int returnCode = PlatformUI.createAndRunWorkbench(display,
                     new ApplicationWorkbenchAdvisor());
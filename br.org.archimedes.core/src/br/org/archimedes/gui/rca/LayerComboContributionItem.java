@@ -16,8 +16,6 @@ package br.org.archimedes.gui.rca;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Observable;
-import java.util.Observer;
 
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
@@ -46,6 +44,8 @@ import br.org.archimedes.exceptions.NoActiveDrawingException;
 import br.org.archimedes.gui.rca.editor.DrawingEditor;
 import br.org.archimedes.gui.rca.editor.DrawingInput;
 import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.DrawingEvent;
+import br.org.archimedes.model.DrawingListener;
 import br.org.archimedes.model.Layer;
 
 /**
@@ -54,7 +54,7 @@ import br.org.archimedes.model.Layer;
  * @author Hugo Corbucci
  */
 public class LayerComboContributionItem extends WorkbenchWindowControlContribution implements
-        IPartListener, Observer {
+        IPartListener, DrawingListener {
 
     /**
      * Belongs to package br.org.archimedes.gui.rca.
@@ -179,8 +179,11 @@ public class LayerComboContributionItem extends WorkbenchWindowControlContributi
     private void setObservedDrawing (Drawing drawing) {
 
         if (currentDrawing != drawing) {
+            if (currentDrawing != null) {
+                currentDrawing.removeDrawingListener(this);
+            }
             currentDrawing = drawing;
-            drawing.addObserver(this);
+            drawing.addDrawingListener(this);
             populate(drawing);
         }
     }
@@ -213,7 +216,7 @@ public class LayerComboContributionItem extends WorkbenchWindowControlContributi
     private void deactivateCombo () {
 
         if (currentDrawing != null) {
-            currentDrawing.deleteObserver(this);
+            currentDrawing.removeDrawingListener(this);
         }
         currentDrawing = null;
         layersCombo.removeAll();
@@ -271,13 +274,20 @@ public class LayerComboContributionItem extends WorkbenchWindowControlContributi
     }
 
     /**
-     * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
+     * Only layer events change the combo.
+     * 
+     * @see br.org.archimedes.model.DrawingListener#drawingChanged(java.util.List)
      */
-    public void update (Observable arg0, Object arg1) {
-
-        if (arg1 != null && arg0 == currentDrawing && arg1.getClass() == Layer.class) {
-            populate(currentDrawing);
-            getParent().update(true);
+    public void drawingChanged (List<DrawingEvent> events) {
+
+        for (DrawingEvent event : events) {
+            boolean layerEvent = event instanceof DrawingEvent.LayerAdded
+                    || event instanceof DrawingEvent.LayerPropertyChanged;
+            if (layerEvent && event.getDrawing() == currentDrawing) {
+                populate(currentDrawing);
+                getParent().update(true);
+                return;
+            }
         }
     }
 
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:21:44, by agent.<br>
+ * It is part of package br.org.archimedes.gui.rca on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.gui.rca;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Belongs to package br.org.archimedes.gui.rca.<br>
+ * Measures how long the application takes from its start until each startup step (window
+ * opened, first frame drawn...). The steps are printed when the application runs with
+ * -Darchimedes.startup.timing=true.
+ * 
+ * @author agent
+ */
+public class StartupTimer {
+
+    private static final String TIMING_PROPERTY = "archimedes.startup.timing"; //$NON-NLS-1$
+
+    private static final Map<String, Long> steps = new LinkedHashMap<String, Long>();
+
+    private static long start = System.nanoTime();
+
+
+    /**
+     * Restarts the time count. Called when the application starts.
+     */
+    public static synchronized void start () {
+
+        start = System.nanoTime();
+        steps.clear();
+    }
+
+    /**
+     * Records the time elapsed since the start. Only the first time a step is reached is kept.
+     * 
+     * @param step
+     *            The name of the step that was reached
+     * @return The milliseconds elapsed from the start to the first time this step was reached
+     */
+    public static synchronized long mark (String step) {
+
+        Long elapsed = steps.get(step);
+        if (elapsed == null) {
+            elapsed = (System.nanoTime() - start) / 1000000;
+            steps.put(step, elapsed);
+            if (Boolean.getBoolean(TIMING_PROPERTY)) {
+                System.out.println("[startup] " + step + ": " + elapsed + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            }
+        }
+        return elapsed;
+    }
+
+    /**
+     * @return The steps reached so far with the milliseconds elapsed until them, in the order
+     *         they were reached
+     */
+    public static synchronized Map<String, Long> getSteps () {
+
+        return new LinkedHashMap<String, Long>(steps);
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:21:44, by agent.<br>
+ * It is part of package br.org.archimedes.gui.rca on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.gui.rca;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.rcp.extensionpoints.ElementFactoryEPLoader;
+import br.org.archimedes.rcp.extensionpoints.FactoryEPLoader;
+import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.gui.rca.<br>
+ * Loads what the first command needs (the default font, the intersection manager and the
+ * command factories) while the workbench opens. Nothing depends on the warm up finishing: the
+ * loaders are synchronized so a command that comes first just loads them itself.
+ * 
+ * @author agent
+ */
+public class WarmUp implements Runnable {
+
+    /**
+     * Starts the warm up on a low priority daemon thread.
+     */
+    public static void start () {
+
+        Thread thread = new Thread(new WarmUp(), "Archimedes warm up"); //$NON-NLS-1$
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see java.lang.Runnable#run()
+     */
+    public void run () {
+
+        try {
+            Constant.getDefaultFont();
+            StartupTimer.mark("font loaded"); //$NON-NLS-1$
+
+            new IntersectionManagerEPLoader().getIntersectionManager();
+            StartupTimer.mark("intersections loaded"); //$NON-NLS-1$
+
+            new FactoryEPLoader();
+            new ElementFactoryEPLoader();
+            StartupTimer.mark("factories loaded"); //$NON-NLS-1$
+        }
+        catch (RuntimeException e) {
+            // The UI thread will load whatever failed when it is needed
+            e.printStackTrace();
+        }
+    }
+}
@@ -18,8 +18,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Observable;
-import java.util.Observer;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -63,9 +61,12 @@ import br.org.archimedes.gui.model.Workspace;
 import br.org.archimedes.gui.opengl.OpenGLWrapper;
 import br.org.archimedes.gui.rca.Activator;
 import br.org.archimedes.gui.rca.InterpreterView;
+import br.org.archimedes.gui.rca.StartupTimer;
 import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.DrawingEvent;
+import br.org.archimedes.model.DrawingListener;
 
-public class DrawingEditor extends EditorPart implements Observer, ISelectionProvider {
+public class DrawingEditor extends EditorPart implements DrawingListener, ISelectionProvider {
 
     public static final String EDITOR_ID = "br.org.archimedes.gui.rca.editor.DrawingEditor"; //$NON-NLS-1$
 
@@ -168,7 +169,7 @@ public class DrawingEditor extends EditorPart implements Observer, ISelectionPro
         visualHelper = new VisualHelper(openGL, br.org.archimedes.Utils.getWorkspace(),
                 br.org.archimedes.Utils.getInputController());
 
-        getDrawing().addObserver(this);
+        getDrawing().addDrawingListener(this);
         getSite().setSelectionProvider(this);
 
         getEditorSite().getWorkbenchWindow().getPartService().addPartListener(new IPartListener() {
@@ -357,6 +358,7 @@ public class DrawingEditor extends EditorPart implements Observer, ISelectionPro
             visualHelper.draw(currentCursor == Constant.NORMAL_CURSOR);
         }
         openGL.update();
+        StartupTimer.mark("first frame"); //$NON-NLS-1$
     }
 
     private Drawing getDrawing () {
@@ -375,7 +377,20 @@ public class DrawingEditor extends EditorPart implements Observer, ISelectionPro
         update();
     }
 
-    public void update (Observable arg0, Object arg1) {
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.DrawingListener#drawingChanged(java.util.List)
+     */
+    public void drawingChanged (List<DrawingEvent> events) {
+
+        update();
+    }
+
+    /**
+     * Redraws the drawing. Used when something that is not part of the
+     * drawing (the workspace colors for instance) changes how it looks.
+     */
+    public void redraw () {
 
         update();
     }
@@ -190,7 +190,7 @@ public class PreferencesEditor {
             	Utils.getWorkspace().setBackgroundColor(getColor("background"));
             	Utils.getWorkspace().saveProperties(false);
                 shell.dispose();
-                drawingEditor.update(null, null);
+                drawingEditor.redraw();
             }
         };
     }
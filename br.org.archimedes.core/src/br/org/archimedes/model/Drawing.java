@@ -19,34 +19,30 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Observable;
-import java.util.Observer;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.swt.opengl.GLCanvas;
 
 import br.org.archimedes.Constant;
-import br.org.archimedes.Utils;
 import br.org.archimedes.exceptions.IllegalActionException;
 import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.gui.model.Workspace;
 import br.org.archimedes.gui.opengl.Color;
 import br.org.archimedes.gui.opengl.OpenGLWrapper;
+import br.org.archimedes.gui.opengl.SelectionRenderer;
 import br.org.archimedes.gui.swt.Messages;
 import br.org.archimedes.interfaces.Command;
-import br.org.archimedes.interfaces.IntersectionManager;
 import br.org.archimedes.interfaces.UndoableCommand;
-import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
 
 /**
  * Belongs to package br.org.archimedes.model.
  */
-public class Drawing extends Observable implements Observer {
+public class Drawing implements LayerListener {
 
     private String title;
 
@@ -58,6 +54,8 @@ public class Drawing extends Observable implements Observer {
 
     private Selection selection;
 
+    private SelectionRenderer selectionRenderer;
+
     private boolean saved;
 
     private boolean centerToOpen;
@@ -72,6 +70,24 @@ public class Drawing extends Observable implements Observer {
 
     private Layer helperLayer;
 
+    private SpatialIndex unlockedIndex;
+
+    private SnapIndex snapIndex;
+
+    private Rectangle boundary;
+
+    private boolean boundaryValid;
+
+    private AtomicLong modifications;
+
+    private int openTransactions;
+
+    private DrawingChange pendingChange;
+
+    private List<DrawingEvent> pendingEvents;
+
+    private List<DrawingListener> listeners;
+
 
     /**
      * Constructor.
@@ -100,12 +116,17 @@ public class Drawing extends Observable implements Observer {
     
         this.title = title;
         this.selection = new Selection();
+        this.selectionRenderer = new SelectionRenderer(this);
+        this.modifications = new AtomicLong();
         this.zoom = 1.0;
         this.viewportPosition = new Point(0.0, 0.0);
         this.undoHistory = new Stack<UndoableCommand>();
         this.redoHistory = new Stack<UndoableCommand>();
         this.setSaved(false);
         this.centerToOpen = centerToOpen;
+        this.pendingChange = new DrawingChange();
+        this.pendingEvents = new ArrayList<DrawingEvent>();
+        this.listeners = new CopyOnWriteArrayList<DrawingListener>();
         this.helperLayer = new Layer(Constant.WHITE, "Helper Layer", //$NON-NLS-1$
                 LineStyle.CONTINUOUS, 1.0);
 
@@ -114,7 +135,7 @@ public class Drawing extends Observable implements Observer {
             this.currentLayer = new Layer(Constant.WHITE, Messages.bind(Messages.LayerEditor_Layer,
                     0), LineStyle.CONTINUOUS, 1.0);
             this.layers.put(currentLayer.getName(), currentLayer);
-            currentLayer.addObserver(this);
+            currentLayer.addLayerListener(this);
         }
         else {
             this.layers = new HashMap<String, Layer>(layers);
@@ -122,7 +143,7 @@ public class Drawing extends Observable implements Observer {
             Collection<Layer> values = this.layers.values();
             this.currentLayer = values.iterator().next();
             for (Layer layer : values) {
-                layer.addObserver(this);
+                layer.addLayerListener(this);
             }
         }
     }
@@ -214,8 +235,11 @@ public class Drawing extends Observable implements Observer {
 
         Selection selection = getSelection();
         selection.remove(element);
+        unlockedIndex = null;
+        shrinkBoundary(element);
         setChanged();
-        notifyObservers();
+        pendingChange.elementRemoved(element);
+        fireChange();
     }
 
     /**
@@ -237,6 +261,35 @@ public class Drawing extends Observable implements Observer {
         return Collections.unmodifiableCollection(elements);
     }
 
+    /**
+     * The index is built on the first call and kept until the contents of the drawing change.
+     * 
+     * @return A spatial index of the unlocked contents of this drawing
+     */
+    public SpatialIndex getUnlockedIndex () {
+
+        SpatialIndex index = unlockedIndex;
+        if (index == null) {
+            index = new SpatialIndex(getUnlockedContents());
+            unlockedIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * The index is built on the first call and then updated with the elements that are added,
+     * removed or transformed.
+     * 
+     * @return An index of the reference points of the unlocked contents of this drawing
+     */
+    public SnapIndex getSnapIndex () {
+
+        if (snapIndex == null) {
+            snapIndex = new SnapIndex(getUnlockedContents());
+        }
+        return snapIndex;
+    }
+
     /**
      * Returns all visible elements in this drawing.
      * 
@@ -285,21 +338,11 @@ public class Drawing extends Observable implements Observer {
      */
     public Set<Element> getSelectionInside (Rectangle rect) throws NullArgumentException {
 
-        Set<Element> selection = new HashSet<Element>();
-
-        if (rect != null) {
-            for (Element element : getUnlockedContents()) {
-                if (element.isInside(rect)) {
-                    selection.add(element);
-                }
-            }
-        }
-        else {
+        if (rect == null) {
             throw new NullArgumentException();
         }
 
-        return selection;
-
+        return new RectangleSelector(rect, false).select(getUnlockedIndex().getElementsIn(rect));
     }
 
     /**
@@ -314,27 +357,12 @@ public class Drawing extends Observable implements Observer {
      */
     public Set<Element> getSelectionIntersection (Rectangle rect) throws NullArgumentException {
 
-        Set<Element> selection = new HashSet<Element>();
-
-        if (rect != null) {
-            for (Element element : getUnlockedContents()) {
-                if (element.isInside(rect)) {
-                    selection.add(element);
-                    continue;
-                }
-
-                IntersectionManagerEPLoader loader = new IntersectionManagerEPLoader();
-                IntersectionManager manager = loader.getIntersectionManager();
-                if (manager.intersects(rect, element)) {
-                    selection.add(element);
-                }
-            }
-        }
-        else {
+        if (rect == null) {
             throw new NullArgumentException();
         }
 
-        return selection;
+        // Only elements whose boundary overlaps the rectangle can intersect it
+        return new RectangleSelector(rect, true).select(getUnlockedIndex().getElementsIn(rect));
     }
 
     /**
@@ -364,10 +392,11 @@ public class Drawing extends Observable implements Observer {
     public void setZoom (double zoom) {
 
         if (Math.abs(this.zoom - zoom) > Constant.EPSILON) {
+            double oldZoom = this.zoom;
             setChanged();
             this.zoom = zoom;
+            fireEvent(new DrawingEvent.ViewportChanged(this, oldZoom));
         }
-        notifyObservers(zoom);
     }
 
     /**
@@ -391,36 +420,99 @@ public class Drawing extends Observable implements Observer {
     }
 
     /**
-     * @return Calculates and returns the boundary rectangle. Returns null if the drawing has no
+     * The boundary is only calculated again if some element changed or was removed from its
+     * border. Adding elements just grows the known boundary.
+     * 
+     * @return The boundary rectangle of the visible contents. Returns null if the drawing has no
      *         bound element.
      */
     public Rectangle getBoundary () {
 
-        Rectangle boundary = null;
-
-        Iterator<Element> iterator = getVisibleContents().iterator();
-        while (boundary == null && iterator.hasNext()) {
-            boundary = iterator.next().getBoundaryRectangle();
+        if ( !boundaryValid) {
+            boundary = calculateBoundary();
+            boundaryValid = true;
         }
-        while (iterator.hasNext()) {
-            Rectangle elementBoundary = iterator.next().getBoundaryRectangle();
+        return boundary;
+    }
 
-            if (elementBoundary != null) {
-                double x1 = Math.min(boundary.getLowerLeft().getX(), elementBoundary.getLowerLeft()
-                        .getX());
-                double y1 = Math.min(boundary.getLowerLeft().getY(), elementBoundary.getLowerLeft()
-                        .getY());
+    /**
+     * @return Calculates and returns the boundary rectangle. Returns null if the drawing has no
+     *         bound element.
+     */
+    private Rectangle calculateBoundary () {
+
+        boolean bounded = false;
+        double x1 = Double.POSITIVE_INFINITY;
+        double y1 = Double.POSITIVE_INFINITY;
+        double x2 = Double.NEGATIVE_INFINITY;
+        double y2 = Double.NEGATIVE_INFINITY;
 
-                double x2 = Math.max(boundary.getUpperRight().getX(), elementBoundary
-                        .getUpperRight().getX());
-                double y2 = Math.max(boundary.getUpperRight().getY(), elementBoundary
-                        .getUpperRight().getY());
+        for (Element element : getVisibleContents()) {
+            Rectangle elementBoundary = element.getBoundaryRectangle();
 
-                boundary = new Rectangle(x1, y1, x2, y2);
+            if (elementBoundary != null) {
+                bounded = true;
+                x1 = Math.min(x1, elementBoundary.getMinX());
+                y1 = Math.min(y1, elementBoundary.getMinY());
+                x2 = Math.max(x2, elementBoundary.getMaxX());
+                y2 = Math.max(y2, elementBoundary.getMaxY());
             }
         }
 
-        return boundary;
+        return bounded ? new Rectangle(x1, y1, x2, y2) : null;
+    }
+
+    /**
+     * Grows the known boundary to contain the element.
+     * 
+     * @param element
+     *            The element that was made visible
+     */
+    private void growBoundary (Element element) {
+
+        if ( !boundaryValid) {
+            return;
+        }
+
+        Rectangle elementBoundary = element.getBoundaryRectangle();
+        if (elementBoundary == null) {
+            return;
+        }
+
+        if (boundary == null) {
+            boundary = elementBoundary;
+        }
+        else {
+            boundary = new Rectangle(Math.min(boundary.getMinX(), elementBoundary.getMinX()),
+                    Math.min(boundary.getMinY(), elementBoundary.getMinY()), Math.max(boundary
+                            .getMaxX(), elementBoundary.getMaxX()), Math.max(boundary
+                            .getMaxY(), elementBoundary.getMaxY()));
+        }
+    }
+
+    /**
+     * Invalidates the known boundary if the element touched its border. Elements strictly inside
+     * the boundary do not change it.
+     * 
+     * @param element
+     *            The element that is no longer visible
+     */
+    private void shrinkBoundary (Element element) {
+
+        if ( !boundaryValid || boundary == null) {
+            return;
+        }
+
+        Rectangle elementBoundary = element.getBoundaryRectangle();
+        if (elementBoundary == null) {
+            return;
+        }
+
+        boolean inner = elementBoundary.getMinX() > boundary.getMinX()
+                && elementBoundary.getMinY() > boundary.getMinY()
+                && elementBoundary.getMaxX() < boundary.getMaxX()
+                && elementBoundary.getMaxY() < boundary.getMaxY();
+        boundaryValid = inner;
     }
 
     /**
@@ -456,8 +548,7 @@ public class Drawing extends Observable implements Observer {
             }
         }
 
-        super.setChanged();
-        notifyObservers();
+        fireEvent(new DrawingEvent.FileChanged(this));
     }
 
     /**
@@ -491,8 +582,7 @@ public class Drawing extends Observable implements Observer {
     public void setSelection (Selection selection) {
 
         this.selection = selection;
-        super.setChanged();
-        notifyObservers();
+        fireEvent(new DrawingEvent.SelectionChanged(this));
     }
 
     /**
@@ -538,27 +628,44 @@ public class Drawing extends Observable implements Observer {
 
         if ( !layers.containsKey(layer.getName())) {
             layers.put(layer.getName(), layer);
-            layer.addObserver(this);
+            layer.addLayerListener(this);
+            unlockedIndex = null;
+            snapIndex = null;
+            boundaryValid = false;
             setChanged();
+            fireEvent(new DrawingEvent.LayerAdded(this, layer));
         }
         else {
             // TODO - A behaviour must be choosen
         }
-
-        notifyObservers(layer);
     }
 
-    /*
-     * (non-Javadoc)
-     * @see java.util.Observable#setChanged()
+    /**
+     * Marks the drawing as changed since it was last saved.
      */
-    @Override
-    protected synchronized void setChanged () {
+    protected void setChanged () {
 
-        super.setChanged();
         setSaved(false);
     }
 
+    /**
+     * @param listener
+     *            The listener to be notified of changes in this drawing
+     */
+    public void addDrawingListener (DrawingListener listener) {
+
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener
+     *            The listener that should no longer be notified
+     */
+    public void removeDrawingListener (DrawingListener listener) {
+
+        listeners.remove(listener);
+    }
+
     /**
      * @return The current layer.
      */
@@ -583,6 +690,9 @@ public class Drawing extends Observable implements Observer {
         }
 
         currentLayer = layerTemp;
+        unlockedIndex = null;
+        snapIndex = null;
+        boundaryValid = false;
         for (Element element : selection.getSelectedElements()) {
             Layer oldLayer = element.getLayer();
             try {
@@ -604,6 +714,11 @@ public class Drawing extends Observable implements Observer {
             IllegalActionException {
 
         helperLayer.putElement(element);
+        unlockedIndex = null;
+        if (snapIndex != null) {
+            snapIndex.add(element);
+        }
+        growBoundary(element);
     }
 
     /**
@@ -612,6 +727,9 @@ public class Drawing extends Observable implements Observer {
     public void clearHelperLayer () {
 
         helperLayer.clear();
+        unlockedIndex = null;
+        snapIndex = null;
+        boundaryValid = false;
     }
 
     /**
@@ -639,8 +757,13 @@ public class Drawing extends Observable implements Observer {
     		Layer destination = layers.get(layer.getName());
     		if ( !destination.isLocked()) {
     			destination.putElement(element);
+    			unlockedIndex = null;
+    			if (destination.isVisible()) {
+    			    growBoundary(element);
+    			}
     			setChanged();
-    			notifyObservers();
+    			pendingChange.elementAdded(element);
+    			fireChange();
     		}
     		else {
     			throw new IllegalActionException();
@@ -650,28 +773,29 @@ public class Drawing extends Observable implements Observer {
     	}
     }
 
-    /*
-     * (non-Javadoc)
-     * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
-     */
     /**
-     * The drawing observer the layer. If the layer has been locked, all its elements are removed
-     * from the selection.
+     * The drawing listens to its layers. If the layer has been locked, all its elements are
+     * removed from the selection.
+     * 
+     * @see br.org.archimedes.model.LayerListener#layerChanged(br.org.archimedes.model.Layer,
+     *      java.lang.String)
      */
-    public void update (Observable o, Object arg) {
+    public void layerChanged (Layer layer, String oldName) {
 
-        Layer layer = (Layer) o;
+        // Locking, unlocking or changing the elements of a layer changes the unlocked contents
+        unlockedIndex = null;
+        snapIndex = null;
+        boundaryValid = false;
         if (layer.isLocked()) {
             selection.removeAll(layer.getElements());
         }
-        String oldName = (String) arg;
         String newName = layer.getName();
         if (oldName != null && !newName.equals(oldName)) {
             layers.remove(oldName);
             layers.put(newName, layer);
             setChanged();
         }
-        notifyObservers(layer);
+        fireEvent(new DrawingEvent.LayerPropertyChanged(this, layer, oldName));
     }
 
     /**
@@ -684,18 +808,164 @@ public class Drawing extends Observable implements Observer {
 
         // TODO descobrir se deve desfazer os comandos ao tomar uma excecao.
         if (commands != null) {
-            for (Command command : commands) {
+            beginTransaction();
+            try {
+                for (Command command : commands) {
+                    try {
+                        unlockedIndex = null;
+                        command.doIt(this);
+                        setChanged();
+                    }
+                    catch (NullArgumentException e) {
+                        // Should never happen since I'm not null
+                        e.printStackTrace();
+                    }
+                    addToUndo(command);
+                }
+            }
+            finally {
+                commitTransaction();
+            }
+        }
+    }
+
+    /**
+     * Starts a transaction. Until the matching {@link #commitTransaction()} is called, changes to
+     * this drawing do not notify its listeners. Transactions can be nested and only the outermost
+     * commit notifies.
+     */
+    public void beginTransaction () {
+
+        openTransactions++;
+    }
+
+    /**
+     * Ends a transaction started by {@link #beginTransaction()}. When the last open transaction is
+     * committed, the listeners are notified once with every event that happened meanwhile.
+     */
+    public void commitTransaction () {
+
+        if (openTransactions > 0) {
+            openTransactions--;
+        }
+        fireChange();
+    }
+
+    /**
+     * Records a change in an element of one of the layers. Copies of the elements changed by
+     * interactive commands still refer to the layers but are not in them so they are ignored.
+     * Changes made during a transaction are reported and update the snap index when it is
+     * committed. Other changes only drop the indexes since the element has not changed yet.
+     * Either way the boundary has to be calculated again and the modification counter grows.
+     * 
+     * @see br.org.archimedes.model.LayerListener#elementWillChange(br.org.archimedes.model.Layer,
+     *      br.org.archimedes.model.Element)
+     */
+    public void elementWillChange (Layer layer, Element element) {
+
+        if ( !layer.holds(element)) {
+            return;
+        }
+        modifications.incrementAndGet();
+        boundaryValid = false;
+        unlockedIndex = null;
+        if (openTransactions > 0) {
+            pendingChange.elementWillChange(element);
+        }
+        else {
+            snapIndex = null;
+        }
+    }
+
+    /**
+     * @return A counter increased every time one of the elements of this drawing is about to
+     *         change its geometry. Anything computed from the elements is still valid while this
+     *         value stays the same.
+     */
+    public long getModifications () {
+
+        return modifications.get();
+    }
+
+    /**
+     * Queues the event and notifies the listeners unless a transaction is open.
+     * 
+     * @param event
+     *            The event that happened
+     */
+    private void fireEvent (DrawingEvent event) {
+
+        pendingEvents.add(event);
+        fireChange();
+    }
+
+    /**
+     * Notifies the listeners with the pending events unless a transaction is open.
+     */
+    private void fireChange () {
+
+        if (openTransactions == 0) {
+            List<DrawingEvent> events = pendingEvents;
+            events.addAll(pendingChange.getEvents(this));
+            pendingEvents = new ArrayList<DrawingEvent>();
+            pendingChange = new DrawingChange();
+            updateSnapIndex(events);
+            if ( !events.isEmpty()) {
+                events = Collections.unmodifiableList(events);
+                for (DrawingListener listener : listeners) {
+                    listener.drawingChanged(events);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the reference points of the elements that were added, removed or transformed.
+     * 
+     * @param events
+     *            The events about to be sent to the listeners
+     */
+    private void updateSnapIndex (List<DrawingEvent> events) {
+
+        if (snapIndex == null) {
+            return;
+        }
+        for (DrawingEvent event : events) {
+            if (event instanceof DrawingEvent.ElementsRemoved) {
+                for (Element element : ((DrawingEvent.ElementsRemoved) event).getElements()) {
+                    snapIndex.remove(element);
+                }
+            }
+            else if (event instanceof DrawingEvent.ElementsAdded) {
+                addToSnapIndex(((DrawingEvent.ElementsAdded) event).getElements());
+            }
+            else if (event instanceof DrawingEvent.ElementsTransformed) {
+                Collection<Element> elements = ((DrawingEvent.ElementsTransformed) event)
+                        .getElements();
+                for (Element element : elements) {
+                    snapIndex.remove(element);
+                }
+                addToSnapIndex(elements);
+            }
+        }
+    }
+
+    /**
+     * Adds the elements that are on unlocked layers to the snap index.
+     */
+    private void addToSnapIndex (Collection<Element> elements) {
+
+        for (Element element : elements) {
+            Layer layer = element.getLayer();
+            if (layer == null || !layer.isLocked()) {
                 try {
-                    command.doIt(this);
-                    setChanged();
+                    snapIndex.add(element);
                 }
                 catch (NullArgumentException e) {
-                    // Should never happen since I'm not null
+                    // Should never happen since events have no null elements
                     e.printStackTrace();
                 }
-                addToUndo(command);
             }
-            notifyObservers();
         }
     }
 
@@ -764,26 +1034,9 @@ public class Drawing extends Observable implements Observer {
      */
     private void drawSelectedElements (OpenGLWrapper openGL, Rectangle drawableArea) {
 
-        for (Element element : getSelection().getSelectedElements()) {
-            openGL.setLineStyle(OpenGLWrapper.CONTINUOUS_LINE);
-            openGL.setColor(OpenGLWrapper.COLOR_BACKGROUND);
-            element.draw(openGL);
-
-            openGL.setLineStyle(OpenGLWrapper.STIPPLED_LINE);
-            openGL.setColor(OpenGLWrapper.COLOR_DRAWING);
-            element.draw(openGL);
-
-            openGL.setColor(Utils.getWorkspace().getGripSelectionColor());
-            openGL.setLineWidth(OpenGLWrapper.GRIP_WIDTH);
-            openGL.setLineStyle(OpenGLWrapper.CONTINUOUS_LINE);
-            openGL.setPrimitiveType(OpenGLWrapper.PRIMITIVE_LINE_LOOP);
-            for (ReferencePoint reference : element.getReferencePoints(drawableArea)) {
-                reference.draw();
-            }
-            openGL.setLineWidth(OpenGLWrapper.NORMAL_WIDTH);
-        }
+        selectionRenderer.draw(openGL, getSelection(), drawableArea);
     }
-    
+
     public boolean isCenterToOpen () {
     
         return centerToOpen;
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:41:22, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * Collects the elements added, removed and modified on a drawing during one transaction. An
+ * element added and then removed in the same transaction does not appear at all and an element
+ * removed and then added back is reported as transformed.<br>
+ * Elements are compared by identity since their equality changes as they are modified.
+ *
+ * @author agent
+ */
+class DrawingChange {
+
+    private Map<Element, Element> added;
+
+    private Map<Element, Rectangle> removed;
+
+    private Map<Element, Rectangle> modified;
+
+
+    /**
+     * Creates an empty change.
+     */
+    public DrawingChange () {
+
+        added = new IdentityHashMap<Element, Element>();
+        removed = new IdentityHashMap<Element, Rectangle>();
+        modified = new IdentityHashMap<Element, Rectangle>();
+    }
+
+    /**
+     * @param element
+     *            The element put on the drawing
+     */
+    void elementAdded (Element element) {
+
+        if (removed.containsKey(element)) {
+            modified.put(element, removed.remove(element));
+        }
+        else {
+            added.put(element, element);
+        }
+    }
+
+    /**
+     * @param element
+     *            The element removed from the drawing
+     */
+    void elementRemoved (Element element) {
+
+        if (added.remove(element) == null) {
+            Rectangle boundary;
+            if (modified.containsKey(element)) {
+                boundary = modified.remove(element);
+            }
+            else {
+                boundary = element.getBoundaryRectangle();
+            }
+            removed.put(element, boundary);
+        }
+    }
+
+    /**
+     * @param element
+     *            The element about to change its geometry
+     */
+    void elementWillChange (Element element) {
+
+        if ( !added.containsKey(element) && !removed.containsKey(element)
+                && !modified.containsKey(element)) {
+            modified.put(element, element.getBoundaryRectangle());
+        }
+    }
+
+    /**
+     * @param drawing
+     *            The drawing that changed
+     * @return The events describing this change
+     */
+    List<DrawingEvent> getEvents (Drawing drawing) {
+
+        List<DrawingEvent> events = new ArrayList<DrawingEvent>();
+        if ( !removed.isEmpty()) {
+            events.add(new DrawingEvent.ElementsRemoved(drawing, removed));
+        }
+        if ( !added.isEmpty()) {
+            events.add(new DrawingEvent.ElementsAdded(drawing, added.keySet()));
+        }
+        if ( !modified.isEmpty()) {
+            events.add(new DrawingEvent.ElementsTransformed(drawing, modified));
+        }
+        return events;
+    }
+
+    /**
+     * @return true if no element was added, removed or modified, false otherwise
+     */
+    boolean isEmpty () {
+
+        return added.isEmpty() && removed.isEmpty() && modified.isEmpty();
+    }
+}
@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:45:35, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * A change made to a drawing. Each kind of change is a subclass so listeners can update only what
+ * was touched. Elements are identified by identity since their equality changes as they are
+ * modified.
+ *
+ * @author agent
+ */
+public abstract class DrawingEvent {
+
+    private Drawing drawing;
+
+
+    /**
+     * @param drawing
+     *            The drawing that changed
+     */
+    protected DrawingEvent (Drawing drawing) {
+
+        this.drawing = drawing;
+    }
+
+    /**
+     * @return The drawing that changed
+     */
+    public Drawing getDrawing () {
+
+        return drawing;
+    }
+
+
+    /**
+     * Elements were put on the drawing.
+     */
+    public static class ElementsAdded extends DrawingEvent {
+
+        private Collection<Element> elements;
+
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         * @param elements
+         *            The elements added
+         */
+        public ElementsAdded (Drawing drawing, Collection<Element> elements) {
+
+            super(drawing);
+            this.elements = Collections.unmodifiableCollection(elements);
+        }
+
+        /**
+         * @return The elements added
+         */
+        public Collection<Element> getElements () {
+
+            return elements;
+        }
+    }
+
+    /**
+     * Elements were removed from the drawing.
+     */
+    public static class ElementsRemoved extends DrawingEvent {
+
+        private Map<Element, Rectangle> oldBoundaries;
+
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         * @param oldBoundaries
+         *            The elements removed mapped to the boundary they had when the transaction
+         *            started. Must compare elements by identity.
+         */
+        public ElementsRemoved (Drawing drawing, Map<Element, Rectangle> oldBoundaries) {
+
+            super(drawing);
+            this.oldBoundaries = oldBoundaries;
+        }
+
+        /**
+         * @return The elements removed
+         */
+        public Collection<Element> getElements () {
+
+            return Collections.unmodifiableCollection(oldBoundaries.keySet());
+        }
+
+        /**
+         * @param element
+         *            One of the elements removed
+         * @return The boundary of the element before the transaction or null if it was unbounded
+         */
+        public Rectangle getOldBoundary (Element element) {
+
+            return oldBoundaries.get(element);
+        }
+    }
+
+    /**
+     * Elements of the drawing changed their geometry.
+     */
+    public static class ElementsTransformed extends DrawingEvent {
+
+        private Map<Element, Rectangle> oldBoundaries;
+
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         * @param oldBoundaries
+         *            The elements transformed mapped to the boundary they had when the
+         *            transaction started. Must compare elements by identity.
+         */
+        public ElementsTransformed (Drawing drawing, Map<Element, Rectangle> oldBoundaries) {
+
+            super(drawing);
+            this.oldBoundaries = oldBoundaries;
+        }
+
+        /**
+         * @return The elements transformed
+         */
+        public Collection<Element> getElements () {
+
+            return Collections.unmodifiableCollection(oldBoundaries.keySet());
+        }
+
+        /**
+         * @param element
+         *            One of the elements transformed
+         * @return The boundary of the element before the transaction or null if it was unbounded
+         */
+        public Rectangle getOldBoundary (Element element) {
+
+            return oldBoundaries.get(element);
+        }
+    }
+
+    /**
+     * A layer was added to the drawing.
+     */
+    public static class LayerAdded extends DrawingEvent {
+
+        private Layer layer;
+
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         * @param layer
+         *            The layer added
+         */
+        public LayerAdded (Drawing drawing, Layer layer) {
+
+            super(drawing);
+            this.layer = layer;
+        }
+
+        /**
+         * @return The layer added
+         */
+        public Layer getLayer () {
+
+            return layer;
+        }
+    }
+
+    /**
+     * A layer of the drawing changed its name, lock or visibility.
+     */
+    public static class LayerPropertyChanged extends DrawingEvent {
+
+        private Layer layer;
+
+        private String oldName;
+
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         * @param layer
+         *            The layer that changed
+         * @param oldName
+         *            The name of the layer before the change
+         */
+        public LayerPropertyChanged (Drawing drawing, Layer layer, String oldName) {
+
+            super(drawing);
+            this.layer = layer;
+            this.oldName = oldName;
+        }
+
+        /**
+         * @return The layer that changed
+         */
+        public Layer getLayer () {
+
+            return layer;
+        }
+
+        /**
+         * @return The name of the layer before the change. Equals the current name unless the
+         *         layer was renamed.
+         */
+        public String getOldName () {
+
+            return oldName;
+        }
+    }
+
+    /**
+     * The zoom of the drawing changed.
+     */
+    public static class ViewportChanged extends DrawingEvent {
+
+        private double oldZoom;
+
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         * @param oldZoom
+         *            The zoom before the change
+         */
+        public ViewportChanged (Drawing drawing, double oldZoom) {
+
+            super(drawing);
+            this.oldZoom = oldZoom;
+        }
+
+        /**
+         * @return The zoom before the change
+         */
+        public double getOldZoom () {
+
+            return oldZoom;
+        }
+    }
+
+    /**
+     * The selection of the drawing was replaced.
+     */
+    public static class SelectionChanged extends DrawingEvent {
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         */
+        public SelectionChanged (Drawing drawing) {
+
+            super(drawing);
+        }
+    }
+
+    /**
+     * The drawing was saved to or loaded from a file.
+     */
+    public static class FileChanged extends DrawingEvent {
+
+        /**
+         * @param drawing
+         *            The drawing that changed
+         */
+        public FileChanged (Drawing drawing) {
+
+            super(drawing);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:45:35, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.model;
+
+import java.util.List;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * Receives the changes made to a drawing.
+ *
+ * @author agent
+ */
+public interface DrawingListener {
+
+    /**
+     * Called once for each transaction committed on the drawing and once for each change made
+     * outside transactions.
+     *
+     * @param events
+     *            The events that happened, never empty. Element events of a transaction come
+     *            after the other events of the same transaction.
+     */
+    void drawingChanged (List<DrawingEvent> events);
+}
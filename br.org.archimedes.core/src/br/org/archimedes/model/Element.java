@@ -32,6 +32,8 @@ public abstract class Element {
 
     private Layer parentLayer;
 
+    private Rectangle cachedBoundary;
+
 
     /**
      * @return Returns the parentLayer.
@@ -84,10 +86,12 @@ public abstract class Element {
         if (pointsToBeMoved == null || vector == null) {
             throw new NullArgumentException();
         }
+        willChange();
 
         for (Point point : pointsToBeMoved) {
             point.move(vector.getX(), vector.getY());
         }
+        invalidateBoundary();
     }
 
     /**
@@ -122,6 +126,58 @@ public abstract class Element {
      */
     public abstract Rectangle getBoundaryRectangle ();
 
+    /**
+     * Elements that go on forever must not be looked for only around their boundary rectangle,
+     * even if it is finite so that they can be drawn (semilines for instance).
+     * 
+     * @return true if this element has no end, false otherwise
+     */
+    public boolean isUnbounded () {
+
+        return false;
+    }
+
+    /**
+     * @return The boundary rectangle stored by {@link #setCachedBoundary(Rectangle)} or null if
+     *         the element changed since then.
+     */
+    protected Rectangle getCachedBoundary () {
+
+        return cachedBoundary;
+    }
+
+    /**
+     * Stores the boundary rectangle so that elements with expensive boundaries can return it
+     * until they change again.
+     * 
+     * @param boundary
+     *            The boundary rectangle of this element as it is now
+     */
+    protected void setCachedBoundary (Rectangle boundary) {
+
+        this.cachedBoundary = boundary;
+    }
+
+    /**
+     * Must be called by every method that changes the geometry of the element, before changing
+     * it, so that the element's layer can tell where the element was.
+     */
+    protected void willChange () {
+
+        if (parentLayer != null) {
+            parentLayer.elementWillChange(this);
+        }
+    }
+
+    /**
+     * Must be called by every method that changes the geometry of the element. It drops the cached
+     * boundary.
+     */
+    protected void invalidateBoundary () {
+
+        cachedBoundary = null;
+    }
+
     /**
      * @param area
      *            The area in which the reference points are
@@ -166,9 +222,11 @@ public abstract class Element {
         if (rotateReference == null) {
             throw new NullArgumentException();
         }
+        willChange();
         for (Point point : getPoints()) {
             point.rotate(rotateReference, angle);
         }
+        invalidateBoundary();
     }
 
     /**
@@ -192,10 +250,12 @@ public abstract class Element {
         if (proportion <= 0) {
             throw new IllegalActionException();
         }
+        willChange();
 
         for (Point point : getPoints()) {
             point.scale(scaleReference, proportion);
         }
+        invalidateBoundary();
     }
 
     /**
@@ -237,7 +297,9 @@ public abstract class Element {
 
         List<Point> points = getPoints();
 
+        willChange();
         calculateMirror(p1, p2, points);
+        invalidateBoundary();
 
         if (parentLayer != null) {
             Collection<Element> elements = parentLayer.getElements();
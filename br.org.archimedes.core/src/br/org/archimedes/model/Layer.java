@@ -15,8 +15,12 @@ package br.org.archimedes.model;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.Observable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import br.org.archimedes.Constant;
 import br.org.archimedes.exceptions.IllegalActionException;
@@ -29,7 +33,7 @@ import br.org.archimedes.gui.opengl.OpenGLWrapper;
  * 
  * @author fabsn
  */
-public class Layer extends Observable {
+public class Layer {
 
     private Color color;
 
@@ -43,12 +47,16 @@ public class Layer extends Observable {
 
     private Collection<Element> elements;
 
+    private Map<Element, Element> heldElements;
+
     private boolean locked;
 
     private boolean visible;
 
     private final String xmlToSave;
 
+    private List<LayerListener> listeners;
+
 
     /**
      * @return the xmlToSave
@@ -86,9 +94,11 @@ public class Layer extends Observable {
         this.lineStyle = lineStyle;
         this.thickness = thickness;
         this.elements = new LinkedList<Element>();
+        this.heldElements = new IdentityHashMap<Element, Element>();
         this.locked = false;
         this.visible = true;
         this.xmlToSave = xmlToSave;
+        this.listeners = new CopyOnWriteArrayList<LayerListener>();
     }
 
     /**
@@ -171,8 +181,7 @@ public class Layer extends Observable {
 
         String oldName = this.name;
         this.name = name;
-        setChanged();
-        notifyObservers(oldName);
+        fireLayerChanged(oldName);
     }
 
     /**
@@ -208,6 +217,18 @@ public class Layer extends Observable {
         return result;
     }
 
+    /**
+     * Unlike {@link #contains(Element)}, copies of an element are not taken for it.
+     * 
+     * @param element
+     *            The element to be verified
+     * @return True if this very element is in the layer, false otherwise
+     */
+    boolean holds (Element element) {
+
+        return heldElements.containsKey(element);
+    }
+
     /**
      * Adds an element to the drawing and sets this layer to be the new layer
      * for the element.
@@ -231,9 +252,39 @@ public class Layer extends Observable {
         }
 
         elements.add(element);
+        heldElements.put(element, element);
         element.setLayer(this);
     }
 
+    /**
+     * Adds elements that cannot be in any layer yet, such as the ones just read or generated.
+     * Unlike {@link #putElement(Element)}, the layer is not searched for each of them so filling
+     * a layer does not take quadratic time.
+     * 
+     * @param newElements
+     *            The elements to be added
+     * @throws NullArgumentException
+     *             In case the collection or one of its elements is null
+     */
+    public void putNewElements (Collection<? extends Element> newElements)
+            throws NullArgumentException {
+
+        if (newElements == null) {
+            throw new NullArgumentException();
+        }
+        for (Element element : newElements) {
+            if (element == null) {
+                throw new NullArgumentException();
+            }
+        }
+
+        for (Element element : newElements) {
+            elements.add(element);
+            heldElements.put(element, element);
+            element.setLayer(this);
+        }
+    }
+
     /**
      * Removes an element from the Layer.
      * 
@@ -252,13 +303,17 @@ public class Layer extends Observable {
             throw new NullArgumentException();
         }
 
-        if ( !elements.contains(element)) {
-            throw new IllegalActionException();
+        Iterator<Element> iterator = elements.iterator();
+        while (iterator.hasNext()) {
+            Element held = iterator.next();
+            if (element.equals(held)) {
+                iterator.remove();
+                heldElements.remove(held);
+                return true;
+            }
         }
 
-        boolean removed = elements.remove(element);
-
-        return removed;
+        throw new IllegalActionException();
     }
 
     /**
@@ -269,12 +324,55 @@ public class Layer extends Observable {
         return Collections.unmodifiableCollection(elements);
     }
 
+    /**
+     * @param listener
+     *            The listener to be notified of changes in this layer
+     */
+    public void addLayerListener (LayerListener listener) {
+
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener
+     *            The listener that should no longer be notified
+     */
+    public void removeLayerListener (LayerListener listener) {
+
+        listeners.remove(listener);
+    }
+
+    /**
+     * @param oldName
+     *            The name of the layer before the change
+     */
+    private void fireLayerChanged (String oldName) {
+
+        for (LayerListener listener : listeners) {
+            listener.layerChanged(this, oldName);
+        }
+    }
+
+    /**
+     * Lets the listeners of this layer know one of its elements is about to change.
+     * 
+     * @param element
+     *            The element about to change
+     */
+    void elementWillChange (Element element) {
+
+        for (LayerListener listener : listeners) {
+            listener.elementWillChange(this, element);
+        }
+    }
+
     /**
      * Remove all elements from the layer.
      */
     public void clear () {
 
         elements.clear();
+        heldElements.clear();
     }
 
     /**
@@ -292,8 +390,7 @@ public class Layer extends Observable {
     public void setLocked (boolean locked) {
 
         this.locked = locked;
-        setChanged();
-        notifyObservers();
+        fireLayerChanged(name);
     }
 
     /**
@@ -311,8 +408,7 @@ public class Layer extends Observable {
     public void setVisible (boolean visible) {
 
         this.visible = visible;
-        setChanged();
-        notifyObservers();
+        fireLayerChanged(name);
     }
 
     /**
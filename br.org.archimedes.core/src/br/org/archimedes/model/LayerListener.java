@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:45:35, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.model;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * Receives the changes made to a layer and to its elements.
+ *
+ * @author agent
+ */
+public interface LayerListener {
+
+    /**
+     * Called after the name, lock or visibility of the layer changed.
+     *
+     * @param layer
+     *            The layer that changed
+     * @param oldName
+     *            The name of the layer before the change
+     */
+    void layerChanged (Layer layer, String oldName);
+
+    /**
+     * Called before an element of the layer changes its geometry.
+     *
+     * @param layer
+     *            The layer of the element
+     * @param element
+     *            The element about to change
+     */
+    void elementWillChange (Layer layer, Element element);
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:47:40, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.model;
+
+import java.util.Collection;
+
+import br.org.archimedes.exceptions.InvalidParameterException;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * An offsetable element whose offset might cross itself and therefore split into several
+ * elements.
+ */
+public interface MultipleOffsetable extends Offsetable {
+
+    /**
+     * @param distance
+     *            the distance from the original element to be copied.
+     * @return the elements dislocated by the distance with every loop created by a
+     *         self-intersection removed.
+     * @throws InvalidParameterException
+     *             Thrown if nothing is left after the loops are removed.
+     */
+    public Collection<? extends Element> cloneWithDistanceAndCleanup (double distance)
+            throws InvalidParameterException;
+}
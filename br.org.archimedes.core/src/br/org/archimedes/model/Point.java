@@ -87,10 +87,8 @@ public class Point implements Comparable<Point> {
      */
     public boolean isInside (Rectangle rect) {
 
-        Point lowerLeft = rect.getLowerLeft();
-        Point upperRight = rect.getUpperRight();
-        if (this.x >= lowerLeft.getX() && this.x <= upperRight.getX() && this.y >= lowerLeft.getY()
-                && this.y <= upperRight.getY()) {
+        if (this.x >= rect.getMinX() && this.x <= rect.getMaxX() && this.y >= rect.getMinY()
+                && this.y <= rect.getMaxY()) {
             return true;
         }
 
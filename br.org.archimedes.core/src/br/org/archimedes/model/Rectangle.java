@@ -14,6 +14,8 @@
 
 package br.org.archimedes.model;
 
+import br.org.archimedes.Constant;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -85,7 +87,10 @@ public class Rectangle {
         boolean equal = (object == this);
         if ( !equal && object != null && object.getClass() == this.getClass()) {
             Rectangle rectangle = (Rectangle) object;
-            equal = getPoints().equals(rectangle.getPoints());
+            equal = Math.abs(getMinX() - rectangle.getMinX()) <= Constant.EPSILON
+                    && Math.abs(getMinY() - rectangle.getMinY()) <= Constant.EPSILON
+                    && Math.abs(getMaxX() - rectangle.getMaxX()) <= Constant.EPSILON
+                    && Math.abs(getMaxY() - rectangle.getMaxY()) <= Constant.EPSILON;
         }
         return equal;
     }
@@ -99,6 +104,66 @@ public class Rectangle {
         return inside;
     }
 
+    /**
+     * @param rectangle
+     *            The other rectangle
+     * @return true if both rectangles share at least one point, false otherwise.
+     */
+    public boolean overlaps (Rectangle rectangle) {
+
+        return x <= rectangle.x + rectangle.width && rectangle.x <= x + width
+                && y <= rectangle.y + rectangle.height && rectangle.y <= y + height;
+    }
+
+    /**
+     * Tests, without creating any object, if the segment between (x1, y1) and (x2, y2) shares at
+     * least one point with this rectangle, borders included.
+     * 
+     * @return true if the segment touches the rectangle, false otherwise
+     */
+    public boolean intersectsSegment (double x1, double y1, double x2, double y2) {
+
+        return intersectsLine(x1, y1, x2 - x1, y2 - y1, 0, 1);
+    }
+
+    /**
+     * Tests, without creating any object, if the points (x + t * dx, y + t * dy) with t between
+     * the minimum and the maximum share at least one point with this rectangle, borders
+     * included. The parameter range is clipped against each pair of sides (Liang-Barsky) so
+     * infinite bounds can be used for semilines and infinite lines.
+     * 
+     * @return true if the line touches the rectangle, false otherwise
+     */
+    public boolean intersectsLine (double x, double y, double dx, double dy, double minimum,
+            double maximum) {
+
+        double start = minimum;
+        double end = maximum;
+        if (dx == 0) {
+            if (x < this.x || x > this.x + width) {
+                return false;
+            }
+        }
+        else {
+            double left = (this.x - x) / dx;
+            double right = (this.x + width - x) / dx;
+            start = Math.max(start, Math.min(left, right));
+            end = Math.min(end, Math.max(left, right));
+        }
+        if (dy == 0) {
+            if (y < this.y || y > this.y + height) {
+                return false;
+            }
+        }
+        else {
+            double bottom = (this.y - y) / dy;
+            double top = (this.y + height - y) / dy;
+            start = Math.max(start, Math.min(bottom, top));
+            end = Math.min(end, Math.max(bottom, top));
+        }
+        return start <= end;
+    }
+
     public boolean contains (Point point) {
 
         return point.getX() > this.x && point.getX() < this.x + this.width && point.getY() > this.y
@@ -153,4 +218,36 @@ public class Rectangle {
 
         return height;
     }
+
+    /**
+     * @return The smallest x coordinate of the rectangle.
+     */
+    public double getMinX () {
+
+        return x;
+    }
+
+    /**
+     * @return The smallest y coordinate of the rectangle.
+     */
+    public double getMinY () {
+
+        return y;
+    }
+
+    /**
+     * @return The biggest x coordinate of the rectangle.
+     */
+    public double getMaxX () {
+
+        return x + width;
+    }
+
+    /**
+     * @return The biggest y coordinate of the rectangle.
+     */
+    public double getMaxY () {
+
+        return y + height;
+    }
 }
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:33:10, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.model;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * Elements that can tell by themselves if they touch a rectangle. Crossing selections and the
+ * snapping pass run this for each candidate element so implementations should not create any
+ * object.
+ *
+ * @author agent
+ */
+public interface RectangleIntersectable {
+
+    /**
+     * @param rectangle
+     *            The rectangle to test
+     * @return true if the element shares at least one point with the rectangle, borders
+     *         included, false otherwise
+     * @throws NullArgumentException
+     *             Thrown if the rectangle is null
+     */
+    boolean intersects (Rectangle rectangle) throws NullArgumentException;
+}
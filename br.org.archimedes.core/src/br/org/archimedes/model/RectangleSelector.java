@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:09:29, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+
+package br.org.archimedes.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.interfaces.IntersectionManager;
+import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * Tests the exact geometry of the candidates of a window or crossing selection. Big candidate
+ * lists are split in batches tested in parallel by a pool shared by every drawing. The result
+ * is an identity set of the chosen elements so that a {@link Selection} can merge or invert it
+ * without comparing elements.
+ *
+ * @author agent
+ */
+public class RectangleSelector {
+
+    /**
+     * Number of candidates tested by each task.
+     */
+    public static final int ELEMENTS_PER_BATCH = 4096;
+
+    private static ExecutorService executor;
+
+    private Rectangle rectangle;
+
+    private boolean crossing;
+
+    private IntersectionManager manager;
+
+
+    /**
+     * @param rectangle
+     *            The selection rectangle
+     * @param crossing
+     *            true to choose the elements that intersect the rectangle, false to choose only
+     *            those completely inside it
+     * @throws NullArgumentException
+     *             Thrown if the rectangle is null
+     */
+    public RectangleSelector (Rectangle rectangle, boolean crossing) throws NullArgumentException {
+
+        if (rectangle == null) {
+            throw new NullArgumentException();
+        }
+        this.rectangle = rectangle;
+        this.crossing = crossing;
+    }
+
+    /**
+     * @return The pool that runs the batches. Its threads are daemons so it never needs to be
+     *         shut down.
+     */
+    private static synchronized ExecutorService getExecutor () {
+
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                    new ThreadFactory() {
+
+                        public Thread newThread (Runnable runnable) {
+
+                            Thread thread = new Thread(runnable, "Archimedes selection"); //$NON-NLS-1$
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return executor;
+    }
+
+    /**
+     * @param candidates
+     *            The elements that might be chosen. Usually those whose boundary overlaps the
+     *            rectangle.
+     * @return The candidates chosen by the rectangle
+     * @throws NullArgumentException
+     *             Thrown if the candidates are null
+     */
+    public Set<Element> select (List<Element> candidates) throws NullArgumentException {
+
+        if (candidates == null) {
+            throw new NullArgumentException();
+        }
+
+        Map<Element, Element> chosen = new IdentityHashMap<Element, Element>();
+        if (candidates.size() <= ELEMENTS_PER_BATCH
+                || Runtime.getRuntime().availableProcessors() < 2) {
+            choose(candidates, chosen);
+            return chosen.keySet();
+        }
+
+        if (crossing) {
+            // Loads the manager before the tasks share it
+            getManager();
+        }
+        List<Future<List<Element>>> results = new ArrayList<Future<List<Element>>>();
+        for (int start = 0; start < candidates.size(); start += ELEMENTS_PER_BATCH) {
+            final List<Element> batch = candidates.subList(start, Math.min(start
+                    + ELEMENTS_PER_BATCH, candidates.size()));
+            results.add(getExecutor().submit(new Callable<List<Element>>() {
+
+                public List<Element> call () throws NullArgumentException {
+
+                    List<Element> batchChosen = new ArrayList<Element>();
+                    for (Element element : batch) {
+                        if (isChosen(element)) {
+                            batchChosen.add(element);
+                        }
+                    }
+                    return batchChosen;
+                }
+            }));
+        }
+
+        for (Future<List<Element>> result : results) {
+            try {
+                for (Element element : result.get()) {
+                    chosen.put(element, element);
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            catch (ExecutionException e) {
+                // Something went wrong when testing this batch.
+                // Just skip it and trace the log.
+                e.printStackTrace();
+            }
+        }
+        return chosen.keySet();
+    }
+
+    /**
+     * Tests every candidate on the calling thread.
+     */
+    private void choose (Collection<Element> candidates, Map<Element, Element> chosen)
+            throws NullArgumentException {
+
+        for (Element element : candidates) {
+            if (isChosen(element)) {
+                chosen.put(element, element);
+            }
+        }
+    }
+
+    /**
+     * @return true if the element is inside the rectangle or, for a crossing selection, if it
+     *         intersects the rectangle.
+     */
+    private boolean isChosen (Element element) throws NullArgumentException {
+
+        if ( !crossing) {
+            return element.isInside(rectangle);
+        }
+        if (element instanceof RectangleIntersectable) {
+            return ((RectangleIntersectable) element).intersects(rectangle);
+        }
+        if (element.isInside(rectangle)) {
+            return true;
+        }
+        return getManager().intersects(rectangle, element);
+    }
+
+    /**
+     * @return The intersection manager. It is only loaded if an element needs it.
+     */
+    private synchronized IntersectionManager getManager () {
+
+        if (manager == null) {
+            manager = new IntersectionManagerEPLoader().getIntersectionManager();
+        }
+        return manager;
+    }
+}
@@ -14,33 +14,38 @@
 package br.org.archimedes.model;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import br.org.archimedes.exceptions.NullArgumentException;
 
 /**
  * This class represents a selection with information about how the elements
- * were selected. <br>
+ * were selected. Elements are kept by identity so that adding, removing or
+ * inverting k elements costs O(k) even if the elements change after being
+ * selected. <br>
  * Belongs to package br.org.archimedes.model.
  * 
  * @author marivb
  */
 public class Selection {
 
-    private Set<Element> elements;
+    private Map<Element, Element> elements;
 
     private Rectangle specifier;
 
     private boolean shiftOn;
 
+    private long modifications;
+
 
     /**
      * Creates a simple selection with no "type"
      */
     public Selection () {
 
-        elements = new HashSet<Element>();
+        elements = new IdentityHashMap<Element, Element>();
         specifier = null;
         shiftOn = false;
     }
@@ -89,7 +94,7 @@ public class Selection {
      */
     public Set<Element> getSelectedElements () {
 
-        return elements;
+        return elements.keySet();
     }
 
     /**
@@ -108,20 +113,8 @@ public class Selection {
      */
     public void add (Element element) {
 
-        if (element != null) {
-            boolean shouldAdd = true;
-            // The Set seems to work when it wants.
-            // Uncomment this code to have the expected behavior.
-            // This is somehow related to movePoint and select (in Controller)
-            for (Element selected : elements) {
-                if (element.equals(selected)) {
-                    shouldAdd = false;
-                    break;
-                }
-            }
-            if (shouldAdd) {
-                elements.add(element);
-            }
+        if (element != null && elements.put(element, element) == null) {
+            modifications++;
         }
     }
 
@@ -131,7 +124,7 @@ public class Selection {
      * @param elementsToAdd
      *            The elements to add. Does nothing if it is null.
      */
-    public void addAll (Set<Element> elementsToAdd) {
+    public void addAll (Collection<? extends Element> elementsToAdd) {
 
         if (elementsToAdd != null) {
             for (Element element : elementsToAdd) {
@@ -140,6 +133,24 @@ public class Selection {
         }
     }
 
+    /**
+     * Removes the selected elements of the collection from the selection and
+     * adds the others.
+     * 
+     * @param elementsToInvert
+     *            The elements to invert. Does nothing if it is null.
+     */
+    public void invert (Collection<? extends Element> elementsToInvert) {
+
+        if (elementsToInvert != null) {
+            for (Element element : elementsToInvert) {
+                if ( !remove(element)) {
+                    add(element);
+                }
+            }
+        }
+    }
+
     /**
      * Removes an element from the selection.
      * 
@@ -150,9 +161,9 @@ public class Selection {
      */
     public boolean remove (Element element) {
 
-        boolean removed = false;
-        if (element != null && elements.contains(element)) {
-            removed = elements.remove(element);
+        boolean removed = element != null && elements.remove(element) != null;
+        if (removed) {
+            modifications++;
         }
         return removed;
     }
@@ -163,13 +174,24 @@ public class Selection {
      * @param elementsToRemove
      *            The elements to remove. Does nothing if it is null.
      */
-    public void removeAll (Collection<Element> elementsToRemove) {
+    public void removeAll (Collection<? extends Element> elementsToRemove) {
 
-        if (elements != null && (elementsToRemove != null && !elementsToRemove.isEmpty())) {
-            elements.removeAll(elementsToRemove);
+        if (elementsToRemove != null) {
+            for (Element element : elementsToRemove) {
+                remove(element);
+            }
         }
     }
 
+    /**
+     * @return A counter increased every time an element is added to or removed from this
+     *         selection
+     */
+    public long getModifications () {
+
+        return modifications;
+    }
+
     /**
      * @return The rectangle that defined this selection, if there was one.
      */
@@ -0,0 +1,339 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:14:55, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+
+package br.org.archimedes.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.exceptions.NullArgumentException;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * Uniform grid of the reference points (end points, middle points, centers, quadrants...) of a
+ * set of elements. The reference points of an element are asked only once, when it is added, so
+ * a query near the mouse does not create any reference point. The grid is sized when the index
+ * is built and points added later outside of it are kept aside.<br>
+ * Elements without a boundary rectangle have reference points that depend on the area being
+ * viewed so they are asked on every query.<br>
+ * An element that changed must be removed and added back. It can be removed after it changed
+ * since the index remembers where its points were put.
+ *
+ * @author agent
+ */
+public class SnapIndex {
+
+    /**
+     * Average number of reference points wanted in each cell.
+     */
+    private static final int REFERENCES_PER_CELL = 4;
+
+    private static final Rectangle EVERYWHERE = new Rectangle( -Double.MAX_VALUE / 2,
+            -Double.MAX_VALUE / 2, Double.MAX_VALUE / 2, Double.MAX_VALUE / 2);
+
+    private Map<Element, Placement> placements;
+
+    private List<Element> unbounded;
+
+    private List<ReferencePoint> outside;
+
+    private List<List<ReferencePoint>> cells;
+
+    private double minX;
+
+    private double minY;
+
+    private double cellSide;
+
+    private int columns;
+
+    private int rows;
+
+
+    /**
+     * Builds the index.
+     *
+     * @param elements
+     *            The elements whose reference points should be indexed
+     */
+    public SnapIndex (Collection<? extends Element> elements) {
+
+        placements = new IdentityHashMap<Element, Placement>();
+        unbounded = new ArrayList<Element>();
+        outside = new ArrayList<ReferencePoint>();
+        cells = new ArrayList<List<ReferencePoint>>();
+
+        int count = 0;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        minX = Double.MAX_VALUE;
+        minY = Double.MAX_VALUE;
+        for (Element element : elements) {
+            if (element.getBoundaryRectangle() == null) {
+                continue;
+            }
+            Placement placement = new Placement(getReferencesOf(element));
+            placements.put(element, placement);
+            for (ReferencePoint reference : placement.references) {
+                Point point = reference.getPoint();
+                minX = Math.min(minX, point.getX());
+                minY = Math.min(minY, point.getY());
+                maxX = Math.max(maxX, point.getX());
+                maxY = Math.max(maxY, point.getY());
+                count++;
+            }
+        }
+
+        if (count > 0) {
+            double width = Math.max(maxX - minX, Constant.EPSILON);
+            double height = Math.max(maxY - minY, Constant.EPSILON);
+            cellSide = Math.sqrt(width * height * REFERENCES_PER_CELL / count);
+            while (Math.ceil(width / cellSide) * Math.ceil(height / cellSide) > 4 * count + 16) {
+                cellSide *= 2;
+            }
+            columns = (int) Math.ceil(width / cellSide);
+            rows = (int) Math.ceil(height / cellSide);
+            for (int i = 0; i < columns * rows; i++) {
+                cells.add(null);
+            }
+        }
+
+        for (Element element : elements) {
+            Placement placement = placements.get(element);
+            if (placement == null) {
+                if ( !unbounded.contains(element)) {
+                    unbounded.add(element);
+                }
+            }
+            else if (placement.cells == null) {
+                insert(placement);
+            }
+        }
+    }
+
+    /**
+     * @return The reference points of a bounded element
+     */
+    private List<ReferencePoint> getReferencesOf (Element element) {
+
+        return new ArrayList<ReferencePoint>(element.getReferencePoints(EVERYWHERE));
+    }
+
+    /**
+     * Indexes the reference points of the element. Does nothing if it was already indexed.
+     *
+     * @param element
+     *            The element to add
+     * @throws NullArgumentException
+     *             Thrown if the element is null
+     */
+    public void add (Element element) throws NullArgumentException {
+
+        if (element == null) {
+            throw new NullArgumentException();
+        }
+        if (placements.containsKey(element) || unbounded.contains(element)) {
+            return;
+        }
+
+        if (element.getBoundaryRectangle() == null) {
+            unbounded.add(element);
+            return;
+        }
+        Placement placement = new Placement(getReferencesOf(element));
+        placements.put(element, placement);
+        insert(placement);
+    }
+
+    /**
+     * Removes the reference points of the element.
+     *
+     * @param element
+     *            The element to remove
+     * @return true if the element was indexed, false otherwise
+     */
+    public boolean remove (Element element) {
+
+        Placement placement = placements.remove(element);
+        if (placement == null) {
+            return unbounded.remove(element);
+        }
+
+        for (int i = 0; i < placement.references.size(); i++) {
+            int index = placement.cells[i];
+            List<ReferencePoint> cell = index < 0 ? outside : cells.get(index);
+            if (cell != null) {
+                removeByIdentity(cell, placement.references.get(i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes the exact reference from the list.
+     */
+    private void removeByIdentity (List<ReferencePoint> list, ReferencePoint reference) {
+
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (list.get(i) == reference) {
+                list.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds the reference points inside an area to a collection.
+     *
+     * @param area
+     *            The area in which the points must be
+     * @param viewArea
+     *            The area being viewed. Used to compute the reference points of unbounded
+     *            elements.
+     * @param result
+     *            The collection that receives the points
+     * @throws NullArgumentException
+     *             Thrown if any argument is null
+     */
+    public void getReferencesIn (Rectangle area, Rectangle viewArea,
+            Collection<ReferencePoint> result) throws NullArgumentException {
+
+        if (area == null || viewArea == null || result == null) {
+            throw new NullArgumentException();
+        }
+
+        for (Element element : unbounded) {
+            for (ReferencePoint reference : element.getReferencePoints(viewArea)) {
+                if (reference.getPoint().isInside(area)) {
+                    result.add(reference);
+                }
+            }
+        }
+        addInside(outside, area, result);
+
+        if (columns == 0) {
+            return;
+        }
+        int firstColumn = Math.max(getColumn(area.getMinX()), 0);
+        int lastColumn = Math.min(getColumn(area.getMaxX()), columns - 1);
+        int firstRow = Math.max(getRow(area.getMinY()), 0);
+        int lastRow = Math.min(getRow(area.getMaxY()), rows - 1);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                List<ReferencePoint> cell = cells.get(row * columns + column);
+                if (cell != null) {
+                    addInside(cell, area, result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the references of the list that are inside the area to the result.
+     */
+    private void addInside (List<ReferencePoint> list, Rectangle area,
+            Collection<ReferencePoint> result) {
+
+        for (int i = 0; i < list.size(); i++) {
+            ReferencePoint reference = list.get(i);
+            if (reference.getPoint().isInside(area)) {
+                result.add(reference);
+            }
+        }
+    }
+
+    /**
+     * @return The number of indexed elements
+     */
+    public int size () {
+
+        return placements.size() + unbounded.size();
+    }
+
+    /**
+     * Puts each reference in its cell or aside if it is out of the grid and remembers where.
+     */
+    private void insert (Placement placement) {
+
+        placement.cells = new int[placement.references.size()];
+        for (int i = 0; i < placement.cells.length; i++) {
+            ReferencePoint reference = placement.references.get(i);
+            int index = getCell(reference.getPoint());
+            placement.cells[i] = index;
+            if (index < 0) {
+                outside.add(reference);
+                continue;
+            }
+            List<ReferencePoint> cell = cells.get(index);
+            if (cell == null) {
+                cell = new ArrayList<ReferencePoint>(REFERENCES_PER_CELL);
+                cells.set(index, cell);
+            }
+            cell.add(reference);
+        }
+    }
+
+    /**
+     * @return The index of the cell containing the point or -1 if it is out of the grid
+     */
+    private int getCell (Point point) {
+
+        if (columns == 0) {
+            return -1;
+        }
+        int column = getColumn(point.getX());
+        int row = getRow(point.getY());
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            return -1;
+        }
+        return row * columns + column;
+    }
+
+    private int getColumn (double x) {
+
+        double column = Math.floor((x - minX) / cellSide);
+        if (column == columns && x <= minX + columns * cellSide) {
+            column = columns - 1;
+        }
+        return (int) Math.max(Math.min(column, Integer.MAX_VALUE / 2), Integer.MIN_VALUE / 2);
+    }
+
+    private int getRow (double y) {
+
+        double row = Math.floor((y - minY) / cellSide);
+        if (row == rows && y <= minY + rows * cellSide) {
+            row = rows - 1;
+        }
+        return (int) Math.max(Math.min(row, Integer.MAX_VALUE / 2), Integer.MIN_VALUE / 2);
+    }
+
+
+    /**
+     * Reference points of an element and the cells they were put in.
+     */
+    private static class Placement {
+
+        private List<ReferencePoint> references;
+
+        private int[] cells;
+
+
+        public Placement (List<ReferencePoint> references) {
+
+            this.references = references;
+        }
+    }
+}
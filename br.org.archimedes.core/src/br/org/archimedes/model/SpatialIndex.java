@@ -0,0 +1,708 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:04:24, by agent.<br>
+ * It is part of package br.org.archimedes.model on the br.org.archimedes.core project.<br>
+ */
+
+package br.org.archimedes.model;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+
+/**
+ * Belongs to package br.org.archimedes.model.<br>
+ * Set of elements indexed by a uniform grid of their boundary rectangles. The grid is sized
+ * when the index is built so that each cell holds a few elements. Elements added later that do not
+ * fit in the grid and elements without a boundary rectangle are kept aside and returned by every
+ * query.<br>
+ * Elements are expected not to change while they are in the index.
+ *
+ * @author agent
+ */
+public class SpatialIndex extends AbstractSet<Element> {
+
+    /**
+     * Average number of elements wanted in each cell.
+     */
+    private static final int ELEMENTS_PER_CELL = 4;
+
+    private Map<Element, Rectangle> boundaries;
+
+    private List<Element> unbounded;
+
+    private List<Element> outside;
+
+    private List<List<Entry>> cells;
+
+    private double minX;
+
+    private double minY;
+
+    private double cellSide;
+
+    private int columns;
+
+    private int rows;
+
+
+    /**
+     * Builds the index.
+     *
+     * @param elements
+     *            The elements to index
+     */
+    public SpatialIndex (Collection<? extends Element> elements) {
+
+        boundaries = new LinkedHashMap<Element, Rectangle>();
+        unbounded = new ArrayList<Element>();
+        outside = new ArrayList<Element>();
+        cells = new ArrayList<List<Entry>>();
+
+        Map<Element, Rectangle> bounded = new LinkedHashMap<Element, Rectangle>();
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE, sides = 0;
+        minX = Double.MAX_VALUE;
+        minY = Double.MAX_VALUE;
+        for (Element element : elements) {
+            Rectangle boundary = getBoundary(element);
+            if (boundary != null) {
+                bounded.put(element, boundary);
+                minX = Math.min(minX, boundary.getMinX());
+                minY = Math.min(minY, boundary.getMinY());
+                maxX = Math.max(maxX, boundary.getMaxX());
+                maxY = Math.max(maxY, boundary.getMaxY());
+                sides += boundary.getWidth() + boundary.getHeight();
+            }
+        }
+
+        if ( !bounded.isEmpty()) {
+            int count = bounded.size();
+            double width = Math.max(maxX - minX, Constant.EPSILON);
+            double height = Math.max(maxY - minY, Constant.EPSILON);
+            cellSide = Math.sqrt(width * height * ELEMENTS_PER_CELL / count);
+            cellSide = Math.max(cellSide, sides / (2 * count));
+            while (Math.ceil(width / cellSide) * Math.ceil(height / cellSide) > 4 * count + 16) {
+                cellSide *= 2;
+            }
+            columns = (int) Math.ceil(width / cellSide);
+            rows = (int) Math.ceil(height / cellSide);
+            for (int i = 0; i < columns * rows; i++) {
+                cells.add(null);
+            }
+        }
+
+        for (Element element : elements) {
+            if ( !boundaries.containsKey(element)) {
+                insert(element, bounded.get(element));
+            }
+        }
+    }
+
+    /**
+     * @param element
+     *            An element to be indexed
+     * @return The rectangle used to index the element or null if it is unbounded and should be
+     *         returned by every query. Defaults to the element's boundary rectangle unless the
+     *         element is unbounded.
+     */
+    protected Rectangle getBoundary (Element element) {
+
+        if (element.isUnbounded()) {
+            return null;
+        }
+        return element.getBoundaryRectangle();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractSet#add(java.lang.Object)
+     */
+    public boolean add (Element element) {
+
+        if (element == null || boundaries.containsKey(element)) {
+            return false;
+        }
+        insert(element, getBoundary(element));
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractSet#remove(java.lang.Object)
+     */
+    public boolean remove (Object object) {
+
+        if ( !boundaries.containsKey(object)) {
+            return false;
+        }
+        Rectangle boundary = boundaries.remove(object);
+        if (boundary == null) {
+            unbounded.remove(object);
+        }
+        else if ( !outside.remove(object)) {
+            int[] range = getCellRange(boundary);
+            for (int row = range[1]; row <= range[3]; row++) {
+                for (int column = range[0]; column <= range[2]; column++) {
+                    List<Entry> cell = cells.get(row * columns + column);
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Iterator<Entry> entries = cell.iterator(); entries.hasNext();) {
+                        if (entries.next().element == object) {
+                            entries.remove();
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractSet#contains(java.lang.Object)
+     */
+    public boolean contains (Object object) {
+
+        return boundaries.containsKey(object);
+    }
+
+    /**
+     * The returned iterator does not support removal.
+     *
+     * @see java.util.AbstractSet#iterator()
+     */
+    public Iterator<Element> iterator () {
+
+        return Collections.unmodifiableSet(boundaries.keySet()).iterator();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.AbstractSet#size()
+     */
+    public int size () {
+
+        return boundaries.size();
+    }
+
+    /**
+     * @param area
+     *            The area to look into
+     * @return The elements whose boundary rectangle overlaps the area and all unbounded elements
+     * @throws NullArgumentException
+     *             Thrown if the area is null
+     */
+    public List<Element> getElementsIn (Rectangle area) throws NullArgumentException {
+
+        if (area == null) {
+            throw new NullArgumentException();
+        }
+
+        List<Element> result = new ArrayList<Element>(unbounded);
+        for (Element element : outside) {
+            if (boundaries.get(element).overlaps(area)) {
+                result.add(element);
+            }
+        }
+
+        int[] range = getCellRange(area);
+        int firstRow = Math.max(range[1], 0);
+        int firstColumn = Math.max(range[0], 0);
+        for (int row = firstRow; row <= Math.min(range[3], rows - 1); row++) {
+            for (int column = firstColumn; column <= Math.min(range[2], columns - 1); column++) {
+                List<Entry> cell = cells.get(row * columns + column);
+                if (cell == null) {
+                    continue;
+                }
+                // Cells strictly inside the range are covered by the area
+                boolean border = row == range[1] || row == range[3] || column == range[0]
+                        || column == range[2];
+                for (Entry entry : cell) {
+                    // An element is only reported by the first cell it shares with the area
+                    if (Math.max(entry.column, firstColumn) == column
+                            && Math.max(entry.row, firstRow) == row
+                            && ( !border || entry.boundary.overlaps(area))) {
+                        result.add(entry.element);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the elements closest to a point. Cells are visited in rings around the point and the
+     * search stops as soon as no unvisited cell can hold anything closer than what was found.
+     *
+     * @param point
+     *            The point to be close to
+     * @param count
+     *            The maximum number of elements wanted
+     * @param maxDistance
+     *            The maximum distance from the point to the elements
+     * @param type
+     *            The class or interface the elements must be or null to accept any element
+     * @return The closest elements sorted from the closest to the farthest
+     * @throws NullArgumentException
+     *             Thrown if the point is null
+     */
+    public List<Element> getNearest (Point point, int count, double maxDistance, Class<?> type)
+            throws NullArgumentException {
+
+        if (point == null) {
+            throw new NullArgumentException();
+        }
+
+        PriorityQueue<Candidate> nearest = new PriorityQueue<Candidate>(count + 1,
+                new Comparator<Candidate>() {
+
+                    public int compare (Candidate first, Candidate second) {
+
+                        return Double.compare(second.distance, first.distance);
+                    }
+                });
+        double[] threshold = {maxDistance};
+        Map<Element, Element> visited = new IdentityHashMap<Element, Element>();
+        for (Element element : unbounded) {
+            consider(element, point, type, count, nearest, threshold);
+        }
+        for (Element element : outside) {
+            consider(element, point, type, count, nearest, threshold);
+        }
+
+        if (columns > 0) {
+            double x = point.getX();
+            double y = point.getY();
+            int column = getColumn(x);
+            int row = getRow(y);
+            // Rings that do not reach the grid are skipped
+            int first = Math.max(Math.max( -column, column - columns + 1), Math.max( -row, row
+                    - rows + 1));
+            int last = Math.max(Math.max(column, columns - 1 - column), Math.max(row, rows - 1
+                    - row));
+            for (int ring = Math.max(first, 0); ring <= last; ring++) {
+                // Anything not found yet lies outside the block of cells visited so far
+                double reach = Math.min(Math.min(x - minX - (column - ring + 1) * cellSide, minX
+                        + (column + ring) * cellSide - x), Math.min(y - minY - (row - ring + 1)
+                        * cellSide, minY + (row + ring) * cellSide - y));
+                if (reach > threshold[0]) {
+                    break;
+                }
+                for (int r = Math.max(row - ring, 0); r <= Math.min(row + ring, rows - 1); r++) {
+                    boolean border = r == row - ring || r == row + ring;
+                    int step = border ? 1 : 2 * ring;
+                    for (int c = column - ring; c <= column + ring; c += step) {
+                        if (c < 0 || c >= columns) {
+                            continue;
+                        }
+                        List<Entry> cell = cells.get(r * columns + c);
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (Entry entry : cell) {
+                            if ( !visited.containsKey(entry.element)) {
+                                visited.put(entry.element, entry.element);
+                                consider(entry.element, point, type, count, nearest, threshold);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Element> result = new ArrayList<Element>(nearest.size());
+        while ( !nearest.isEmpty()) {
+            result.add(nearest.poll().element);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Keeps the element among the nearest ones if it is close enough.
+     *
+     * @param threshold
+     *            Holds the distance an element must not exceed to be kept. Updated when the
+     *            wanted number of elements is reached.
+     */
+    private void consider (Element element, Point point, Class<?> type, int count,
+            PriorityQueue<Candidate> nearest, double[] threshold) {
+
+        if (type != null && !type.isInstance(element)) {
+            return;
+        }
+        Rectangle boundary = boundaries.get(element);
+        if (boundary != null && getDistance(boundary, point) > threshold[0]) {
+            return;
+        }
+        double distance = getDistance(element, point);
+        if (distance > threshold[0]) {
+            return;
+        }
+        nearest.add(new Candidate(element, distance));
+        if (nearest.size() > count) {
+            nearest.poll();
+        }
+        if (nearest.size() == count) {
+            threshold[0] = nearest.peek().distance;
+        }
+    }
+
+    /**
+     * @param element
+     *            An indexed element
+     * @param point
+     *            The point to measure from
+     * @return The distance from the point to the element. Defaults to the distance to the
+     *         projection of the point on the element or to the boundary rectangle of elements
+     *         without projection.
+     */
+    protected double getDistance (Element element, Point point) {
+
+        try {
+            if (element.contains(point)) {
+                return 0;
+            }
+            Point projection = element.getProjectionOf(point);
+            if (projection != null) {
+                return Geometrics.calculateDistance(point, projection);
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since the point is not null
+            e.printStackTrace();
+        }
+        Rectangle boundary = boundaries.get(element);
+        return boundary == null ? Double.MAX_VALUE : getDistance(boundary, point);
+    }
+
+    /**
+     * @return The distance from the point to the rectangle, 0 if it is inside
+     */
+    private double getDistance (Rectangle rectangle, Point point) {
+
+        double dx = Math.max(0, Math.max(rectangle.getMinX() - point.getX(), point.getX()
+                - rectangle.getMaxX()));
+        double dy = Math.max(0, Math.max(rectangle.getMinY() - point.getY(), point.getY()
+                - rectangle.getMaxY()));
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Starts walking the index along a ray. The first group returned has the unbounded elements
+     * and those outside the grid, then each group has the new elements of the next cell crossed
+     * by the ray. Each element is returned only once.<br>
+     * Since the cells are visited in order, a caller looking for the nearest hit can stop as soon
+     * as {@link Ray#getDistance()} is bigger than the distance of the best hit found so far.
+     *
+     * @param origin
+     *            The origin of the ray
+     * @param direction
+     *            The direction of the ray
+     * @return An iterator over the groups of candidate elements
+     * @throws NullArgumentException
+     *             Thrown if the origin or the direction is null
+     * @throws InvalidArgumentException
+     *             Thrown if the direction is a null vector
+     */
+    public Ray castRay (Point origin, Vector direction) throws NullArgumentException,
+            InvalidArgumentException {
+
+        if (origin == null || direction == null) {
+            throw new NullArgumentException();
+        }
+        double norm = direction.getNorm();
+        if (norm <= Constant.EPSILON) {
+            throw new InvalidArgumentException();
+        }
+        return new Ray(origin, direction.getX() / norm, direction.getY() / norm);
+    }
+
+    /**
+     * Puts the element in the cells covered by the boundary or aside if it does not fit.
+     */
+    private void insert (Element element, Rectangle boundary) {
+
+        boundaries.put(element, boundary);
+        if (boundary == null) {
+            unbounded.add(element);
+            return;
+        }
+
+        int[] range = getCellRange(boundary);
+        if (range[0] < 0 || range[1] < 0 || range[2] >= columns || range[3] >= rows) {
+            outside.add(element);
+            return;
+        }
+        Entry entry = new Entry(element, boundary, range[0], range[1]);
+        for (int row = range[1]; row <= range[3]; row++) {
+            for (int column = range[0]; column <= range[2]; column++) {
+                int index = row * columns + column;
+                List<Entry> cell = cells.get(index);
+                if (cell == null) {
+                    cell = new ArrayList<Entry>(ELEMENTS_PER_CELL);
+                    cells.set(index, cell);
+                }
+                cell.add(entry);
+            }
+        }
+    }
+
+    /**
+     * @return The first column, first row, last column and last row covered by the rectangle.
+     *         They might be out of the grid.
+     */
+    private int[] getCellRange (Rectangle rectangle) {
+
+        if (columns == 0) {
+            return new int[] { -1, -1, -1, -1};
+        }
+        return new int[] {getColumn(rectangle.getMinX()), getRow(rectangle.getMinY()),
+                getColumn(rectangle.getMaxX()), getRow(rectangle.getMaxY())};
+    }
+
+    private int getColumn (double x) {
+
+        double column = Math.floor((x - minX) / cellSide);
+        if (column == columns && x <= minX + columns * cellSide) {
+            column = columns - 1;
+        }
+        return (int) Math.max(Math.min(column, Integer.MAX_VALUE / 2), Integer.MIN_VALUE / 2);
+    }
+
+    private int getRow (double y) {
+
+        double row = Math.floor((y - minY) / cellSide);
+        if (row == rows && y <= minY + rows * cellSide) {
+            row = rows - 1;
+        }
+        return (int) Math.max(Math.min(row, Integer.MAX_VALUE / 2), Integer.MIN_VALUE / 2);
+    }
+
+
+    /**
+     * Element kept in the cells with its boundary and the first cell it covers.
+     */
+    private static class Entry {
+
+        private Element element;
+
+        private Rectangle boundary;
+
+        private int column;
+
+        private int row;
+
+
+        public Entry (Element element, Rectangle boundary, int column, int row) {
+
+            this.element = element;
+            this.boundary = boundary;
+            this.column = column;
+            this.row = row;
+        }
+    }
+
+    /**
+     * Element found by a nearest query with its distance to the point.
+     */
+    private static class Candidate {
+
+        private Element element;
+
+        private double distance;
+
+
+        public Candidate (Element element, double distance) {
+
+            this.element = element;
+            this.distance = distance;
+        }
+    }
+
+    /**
+     * Belongs to package br.org.archimedes.model.<br>
+     * Walks the grid cells crossed by a ray in order (as described by Amanatides and Woo).
+     *
+     * @author agent
+     */
+    public class Ray implements Iterator<Collection<Element>> {
+
+        private Map<Element, Element> visited;
+
+        private boolean started;
+
+        private double distance;
+
+        private int column;
+
+        private int row;
+
+        private int stepX;
+
+        private int stepY;
+
+        private double nextX;
+
+        private double nextY;
+
+        private double deltaX;
+
+        private double deltaY;
+
+        private double entry;
+
+        private double exit;
+
+
+        /**
+         * @param origin
+         *            The origin of the ray
+         * @param dx
+         *            The x coordinate of the normalized direction
+         * @param dy
+         *            The y coordinate of the normalized direction
+         */
+        Ray (Point origin, double dx, double dy) {
+
+            visited = new IdentityHashMap<Element, Element>();
+            double ox = origin.getX();
+            double oy = origin.getY();
+
+            entry = 0;
+            exit = Double.MAX_VALUE;
+            if (columns > 0) {
+                double[] xSlab = clip(ox, dx, minX, minX + columns * cellSide);
+                double[] ySlab = clip(oy, dy, minY, minY + rows * cellSide);
+                entry = Math.max(entry, Math.max(xSlab[0], ySlab[0]));
+                exit = Math.min(xSlab[1], ySlab[1]);
+            }
+            if (columns == 0 || entry > exit) {
+                column = -1;
+                return;
+            }
+
+            column = Math.max(0, Math.min(columns - 1, getColumn(ox + entry * dx)));
+            row = Math.max(0, Math.min(rows - 1, getRow(oy + entry * dy)));
+
+            stepX = dx > 0 ? 1 : -1;
+            stepY = dy > 0 ? 1 : -1;
+            deltaX = dx == 0 ? Double.MAX_VALUE : cellSide / Math.abs(dx);
+            deltaY = dy == 0 ? Double.MAX_VALUE : cellSide / Math.abs(dy);
+            nextX = dx == 0 ? Double.MAX_VALUE : (minX + (column + (dx > 0 ? 1 : 0)) * cellSide - ox)
+                    / dx;
+            nextY = dy == 0 ? Double.MAX_VALUE : (minY + (row + (dy > 0 ? 1 : 0)) * cellSide - oy)
+                    / dy;
+        }
+
+        /**
+         * @return The range of the ray parameter inside the slab from min to max.
+         */
+        private double[] clip (double origin, double direction, double min, double max) {
+
+            if (direction == 0) {
+                if (origin < min || origin > max) {
+                    return new double[] {Double.MAX_VALUE, -Double.MAX_VALUE};
+                }
+                return new double[] { -Double.MAX_VALUE, Double.MAX_VALUE};
+            }
+            double first = (min - origin) / direction;
+            double second = (max - origin) / direction;
+            return new double[] {Math.min(first, second), Math.max(first, second)};
+        }
+
+        /**
+         * @return The distance from the origin at which the ray enters the cell of the last
+         *         returned group. 0 for the first group.
+         */
+        public double getDistance () {
+
+            return distance;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.util.Iterator#hasNext()
+         */
+        public boolean hasNext () {
+
+            return !started || (column >= 0 && column < columns && row >= 0 && row < rows
+                    && entry <= exit);
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.util.Iterator#next()
+         */
+        public Collection<Element> next () {
+
+            if ( !hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            List<Element> group = new ArrayList<Element>();
+            if ( !started) {
+                started = true;
+                distance = 0;
+                group.addAll(unbounded);
+                group.addAll(outside);
+                return group;
+            }
+
+            List<Entry> cell = cells.get(row * columns + column);
+            if (cell != null) {
+                for (Entry entry : cell) {
+                    if ( !visited.containsKey(entry.element)) {
+                        visited.put(entry.element, entry.element);
+                        group.add(entry.element);
+                    }
+                }
+            }
+            distance = entry;
+
+            if (nextX < nextY) {
+                column += stepX;
+                entry = nextX;
+                nextX += deltaX;
+            }
+            else {
+                row += stepY;
+                entry = nextY;
+                nextY += deltaY;
+            }
+            return group;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.util.Iterator#remove()
+         */
+        public void remove () {
+
+            throw new UnsupportedOperationException();
+        }
+    }
+}
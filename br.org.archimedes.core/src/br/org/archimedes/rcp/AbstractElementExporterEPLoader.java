@@ -13,9 +13,9 @@
 
 package br.org.archimedes.rcp;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -34,7 +34,7 @@ public abstract class AbstractElementExporterEPLoader implements ExtensionTagHan
 
     private static final String ELEMENT_ID_ATTRIBUTE_NAME = "elementId"; //$NON-NLS-1$
 
-    private static final Map<String, ElementExporter<Element>> exporters = new HashMap<String, ElementExporter<Element>>();
+    private static final Map<String, ElementExporter<Element>> exporters = new ConcurrentHashMap<String, ElementExporter<Element>>();
 
 
     /**
@@ -43,13 +43,16 @@ public abstract class AbstractElementExporterEPLoader implements ExtensionTagHan
     public abstract String getElementExporterExtensionPointID ();
 
     /**
-     * Default constructor.
+     * Default constructor. Exporters can be created on several threads at once (batch
+     * conversions) so only one of them loads the extension point.
      */
     public AbstractElementExporterEPLoader () {
 
-        if ( !hasKeysFor(getElementExporterExtensionPointID())) {
-            ExtensionLoader loader = new ExtensionLoader(getElementExporterExtensionPointID());
-            loader.loadExtension(this);
+        synchronized (exporters) {
+            if ( !hasKeysFor(getElementExporterExtensionPointID())) {
+                ExtensionLoader loader = new ExtensionLoader(getElementExporterExtensionPointID());
+                loader.loadExtension(this);
+            }
         }
     }
 
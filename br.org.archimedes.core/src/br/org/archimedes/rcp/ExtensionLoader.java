@@ -26,6 +26,8 @@ import org.eclipse.core.runtime.Platform;
  */
 public class ExtensionLoader {
 
+    private static volatile StaticExtensionRegistry fallbackRegistry;
+
     private String extensionName;
 
 
@@ -34,6 +36,18 @@ public class ExtensionLoader {
         this.extensionName = extensionName;
     }
 
+    /**
+     * Sets the registry used when there is no platform extension registry (running from a
+     * plain main method for instance). Must be set before the extension points are loaded.
+     * 
+     * @param registry
+     *            The registry to use or null to load nothing without the platform
+     */
+    public static void setFallbackRegistry (StaticExtensionRegistry registry) {
+
+        fallbackRegistry = registry;
+    }
+
     public void loadExtension (ExtensionTagHandler handler) {
 
         IExtensionRegistry registry = Platform.getExtensionRegistry();
@@ -46,17 +60,28 @@ public class ExtensionLoader {
                     IConfigurationElement[] configElements = extension
                             .getConfigurationElements();
                     for (IConfigurationElement tag : configElements) {
-                        try {
-                            handler.handleTag(tag);
-                        }
-                        catch (CoreException e) {
-                            // Then it cannot be loaded and something went
-                            // really wrong. Just printing for log reasons.
-                            e.printStackTrace();
-                        }
+                        handleTag(handler, tag);
                     }
                 }
             }
         }
+        else if (fallbackRegistry != null) {
+            for (IConfigurationElement tag : fallbackRegistry
+                    .getConfigurationElementsFor(extensionName)) {
+                handleTag(handler, tag);
+            }
+        }
+    }
+
+    private void handleTag (ExtensionTagHandler handler, IConfigurationElement tag) {
+
+        try {
+            handler.handleTag(tag);
+        }
+        catch (CoreException e) {
+            // Then it cannot be loaded and something went
+            // really wrong. Just printing for log reasons.
+            e.printStackTrace();
+        }
     }
 }
@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:55:40, by agent.<br>
+ * It is part of package br.org.archimedes.rcp on the br.org.archimedes.core project.<br>
+ */
+
+package br.org.archimedes.rcp;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IContributor;
+import org.eclipse.core.runtime.IExecutableExtension;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.w3c.dom.Attr;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Belongs to package br.org.archimedes.rcp.<br>
+ * A tag of a plugin.xml read by the {@link StaticExtensionRegistry}. It does not know the
+ * bundle that declared it so it has no contributor, namespace or declaring extension.
+ *
+ * @author agent
+ */
+class StaticConfigurationElement implements IConfigurationElement {
+
+    private static final String CORE_PLUGIN_ID = "br.org.archimedes.core"; //$NON-NLS-1$
+
+    private String name;
+
+    private Map<String, String> attributes;
+
+    private List<IConfigurationElement> children;
+
+    private String value;
+
+    private Object parent;
+
+    private ClassLoader classLoader;
+
+
+    /**
+     * @param tag
+     *            The tag of the plugin.xml
+     * @param parent
+     *            The enclosing element or null if it is the direct child of an extension
+     * @param classLoader
+     *            The class loader used to create the executable extensions
+     */
+    StaticConfigurationElement (org.w3c.dom.Element tag, Object parent,
+            ClassLoader classLoader) {
+
+        this.name = tag.getNodeName();
+        this.parent = parent;
+        this.classLoader = classLoader;
+
+        attributes = new LinkedHashMap<String, String>();
+        NamedNodeMap tagAttributes = tag.getAttributes();
+        for (int i = 0; i < tagAttributes.getLength(); i++) {
+            Attr attribute = (Attr) tagAttributes.item(i);
+            attributes.put(attribute.getName(), attribute.getValue());
+        }
+
+        children = new ArrayList<IConfigurationElement>();
+        StringBuilder text = new StringBuilder();
+        NodeList nodes = tag.getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                children.add(new StaticConfigurationElement((org.w3c.dom.Element) node, this,
+                        classLoader));
+            }
+            else if (node.getNodeType() == Node.TEXT_NODE
+                    || node.getNodeType() == Node.CDATA_SECTION_NODE) {
+                text.append(node.getNodeValue());
+            }
+        }
+        String trimmed = text.toString().trim();
+        value = trimmed.length() == 0 ? null : trimmed;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#createExecutableExtension(java.lang.String)
+     */
+    public Object createExecutableExtension (String propertyName) throws CoreException {
+
+        String className = getAttribute(propertyName);
+        if (className == null) {
+            throw new CoreException(new Status(IStatus.ERROR, CORE_PLUGIN_ID, "No " //$NON-NLS-1$
+                    + propertyName + " attribute on " + name)); //$NON-NLS-1$
+        }
+
+        String data = null;
+        int separator = className.indexOf(':');
+        if (separator >= 0) {
+            data = className.substring(separator + 1);
+            className = className.substring(0, separator);
+        }
+
+        Object extension;
+        try {
+            extension = Class.forName(className.trim(), true, classLoader)
+                    .getDeclaredConstructor().newInstance();
+        }
+        catch (Exception e) {
+            throw new CoreException(new Status(IStatus.ERROR, CORE_PLUGIN_ID,
+                    "Cannot create " + className, e)); //$NON-NLS-1$
+        }
+        if (extension instanceof IExecutableExtension) {
+            ((IExecutableExtension) extension).setInitializationData(this, propertyName, data);
+        }
+        return extension;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getAttribute(java.lang.String)
+     */
+    public String getAttribute (String attributeName) {
+
+        return attributes.get(attributeName);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getAttribute(java.lang.String,
+     *      java.lang.String)
+     */
+    public String getAttribute (String attributeName, String locale) {
+
+        return getAttribute(attributeName);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getAttributeAsIs(java.lang.String)
+     */
+    @Deprecated
+    public String getAttributeAsIs (String attributeName) {
+
+        return getAttribute(attributeName);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getAttributeNames()
+     */
+    public String[] getAttributeNames () {
+
+        return attributes.keySet().toArray(new String[attributes.size()]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getChildren()
+     */
+    public IConfigurationElement[] getChildren () {
+
+        return children.toArray(new IConfigurationElement[children.size()]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getChildren(java.lang.String)
+     */
+    public IConfigurationElement[] getChildren (String childName) {
+
+        List<IConfigurationElement> named = new ArrayList<IConfigurationElement>();
+        for (IConfigurationElement child : children) {
+            if (child.getName().equals(childName)) {
+                named.add(child);
+            }
+        }
+        return named.toArray(new IConfigurationElement[named.size()]);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getDeclaringExtension()
+     */
+    public IExtension getDeclaringExtension () {
+
+        return null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getName()
+     */
+    public String getName () {
+
+        return name;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getParent()
+     */
+    public Object getParent () {
+
+        return parent;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getValue()
+     */
+    public String getValue () {
+
+        return value;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getValue(java.lang.String)
+     */
+    public String getValue (String locale) {
+
+        return value;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getValueAsIs()
+     */
+    @Deprecated
+    public String getValueAsIs () {
+
+        return value;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getNamespace()
+     */
+    @Deprecated
+    public String getNamespace () {
+
+        return null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getNamespaceIdentifier()
+     */
+    public String getNamespaceIdentifier () {
+
+        return null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getContributor()
+     */
+    public IContributor getContributor () {
+
+        return null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#isValid()
+     */
+    public boolean isValid () {
+
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.core.runtime.IConfigurationElement#getHandleId()
+     */
+    public int getHandleId () {
+
+        return System.identityHashCode(this);
+    }
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:52:10, by agent.<br>
+ * It is part of package br.org.archimedes.rcp on the br.org.archimedes.core project.<br>
+ */
+
+package br.org.archimedes.rcp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Belongs to package br.org.archimedes.rcp.<br>
+ * Extensions read straight from plugin.xml files. Used by {@link ExtensionLoader} when the
+ * application runs from a plain main method, without an OSGi framework and so without
+ * Platform.getExtensionRegistry(). Only the extension tags are read: extension points are not
+ * validated and translated attributes (starting with %) are kept as they are.
+ *
+ * @author agent
+ */
+public class StaticExtensionRegistry {
+
+    private static final String PLUGIN_FILE = "plugin.xml"; //$NON-NLS-1$
+
+    private static final String EXTENSION_TAG = "extension"; //$NON-NLS-1$
+
+    private static final String POINT_ATTRIBUTE = "point"; //$NON-NLS-1$
+
+    private ClassLoader classLoader;
+
+    private Map<String, List<IConfigurationElement>> extensions;
+
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param classLoader
+     *            The class loader used to create the executable extensions
+     */
+    public StaticExtensionRegistry (ClassLoader classLoader) {
+
+        this.classLoader = classLoader;
+        this.extensions = new HashMap<String, List<IConfigurationElement>>();
+    }
+
+    /**
+     * @param classLoader
+     *            The class loader to look for plugin.xml files and to create the executable
+     *            extensions
+     * @return A registry with the extensions of every plugin.xml the class loader can see
+     * @throws IOException
+     *             Thrown if a plugin.xml cannot be read
+     */
+    public static StaticExtensionRegistry fromClassPath (ClassLoader classLoader)
+            throws IOException {
+
+        StaticExtensionRegistry registry = new StaticExtensionRegistry(classLoader);
+        Enumeration<URL> plugins = classLoader.getResources(PLUGIN_FILE);
+        while (plugins.hasMoreElements()) {
+            InputStream input = plugins.nextElement().openStream();
+            try {
+                registry.read(input);
+            }
+            finally {
+                input.close();
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Adds the extensions declared by a plugin.xml.
+     *
+     * @param input
+     *            The contents of the plugin.xml
+     * @throws IOException
+     *             Thrown if the contents cannot be read or are not XML
+     */
+    public void read (InputStream input) throws IOException {
+
+        Document document;
+        try {
+            DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+            document = builder.parse(input);
+        }
+        catch (ParserConfigurationException e) {
+            IOException exception = new IOException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+        catch (SAXException e) {
+            IOException exception = new IOException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+
+        NodeList nodes = document.getDocumentElement().getChildNodes();
+        for (int i = 0; i < nodes.getLength(); i++) {
+            Node node = nodes.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE
+                    && EXTENSION_TAG.equals(node.getNodeName())) {
+                org.w3c.dom.Element extension = (org.w3c.dom.Element) node;
+                String point = extension.getAttribute(POINT_ATTRIBUTE);
+                List<IConfigurationElement> tags = extensions.get(point);
+                if (tags == null) {
+                    tags = new ArrayList<IConfigurationElement>();
+                    extensions.put(point, tags);
+                }
+                NodeList children = extension.getChildNodes();
+                for (int j = 0; j < children.getLength(); j++) {
+                    if (children.item(j).getNodeType() == Node.ELEMENT_NODE) {
+                        tags.add(new StaticConfigurationElement(
+                                (org.w3c.dom.Element) children.item(j), null, classLoader));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param extensionPointId
+     *            The full id of the extension point
+     * @return The tags of every extension to that point in the order they were read
+     */
+    public IConfigurationElement[] getConfigurationElementsFor (String extensionPointId) {
+
+        List<IConfigurationElement> tags = extensions.get(extensionPointId);
+        if (tags == null) {
+            return new IConfigurationElement[0];
+        }
+        return tags.toArray(new IConfigurationElement[tags.size()]);
+    }
+}
@@ -14,6 +14,7 @@ package br.org.archimedes.rcp.extensionpoints;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
@@ -25,7 +26,10 @@ import br.org.archimedes.rcp.ExtensionLoader;
 import br.org.archimedes.rcp.ExtensionTagHandler;
 
 /**
- * Belongs to package br.org.archimedes.rcp.extensionpoints.
+ * Belongs to package br.org.archimedes.rcp.extensionpoints.<br>
+ * Reads the element extension point once for the whole application. Only the class names are
+ * read so loading the extension point does not load any element plugin. A class is looked up
+ * the first time it is asked for and kept afterwards.
  * 
  * @author night
  */
@@ -37,52 +41,49 @@ public class ElementEPLoader implements ExtensionTagHandler {
 
     private static final String CLASS_ATTRIBUTE = "class"; //$NON-NLS-1$
 
-    private static final Map<String, Class<? extends Element>> idToElementClassMap = new HashMap<String, Class<? extends Element>>();
+    private static final Map<String, String> idToClassNameMap = new HashMap<String, String>();
 
-    private static final Map<Class<? extends Element>, String> elementToIdMap = new HashMap<Class<? extends Element>, String>();
+    private static final Map<String, String> classNameToIdMap = new HashMap<String, String>();
+
+    private static final Map<String, Class<? extends Element>> idToElementClassMap = new ConcurrentHashMap<String, Class<? extends Element>>();
 
     private static final Map<String, CommandFactory> elementFactoryMap = new HashMap<String, CommandFactory>();
 
+    private static boolean loaded;
+
 
     /**
-     * Default constructor. Loads the maps if they are empty (not loaded or
-     * without any element).
+     * Default constructor. Reads the extension point if it was not read yet.
      */
     public ElementEPLoader () {
 
-        if (idToElementClassMap.isEmpty() && elementToIdMap.isEmpty()) {
-            ExtensionLoader loader = new ExtensionLoader(
-                    ELEMENT_EXTENSION_POINT_ID);
-            loader.loadExtension(this);
+        synchronized (idToClassNameMap) {
+            if ( !loaded) {
+                ExtensionLoader loader = new ExtensionLoader(
+                        ELEMENT_EXTENSION_POINT_ID);
+                loader.loadExtension(this);
+                loaded = true;
+            }
         }
     }
 
     /**
-     * Unchecked because Class.forName (to get a reference to the element's
-     * class) is not generic check safe.
-     * 
      * @see br.org.archimedes.rcp.ExtensionTagHandler#handleTag(org.eclipse.core.runtime.IConfigurationElement)
      */
-    @SuppressWarnings("unchecked")
     public void handleTag (IConfigurationElement elementTag)
             throws CoreException {
 
-        String elementId = elementTag.getAttribute(ELEMENT_ID_ATTRIBUTE_NAME);
         try {
-            // Must be the class because it cant be instantiated easily
-            // (no empty args constructor)
-            Class<? extends Element> elementClass = (Class<? extends Element>) Class
-                    .forName(elementTag.getAttribute(CLASS_ATTRIBUTE));
-            elementToIdMap.put(elementClass, elementId);
-            idToElementClassMap.put(elementId, elementClass);
+            String elementId = elementTag.getAttribute(ELEMENT_ID_ATTRIBUTE_NAME);
+            String className = elementTag.getAttribute(CLASS_ATTRIBUTE);
+            if (elementId != null && className != null) {
+                idToClassNameMap.put(elementId, className);
+                classNameToIdMap.put(className, elementId);
+            }
         }
         catch (InvalidRegistryObjectException e) {
             e.printStackTrace();
         }
-        catch (ClassNotFoundException e) {
-            // Element's plugin not loaded. Just ignoring
-            e.printStackTrace();
-        }
     }
 
     /**
@@ -92,18 +93,52 @@ public class ElementEPLoader implements ExtensionTagHandler {
      */
     public String getElementId (Element element) {
 
-        return elementToIdMap.get(element.getClass());
+        synchronized (idToClassNameMap) {
+            return classNameToIdMap.get(element.getClass().getName());
+        }
     }
 
     /**
+     * Unchecked because Class.forName (to get a reference to the element's
+     * class) is not generic check safe.
+     * 
      * @param elementId
      *            The element id from which we desire the class
      * @return The class corresponding to that element or null if it was not
      *         found
      */
+    @SuppressWarnings("unchecked")
     public Class<? extends Element> getElementClass (String elementId) {
 
-        return idToElementClassMap.get(elementId);
+        if (elementId == null) {
+            return null;
+        }
+        Class<? extends Element> elementClass = idToElementClassMap.get(elementId);
+        if (elementClass != null) {
+            return elementClass;
+        }
+
+        String className;
+        synchronized (idToClassNameMap) {
+            className = idToClassNameMap.get(elementId);
+        }
+        if (className == null) {
+            return null;
+        }
+        try {
+            // Must be the class because it cant be instantiated easily
+            // (no empty args constructor)
+            elementClass = (Class<? extends Element>) Class.forName(className);
+            idToElementClassMap.put(elementId, elementClass);
+        }
+        catch (ClassNotFoundException e) {
+            // Element's plugin not loaded. Forgets it so it is not looked up again.
+            e.printStackTrace();
+            synchronized (idToClassNameMap) {
+                idToClassNameMap.remove(elementId);
+            }
+        }
+        return elementClass;
     }
 
     /**
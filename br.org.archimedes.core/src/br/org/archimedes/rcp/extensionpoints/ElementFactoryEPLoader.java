@@ -44,12 +44,15 @@ public class ElementFactoryEPLoader implements ExtensionTagHandler {
 
     /**
      * Default constructor. Loads the maps if they are empty (not loaded or without any element).
+     * The maps are loaded by a single thread.
      */
     public ElementFactoryEPLoader () {
 
-        if (elementFactoryMap.isEmpty()) {
-            ExtensionLoader loader = new ExtensionLoader(ELEMENT_EXTENSION_POINT_ID);
-            loader.loadExtension(this);
+        synchronized (elementFactoryMap) {
+            if (elementFactoryMap.isEmpty()) {
+                ExtensionLoader loader = new ExtensionLoader(ELEMENT_EXTENSION_POINT_ID);
+                loader.loadExtension(this);
+            }
         }
     }
 
@@ -52,15 +52,18 @@ public class FactoryEPLoader implements ExtensionTagHandler {
 
     /**
      * Default constructor. Loads the maps if they are empty (not loaded or
-     * without any element).
+     * without any element). The maps are loaded by a single thread so the
+     * startup warm up can load them while the workbench opens.
      */
     public FactoryEPLoader () {
 
         elementLoader = new ElementEPLoader();
-        if (idToFactoryMap.isEmpty()) {
-            ExtensionLoader loader = new ExtensionLoader(
-                    FACTORY_EXTENSION_POINT_ID);
-            loader.loadExtension(this);
+        synchronized (idToFactoryMap) {
+            if (idToFactoryMap.isEmpty()) {
+                ExtensionLoader loader = new ExtensionLoader(
+                        FACTORY_EXTENSION_POINT_ID);
+                loader.loadExtension(this);
+            }
         }
     }
 
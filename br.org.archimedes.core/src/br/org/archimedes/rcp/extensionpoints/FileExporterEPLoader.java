@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:59:52, by agent.<br>
+ * It is part of package br.org.archimedes.rcp.extensionpoints on the br.org.archimedes.core project.<br>
+ */
+package br.org.archimedes.rcp.extensionpoints;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IConfigurationElement;
+
+import br.org.archimedes.interfaces.Exporter;
+import br.org.archimedes.rcp.ExtensionLoader;
+import br.org.archimedes.rcp.ExtensionTagHandler;
+
+/**
+ * Belongs to package br.org.archimedes.rcp.extensionpoints.<br>
+ * Finds the exporter of a file extension among the exporters contributed to
+ * br.org.archimedes.core.exporter and the native formats.
+ *
+ * @author agent
+ */
+public class FileExporterEPLoader implements ExtensionTagHandler {
+
+    private static final String EXPORTER_EXTENSION_POINT_ID = "br.org.archimedes.core.exporter"; //$NON-NLS-1$
+
+    private static final String EXTENSION_ATTRIBUTE_NAME = "extension"; //$NON-NLS-1$
+
+    private static final String CLASS_ATTRIBUTE_NAME = "class"; //$NON-NLS-1$
+
+    private static final Map<String, Exporter> exporters = new HashMap<String, Exporter>();
+
+
+    /**
+     * Default constructor. Loads exporters if none listed so far. The exporters are loaded by a
+     * single thread.
+     */
+    public FileExporterEPLoader () {
+
+        synchronized (exporters) {
+            if (exporters.isEmpty()) {
+                ExtensionLoader loader = new ExtensionLoader(EXPORTER_EXTENSION_POINT_ID);
+                loader.loadExtension(this);
+            }
+        }
+    }
+
+    /**
+     * @param extension
+     *            The file extension (without the dot)
+     * @return The exporter registered to that extension or null if there is none. Native formats
+     *         are looked up if no exporter was contributed for that extension.
+     */
+    public Exporter getExporter (String extension) {
+
+        Exporter exporter = exporters.get(extension);
+        if (exporter == null) {
+            exporter = new NativeFormatEPLoader().getExporter(extension);
+        }
+        return exporter;
+    }
+
+    /**
+     * @return The sorted set of extensions that can be exported, including native formats
+     */
+    public Set<String> getExtensions () {
+
+        Set<String> extensions = new TreeSet<String>(exporters.keySet());
+        for (String extension : new NativeFormatEPLoader().getExtensionsArray()) {
+            extensions.add(extension);
+        }
+        return extensions;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.rcp.ExtensionTagHandler#handleTag(org.eclipse.core.runtime.IConfigurationElement)
+     */
+    public void handleTag (IConfigurationElement tag) throws CoreException {
+
+        String extension = tag.getAttribute(EXTENSION_ATTRIBUTE_NAME);
+        exporters.put(extension, (Exporter) tag.createExecutableExtension(CLASS_ATTRIBUTE_NAME));
+    }
+}
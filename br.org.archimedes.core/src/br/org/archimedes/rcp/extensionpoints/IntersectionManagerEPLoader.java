@@ -33,16 +33,24 @@ public class IntersectionManagerEPLoader implements ExtensionTagHandler {
 
     private static final NullIntersectionManager NULL_INTERSECTION_MANAGER = new NullIntersectionManager();
 
-    private static IntersectionManager manager = NULL_INTERSECTION_MANAGER;
+    private static final Object LOCK = new Object();
+
+    private static volatile IntersectionManager manager = NULL_INTERSECTION_MANAGER;
+
+    private static boolean loaded;
 
 
     /**
-     * Default constructor.
+     * Default constructor. Reads the extension point only once even if no
+     * intersection manager was contributed.
      */
     public IntersectionManagerEPLoader () {
 
-        if (manager == NULL_INTERSECTION_MANAGER) {
-            loadIntersectionManager();
+        synchronized (LOCK) {
+            if ( !loaded) {
+                loadIntersectionManager();
+                loaded = true;
+            }
         }
     }
 
@@ -45,14 +45,17 @@ public class NativeFormatEPLoader implements ExtensionTagHandler {
 
 
     /**
-     * Default constructor. Loads importers if none listed so far
+     * Default constructor. Loads importers if none listed so far. The importers are loaded by a
+     * single thread.
      */
     public NativeFormatEPLoader () {
 
-        if (nativeImporters.isEmpty()) {
-            ExtensionLoader loader = new ExtensionLoader(
-                    NATIVE_FORMAT_EXTENSION_POINT_ID);
-            loader.loadExtension(this);
+        synchronized (nativeImporters) {
+            if (nativeImporters.isEmpty()) {
+                ExtensionLoader loader = new ExtensionLoader(
+                        NATIVE_FORMAT_EXTENSION_POINT_ID);
+                loader.loadExtension(this);
+            }
         }
     }
 
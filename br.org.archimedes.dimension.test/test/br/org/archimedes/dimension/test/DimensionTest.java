@@ -59,7 +59,7 @@ public class DimensionTest extends Tester {
         // To load the correct font within the controller.
         // This hack is needed since the singletons within Utils set an activator so the Constant
         // cant find out it is a test.
-        Assert.assertNotNull(Constant.DEFAULT_FONT);
+        Assert.assertNotNull(Constant.getDefaultFont());
 
         point1 = new Point(50, 50);
         point2 = new Point(50, 70);
@@ -121,7 +121,7 @@ public class Dimension extends Element {
 		this.distance = distance.clone();
 		this.fontSize = fontSize;
 		remakeDistance();
-		text = makeText(Constant.DEFAULT_FONT);
+		text = makeText(Constant.getDefaultFont());
 	}
 
 	/**
@@ -143,7 +143,7 @@ public class Dimension extends Element {
 			InvalidArgumentException {
 
 		this(initialPoint, endingPoint, distance, fontSize,
-				Constant.DEFAULT_FONT);
+				Constant.getDefaultFont());
 	}
 
 	/**
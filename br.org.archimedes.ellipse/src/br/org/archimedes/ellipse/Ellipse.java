@@ -305,11 +305,13 @@ public class Ellipse extends Element implements Offsetable {
 
 		verifyNotNull(rotateReference);
 
+		willChange();
 		center.rotate(rotateReference, angle);
 		widthPoint.rotate(rotateReference, angle);
 		heightPoint.rotate(rotateReference, angle);
 
 		this.fi = calculateFi(center, widthPoint);
+		invalidateBoundary();
 	}
 
 	public boolean isClosed() {
@@ -18,6 +18,7 @@ import br.org.archimedes.controller.commands.MacroCommand;
 import br.org.archimedes.controller.commands.PutOrRemoveElementCommand;
 import br.org.archimedes.exceptions.IllegalActionException;
 import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.extenders.ReferenceIndex;
 import br.org.archimedes.interfaces.ExtendManager;
 import br.org.archimedes.interfaces.UndoableCommand;
 import br.org.archimedes.model.Drawing;
@@ -41,6 +42,8 @@ public class ExtendCommand implements UndoableCommand {
 
     private Collection<Element> references;
 
+    private ReferenceIndex index;
+
     private HashMap<Point, Element> elementsToExtend;
 
     private Map<Element, Set<Element>> extendMap;
@@ -88,6 +91,7 @@ public class ExtendCommand implements UndoableCommand {
             if (references.isEmpty()) {
                 references.addAll(drawing.getUnlockedContents());
             }
+            index = ReferenceIndex.of(references);
 
             for (Point point : elementsToExtend.keySet()) {
                 computeExtend(drawing, point);
@@ -175,7 +179,7 @@ public class ExtendCommand implements UndoableCommand {
 
         if (key == null || isInMap) {
 
-            extendResult = extendManager.extend(toExtend, references, click);
+            extendResult = extendManager.extend(toExtend, index, click);
 
             Set<Element> turnedTo;
             if (isInMap) {
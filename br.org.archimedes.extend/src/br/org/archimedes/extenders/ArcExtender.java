@@ -72,8 +72,10 @@ public class ArcExtender implements Extender {
                 .getIntersectionManager();
 
         Circle circle = new Circle(arc.getCenter(), arc.getRadius());
+        Collection<Element> candidates = ReferenceIndex.of(references).getElementsIn(
+                circle.getBoundaryRectangle());
 
-        return intersectionManager.getIntersectionsBetween(circle, references);
+        return intersectionManager.getIntersectionsBetween(circle, candidates);
     }
 
     private Point getNearestReferencePoint (Arc arc, Point nearestExtremePoint,
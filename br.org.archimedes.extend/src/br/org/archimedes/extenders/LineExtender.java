@@ -14,18 +14,14 @@
 
 package br.org.archimedes.extenders;
 
-import br.org.archimedes.Geometrics;
 import br.org.archimedes.exceptions.InvalidArgumentException;
 import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.extend.interfaces.Extender;
 import br.org.archimedes.infiniteline.InfiniteLine;
-import br.org.archimedes.interfaces.IntersectionManager;
 import br.org.archimedes.line.Line;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Vector;
-import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
-import br.org.archimedes.semiline.Semiline;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -35,16 +31,12 @@ public class LineExtender implements Extender {
     public Element extend (Element element, Collection<Element> references, Point extremePoint)
             throws NullArgumentException {
 
-        IntersectionManager intersectionManager = new IntersectionManagerEPLoader()
-                .getIntersectionManager();
-
         if (element == null || references == null || extremePoint == null) {
             throw new NullArgumentException();
         }
 
         Line line = (Line) element;
         Line extendedLine = (Line) line.clone();
-        Semiline semiline = null;
 
         Point otherExtreme;
         if (extremePoint.equals(extendedLine.getInitialPoint())) {
@@ -54,69 +46,34 @@ public class LineExtender implements Extender {
             otherExtreme = extendedLine.getInitialPoint();
         }
 
-        try {
-            semiline = new Semiline(otherExtreme, extremePoint);
-        }
-        catch (InvalidArgumentException e) {
-            e.printStackTrace();
-        }
-
-        Collection<Point> intersectionPoints = intersectionManager.getIntersectionsBetween(
-                semiline, references);
-
-        boolean extended = false;
-        if (intersectionPoints.size() != 0) {
-            extended = doExtend(extendedLine, extremePoint, intersectionPoints);
+        ReferenceIndex index = ReferenceIndex.of(references);
+        Point nearestReferencePoint = index.getNearestIntersection(otherExtreme, extremePoint,
+                extendedLine);
+        if (nearestReferencePoint != null) {
+            doExtend(extendedLine, extremePoint, nearestReferencePoint);
         }
-        if ( !extended) {
-            try {
-                semiline = new Semiline(extremePoint, otherExtreme);
-            }
-            catch (InvalidArgumentException e) {
-                e.printStackTrace();
-            }
-
-            intersectionPoints = intersectionManager.getIntersectionsBetween(semiline, references);
-
-            if (intersectionPoints.size() != 0) {
-                doExtend(extendedLine, otherExtreme, intersectionPoints);
+        else {
+            nearestReferencePoint = index.getNearestIntersection(extremePoint, otherExtreme,
+                    extendedLine);
+            if (nearestReferencePoint != null) {
+                doExtend(extendedLine, otherExtreme, nearestReferencePoint);
             }
         }
 
         return extendedLine;
     }
 
-    private boolean doExtend (Line line, Point extremePoint, Collection<Point> intersectionPoints)
-            throws NullArgumentException {
-
-        Point nearestReferencePoint = null;
-        double minDistance = Double.MAX_VALUE;
+    private void doExtend (Line line, Point extremePoint, Point nearestReferencePoint) {
 
-        for (Point intersection : intersectionPoints) {
-
-            if (line.contains(intersection))
-                continue;
-
-            double distanceToRef = Geometrics.calculateDistance(intersection, extremePoint);
-            if (distanceToRef < minDistance) {
-                nearestReferencePoint = intersection;
-                minDistance = distanceToRef;
-            }
+        Vector offset;
+        if (extremePoint.equals(line.getEndingPoint())) {
+            offset = new Vector(line.getEndingPoint(), nearestReferencePoint);
+            line.getEndingPoint().move(offset.getX(), offset.getY());
         }
-
-        if (nearestReferencePoint != null) {
-            Vector offset;
-            if (extremePoint.equals(line.getEndingPoint())) {
-                offset = new Vector(line.getEndingPoint(), nearestReferencePoint);
-                line.getEndingPoint().move(offset.getX(), offset.getY());
-            }
-            else {
-                offset = new Vector(line.getInitialPoint(), nearestReferencePoint);
-                line.getInitialPoint().move(offset.getX(), offset.getY());
-            }
-            return true;
+        else {
+            offset = new Vector(line.getInitialPoint(), nearestReferencePoint);
+            line.getInitialPoint().move(offset.getX(), offset.getY());
         }
-        return false;
     }
 
     public Collection<Element> getInfiniteExtensionElements (Element element) {
@@ -19,16 +19,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import br.org.archimedes.Geometrics;
 import br.org.archimedes.exceptions.InvalidArgumentException;
 import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.extend.interfaces.Extender;
 import br.org.archimedes.infiniteline.InfiniteLine;
-import br.org.archimedes.interfaces.IntersectionManager;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.polyline.Polyline;
-import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
 import br.org.archimedes.semiline.Semiline;
 
 /**
@@ -36,9 +33,6 @@ import br.org.archimedes.semiline.Semiline;
  */
 public class PolylineExtender implements Extender {
 
-    private IntersectionManager intersectionManager;
-
-
     public Element extend (Element element, Collection<Element> references, Point extremePoint)
             throws NullArgumentException {
 
@@ -46,33 +40,28 @@ public class PolylineExtender implements Extender {
             throw new NullArgumentException();
         }
 
-        intersectionManager = new IntersectionManagerEPLoader().getIntersectionManager();
+        ReferenceIndex index = ReferenceIndex.of(references);
 
         Polyline polyline = (Polyline) element.clone();
 
         List<Point> points = polyline.getPoints();
         extremePoint = points.get(getIndexInPolyline(polyline, extremePoint));
 
-        if ( !doExtend(polyline, references, extremePoint)) {
+        if ( !doExtend(polyline, index, extremePoint)) {
             Point otherExtreme = getOtherExtreme(polyline, extremePoint);
 
-            doExtend(polyline, references, otherExtreme);
+            doExtend(polyline, index, otherExtreme);
         }
         
         return polyline;
 
     }
 
-    private boolean doExtend (Polyline polyline, Collection<Element> references, Point extremePoint)
+    private boolean doExtend (Polyline polyline, ReferenceIndex references, Point extremePoint)
             throws NullArgumentException {
 
-        Semiline semiline = createHelperSemiline(polyline, extremePoint);
-
-        Collection<Point> intersectionPoints = intersectionManager.getIntersectionsBetween(
-                semiline, references);
-
-        Point nearestReferencePoint = getNearestReferencePoint(extremePoint, polyline,
-                intersectionPoints);
+        Point nearestReferencePoint = references.getNearestIntersection(getPreviousPoint(
+                polyline, extremePoint), extremePoint, polyline);
 
         if (nearestReferencePoint != null) {
             extremePoint.setX(nearestReferencePoint.getX());
@@ -89,54 +78,18 @@ public class PolylineExtender implements Extender {
         return points.get(points.size() - 1 - index);
     }
 
-    private Semiline createHelperSemiline (Polyline polyline, Point extremeToExtend) {
+    /**
+     * @return The point right before the extreme, which gives the direction of the extension
+     */
+    private Point getPreviousPoint (Polyline polyline, Point extremeToExtend) {
 
-        Point semilineInitial;
         int index = getIndexInPolyline(polyline, extremeToExtend);
         List<Point> points = polyline.getPoints();
 
         if (index == 0) {
-            semilineInitial = points.get(1);
-        }
-        else {
-            semilineInitial = points.get(points.size() - 2);
-        }
-        Point extremePoint = polyline.getPoints().get(index);
-
-        Semiline semiline = null;
-        try {
-            semiline = new Semiline(semilineInitial, extremePoint);
-        }
-        catch (NullArgumentException e) {
-            // Won't reach here
-            e.printStackTrace();
-        }
-        catch (InvalidArgumentException e) {
-            // Should not happen
-            e.printStackTrace();
-        }
-        return semiline;
-    }
-
-    private Point getNearestReferencePoint (Point extremePoint, Polyline polyline,
-            Collection<Point> intersectionPoints) throws NullArgumentException {
-
-        Point nearestReferencePoint = null;
-        double minDistance = Double.MAX_VALUE;
-
-        for (Point point : intersectionPoints) {
-
-            if (polyline.contains(point)) {
-                continue;
-            }
-
-            double distanceToRef = Geometrics.calculateDistance(point, extremePoint);
-            if (distanceToRef < minDistance) {
-                nearestReferencePoint = point;
-                minDistance = distanceToRef;
-            }
+            return points.get(1);
         }
-        return nearestReferencePoint;
+        return points.get(points.size() - 2);
     }
 
     private int getIndexInPolyline (Polyline polyline, Point extremePoint) {
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:04:24, by agent.<br>
+ * It is part of package br.org.archimedes.extenders on the br.org.archimedes.extend project.<br>
+ */
+
+package br.org.archimedes.extenders;
+
+import java.util.Collection;
+
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.interfaces.IntersectionManager;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.SpatialIndex;
+import br.org.archimedes.model.Vector;
+import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
+import br.org.archimedes.semiline.Semiline;
+
+/**
+ * Belongs to package br.org.archimedes.extenders.<br>
+ * Spatial index of the references of an extend. Looks for the nearest reference along a ray by
+ * visiting the cells crossed by the ray in order, so only the elements close to the ray are
+ * intersected.
+ *
+ * @author agent
+ */
+public class ReferenceIndex extends SpatialIndex {
+
+    /**
+     * @param references
+     *            The references to index
+     */
+    public ReferenceIndex (Collection<? extends Element> references) {
+
+        super(references);
+    }
+
+    /**
+     * @param references
+     *            Some references
+     * @return The references themselves if they are already indexed, a new index otherwise.
+     */
+    public static ReferenceIndex of (Collection<Element> references) {
+
+        if (references instanceof ReferenceIndex) {
+            return (ReferenceIndex) references;
+        }
+        return new ReferenceIndex(references);
+    }
+
+    /**
+     * Finds the nearest intersection between the references and the semiline that starts at
+     * from and passes through through.
+     *
+     * @param from
+     *            The initial point of the semiline
+     * @param through
+     *            The point from which the distance is measured. Only the part of the semiline
+     *            after it is searched.
+     * @param extended
+     *            The element being extended. Intersections it contains are ignored.
+     * @return The intersection nearest to through or null if there is none
+     * @throws NullArgumentException
+     *             Thrown if any argument is null
+     */
+    public Point getNearestIntersection (Point from, Point through, Element extended)
+            throws NullArgumentException {
+
+        if (extended == null) {
+            throw new NullArgumentException();
+        }
+
+        Semiline semiline;
+        Ray ray;
+        try {
+            semiline = new Semiline(from, through);
+            ray = castRay(through, new Vector(from, through));
+        }
+        catch (InvalidArgumentException e) {
+            // Degenerated element. Nothing to extend.
+            return null;
+        }
+
+        IntersectionManager intersectionManager = new IntersectionManagerEPLoader()
+                .getIntersectionManager();
+        Point nearest = null;
+        double minDistance = Double.MAX_VALUE;
+        while (ray.hasNext()) {
+            Collection<Element> candidates = ray.next();
+            if (ray.getDistance() > minDistance) {
+                break;
+            }
+            if (candidates.isEmpty()) {
+                continue;
+            }
+
+            for (Point intersection : intersectionManager.getIntersectionsBetween(semiline,
+                    candidates)) {
+                if (extended.contains(intersection)) {
+                    continue;
+                }
+                double distance = Geometrics.calculateDistance(intersection, through);
+                if (distance < minDistance) {
+                    nearest = intersection;
+                    minDistance = distance;
+                }
+            }
+        }
+        return nearest;
+    }
+}
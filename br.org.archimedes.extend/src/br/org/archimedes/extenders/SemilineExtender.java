@@ -18,16 +18,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
-import br.org.archimedes.Geometrics;
 import br.org.archimedes.exceptions.InvalidArgumentException;
 import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.extend.interfaces.Extender;
 import br.org.archimedes.infiniteline.InfiniteLine;
-import br.org.archimedes.interfaces.IntersectionManager;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Vector;
-import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
 import br.org.archimedes.semiline.Semiline;
 
 public class SemilineExtender implements Extender {
@@ -35,64 +32,22 @@ public class SemilineExtender implements Extender {
     public Element extend (Element element, Collection<Element> references, Point click)
             throws NullArgumentException {
 
-        IntersectionManager intersectionManager = new IntersectionManagerEPLoader()
-                .getIntersectionManager();
-
         if (element == null || references == null || click == null) {
             throw new NullArgumentException();
         }
 
         Semiline semiline = (Semiline) element.clone();
 
-        try {
-            Semiline offset = new Semiline(semiline.getDirectionPoint(), semiline.getInitialPoint());
-            Collection<Point> intersectionPoints = intersectionManager.getIntersectionsBetween(
-                    offset, references);
-
-            if ( !intersectionPoints.isEmpty()) {
-                doExtend(semiline, intersectionPoints);
-            }
-        }
-        catch (InvalidArgumentException e) {
-            // wont reach here
-            e.printStackTrace();
-        }
-        
-        return semiline;
-    }
-
-    private void doExtend (Semiline semiline, Collection<Point> intersectionPoints)
-            throws NullArgumentException {
-
         Point nearestExtremePoint = semiline.getInitialPoint();
-        Point nearestReferencePoint = getNearestReferencePoint(semiline, intersectionPoints,
-                nearestExtremePoint);
+        Point nearestReferencePoint = ReferenceIndex.of(references).getNearestIntersection(
+                semiline.getDirectionPoint(), nearestExtremePoint, semiline);
 
         if (nearestReferencePoint != null) {
             Vector dir = new Vector(nearestExtremePoint, nearestReferencePoint);
             semiline.move(Collections.singletonList(nearestExtremePoint), dir);
         }
-    }
-
-    private Point getNearestReferencePoint (Semiline semiline,
-            Collection<Point> intersectionPoints, Point nearestExtremePoint)
-            throws NullArgumentException {
-
-        double minDistance = Double.MAX_VALUE;
-
-        Point nearestReferencePoint = null;
-        for (Point point : intersectionPoints) {
-            if (semiline.contains(point)) {
-                continue;
-            }
-
-            double distanceToRef = Geometrics.calculateDistance(point, nearestExtremePoint);
-            if (distanceToRef < minDistance) {
-                nearestReferencePoint = point;
-                minDistance = distanceToRef;
-            }
-        }
-        return nearestReferencePoint;
+        
+        return semiline;
     }
 
     public Collection<Element> getInfiniteExtensionElements (Element element) {
@@ -12,14 +12,17 @@
  */
 package br.org.archimedes.fillet;
 
+import br.org.archimedes.controller.commands.MacroCommand;
 import br.org.archimedes.factories.CommandFactory;
 import br.org.archimedes.helper.FactoryTester;
+import br.org.archimedes.interfaces.Command;
 import br.org.archimedes.line.Line;
 import br.org.archimedes.model.Drawing;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
 import br.org.archimedes.model.Selection;
+import br.org.archimedes.polyline.Polyline;
 
 import org.junit.After;
 import org.junit.Before;
@@ -27,7 +30,9 @@ import org.junit.Test;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -131,6 +136,27 @@ public class FilletFactoryTest extends FactoryTester {
         assertInvalidNext(factory, secondSelection);
     }
     
+    @Test
+    public void filletsAllCornersOfSelectedPolylinesInOneCommand () throws Exception {
+
+        Polyline square = new Polyline(new Point(0.0, 0.0), new Point(4.0, 0.0), new Point(4.0,
+                4.0), new Point(0.0, 4.0), new Point(0.0, 0.0));
+        drawing.putElement(square, drawing.getCurrentLayer());
+        Selection polylines = new Selection();
+        polylines.add(square);
+        polylines.add(line1);
+
+        assertBegin(factory, false);
+        assertSafeNext(factory, "p", false);
+        assertSafeNext(factory, 1.0, false);
+        factory.next(polylines);
+        assertTrue(factory.isDone());
+
+        List<Command> commands = factory.getCommands();
+        assertEquals(1, commands.size());
+        assertTrue(commands.get(0) instanceof MacroCommand);
+    }
+
 	@Override
 	@Test
 	public void testFactoryName() {
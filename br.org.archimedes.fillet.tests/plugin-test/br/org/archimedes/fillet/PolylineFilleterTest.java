@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:26:29, by agent.<br>
+ * It is part of package br.org.archimedes.fillet on the br.org.archimedes.fillet.tests project.<br>
+ */
+
+package br.org.archimedes.fillet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.Tester;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.fillet.
+ *
+ * @author agent
+ */
+public class PolylineFilleterTest extends Tester {
+
+    private static final double DELTA = 1e-9;
+
+
+    private Polyline getSquare () throws Exception {
+
+        return new Polyline(new Point(0.0, 0.0), new Point(4.0, 0.0), new Point(4.0, 4.0),
+                new Point(0.0, 4.0), new Point(0.0, 0.0));
+    }
+
+    @Test
+    public void chamfersEveryCornerOfAClosedPolyline () throws Exception {
+
+        Polyline result = new PolylineFilleter(1.0, true).process(getSquare());
+
+        assertTrue(result.isClosed());
+        assertEquals(new Polyline(new Point(0.0, 1.0), new Point(1.0, 0.0), new Point(3.0, 0.0),
+                new Point(4.0, 1.0), new Point(4.0, 3.0), new Point(3.0, 4.0),
+                new Point(1.0, 4.0), new Point(0.0, 3.0), new Point(0.0, 1.0)), result);
+    }
+
+    @Test
+    public void filletsCornersWithPointsOnTheArcs () throws Exception {
+
+        Polyline square = getSquare();
+        Polyline result = new PolylineFilleter(1.0, false).process(square);
+
+        assertTrue(result.isClosed());
+        List<Point> points = result.getPoints();
+        assertTrue(points.contains(new Point(3.0, 0.0)));
+        assertTrue(points.contains(new Point(4.0, 1.0)));
+        Point center = new Point(3.0, 1.0);
+        for (Point point : points) {
+            if (point.getX() > 3.0 && point.getY() < 1.0) {
+                assertEquals(1.0, Geometrics.calculateDistance(center, point), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void keepsTheEndsOfOpenPolylines () throws Exception {
+
+        Polyline open = new Polyline(new Point(0.0, 0.0), new Point(4.0, 0.0), new Point(4.0,
+                4.0));
+
+        Polyline result = new PolylineFilleter(1.0, true).process(open);
+
+        assertEquals(new Polyline(new Point(0.0, 0.0), new Point(3.0, 0.0), new Point(4.0, 1.0),
+                new Point(4.0, 4.0)), result);
+    }
+
+    @Test
+    public void skipsCornersThatDoNotFit () throws Exception {
+
+        Polyline open = new Polyline(new Point(0.0, 0.0), new Point(4.0, 0.0), new Point(4.0,
+                1.0), new Point(8.0, 1.0));
+
+        Polyline result = new PolylineFilleter(0.75, true).process(open);
+
+        // The second corner would need more than what the first left of the short segment
+        assertEquals(new Polyline(new Point(0.0, 0.0), new Point(3.25, 0.0), new Point(4.0,
+                0.75), new Point(4.0, 1.0), new Point(8.0, 1.0)), result);
+    }
+
+    @Test
+    public void returnsNullWithoutCorners () throws Exception {
+
+        Polyline straight = new Polyline(new Point(0.0, 0.0), new Point(1.0, 0.0), new Point(
+                2.0, 0.0));
+
+        assertNull(new PolylineFilleter(1.0, false).process(straight));
+        assertNull(new PolylineFilleter(0.0, false).process(getSquare()));
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void refusesNegativeSizes () throws Exception {
+
+        new PolylineFilleter( -1.0, false);
+    }
+}
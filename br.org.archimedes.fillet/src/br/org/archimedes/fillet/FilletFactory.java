@@ -18,6 +18,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+import br.org.archimedes.controller.commands.MacroCommand;
+import br.org.archimedes.controller.commands.PutOrRemoveElementCommand;
+import br.org.archimedes.exceptions.IllegalActionException;
 import br.org.archimedes.exceptions.InvalidArgumentException;
 import br.org.archimedes.exceptions.InvalidParameterException;
 import br.org.archimedes.exceptions.NullArgumentException;
@@ -25,17 +28,23 @@ import br.org.archimedes.factories.CommandFactory;
 import br.org.archimedes.interfaces.Command;
 import br.org.archimedes.interfaces.IntersectionManager;
 import br.org.archimedes.interfaces.Parser;
+import br.org.archimedes.interfaces.UndoableCommand;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Filletable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
 import br.org.archimedes.model.Selection;
 import br.org.archimedes.parser.SelectionOrDoubleParser;
+import br.org.archimedes.parser.StringDecoratorParser;
 import br.org.archimedes.polyline.Polyline;
 import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
 
 public class FilletFactory implements CommandFactory {
 
+    private static final String FILLET_POLYLINES = "p"; //$NON-NLS-1$
+
+    private static final String CHAMFER_POLYLINES = "c"; //$NON-NLS-1$
+
     private Element element1;
 
     private Point click1;
@@ -53,6 +62,10 @@ public class FilletFactory implements CommandFactory {
     private double radius;
     private boolean checkingRadius;
 
+    private boolean polylines;
+
+    private boolean chamfer;
+
 
     public FilletFactory () {    	
         intersectionManager = new IntersectionManagerEPLoader().getIntersectionManager();
@@ -77,9 +90,17 @@ public class FilletFactory implements CommandFactory {
         
         if (checkingRadius && parameter instanceof Double) {
         	radius = ((Double) parameter).doubleValue();  
-        	result = Messages.SelectElement;
+        	result = polylines ? Messages.SelectPolylines : Messages.SelectElement;
+        } else if (element1 == null && parameter instanceof String) {
+            polylines = true;
+            chamfer = CHAMFER_POLYLINES.equalsIgnoreCase((String) parameter);
+            result = Messages.SelectRadiusOrPolylines;
+            checkingRadius = true;
+            return result;
         } else {        
-        	if ( !isDone()) {
+        	if (polylines && !isDone()) {
+        	    result = filletPolylines(parameter);
+        	} else if ( !isDone()) {
         		result = tryGetSelection(parameter);
         	} else {
         		throw new InvalidParameterException();
@@ -143,6 +164,61 @@ public class FilletFactory implements CommandFactory {
         return result;
     }
 
+    /**
+     * Fillets or chamfers all corners of the selected polylines as a single command.
+     * 
+     * @param parameter
+     *            The selection containing the polylines
+     * @return A message to the user.
+     * @throws InvalidParameterException
+     *             In case the parameter was not a selection.
+     */
+    private String filletPolylines (Object parameter) throws InvalidParameterException {
+
+        if (parameter == null || !parameter.getClass().equals(Selection.class)) {
+            throw new InvalidParameterException(Messages.SelectPolylines);
+        }
+
+        String result = Messages.NothingToFillet;
+        try {
+            PolylineFilleter filleter = new PolylineFilleter(radius, chamfer);
+            List<Element> removed = new ArrayList<Element>();
+            List<Element> added = new ArrayList<Element>();
+            for (Element element : ((Selection) parameter).getSelectedElements()) {
+                if (element instanceof Polyline) {
+                    Polyline rebuilt = filleter.process((Polyline) element);
+                    if (rebuilt != null) {
+                        removed.add(element);
+                        added.add(rebuilt);
+                    }
+                }
+            }
+            if ( !removed.isEmpty()) {
+                List<UndoableCommand> commands = new ArrayList<UndoableCommand>();
+                commands.add(new PutOrRemoveElementCommand(removed, true));
+                commands.add(new PutOrRemoveElementCommand(added, false));
+                command = new MacroCommand(commands);
+                result = Messages.bind(Messages.PolylinesFilleted, removed.size());
+            }
+        }
+        catch (InvalidArgumentException e) {
+            // Should never happen since the parser only gives positive values
+            e.printStackTrace();
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+        }
+        catch (IllegalActionException e) {
+            // Should never happen since the macro always has both commands
+            e.printStackTrace();
+            command = null;
+            result = Messages.NothingToFillet;
+        }
+        deactivate();
+        return result;
+    }
+
     /**
      * Calculates the list of points on which to perform the extend.
      * 
@@ -220,6 +296,8 @@ public class FilletFactory implements CommandFactory {
         click1 = null;
         click2 = null;    
         checkingRadius = true;
+        polylines = false;
+        chamfer = false;
     }
 
     /*
@@ -230,6 +308,10 @@ public class FilletFactory implements CommandFactory {
 
         Parser parser = null;
         if (active) {
+            if (element1 == null && !polylines) {
+                return new StringDecoratorParser(new SelectionOrDoubleParser(), new String[] {
+                        FILLET_POLYLINES, CHAMFER_POLYLINES});
+            }
         	return new SelectionOrDoubleParser();
         }
         return parser;
@@ -28,6 +28,14 @@ public class Messages extends NLS {
     public static String Filleted;
 
     public static String FilletCancel;
+
+    public static String SelectRadiusOrPolylines;
+
+    public static String SelectPolylines;
+
+    public static String PolylinesFilleted;
+
+    public static String NothingToFillet;
     
     static {
         // initialize resource bundle
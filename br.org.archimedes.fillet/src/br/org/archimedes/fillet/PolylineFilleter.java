@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:26:29, by agent.<br>
+ * It is part of package br.org.archimedes.fillet on the br.org.archimedes.fillet project.<br>
+ */
+
+package br.org.archimedes.fillet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.fillet.<br>
+ * Fillets or chamfers every corner of a polyline at once, rebuilding it as a single polyline.<br>
+ * Corners are handled in order along the polyline. A corner is skipped when it is flat or when
+ * its cut would not fit in what the previous corners left of its segments. Since polylines are
+ * only made of segments, fillet arcs are approximated by chords.
+ *
+ * @author agent
+ */
+public class PolylineFilleter {
+
+    /**
+     * Biggest angle of fillet arc represented by a single chord.
+     */
+    private static final double ARC_STEP = Math.PI / 16;
+
+    /**
+     * Smallest turn for a corner to be processed.
+     */
+    private static final double MIN_TURN = 1e-9;
+
+    private double size;
+
+    private boolean chamfer;
+
+
+    /**
+     * @param size
+     *            The fillet radius or the chamfer distance
+     * @param chamfer
+     *            true to chamfer the corners, false to fillet them
+     * @throws InvalidArgumentException
+     *             Thrown if the size is negative
+     */
+    public PolylineFilleter (double size, boolean chamfer) throws InvalidArgumentException {
+
+        if (size < 0) {
+            throw new InvalidArgumentException();
+        }
+        this.size = size;
+        this.chamfer = chamfer;
+    }
+
+    /**
+     * @param polyline
+     *            The polyline to process
+     * @return The rebuilt polyline with the layer of the original one or null if no corner could
+     *         be processed
+     * @throws NullArgumentException
+     *             Thrown if the polyline is null
+     */
+    public Polyline process (Polyline polyline) throws NullArgumentException {
+
+        if (polyline == null) {
+            throw new NullArgumentException();
+        }
+
+        List<Point> points = polyline.getPoints();
+        boolean closed = polyline.isClosed();
+        int segments = points.size() - 1;
+        if (size == 0 || segments < 2) {
+            return null;
+        }
+
+        double[] x = new double[segments + 1];
+        double[] y = new double[segments + 1];
+        for (int i = 0; i <= segments; i++) {
+            x[i] = points.get(i).getX();
+            y[i] = points.get(i).getY();
+        }
+        double[] lengths = new double[segments];
+        for (int i = 0; i < segments; i++) {
+            lengths[i] = Math.hypot(x[i + 1] - x[i], y[i + 1] - y[i]);
+        }
+
+        // Length cut from the start and from the end of each segment by the processed corners
+        double[] startCuts = new double[segments];
+        double[] endCuts = new double[segments];
+        double[] cuts = new double[segments];
+        boolean processed = false;
+        for (int vertex = 1; vertex <= segments; vertex++) {
+            if (vertex == segments && !closed) {
+                break;
+            }
+            int corner = vertex % segments;
+            int before = (corner + segments - 1) % segments;
+            double cut = getCut(x, y, corner, before);
+            if (cut > 0 && cut + startCuts[before] <= lengths[before]
+                    && cut + endCuts[corner] <= lengths[corner]) {
+                cuts[corner] = cut;
+                endCuts[before] = cut;
+                startCuts[corner] = cut;
+                processed = true;
+            }
+        }
+        if ( !processed) {
+            return null;
+        }
+
+        List<Point> result = new ArrayList<Point>(points.size() * 2);
+        if ( !closed) {
+            result.add(points.get(0));
+        }
+        for (int corner = closed ? 0 : 1; corner < segments; corner++) {
+            if (cuts[corner] > 0) {
+                addCorner(result, x, y, corner, (corner + segments - 1) % segments, cuts[corner]);
+            }
+            else {
+                result.add(points.get(corner));
+            }
+        }
+        result.add(closed ? result.get(0) : points.get(segments));
+
+        Polyline rebuilt = null;
+        try {
+            rebuilt = new Polyline(result);
+            rebuilt.setLayer(polyline.getLayer());
+        }
+        catch (InvalidArgumentException e) {
+            // Should never happen since the polyline keeps at least its first and last points
+            e.printStackTrace();
+        }
+        return rebuilt;
+    }
+
+    /**
+     * @return The distance from the corner to the points where the cut starts and ends on its
+     *         segments, 0 if the corner is flat or degenerated
+     */
+    private double getCut (double[] x, double[] y, int corner, int before) {
+
+        double[] directions = getDirections(x, y, corner, before);
+        if (directions == null) {
+            return 0;
+        }
+        double cos = directions[0] * directions[2] + directions[1] * directions[3];
+        double angle = Math.acos(Math.max( -1, Math.min(1, cos)));
+        if (Math.PI - angle < MIN_TURN || angle < MIN_TURN) {
+            return 0;
+        }
+        return chamfer ? size : size / Math.tan(angle / 2);
+    }
+
+    /**
+     * @return The unit directions from the corner to its previous and its next vertices as
+     *         {previousX, previousY, nextX, nextY} or null if one of the segments has no length
+     */
+    private double[] getDirections (double[] x, double[] y, int corner, int before) {
+
+        double previousX = x[before] - x[corner];
+        double previousY = y[before] - y[corner];
+        double nextX = x[corner + 1] - x[corner];
+        double nextY = y[corner + 1] - y[corner];
+        double previousLength = Math.hypot(previousX, previousY);
+        double nextLength = Math.hypot(nextX, nextY);
+        if (previousLength == 0 || nextLength == 0) {
+            return null;
+        }
+        return new double[] {previousX / previousLength, previousY / previousLength,
+                nextX / nextLength, nextY / nextLength};
+    }
+
+    /**
+     * Adds the points replacing the corner: the chamfer line or the chords of the fillet arc.
+     */
+    private void addCorner (List<Point> result, double[] x, double[] y, int corner, int before,
+            double cut) {
+
+        double[] directions = getDirections(x, y, corner, before);
+        double startX = x[corner] + directions[0] * cut;
+        double startY = y[corner] + directions[1] * cut;
+        double endX = x[corner] + directions[2] * cut;
+        double endY = y[corner] + directions[3] * cut;
+        result.add(new Point(startX, startY));
+
+        if ( !chamfer) {
+            double bisectorX = directions[0] + directions[2];
+            double bisectorY = directions[1] + directions[3];
+            double bisectorLength = Math.hypot(bisectorX, bisectorY);
+            // The center is as far from the corner as the hypotenuse of the cut and the radius
+            double distance = Math.hypot(cut, size);
+            double centerX = x[corner] + bisectorX / bisectorLength * distance;
+            double centerY = y[corner] + bisectorY / bisectorLength * distance;
+
+            double startAngle = Math.atan2(startY - centerY, startX - centerX);
+            double sweep = Math.atan2(endY - centerY, endX - centerX) - startAngle;
+            if (sweep > Math.PI) {
+                sweep -= 2 * Math.PI;
+            }
+            else if (sweep < -Math.PI) {
+                sweep += 2 * Math.PI;
+            }
+            int steps = (int) Math.ceil(Math.abs(sweep) / ARC_STEP);
+            for (int i = 1; i < steps; i++) {
+                double angle = startAngle + sweep * i / steps;
+                result.add(new Point(centerX + size * Math.cos(angle), centerY + size
+                        * Math.sin(angle)));
+            }
+        }
+        result.add(new Point(endX, endY));
+    }
+}
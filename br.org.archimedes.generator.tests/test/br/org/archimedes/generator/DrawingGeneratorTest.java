@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:59:52, by agent.<br>
+ * It is part of package br.org.archimedes.generator on the br.org.archimedes.generator.tests project.<br>
+ */
+
+package br.org.archimedes.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.circle.Circle;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+
+/**
+ * Belongs to package br.org.archimedes.generator.
+ *
+ * @author agent
+ */
+public class DrawingGeneratorTest extends Tester {
+
+    @Test
+    public void generatesRequestedNumberOfElements () throws Exception {
+
+        Drawing drawing = new DrawingGenerator(500).generate();
+
+        assertEquals(500, drawing.getUnlockedContents().size());
+    }
+
+    @Test
+    public void distributesElementsAmongLayers () throws Exception {
+
+        Drawing drawing = new DrawingGenerator(300, 3, Distribution.UNIFORM, 1.0, 0).generate();
+
+        assertEquals(3, drawing.getLayerMap().size());
+        for (Layer layer : drawing.getLayerMap().values()) {
+            assertEquals(100, layer.getElements().size());
+        }
+    }
+
+    @Test
+    public void putsElementsInLayersInTurns () throws Exception {
+
+        DrawingGenerator generator = new DrawingGenerator(30, 3, Distribution.UNIFORM, 1.0, 0);
+        List<Element> elements = generator.generateElements();
+
+        Drawing drawing = generator.createDrawing(elements);
+
+        for (int i = 0; i < elements.size(); i++) {
+            Layer layer = drawing.getLayerMap().get("Layer " + (i % 3)); //$NON-NLS-1$
+            assertTrue(layer.getElements().contains(elements.get(i)));
+            assertEquals(layer, elements.get(i).getLayer());
+        }
+    }
+
+    @Test
+    public void sameSeedGeneratesSameElements () throws Exception {
+
+        DrawingGenerator generator = new DrawingGenerator(200, 1, Distribution.CLUSTERED, 2.0, 42);
+
+        assertEquals(generator.generateElements(), generator.generateElements());
+    }
+
+    @Test
+    public void generatesEveryKindOfElement () throws Exception {
+
+        List<Element> elements = new DrawingGenerator(100).generateElements();
+
+        Set<String> kinds = new HashSet<String>();
+        for (Element element : elements) {
+            kinds.add(element.getClass().getSimpleName());
+        }
+        assertEquals(7, kinds.size());
+    }
+
+    @Test
+    public void gridCentersElementsOnCells () throws Exception {
+
+        DrawingGenerator generator = new DrawingGenerator(400, 1, Distribution.GRID, 1.0, 0);
+        Rectangle extent = generator.getExtent();
+
+        int circles = 0;
+        for (Element element : generator.generateElements()) {
+            if (element instanceof Circle) {
+                Point center = ((Circle) element).getCenter();
+                assertTrue(center.isInside(extent));
+                double half = DrawingGenerator.CELL_SIDE / 2;
+                assertWithinDelta("Should be on a cell center", 0, (center.getX() - half)
+                        % DrawingGenerator.CELL_SIDE);
+                assertWithinDelta("Should be on a cell center", 0, (center.getY() - half)
+                        % DrawingGenerator.CELL_SIDE);
+                circles++;
+            }
+        }
+        assertEquals(40, circles);
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void refusesDrawingWithoutLayers () throws Exception {
+
+        new DrawingGenerator(10, 0, Distribution.UNIFORM, 1.0, 0);
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:59:52, by agent.<br>
+ * It is part of package br.org.archimedes.generator on the br.org.archimedes.generator project.<br>
+ */
+
+package br.org.archimedes.generator;
+
+/**
+ * Belongs to package br.org.archimedes.generator.<br>
+ * How generated elements are spread over the drawing.
+ *
+ * @author agent
+ */
+public enum Distribution {
+    /**
+     * Anywhere in the drawing with the same probability.
+     */
+    UNIFORM,
+    /**
+     * Around a few cluster centers, like the details of a site plan.
+     */
+    CLUSTERED,
+    /**
+     * One element per cell of a regular grid, like an array of parts.
+     */
+    GRID;
+}
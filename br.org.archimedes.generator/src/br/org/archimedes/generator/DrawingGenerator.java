@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:59:52, by agent.<br>
+ * It is part of package br.org.archimedes.generator on the br.org.archimedes.generator project.<br>
+ */
+
+package br.org.archimedes.generator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import br.org.archimedes.arc.Arc;
+import br.org.archimedes.circle.Circle;
+import br.org.archimedes.dimension.Dimension;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.gui.opengl.Color;
+import br.org.archimedes.interfaces.Exporter;
+import br.org.archimedes.leader.Leader;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.LineStyle;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.polyline.Polyline;
+import br.org.archimedes.rcp.extensionpoints.FileExporterEPLoader;
+import br.org.archimedes.text.Text;
+
+/**
+ * Belongs to package br.org.archimedes.generator.<br>
+ * Generates reproducible drawings of any size to be used as stress input. Elements are lines,
+ * arcs, circles, polylines, texts, dimensions and leaders spread over a square whose side grows
+ * with the square root of the number of elements, so the density only depends on the overlap.<br>
+ * The same configuration and seed always generate the same elements in the same order.
+ *
+ * @author agent
+ */
+public class DrawingGenerator {
+
+    /**
+     * Average side of the area reserved to each element.
+     */
+    public static final double CELL_SIDE = 10.0;
+
+    /**
+     * Number of elements around each cluster center for the clustered distribution.
+     */
+    private static final int ELEMENTS_PER_CLUSTER = 1000;
+
+    private static final Color[] LAYER_COLORS = {new Color(255, 255, 255),
+            new Color(255, 0, 0), new Color(255, 255, 0), new Color(0, 255, 0),
+            new Color(0, 255, 255), new Color(0, 0, 255), new Color(255, 0, 255)};
+
+    private int size;
+
+    private int layerCount;
+
+    private Distribution distribution;
+
+    private double overlap;
+
+    private long seed;
+
+
+    /**
+     * Constructor. Uses a single layer, uniform distribution and an overlap of 1.0.
+     *
+     * @param size
+     *            The number of elements to generate
+     * @throws InvalidArgumentException
+     *             Thrown if the size is negative
+     */
+    public DrawingGenerator (int size) throws InvalidArgumentException {
+
+        this(size, 1, Distribution.UNIFORM, 1.0, 0L);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param size
+     *            The number of elements to generate
+     * @param layerCount
+     *            The number of layers. Elements are distributed among them in turns.
+     * @param distribution
+     *            How elements are spread over the drawing
+     * @param overlap
+     *            The average size of an element relative to the area reserved to it. 1.0 makes
+     *            neighbours touch each other, bigger values make them overlap more.
+     * @param seed
+     *            The seed of the random generator
+     * @throws InvalidArgumentException
+     *             Thrown if the size is negative, there is no layer or the overlap is not
+     *             positive.
+     */
+    public DrawingGenerator (int size, int layerCount, Distribution distribution, double overlap,
+            long seed) throws InvalidArgumentException {
+
+        if (size < 0 || layerCount < 1 || overlap <= 0 || distribution == null) {
+            throw new InvalidArgumentException();
+        }
+        this.size = size;
+        this.layerCount = layerCount;
+        this.distribution = distribution;
+        this.overlap = overlap;
+        this.seed = seed;
+    }
+
+    /**
+     * @return A new drawing containing the generated elements
+     */
+    public Drawing generate () {
+
+        return createDrawing(generateElements());
+    }
+
+    /**
+     * @return The generated elements, not yet in any drawing
+     */
+    public List<Element> generateElements () {
+
+        Random random = new Random(seed);
+        double side = getSide();
+        int columns = (int) Math.ceil(Math.sqrt(size));
+        Point[] clusters = createClusters(random, side);
+
+        List<Element> elements = new ArrayList<Element>(size);
+        while (elements.size() < size) {
+            int index = elements.size();
+            Point origin;
+            switch (distribution) {
+                case GRID:
+                    origin = new Point((index % columns + 0.5) * CELL_SIDE, (index / columns + 0.5)
+                            * CELL_SIDE);
+                    break;
+                case CLUSTERED:
+                    Point center = clusters[random.nextInt(clusters.length)];
+                    double spread = side / (4 * Math.sqrt(clusters.length));
+                    origin = new Point(center.getX() + random.nextGaussian() * spread, center
+                            .getY()
+                            + random.nextGaussian() * spread);
+                    break;
+                default:
+                    origin = new Point(random.nextDouble() * side, random.nextDouble() * side);
+            }
+
+            Element element = createElement(random, origin, index);
+            if (element != null) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * @param elements
+     *            The elements to put in the drawing
+     * @return A new drawing with the configured number of layers and the elements distributed
+     *         among them in turns
+     */
+    public Drawing createDrawing (List<Element> elements) {
+
+        Map<String, Layer> layers = new LinkedHashMap<String, Layer>();
+        for (int i = 0; i < layerCount; i++) {
+            String name = "Layer " + i; //$NON-NLS-1$
+            Layer layer = new Layer(LAYER_COLORS[i % LAYER_COLORS.length], name,
+                    LineStyle.CONTINUOUS, 1.0);
+            List<Element> contents = new ArrayList<Element>(elements.size() / layerCount + 1);
+            for (int j = i; j < elements.size(); j += layerCount) {
+                contents.add(elements.get(j));
+            }
+            try {
+                layer.putNewElements(contents);
+            }
+            catch (NullArgumentException e) {
+                // Should never happen since no null element is generated
+                e.printStackTrace();
+            }
+            layers.put(name, layer);
+        }
+
+        Drawing drawing = new Drawing("Generated " + size, layers); //$NON-NLS-1$
+        return drawing;
+    }
+
+    /**
+     * Generates a drawing and writes it with the exporter registered for the extension.
+     *
+     * @param extension
+     *            The file extension of the wanted format (without the dot)
+     * @param output
+     *            The stream to write to
+     * @throws InvalidArgumentException
+     *             Thrown if no exporter is registered for that extension
+     * @throws IOException
+     *             Thrown if the exporter fails to write
+     */
+    public void export (String extension, OutputStream output) throws InvalidArgumentException,
+            IOException {
+
+        Exporter exporter = new FileExporterEPLoader().getExporter(extension);
+        if (exporter == null) {
+            throw new InvalidArgumentException();
+        }
+        exporter.exportDrawing(generate(), output);
+    }
+
+    /**
+     * @return The square in which the elements' origins are generated. Clustered elements might
+     *         get a little out of it.
+     */
+    public Rectangle getExtent () {
+
+        double side = getSide();
+        return new Rectangle(0, 0, side, side);
+    }
+
+    /**
+     * @return The side of the generated area
+     */
+    private double getSide () {
+
+        return Math.max(1, Math.ceil(Math.sqrt(size))) * CELL_SIDE;
+    }
+
+    /**
+     * @return The cluster centers (only used by the clustered distribution)
+     */
+    private Point[] createClusters (Random random, double side) {
+
+        int count = Math.max(1, size / ELEMENTS_PER_CLUSTER);
+        Point[] clusters = new Point[count];
+        for (int i = 0; i < count; i++) {
+            clusters[i] = new Point(random.nextDouble() * side, random.nextDouble() * side);
+        }
+        return clusters;
+    }
+
+    /**
+     * Creates an element around the origin. The kind of element depends on the index so that
+     * every drawing has the same proportions: 35% lines, 15% polylines, 15% arcs, 10% circles,
+     * 10% texts, 10% dimensions and 5% leaders.
+     *
+     * @return The element or null if the random points were degenerated
+     */
+    private Element createElement (Random random, Point origin, int index) {
+
+        double elementSize = CELL_SIDE * overlap * (0.5 + random.nextDouble());
+
+        try {
+            switch (index % 20) {
+                case 0:
+                case 1:
+                case 2:
+                case 3:
+                case 4:
+                case 5:
+                case 6:
+                    return new Line(origin, pointAround(random, origin, elementSize));
+                case 7:
+                case 8:
+                case 9:
+                    List<Point> points = new ArrayList<Point>();
+                    points.add(origin);
+                    int vertices = 3 + random.nextInt(6);
+                    for (int i = 1; i < vertices; i++) {
+                        points.add(pointAround(random, points.get(i - 1), elementSize / 2));
+                    }
+                    return new Polyline(points);
+                case 10:
+                case 11:
+                case 12:
+                    return new Arc(origin, pointAround(random, origin, elementSize), pointAround(
+                            random, origin, elementSize));
+                case 13:
+                case 14:
+                    return new Circle(origin, elementSize / 2);
+                case 15:
+                case 16:
+                    return new Text("T" + index, origin, elementSize / 4); //$NON-NLS-1$
+                case 17:
+                case 18:
+                    Point ending = pointAround(random, origin, elementSize);
+                    return new Dimension(origin, ending, pointAround(random, origin, elementSize),
+                            elementSize / 8);
+                default:
+                    return new Leader(origin, pointAround(random, origin, elementSize / 2),
+                            pointAround(random, origin, elementSize));
+            }
+        }
+        catch (InvalidArgumentException e) {
+            // Degenerated element. A new one will be generated.
+            return null;
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * @return A random point at most size / 2 away from the center in each direction
+     */
+    private Point pointAround (Random random, Point center, double size) {
+
+        return new Point(center.getX() + (random.nextDouble() - 0.5) * size, center.getY()
+                + (random.nextDouble() - 0.5) * size);
+    }
+}
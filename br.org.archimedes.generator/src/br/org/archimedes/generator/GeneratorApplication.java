@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:59:52, by agent.<br>
+ * It is part of package br.org.archimedes.generator on the br.org.archimedes.generator project.<br>
+ */
+
+package br.org.archimedes.generator;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.rcp.extensionpoints.FileExporterEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.generator.<br>
+ * Headless application that generates a drawing and writes it with the exporter registered for
+ * the output file extension. Run with -application br.org.archimedes.generator.application.
+ *
+ * @author agent
+ */
+public class GeneratorApplication implements IApplication {
+
+    private static final Integer EXIT_ERROR = Integer.valueOf(1);
+
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.equinox.app.IApplication#start(org.eclipse.equinox.app.IApplicationContext)
+     */
+    public Object start (IApplicationContext context) throws Exception {
+
+        String[] args = (String[]) context.getArguments().get(
+                IApplicationContext.APPLICATION_ARGS);
+
+        String output = null;
+        int size = 100000;
+        int layers = 1;
+        Distribution distribution = Distribution.UNIFORM;
+        double overlap = 1.0;
+        long seed = 0;
+        try {
+            for (int i = 0; args != null && i + 1 < args.length; i += 2) {
+                String value = args[i + 1];
+                if ("-output".equals(args[i])) { //$NON-NLS-1$
+                    output = value;
+                }
+                else if ("-size".equals(args[i])) { //$NON-NLS-1$
+                    size = Integer.parseInt(value);
+                }
+                else if ("-layers".equals(args[i])) { //$NON-NLS-1$
+                    layers = Integer.parseInt(value);
+                }
+                else if ("-distribution".equals(args[i])) { //$NON-NLS-1$
+                    distribution = Distribution.valueOf(value.toUpperCase());
+                }
+                else if ("-overlap".equals(args[i])) { //$NON-NLS-1$
+                    overlap = Double.parseDouble(value);
+                }
+                else if ("-seed".equals(args[i])) { //$NON-NLS-1$
+                    seed = Long.parseLong(value);
+                }
+            }
+        }
+        catch (IllegalArgumentException e) {
+            System.err.println(Messages.GeneratorApplication_InvalidArguments);
+            output = null;
+        }
+
+        int extensionSeparator = output == null ? -1 : output.lastIndexOf('.');
+        if (extensionSeparator < 0) {
+            System.err.println(Messages.GeneratorApplication_Usage);
+            return EXIT_ERROR;
+        }
+
+        String extension = output.substring(extensionSeparator + 1);
+        FileExporterEPLoader loader = new FileExporterEPLoader();
+        if (loader.getExporter(extension) == null) {
+            System.err.println(Messages.bind(Messages.GeneratorApplication_NoExporter, extension,
+                    loader.getExtensions()));
+            return EXIT_ERROR;
+        }
+
+        DrawingGenerator generator;
+        try {
+            generator = new DrawingGenerator(size, layers, distribution, overlap, seed);
+        }
+        catch (InvalidArgumentException e) {
+            System.err.println(Messages.GeneratorApplication_InvalidArguments);
+            System.err.println(Messages.GeneratorApplication_Usage);
+            return EXIT_ERROR;
+        }
+
+        long start = System.currentTimeMillis();
+        OutputStream stream = new BufferedOutputStream(new FileOutputStream(output));
+        try {
+            generator.export(extension, stream);
+        }
+        finally {
+            stream.close();
+        }
+        long elapsed = System.currentTimeMillis() - start;
+        System.out.println(Messages.bind(Messages.GeneratorApplication_Written, new Object[] {
+                size, output, elapsed}));
+
+        return IApplication.EXIT_OK;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.eclipse.equinox.app.IApplication#stop()
+     */
+    public void stop () {
+
+        // Nothing to do
+    }
+}
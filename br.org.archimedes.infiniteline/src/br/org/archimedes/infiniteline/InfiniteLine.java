@@ -38,11 +38,13 @@ import br.org.archimedes.model.Filletable;
 import br.org.archimedes.model.Offsetable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
 import br.org.archimedes.model.ReferencePoint;
 import br.org.archimedes.model.Vector;
 import br.org.archimedes.model.references.TrianglePoint;
 
-public class InfiniteLine extends Element implements Offsetable, Filletable{
+public class InfiniteLine extends Element implements Offsetable, Filletable,
+        RectangleIntersectable {
 
     private Point initialPoint;
 
@@ -228,6 +230,21 @@ public class InfiniteLine extends Element implements Offsetable, Filletable{
         return false;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
+     */
+    public boolean intersects (Rectangle rectangle) throws NullArgumentException {
+
+        if (rectangle == null) {
+            throw new NullArgumentException();
+        }
+        double x = initialPoint.getX();
+        double y = initialPoint.getY();
+        return rectangle.intersectsLine(x, y, endingPoint.getX() - x, endingPoint.getY() - y,
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
     @Override
     public Rectangle getBoundaryRectangle () {
 
@@ -235,6 +252,16 @@ public class InfiniteLine extends Element implements Offsetable, Filletable{
 
     }
 
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#isUnbounded()
+     */
+    @Override
+    public boolean isUnbounded () {
+
+        return true;
+    }
+
     public Rectangle getCreationBoundaryRectangle () {
 
         return new Rectangle(Math.min(initialPoint.getX(), endingPoint.getX()), Math.min(
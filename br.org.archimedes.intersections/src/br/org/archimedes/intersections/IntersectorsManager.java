@@ -26,6 +26,7 @@ import br.org.archimedes.line.Line;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
 
 /**
  * Belongs to package br.org.archimedes.intersections.
@@ -57,6 +58,9 @@ public class IntersectorsManager implements IntersectionManager {
         if (rect == null) {
             throw new NullArgumentException();
         }
+        if (element instanceof RectangleIntersectable) {
+            return ((RectangleIntersectable) element).intersects(rect);
+        }
 
         boolean intersects = false;
 
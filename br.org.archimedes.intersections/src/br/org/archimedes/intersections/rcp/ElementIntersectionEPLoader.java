@@ -45,18 +45,24 @@ public class ElementIntersectionEPLoader implements ExtensionTagHandler {
 
     private ElementEPLoader elementLoader;
 
-    private final Map<PairOfElementClasses, Intersector> elementsToIntersectorMap = new HashMap<PairOfElementClasses, Intersector>();;
+    private static final Map<PairOfElementClasses, Intersector> elementsToIntersectorMap = new HashMap<PairOfElementClasses, Intersector>();
+
+    private static boolean loaded;
 
 
     /**
-     * Default constructor.
+     * Default constructor. The intersectors are shared by every loader so the
+     * extension point is read only once.
      */
     public ElementIntersectionEPLoader () {
 
         elementLoader = new ElementEPLoader();
-        if(elementsToIntersectorMap.isEmpty()) {
-            ExtensionLoader loader = new ExtensionLoader(ELEMENT_INTERSECTOR_EP_ID);
-            loader.loadExtension(this);
+        synchronized (elementsToIntersectorMap) {
+            if ( !loaded) {
+                ExtensionLoader loader = new ExtensionLoader(ELEMENT_INTERSECTOR_EP_ID);
+                loader.loadExtension(this);
+                loaded = true;
+            }
         }
     }
 
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:05:47, by agent.<br>
+ * It is part of package br.org.archimedes.intersectors on the br.org.archimedes.intersections project.<br>
+ */
+package br.org.archimedes.intersectors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.intersections.IntersectorsManager;
+import br.org.archimedes.intersections.interfaces.Intersector;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.intersectors.<br>
+ * Intersects a block reference with any other element. The other element is placed on the
+ * coordinates of the block and intersected with each element of the definition so the block is
+ * never exploded.
+ *
+ * @author agent
+ */
+public class BlockIntersector implements Intersector {
+
+    private IntersectorsManager manager;
+
+
+    public Collection<Point> getIntersections (Element element, Element otherElement)
+            throws NullArgumentException {
+
+        if (element == null || otherElement == null) {
+            throw new NullArgumentException();
+        }
+
+        BlockReference reference;
+        Element other;
+        if (element instanceof BlockReference) {
+            reference = (BlockReference) element;
+            other = otherElement;
+        }
+        else {
+            reference = (BlockReference) otherElement;
+            other = element;
+        }
+
+        if (manager == null) {
+            // Created late since this intersector is built while the manager loads them
+            manager = new IntersectorsManager();
+        }
+
+        Element placed = reference.placeInBlock(other);
+        Collection<Point> intersections = new ArrayList<Point>();
+        for (Element blockElement : reference.getDefinition().getElements()) {
+            for (Point point : manager.getIntersectionsBetween(blockElement, placed)) {
+                intersections.add(reference.toDrawing(point.getX(), point.getY()));
+            }
+        }
+        return intersections;
+    }
+}
@@ -20,7 +20,6 @@ import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedList;
 
 public class LineLineIntersector implements Intersector {
@@ -38,86 +37,88 @@ public class LineLineIntersector implements Intersector {
 			throw new NullArgumentException();
 		
 		Collection<Point> intersectionPoints = new LinkedList<Point>();
-		
-		if (isParallelTo(firstLine, secondLine)) {
-			if (firstLine.getEndingPoint().equals(secondLine.getInitialPoint()) &&
-					!(secondLine.contains(firstLine.getInitialPoint()) ||
-							firstLine.contains(secondLine.getEndingPoint())))
-				intersectionPoints.add(firstLine.getEndingPoint());
-			else if (firstLine.getInitialPoint().equals(secondLine.getEndingPoint()) &&
-					!(secondLine.contains(firstLine.getEndingPoint()) ||
-							firstLine.contains(secondLine.getInitialPoint())))
-				intersectionPoints.add(secondLine.getInitialPoint());
-            return intersectionPoints;
-        }
+		Point initial = firstLine.getInitialPoint();
+		Point ending = firstLine.getEndingPoint();
+		Point secondInitial = secondLine.getInitialPoint();
+		Point secondEnding = secondLine.getEndingPoint();
+		addIntersections(initial.getX(), initial.getY(), ending.getX(), ending.getY(),
+				secondInitial.getX(), secondInitial.getY(), secondEnding.getX(), secondEnding
+						.getY(), intersectionPoints);
+
+		return intersectionPoints;
+	}
 
-        // The first line will be represented by a1x + b1y + c1 = 0
-        // The second line will be represented by a2x + b2y + c2 = 0
-        double a1, b1, c1;
-        double a2, b2, c2;
-
-        Collection<Point> linePoints = firstLine.getPoints();
-        Point initialPoint;
-        Point endingPoint;
-
-        Collection<Point> secondLinePoints = secondLine.getPoints();
-        Point secondInitialPoint;
-        Point secondEndingPoint;
-
-        Iterator<Point> iterator = linePoints.iterator();
-        initialPoint = (Point) iterator.next();
-        endingPoint = (Point) iterator.next();
-
-        iterator = secondLinePoints.iterator();
-        secondInitialPoint = (Point) iterator.next();
-        secondEndingPoint = (Point) iterator.next();
-
-        a1 = initialPoint.getY() - endingPoint.getY();
-        b1 = endingPoint.getX() - initialPoint.getX();
-        c1 = (initialPoint.getX() - endingPoint.getX()) * initialPoint.getY()
-                + (endingPoint.getY() - initialPoint.getY())
-                * initialPoint.getX();
-
-        a2 = secondInitialPoint.getY() - secondEndingPoint.getY();
-        b2 = secondEndingPoint.getX() - secondInitialPoint.getX();
-        c2 = (secondInitialPoint.getX() - secondEndingPoint.getX())
-                * secondInitialPoint.getY()
-                + (secondEndingPoint.getY() - secondInitialPoint.getY())
-                * secondInitialPoint.getX();
-
-        if ( !((Math.abs(a1 * b2 - b1 * a2) <= Constant.EPSILON) && (Math
-                .abs(c1 - c2) <= Constant.EPSILON))) {
-
-            double yIntersection = 0.0;
-            double xIntersection = 0.0;
-
-            if (Math.abs(a1) <= Constant.EPSILON) {
-                yIntersection = -(c1 / b1);
-                xIntersection = -(b2 * yIntersection + c2) / a2;
-            }
-            else if (Math.abs(a2) <= Constant.EPSILON) {
-                yIntersection = -(c2 / b2);
-                xIntersection = -(b1 * yIntersection + c1) / a1;
-            }
-            else if (Math.abs(b1) <= Constant.EPSILON) {
-                xIntersection = -(c1 / a1);
-                yIntersection = -(a2 * xIntersection + c2) / b2;
-            }
-            else if (Math.abs(b2) <= Constant.EPSILON) {
-                xIntersection = -(c2 / a2);
-                yIntersection = -(a1 * xIntersection + c1) / b1;
-            }
-            else {
-                yIntersection = ((c1 * a2) - (c2 * a1))
-                        / ((b2 * a1) - (b1 * a2));
-                xIntersection = -(c1 / a1) - (b1 / a1) * yIntersection;
-            }
-            Point intersection = new Point(xIntersection, yIntersection);
-            if (firstLine.contains(intersection) && secondLine.contains(intersection))
-            	intersectionPoints.add(intersection);
-        }
+	/**
+	 * Adds the intersection between two segments given by their coordinates to the collection.
+	 * This is the same computation as {@link #getIntersections(Element, Element)} but it only
+	 * creates the intersection point so it can be run on every pair of segments of polylines.
+	 * 
+	 * @param intersectionPoints
+	 *            The collection to which the intersection is added
+	 */
+	public static void addIntersections (double x1, double y1, double x2, double y2,
+			double x3, double y3, double x4, double y4, Collection<Point> intersectionPoints) {
+
+		if (isParallel(x1 - x2, y1 - y2, x3 - x4, y3 - y4)) {
+			if (equals(x2, y2, x3, y3)
+					&& !(Line.contains(x3, y3, x4, y4, x1, y1) || Line.contains(x1, y1, x2,
+							y2, x4, y4)))
+				intersectionPoints.add(new Point(x2, y2));
+			else if (equals(x1, y1, x4, y4)
+					&& !(Line.contains(x3, y3, x4, y4, x2, y2) || Line.contains(x1, y1, x2,
+							y2, x3, y3)))
+				intersectionPoints.add(new Point(x3, y3));
+			return;
+		}
+
+		// The first line will be represented by a1x + b1y + c1 = 0
+		// The second line will be represented by a2x + b2y + c2 = 0
+		double a1 = y1 - y2;
+		double b1 = x2 - x1;
+		double c1 = (x1 - x2) * y1 + (y2 - y1) * x1;
+
+		double a2 = y3 - y4;
+		double b2 = x4 - x3;
+		double c2 = (x3 - x4) * y3 + (y4 - y3) * x3;
+
+		if ( !((Math.abs(a1 * b2 - b1 * a2) <= Constant.EPSILON) && (Math
+				.abs(c1 - c2) <= Constant.EPSILON))) {
+
+			double yIntersection = 0.0;
+			double xIntersection = 0.0;
+
+			if (Math.abs(a1) <= Constant.EPSILON) {
+				yIntersection = -(c1 / b1);
+				xIntersection = -(b2 * yIntersection + c2) / a2;
+			}
+			else if (Math.abs(a2) <= Constant.EPSILON) {
+				yIntersection = -(c2 / b2);
+				xIntersection = -(b1 * yIntersection + c1) / a1;
+			}
+			else if (Math.abs(b1) <= Constant.EPSILON) {
+				xIntersection = -(c1 / a1);
+				yIntersection = -(a2 * xIntersection + c2) / b2;
+			}
+			else if (Math.abs(b2) <= Constant.EPSILON) {
+				xIntersection = -(c2 / a2);
+				yIntersection = -(a1 * xIntersection + c1) / b1;
+			}
+			else {
+				yIntersection = ((c1 * a2) - (c2 * a1)) / ((b2 * a1) - (b1 * a2));
+				xIntersection = -(c1 / a1) - (b1 / a1) * yIntersection;
+			}
+			if (Line.contains(x1, y1, x2, y2, xIntersection, yIntersection)
+					&& Line.contains(x3, y3, x4, y4, xIntersection, yIntersection))
+				intersectionPoints.add(new Point(xIntersection, yIntersection));
+		}
+	}
+
+	/**
+	 * @return true if both coordinates are the same up to {@link Constant#EPSILON}
+	 */
+	private static boolean equals (double x1, double y1, double x2, double y2) {
 
-        return intersectionPoints;
+		return Math.abs(x1 - x2) <= Constant.EPSILON && Math.abs(y1 - y2) <= Constant.EPSILON;
 	}
 	
     public boolean isParallelTo (Element element1, Element element2) {
@@ -137,20 +138,29 @@ public class LineLineIntersector implements Intersector {
             double deltax2 = segment2.getInitialPoint().getX()
                     - segment2.getEndingPoint().getX();
 
-            if (Math.abs(deltax1) <= Constant.EPSILON
-                    && Math.abs(deltax2) <= Constant.EPSILON) {
+            isParallel = isParallel(deltax1, deltay1, deltax2, deltay2);
+        }
+
+        return isParallel;
+    }
+
+    /**
+     * @return true if the directions given by their deltas are parallel, false otherwise
+     */
+    private static boolean isParallel (double deltax1, double deltay1, double deltax2,
+            double deltay2) {
+
+        boolean isParallel = false;
+        if (Math.abs(deltax1) <= Constant.EPSILON && Math.abs(deltax2) <= Constant.EPSILON) {
+            isParallel = true;
+        }
+        else {
+            double m1 = deltay1 / deltax1;
+            double m2 = deltay2 / deltax2;
+            if (Math.abs(m1 - m2) <= Constant.EPSILON) {
                 isParallel = true;
             }
-            else {
-                double m1 = deltay1 / deltax1;
-                double m2 = deltay2 / deltax2;
-                if (Math.abs(m1 - m2) <= Constant.EPSILON) {
-                    isParallel = true;
-                }
-            }
-
         }
-
         return isParallel;
     }
 
@@ -14,8 +14,8 @@ package br.org.archimedes.intersectors;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
+import br.org.archimedes.Constant;
 import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.intersections.interfaces.Intersector;
 import br.org.archimedes.line.Line;
@@ -43,17 +43,37 @@ public class LinePolylineIntersector implements Intersector {
 		}
 		
 
-		List<Line> lines = polyline.getLines();
 		Collection<Point> intersectionPoints = new ArrayList<Point>();
+		Point initial = baseLine.getInitialPoint();
+		Point ending = baseLine.getEndingPoint();
+		addIntersections(polyline.getCoordinates(), initial.getX(), initial.getY(), ending
+				.getX(), ending.getY(), intersectionPoints);
+		return intersectionPoints;
+	}
 
-		Collection<Point> intersection;
+	/**
+	 * Adds the intersections between each segment of a polyline and a line to the collection
+	 * without creating a line for each segment. Segments without length are ignored.
+	 * 
+	 * @param coordinates
+	 *            The coordinates of the polyline as returned by {@link Polyline#getCoordinates()}
+	 * @param intersectionPoints
+	 *            The collection to which the intersections are added
+	 */
+	public static void addIntersections (double[] coordinates, double x1, double y1,
+			double x2, double y2, Collection<Point> intersectionPoints) {
 
-		LineLineIntersector lineLineIntersector = new LineLineIntersector();
-		for (Line line : lines) {
-			intersection = lineLineIntersector.getIntersections(line, baseLine);
-			intersectionPoints.addAll(intersection);
+		for (int i = 2; i < coordinates.length; i += 2) {
+			double startX = coordinates[i - 2];
+			double startY = coordinates[i - 1];
+			double endX = coordinates[i];
+			double endY = coordinates[i + 1];
+			if (Math.abs(startX - endX) > Constant.EPSILON
+					|| Math.abs(startY - endY) > Constant.EPSILON) {
+				LineLineIntersector.addIntersections(startX, startY, endX, endY, x1, y1, x2,
+						y2, intersectionPoints);
+			}
 		}
-		return intersectionPoints;
 	}
 	
 
@@ -14,11 +14,10 @@ package br.org.archimedes.intersectors;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
+import br.org.archimedes.Constant;
 import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.intersections.interfaces.Intersector;
-import br.org.archimedes.line.Line;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.polyline.Polyline;
@@ -37,16 +36,20 @@ public class PolylinePolylineIntersector implements Intersector {
         polyline1 = (Polyline) element;
         polyline2 = (Polyline) otherElement;
 
-        List<Line> lines = polyline1.getLines();
         Collection<Point> intersectionPoints = new ArrayList<Point>();
 
-        Collection<Point> intersection;
-
-        LinePolylineIntersector linePolylineIntersector = new LinePolylineIntersector();
-        for (Line line : lines) {
-            intersection = linePolylineIntersector.getIntersections(line,
-                    polyline2);
-            intersectionPoints.addAll(intersection);
+        double[] coordinates = polyline1.getCoordinates();
+        double[] otherCoordinates = polyline2.getCoordinates();
+        for (int i = 2; i < coordinates.length; i += 2) {
+            double startX = coordinates[i - 2];
+            double startY = coordinates[i - 1];
+            double endX = coordinates[i];
+            double endY = coordinates[i + 1];
+            if (Math.abs(startX - endX) > Constant.EPSILON
+                    || Math.abs(startY - endY) > Constant.EPSILON) {
+                LinePolylineIntersector.addIntersections(otherCoordinates, startX, startY,
+                        endX, endY, intersectionPoints);
+            }
         }
         return intersectionPoints;
     }
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:05:47, by agent.<br>
+ * It is part of package br.org.archimedes.io.dxf.parsers.tests on the br.org.archimedes.io.dxf.tests project.<br>
+ */
+
+package br.org.archimedes.io.dxf.parsers.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.kabeja.dxf.DXFBlock;
+import org.kabeja.dxf.DXFDocument;
+import org.kabeja.dxf.DXFInsert;
+import org.kabeja.dxf.DXFLayer;
+import org.kabeja.dxf.DXFLine;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.io.dxf.parsers.BlockParser;
+import br.org.archimedes.io.dxf.parsers.InsertParser;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+
+public class InsertParserTests {
+
+	private DXFDocument document;
+	private DXFLayer layer;
+	private InsertParser insertParser;
+
+	@Before
+	public void setUp() {
+		document = new DXFDocument();
+
+		DXFBlock block = new DXFBlock();
+		block.setName("square");
+		block.setReferencePoint(new org.kabeja.dxf.helpers.Point(1, 1, 0));
+		block.addDXFEntity(createDXFLine(1, 1, 3, 1));
+		block.addDXFEntity(createDXFLine(1, 1, 1, 3));
+		document.addDXFBlock(block);
+
+		layer = new DXFLayer();
+		layer.setName("0");
+		insertParser = new InsertParser(new BlockParser(document));
+	}
+
+	private DXFLine createDXFLine(double x1, double y1, double x2, double y2) {
+		DXFLine line = new DXFLine();
+		line.setStartPoint(new org.kabeja.dxf.helpers.Point(x1, y1, 0));
+		line.setEndPoint(new org.kabeja.dxf.helpers.Point(x2, y2, 0));
+		return line;
+	}
+
+	private DXFInsert createDXFInsert(String block, double x, double y) {
+		DXFInsert insert = new DXFInsert();
+		insert.setBlockID(block);
+		insert.setPoint(new org.kabeja.dxf.helpers.Point(x, y, 0));
+		layer.addDXFEntity(insert);
+		return insert;
+	}
+
+	@Test
+	public void shouldParseInsertAsBlockReference() throws Exception {
+		DXFInsert insert = createDXFInsert("square", 10, 20);
+		insert.setRotate(90);
+		insert.setScaleX(2);
+		insert.setScaleY(2);
+
+		Collection<Element> parse = insertParser.parse(layer);
+		assertEquals(1, parse.size());
+		BlockReference reference = (BlockReference) parse.iterator().next();
+		assertEquals("square", reference.getDefinition().getName());
+		assertEquals(new Point(10, 20), reference.getInsertionPoint());
+		assertEquals(Math.PI / 2, reference.getRotation(), Constant.EPSILON);
+		assertEquals(2, reference.getScale(), Constant.EPSILON);
+		assertFalse(reference.isMirrored());
+		assertEquals(new Point(10, 24), reference.toDrawing(2, 0));
+	}
+
+	@Test
+	public void shouldShareDefinitionBetweenInserts() throws Exception {
+		createDXFInsert("square", 0, 0);
+		createDXFInsert("square", 5, 5);
+
+		Collection<Element> parse = insertParser.parse(layer);
+		assertEquals(2, parse.size());
+		Element[] elements = parse.toArray(new Element[0]);
+		assertSame(((BlockReference) elements[0]).getDefinition(),
+				((BlockReference) elements[1]).getDefinition());
+	}
+
+	@Test
+	public void shouldMirrorNegativeScales() throws Exception {
+		DXFInsert insert = createDXFInsert("square", 0, 0);
+		insert.setScaleX(-1);
+
+		Collection<Element> parse = insertParser.parse(layer);
+		BlockReference reference = (BlockReference) parse.iterator().next();
+		assertTrue(reference.isMirrored());
+		assertEquals(new Point(-2, 0), reference.toDrawing(2, 0));
+		assertEquals(new Point(0, 2), reference.toDrawing(0, 2));
+	}
+
+	@Test
+	public void shouldCreateOneReferencePerCell() throws Exception {
+		DXFInsert insert = createDXFInsert("square", 0, 0);
+		insert.setRows(2);
+		insert.setColumns(3);
+		insert.setRowSpacing(10);
+		insert.setColumnSpacing(5);
+
+		Collection<Element> parse = insertParser.parse(layer);
+		assertEquals(6, parse.size());
+		Collection<Point> insertionPoints = new ArrayList<Point>();
+		for (Element element : parse) {
+			insertionPoints.add(((BlockReference) element).getInsertionPoint());
+		}
+		assertTrue(insertionPoints.contains(new Point(10, 10)));
+		assertTrue(insertionPoints.contains(new Point(0, 0)));
+	}
+
+	@Test
+	public void shouldStretchNonUniformScales() throws Exception {
+		DXFInsert insert = createDXFInsert("square", 0, 0);
+		insert.setScaleX(2);
+		insert.setScaleY(3);
+
+		Collection<Element> parse = insertParser.parse(layer);
+		assertEquals(2, parse.size());
+		assertTrue(parse.contains(new Line(0, 0, 4, 0)));
+		assertTrue(parse.contains(new Line(0, 0, 0, 6)));
+	}
+
+	@Test
+	public void shouldIgnoreMissingAndSelfInsertingBlocks() throws Exception {
+		DXFBlock loop = new DXFBlock();
+		loop.setName("loop");
+		loop.setReferencePoint(new org.kabeja.dxf.helpers.Point(0, 0, 0));
+		DXFInsert inner = new DXFInsert();
+		inner.setBlockID("loop");
+		inner.setPoint(new org.kabeja.dxf.helpers.Point(0, 0, 0));
+		loop.addDXFEntity(inner);
+		document.addDXFBlock(loop);
+
+		createDXFInsert("missing", 0, 0);
+		createDXFInsert("loop", 0, 0);
+
+		assertTrue(insertParser.parse(layer).isEmpty());
+	}
+}
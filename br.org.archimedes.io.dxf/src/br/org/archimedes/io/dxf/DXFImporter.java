@@ -2,12 +2,11 @@ package br.org.archimedes.io.dxf;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
-import org.kabeja.dxf.DXFBlock;
 import org.kabeja.dxf.DXFColor;
 import org.kabeja.dxf.DXFLayer;
 import org.kabeja.parser.DXFParser;
@@ -22,6 +21,7 @@ import br.org.archimedes.gui.opengl.Color;
 import br.org.archimedes.interfaces.Importer;
 import br.org.archimedes.io.dxf.parsers.BlockParser;
 import br.org.archimedes.io.dxf.parsers.ElementParser;
+import br.org.archimedes.io.dxf.parsers.InsertParser;
 import br.org.archimedes.model.Drawing;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Layer;
@@ -31,6 +31,7 @@ public class DXFImporter implements Importer {
 	
 	Parser kabejaParser = ParserBuilder.createDefaultParser();
 	Map<String, Layer> importedLayers = new HashMap<String, Layer>();
+	BlockParser blockParser;
 		
 	@Override
 	public Drawing importDrawing(InputStream input)
@@ -46,7 +47,7 @@ public class DXFImporter implements Importer {
 		DXFLayer dxfLayer0 = kabejaParser.getDocument().getDXFLayer("0");
 		DXFLayer dxfLayer = dxfLayer0;
 		
-		parseBlocksFrom(dxfLayer);
+		blockParser = new BlockParser(kabejaParser.getDocument());
 			
 		do {
 			Layer archLayer = addParsedElementsFrom(dxfLayer);
@@ -63,20 +64,6 @@ public class DXFImporter implements Importer {
 		return drawing;
 	}
 
-	private void parseBlocksFrom(DXFLayer dxfLayer) {
-		Iterator blockIterator = kabejaParser.getDocument().getDXFBlockIterator();
-		
-		while (blockIterator.hasNext()) {
-			DXFBlock block = (DXFBlock) blockIterator.next();
-			
-			dxfLayer = (new BlockParser()).createLayerWithoutBlocksFrom(block);
-			
-			Layer archLayerWithoutBlocks = addParsedElementsFrom(dxfLayer);
-			
-			importedLayers.put(dxfLayer.getName(), archLayerWithoutBlocks);
-		}
-	}
-
 	private Color getInvertedBackgroundColor() {
 		Color bgColor = Utils.getWorkspace().getBackgroundColor();
 	    return new Color(255 - bgColor.getRed(), 255 - bgColor.getGreen(), 255 - bgColor.getBlue());
@@ -87,7 +74,8 @@ public class DXFImporter implements Importer {
 	    Color layerBackgroundColor = getInvertedBackgroundColor();
 	    Layer archLayer = new Layer(layerBackgroundColor, dxfLayer.getName(), LineStyle.CONTINUOUS, dxfLayer.getLineWeight());
 	    archLayer.setPrintColor(new Color(0, 0, 0));
-		Collection<ElementParser> parsers = ElementParser.getParserMap().values();
+		Collection<ElementParser> parsers = new ArrayList<ElementParser>(ElementParser.getParserMap().values());
+		parsers.add(new InsertParser(blockParser));
 		
 		for (ElementParser parser : parsers) {
 			try {
@@ -1,29 +1,105 @@
 package br.org.archimedes.io.dxf.parsers;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 import org.kabeja.dxf.DXFBlock;
+import org.kabeja.dxf.DXFDocument;
 import org.kabeja.dxf.DXFEntity;
 import org.kabeja.dxf.DXFLayer;
 
+import br.org.archimedes.block.BlockDefinition;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+
+/**
+ * Reads the blocks of a DXF document as block definitions. A block is only read the first time
+ * it is inserted and every insert of the same block shares its definition.
+ */
 public class BlockParser {
-	
-	DXFLayer layerWithoutBlocks = new DXFLayer();
-	
-	public DXFLayer createLayerWithoutBlocksFrom(DXFBlock dxfBlock) {
-		
-		if(dxfBlock != null) {
-	  		Iterator entitiesIterator = dxfBlock.getDXFEntitiesIterator();
-	  		
-	  		while (entitiesIterator.hasNext()) {
-				DXFEntity entity = (DXFEntity) entitiesIterator.next();
-				
-				if(!entity.isBlockEntity()) {
-					layerWithoutBlocks.addDXFEntity(entity);
-				}
-	  		}
+
+	private DXFDocument document;
+
+	private Map<String, BlockDefinition> definitions = new HashMap<String, BlockDefinition>();
+
+	private Set<String> parsing = new HashSet<String>();
+
+	public BlockParser(DXFDocument document) {
+
+		this.document = document;
+	}
+
+	/**
+	 * @param name
+	 *            The name of the block
+	 * @return The definition of that block or null if the document has no such block or if the
+	 *         block inserts itself
+	 */
+	public BlockDefinition getDefinition(String name) {
+
+		if (definitions.containsKey(name)) {
+			return definitions.get(name);
 		}
-		return layerWithoutBlocks;
+		if (parsing.contains(name)) {
+			return null;
+		}
+
+		BlockDefinition definition = null;
+		DXFBlock dxfBlock = document.getDXFBlock(name);
+		if (dxfBlock != null) {
+			parsing.add(name);
+			try {
+				definition = createDefinitionFrom(dxfBlock);
+			} catch (NullArgumentException e) {
+				// Should never happen since the block was found
+				e.printStackTrace();
+			}
+			parsing.remove(name);
+		}
+		definitions.put(name, definition);
+		return definition;
 	}
 
+	/**
+	 * @param dxfBlock
+	 *            The block to read
+	 * @return The definition with the elements of the block. Blocks inserted in this block are
+	 *         read as references to their own definitions.
+	 * @throws NullArgumentException
+	 *             Thrown if the block is null
+	 */
+	public BlockDefinition createDefinitionFrom(DXFBlock dxfBlock) throws NullArgumentException {
+
+		if (dxfBlock == null) {
+			throw new NullArgumentException();
+		}
+
+		DXFLayer blockLayer = new DXFLayer();
+		blockLayer.setName(dxfBlock.getName());
+		Iterator entitiesIterator = dxfBlock.getDXFEntitiesIterator();
+		while (entitiesIterator.hasNext()) {
+			blockLayer.addDXFEntity((DXFEntity) entitiesIterator.next());
+		}
+
+		Collection<ElementParser> parsers = new ArrayList<ElementParser>(ElementParser.getParserMap().values());
+		parsers.add(new InsertParser(this));
+
+		Collection<Element> elements = new ArrayList<Element>();
+		for (ElementParser parser : parsers) {
+			try {
+				elements.addAll(parser.parse(blockLayer));
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		org.kabeja.dxf.helpers.Point base = dxfBlock.getReferencePoint();
+		return new BlockDefinition(dxfBlock.getName(), elements, new Point(base.getX(), base.getY()));
+	}
 }
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:05:47, by agent.<br>
+ * It is part of package br.org.archimedes.io.dxf.parsers on the br.org.archimedes.io.dxf project.<br>
+ */
+
+package br.org.archimedes.io.dxf.parsers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.kabeja.dxf.DXFConstants;
+import org.kabeja.dxf.DXFInsert;
+import org.kabeja.dxf.DXFLayer;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.block.BlockDefinition;
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Vector;
+
+/**
+ * Reads the inserts of a layer as references to the definitions of their blocks. Inserts of
+ * more than one row or column give one reference per cell.
+ */
+public class InsertParser extends ElementParser {
+
+	private BlockParser blockParser;
+
+	/**
+	 * @param blockParser
+	 *            The parser that reads the blocks of the document
+	 */
+	public InsertParser(BlockParser blockParser) {
+
+		this.blockParser = blockParser;
+	}
+
+	@Override
+	public Collection<Element> parse(DXFLayer layer) throws NullArgumentException, InvalidArgumentException {
+
+		Collection<Element> references = new ArrayList<Element>();
+		@SuppressWarnings("unchecked")
+		List<DXFInsert> dxfInserts = layer.getDXFEntities(DXFConstants.ENTITY_TYPE_INSERT);
+
+		if (dxfInserts != null) {
+			for (DXFInsert dxfInsert : dxfInserts) {
+				BlockDefinition definition = blockParser.getDefinition(dxfInsert.getBlockID());
+				if (definition == null || definition.getElements().isEmpty()) {
+					continue;
+				}
+
+				double angle = Math.toRadians(dxfInsert.getRotate());
+				double cos = Math.cos(angle);
+				double sin = Math.sin(angle);
+				Point insertion = transformToArchimedesPoint(dxfInsert.getPoint());
+				for (int row = 0; row < Math.max(1, dxfInsert.getRows()); row++) {
+					for (int column = 0; column < Math.max(1, dxfInsert.getColumns()); column++) {
+						double x = column * dxfInsert.getColumnSpacing();
+						double y = row * dxfInsert.getRowSpacing();
+						Point cell = new Point(insertion.getX() + x * cos - y * sin, insertion.getY() + x * sin + y * cos);
+						addPlaced(references, definition, dxfInsert, cell, angle);
+					}
+				}
+			}
+		}
+		return references;
+	}
+
+	/**
+	 * Adds a reference to the definition placed as the insert says. A block scaled differently
+	 * on each axis cannot be referenced so copies of its elements are added instead.
+	 */
+	private void addPlaced(Collection<Element> elements, BlockDefinition definition, DXFInsert dxfInsert,
+			Point insertion, double angle) throws NullArgumentException, InvalidArgumentException {
+
+		double scaleX = dxfInsert.getScaleX();
+		double scaleY = dxfInsert.getScaleY();
+		if (Math.abs(Math.abs(scaleX) - Math.abs(scaleY)) <= Constant.EPSILON) {
+			// A negative x scale is a mirror on the y axis: a mirror on the x axis turned by half a circle
+			double rotation = scaleX < 0 ? angle + Math.PI : angle;
+			boolean mirrored = scaleX * scaleY < 0;
+			elements.add(new BlockReference(definition, insertion, rotation, Math.abs(scaleX), mirrored));
+		}
+		else {
+			elements.addAll(stretch(definition, insertion, angle, scaleX, scaleY));
+		}
+	}
+
+	/**
+	 * Places copies of the elements of the block moving each point of the elements. Elements
+	 * defined only by points (lines and polylines) are placed exactly while curves keep their
+	 * size.
+	 */
+	private Collection<Element> stretch(BlockDefinition definition, Point insertion, double angle,
+			double scaleX, double scaleY) throws NullArgumentException {
+
+		double cos = Math.cos(angle);
+		double sin = Math.sin(angle);
+		Collection<Element> stretched = new ArrayList<Element>();
+		for (Element element : definition.getElements()) {
+			Element copy = element.clone();
+			for (Point point : copy.getPoints()) {
+				double x = point.getX() * scaleX;
+				double y = point.getY() * scaleY;
+				Point placed = new Point(insertion.getX() + x * cos - y * sin, insertion.getY() + x * sin + y * cos);
+				copy.move(Collections.singletonList(point), new Vector(point, placed));
+			}
+			stretched.add(copy);
+		}
+		return stretched;
+	}
+}
@@ -32,6 +32,39 @@ import com.lowagie.text.pdf.PdfWriter;
  */
 public class PDFExporter implements Exporter {
 
+    private Rectangle pageSize;
+
+    private double resolution;
+
+
+    /**
+     * Creates an exporter to A4 landscape pages.
+     */
+    public PDFExporter () {
+
+        this(PageSize.A4.rotate());
+    }
+
+    /**
+     * @param pageSize
+     *            The size of the page to be exported
+     */
+    public PDFExporter (Rectangle pageSize) {
+
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @param resolution
+     *            The resolution of the target device in dots per inch. Paths are simplified so
+     *            that no detail smaller than one dot is written. 0 (the default) keeps every
+     *            point.
+     */
+    public void setResolution (double resolution) {
+
+        this.resolution = resolution;
+    }
+
     /*
      * (non-Javadoc)
      * @see
@@ -41,7 +74,7 @@ public class PDFExporter implements Exporter {
     public void exportDrawing (Drawing drawing, OutputStream output)
             throws IOException {
 
-        Rectangle rectangle = PageSize.A4.rotate();
+        Rectangle rectangle = pageSize;
         Document document = new Document(rectangle);
 
         PdfWriter writer = null;
@@ -55,6 +88,7 @@ public class PDFExporter implements Exporter {
         document.open();
         PdfContentByte cb = writer.getDirectContent();
         PDFWriter pdf = new PDFWriter(cb, rectangle);
+        pdf.setResolution(resolution);
         pdf.write(drawing);
 
         document.close();
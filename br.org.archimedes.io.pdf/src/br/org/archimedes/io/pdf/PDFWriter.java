@@ -13,10 +13,22 @@
 package br.org.archimedes.io.pdf;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import br.org.archimedes.exceptions.NotSupportedException;
 import br.org.archimedes.gui.opengl.Color;
 import br.org.archimedes.interfaces.ElementExporter;
+import br.org.archimedes.io.pdf.elements.BlockReferenceExporter;
+import br.org.archimedes.io.pdf.elements.DimensionExporter;
+import br.org.archimedes.io.pdf.elements.TextExporter;
 import br.org.archimedes.io.pdf.rcp.ElementExporterEPLoader;
 import br.org.archimedes.model.Drawing;
 import br.org.archimedes.model.Element;
@@ -28,14 +40,30 @@ import com.lowagie.text.Rectangle;
 import com.lowagie.text.pdf.PdfContentByte;
 
 /**
- * Belongs to package br.org.archimedes.model.writers.
+ * Belongs to package br.org.archimedes.model.writers.<br>
+ * Elements outside the document area are skipped and the remaining ones are exported in batches
+ * by a pool of threads, each batch into its own content byte. The batches are then added to the
+ * document in the layer order. Elements that need the document resources (such as fonts) are
+ * exported by the calling thread after the batches of their layer.
  * 
  * @author night
  */
 public class PDFWriter {
 
+    private static final int ELEMENTS_PER_BATCH = 2000;
+
     private PDFWriterHelper helper;
 
+    private Rectangle documentArea;
+
+    private int threads;
+
+    private ElementEPLoader elementEPLoader;
+
+    private ElementExporterEPLoader exporterLoader;
+
+    private Map<Class<? extends Element>, ElementExporter<Element>> exporters;
+
 
     /**
      * @param cb
@@ -45,7 +73,36 @@ public class PDFWriter {
      */
     public PDFWriter (PdfContentByte cb, Rectangle documentArea) {
 
+        this(cb, documentArea, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param cb
+     *            The pdf content byte used to draw
+     * @param documentArea
+     *            The documentArea to be used in the PDF
+     * @param threads
+     *            The number of threads used to export the elements. 1 exports everything on the
+     *            calling thread.
+     */
+    public PDFWriter (PdfContentByte cb, Rectangle documentArea, int threads) {
+
         this.helper = new PDFWriterHelper(cb, documentArea);
+        this.documentArea = documentArea;
+        this.threads = Math.max(1, threads);
+        this.elementEPLoader = new ElementEPLoader();
+        this.exporterLoader = new ElementExporterEPLoader();
+        this.exporters = new HashMap<Class<? extends Element>, ElementExporter<Element>>();
+    }
+
+    /**
+     * @param resolution
+     *            The resolution of the target device in dots per inch used to simplify paths. 0
+     *            disables the simplification.
+     */
+    public void setResolution (double resolution) {
+
+        helper.setResolution(resolution);
     }
 
     /*
@@ -58,10 +115,28 @@ public class PDFWriter {
         this.helper.setViewport(drawing.getViewportPosition());
         this.helper.setZoom(drawing.getZoom());
 
-        for (Layer layer : drawing.getLayerMap().values()) {
-            if (layer.isVisible()) {
-                write(layer);
+        PdfContentByte cb = helper.getPdfContentByte();
+        cb.saveState();
+        cb.rectangle(0, 0, documentArea.getWidth(), documentArea.getHeight());
+        cb.clip();
+        cb.newPath();
+
+        ExecutorService executor = null;
+        if (threads > 1) {
+            executor = Executors.newFixedThreadPool(threads);
+        }
+        try {
+            for (Layer layer : drawing.getLayerMap().values()) {
+                if (layer.isVisible()) {
+                    write(layer, executor);
+                }
+            }
+        }
+        finally {
+            if (executor != null) {
+                executor.shutdown();
             }
+            cb.restoreState();
         }
     }
 
@@ -72,6 +147,20 @@ public class PDFWriter {
      */
     public void write (Layer layer) {
 
+        write(layer, null);
+    }
+
+    /**
+     * Writes the visible elements of the layer.
+     * 
+     * @param layer
+     *            The layer to be written
+     * @param executor
+     *            The executor used to export the batches or null to export them on the calling
+     *            thread
+     */
+    private void write (Layer layer, ExecutorService executor) {
+
         PdfContentByte cb = helper.getPdfContentByte();
         cb.setLineWidth((float) layer.getThickness());
         Color layerColor = layer.getPrintColor();
@@ -84,23 +173,150 @@ public class PDFWriter {
             cb.setLineDash(0);
         }
 
-        ElementEPLoader elementEPLoader = new ElementEPLoader();
-        ElementExporterEPLoader exporterLoader = new ElementExporterEPLoader();
-
+        br.org.archimedes.model.Rectangle modelArea = helper.getModelArea();
+        List<List<Element>> batches = new ArrayList<List<Element>>();
+        List<Element> batch = new ArrayList<Element>(ELEMENTS_PER_BATCH);
+        List<Element> needingResources = new ArrayList<Element>();
         for (Element element : layer.getElements()) {
-            String elementId = elementEPLoader.getElementId(element);
-            ElementExporter<Element> exporter = exporterLoader
-                    .getExporter(elementId);
+            br.org.archimedes.model.Rectangle boundary = element.getBoundaryRectangle();
+            ElementExporter<Element> exporter = getExporter(element);
+            if (exporter == null || (boundary != null && !boundary.overlaps(modelArea))) {
+                continue;
+            }
+
+            if (usesDocumentResources(exporter)) {
+                needingResources.add(element);
+            }
+            else {
+                batch.add(element);
+                if (batch.size() == ELEMENTS_PER_BATCH) {
+                    batches.add(batch);
+                    batch = new ArrayList<Element>(ELEMENTS_PER_BATCH);
+                }
+            }
+        }
+        if ( !batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        if (executor == null || batches.size() < 2) {
+            export(batches, helper);
+        }
+        else {
+            exportInParallel(batches, executor);
+        }
+
+        for (Element element : needingResources) {
+            export(element, helper);
+        }
+    }
+
+    /**
+     * Exports each batch into a content byte of its own and adds them to the document in order.
+     * 
+     * @param batches
+     *            The batches to be exported
+     * @param executor
+     *            The executor that will run the exports
+     */
+    private void exportInParallel (List<List<Element>> batches, ExecutorService executor) {
+
+        List<Future<PDFWriterHelper>> results = new ArrayList<Future<PDFWriterHelper>>();
+        for (final List<Element> batch : batches) {
+            final PDFWriterHelper batchHelper = helper.duplicate();
+            results.add(executor.submit(new Callable<PDFWriterHelper>() {
+
+                public PDFWriterHelper call () {
+
+                    export(batch, batchHelper);
+                    return batchHelper;
+                }
+            }));
+        }
+
+        PdfContentByte cb = helper.getPdfContentByte();
+        for (Future<PDFWriterHelper> result : results) {
             try {
-                exporter.exportElement(element, helper);
+                cb.add(result.get().getPdfContentByte());
             }
-            catch (IOException e) {
-                // Something went wrong when writting this element.
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (ExecutionException e) {
+                // Something went wrong when writting this batch.
                 // Just skip it and trace the log.
                 e.printStackTrace();
-            } catch (NotSupportedException e) {
-                // wont reach here
             }
         }
     }
+
+    /**
+     * Exports every element of every batch with the given helper.
+     */
+    private void export (List<List<Element>> batches, PDFWriterHelper batchHelper) {
+
+        for (List<Element> batch : batches) {
+            export(batch, batchHelper);
+        }
+    }
+
+    /**
+     * Exports every element of the batch with the given helper.
+     */
+    private void export (Iterable<Element> batch, PDFWriterHelper batchHelper) {
+
+        for (Element element : batch) {
+            export(element, batchHelper);
+        }
+    }
+
+    /**
+     * Exports the element with the given helper.
+     */
+    private void export (Element element, PDFWriterHelper elementHelper) {
+
+        ElementExporter<Element> exporter = exporters.get(element.getClass());
+        try {
+            exporter.exportElement(element, elementHelper);
+        }
+        catch (IOException e) {
+            // Something went wrong when writting this element.
+            // Just skip it and trace the log.
+            e.printStackTrace();
+        } catch (NotSupportedException e) {
+            // wont reach here
+        }
+    }
+
+    /**
+     * Must only be called by the thread that writes the drawing. The exporters are looked up once
+     * per element class so that the batches only read the map.
+     * 
+     * @param element
+     *            The element to be exported
+     * @return The exporter for this element or null if there is none
+     */
+    private ElementExporter<Element> getExporter (Element element) {
+
+        Class<? extends Element> elementClass = element.getClass();
+        if ( !exporters.containsKey(elementClass)) {
+            String elementId = elementEPLoader.getElementId(element);
+            exporters.put(elementClass, exporterLoader.getExporter(elementId));
+        }
+        return exporters.get(elementClass);
+    }
+
+    /**
+     * @param exporter
+     *            The exporter to check
+     * @return true if the exporter adds resources (such as fonts) to the document, false
+     *         otherwise. Those cannot be used by more than one thread at a time. Blocks may
+     *         contain texts.
+     */
+    private boolean usesDocumentResources (ElementExporter<?> exporter) {
+
+        return exporter instanceof TextExporter || exporter instanceof DimensionExporter
+                || exporter instanceof BlockReferenceExporter;
+    }
 }
@@ -32,6 +32,8 @@ public class PDFWriterHelper {
 
     private double zoom;
 
+    private double resolution;
+
 
     /**
      * @param cb
@@ -45,6 +47,19 @@ public class PDFWriterHelper {
         this.cb = cb;
     }
 
+    /**
+     * @return A helper with the same transformation that draws on a new content byte of the same
+     *         document. Its content can later be added to this helper's content byte.
+     */
+    public PDFWriterHelper duplicate () {
+
+        PDFWriterHelper duplicate = new PDFWriterHelper(cb.getDuplicate(), documentArea);
+        duplicate.setViewport(viewport);
+        duplicate.setZoom(zoom);
+        duplicate.setResolution(resolution);
+        return duplicate;
+    }
+
     /**
      * @return The model area that will be drawn
      */
@@ -100,6 +115,29 @@ public class PDFWriterHelper {
         this.zoom = zoom;
     }
 
+    /**
+     * @param resolution
+     *            The resolution of the target device in dots per inch. Paths are simplified so
+     *            that no detail smaller than one dot is written. 0 disables the simplification.
+     */
+    public void setResolution (double resolution) {
+
+        this.resolution = resolution;
+    }
+
+    /**
+     * @return The size of one dot of the target device in model units or 0 if paths should not be
+     *         simplified.
+     */
+    public double getSimplificationTolerance () {
+
+        if (resolution <= 0 || zoom <= 0) {
+            return 0;
+        }
+        // PDF coordinates are in points (1/72 inch)
+        return (72.0 / resolution) / zoom;
+    }
+
     /**
      * @return The Content Byte that should be used to draw
      */
@@ -15,12 +15,17 @@ package br.org.archimedes.io.pdf.elements;
 import java.io.IOException;
 import java.util.List;
 
+import br.org.archimedes.Geometrics;
 import br.org.archimedes.exceptions.NotSupportedException;
+import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.interfaces.ElementExporter;
-import br.org.archimedes.line.Line;
+import br.org.archimedes.io.pdf.PDFWriterHelper;
+import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
 import br.org.archimedes.polyline.Polyline;
 
+import com.lowagie.text.pdf.PdfContentByte;
+
 /**
  * Belongs to package br.org.archimedes.io.pdf.
  * 
@@ -34,11 +39,25 @@ public class PolylineExporter implements ElementExporter<Polyline> {
     public void exportElement (Polyline polyLine, Object outputObject)
             throws IOException {
 
-        LineExporter auxiliaryExporter = new LineExporter();
-        List<Line> lines = polyLine.getLines();
-        for (Line line : lines) {
-            auxiliaryExporter.exportElement(line, outputObject);
+        PDFWriterHelper helper = (PDFWriterHelper) outputObject;
+        PdfContentByte cb = helper.getPdfContentByte();
+
+        List<Point> points = polyLine.getPoints();
+        try {
+            points = Geometrics.simplify(points, helper.getSimplificationTolerance());
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since a polyline always has points
+            e.printStackTrace();
+        }
+
+        Point first = helper.modelToDocument(points.get(0));
+        cb.moveTo((float) first.getX(), (float) first.getY());
+        for (Point point : points.subList(1, points.size())) {
+            Point docPoint = helper.modelToDocument(point);
+            cb.lineTo((float) docPoint.getX(), (float) docPoint.getY());
         }
+        cb.stroke();
     }
     
     public void exportElement (Polyline element, Object outputObject, Rectangle boundingBox)
@@ -32,6 +32,12 @@ public class Messages extends NLS {
 
     public static String PDFFilePickerPage_ExtensionName;
 
+    public static String PDFFilePickerPage_PageSizeLabel;
+
+    public static String PDFFilePickerPage_SimplifyButtonText;
+
+    public static String PDFFilePickerPage_SimplifyButtonTooltip;
+
     public static String PDFFilePickerPage_WindowMessage;
 
     public static String PDFFilePickerPage_WindowTitle;
@@ -14,6 +14,9 @@ package br.org.archimedes.io.pdf.rcp;
 
 import br.org.archimedes.interfaces.FileModel;
 
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Rectangle;
+
 import org.eclipse.jface.wizard.WizardPage;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.ModifyEvent;
@@ -23,6 +26,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Group;
@@ -36,8 +40,16 @@ import org.eclipse.swt.widgets.Text;
  */
 public class PDFFilePickerPage extends WizardPage {
 
+    private static final String[] PAGE_SIZES = {"A4", "A3", "A2", "A1", "A0", "B0", "ARCH_E"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+
     private FileModel fileModel;
 
+    private static final double PRINTER_RESOLUTION = 600;
+
+    private String pageSize = PAGE_SIZES[0];
+
+    private boolean simplify;
+
 
     /**
      * Default constructor.
@@ -123,9 +135,63 @@ public class PDFFilePickerPage extends WizardPage {
             }
         });
 
+        label = new Label(group, SWT.NONE);
+        label.setText(Messages.PDFFilePickerPage_PageSizeLabel);
+        data = new GridData(SWT.LEFT, SWT.CENTER, false, false);
+        label.setLayoutData(data);
+
+        final Combo pageSizeCombo = new Combo(group, SWT.READ_ONLY);
+        pageSizeCombo.setItems(PAGE_SIZES);
+        pageSizeCombo.select(0);
+        pageSizeCombo.addModifyListener(new ModifyListener() {
+
+            public void modifyText (ModifyEvent e) {
+
+                pageSize = pageSizeCombo.getText();
+            }
+        });
+        data = new GridData(SWT.FILL, SWT.CENTER, true, false);
+        pageSizeCombo.setLayoutData(data);
+
+        final Button simplifyButton = new Button(group, SWT.CHECK);
+        simplifyButton.setText(Messages.PDFFilePickerPage_SimplifyButtonText);
+        simplifyButton.setToolTipText(Messages.PDFFilePickerPage_SimplifyButtonTooltip);
+        simplifyButton.addSelectionListener(new SelectionListener() {
+
+            public void widgetDefaultSelected (SelectionEvent e) {
+
+                widgetSelected(e);
+            }
+
+            public void widgetSelected (SelectionEvent e) {
+
+                simplify = simplifyButton.getSelection();
+            }
+        });
+        data = new GridData(SWT.FILL, SWT.CENTER, true, false);
+        data.horizontalSpan = 2;
+        simplifyButton.setLayoutData(data);
+
         setControl(group);
     }
 
+    /**
+     * @return The chosen page size in landscape
+     */
+    public Rectangle getPageSize () {
+
+        return PageSize.getRectangle(pageSize).rotate();
+    }
+
+    /**
+     * @return The resolution in dots per inch used to simplify paths or 0 if they should not be
+     *         simplified
+     */
+    public double getResolution () {
+
+        return simplify ? PRINTER_RESOLUTION : 0;
+    }
+
     /**
      * @see org.eclipse.jface.wizard.WizardPage#canFlipToNextPage()
      */
@@ -44,6 +44,8 @@ public class PDFWizardExporter extends Wizard implements IExportWizard,
 
     private IWorkbench workbench;
 
+    private PDFFilePickerPage filePickerPage;
+
 
     /**
      * @see org.eclipse.jface.wizard.Wizard#canFinish()
@@ -77,7 +79,8 @@ public class PDFWizardExporter extends Wizard implements IExportWizard,
     @Override
     public boolean performFinish () {
 
-        PDFExporter exporter = new PDFExporter();
+        PDFExporter exporter = new PDFExporter(filePickerPage.getPageSize());
+        exporter.setResolution(filePickerPage.getResolution());
         try {
             OutputStream output = new FileOutputStream(fileModel.getFilePath());
             Drawing drawing = (Drawing) selection.getFirstElement();
@@ -119,6 +122,7 @@ public class PDFWizardExporter extends Wizard implements IExportWizard,
     public void addPages () {
 
         super.addPages();
-        this.addPage(new PDFFilePickerPage(fileModel));
+        filePickerPage = new PDFFilePickerPage(fileModel);
+        this.addPage(filePickerPage);
     }
 }
@@ -23,6 +23,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import br.org.archimedes.Tester;
+import br.org.archimedes.io.svg.SVGOutputStream;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.polyline.Polyline;
 
@@ -67,4 +68,20 @@ public class PolylineExporterTest extends Tester {
         String result = stream.toString().replaceAll("\\s", "");
         assertEquals(expected, result);
     }
+
+    @Test
+    public void exportSimplifiedPolylineAsSingleSVGPolyline () throws Exception {
+
+        List<Point> list = new ArrayList<Point>();
+        list.add(new Point(0, 0));
+        list.add(new Point(50, 0.2));
+        list.add(new Point(100, 0));
+        list.add(new Point(100, 100));
+        polyline = new Polyline(list);
+
+        exporter.exportElement(polyline, new SVGOutputStream(stream, 0.5));
+
+        String expected = "<polyline points=\"0,0 100,0 100,-100\" />";
+        assertEquals(expected, stream.toString().trim());
+    }
 }
@@ -38,13 +38,34 @@ import java.util.Collection;
  */
 public class SVGExporter implements Exporter {
 
+    /**
+     * Coordinates are written as whole drawing units so that is the resolution of the output.
+     */
+    private static final double OUTPUT_RESOLUTION = 1.0;
+
+    private boolean simplifyPaths;
+
+
+    /**
+     * @param simplifyPaths
+     *            true if points of a path closer than half the output resolution to the simplified
+     *            path should be removed, false to keep every point (the default).
+     */
+    public void setSimplifyPaths (boolean simplifyPaths) {
+
+        this.simplifyPaths = simplifyPaths;
+    }
+
     /**
      * (non-Javadoc).
      * 
      * @see br.org.archimedes.interfaces.Exporter#exportDrawing(br.org.archimedes.interfaces.Drawing,
      *      java.io.OutputStream)
      */
-    public void exportDrawing (Drawing drawing, OutputStream output) throws IOException {
+    public void exportDrawing (Drawing drawing, OutputStream originalOutput) throws IOException {
+
+        OutputStream output = new SVGOutputStream(originalOutput, simplifyPaths
+                ? OUTPUT_RESOLUTION / 2 : 0);
 
         String charset = "UTF-8"; //$NON-NLS-1$
         // TODO Forçar locale
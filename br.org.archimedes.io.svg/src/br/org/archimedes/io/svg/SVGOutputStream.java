@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:51:39, by agent.<br>
+ * It is part of package br.org.archimedes.io.svg on the br.org.archimedes.io.svg project.<br>
+ */
+package br.org.archimedes.io.svg;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Belongs to package br.org.archimedes.io.svg.<br>
+ * Output given to the element exporters by the SVG exporter. It carries the export options the
+ * exporters may use.
+ * 
+ * @author agent
+ */
+public class SVGOutputStream extends FilterOutputStream {
+
+    private double simplificationTolerance;
+
+
+    /**
+     * @param output
+     *            The stream to write on
+     * @param simplificationTolerance
+     *            The distance (in drawing units) under which points of a path may be removed. 0
+     *            keeps every point.
+     */
+    public SVGOutputStream (OutputStream output, double simplificationTolerance) {
+
+        super(output);
+        this.simplificationTolerance = simplificationTolerance;
+    }
+
+    /**
+     * @return The distance (in drawing units) under which points of a path may be removed. 0 if
+     *         every point must be kept.
+     */
+    public double getSimplificationTolerance () {
+
+        return simplificationTolerance;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.io.FilterOutputStream#write(byte[], int, int)
+     */
+    @Override
+    public void write (byte[] bytes, int offset, int length) throws IOException {
+
+        // FilterOutputStream would write one byte at a time
+        out.write(bytes, offset, length);
+    }
+}
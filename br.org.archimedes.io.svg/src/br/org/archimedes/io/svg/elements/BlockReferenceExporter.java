@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:05:47, by agent.<br>
+ * It is part of package br.org.archimedes.io.svg.elements on the br.org.archimedes.io.svg project.<br>
+ */
+package br.org.archimedes.io.svg.elements;
+
+import java.io.IOException;
+
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.exceptions.NotSupportedException;
+import br.org.archimedes.interfaces.ElementExporter;
+import br.org.archimedes.io.svg.rcp.ElementExporterEPLoader;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.rcp.extensionpoints.ElementEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.io.svg.elements.<br>
+ * Writes a block reference as the elements it places.
+ *
+ * @author agent
+ */
+public class BlockReferenceExporter implements ElementExporter<BlockReference> {
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.interfaces.ElementExporter#exportElement(br.org.archimedes
+     * .model.Element, java.lang.Object)
+     */
+    public void exportElement (BlockReference reference, Object outputObject)
+            throws IOException {
+
+        exportElement(reference, outputObject, null);
+    }
+
+    /**
+     * @param boundingBox
+     *            The box infinite elements of the block are cut by or null to use their own
+     */
+    public void exportElement (BlockReference reference, Object outputObject,
+            Rectangle boundingBox) throws IOException {
+
+        ElementEPLoader elementEPLoader = new ElementEPLoader();
+        ElementExporterEPLoader exporterLoader = new ElementExporterEPLoader();
+        for (Element element : reference.explode()) {
+            ElementExporter<Element> exporter = exporterLoader.getExporter(elementEPLoader
+                    .getElementId(element));
+            if (exporter == null) {
+                continue;
+            }
+            try {
+                exporter.exportElement(element, outputObject);
+            }
+            catch (NotSupportedException e) {
+                // Infinite elements need a bounding box
+                try {
+                    exporter.exportElement(element, outputObject, boundingBox);
+                }
+                catch (NotSupportedException e1) {
+                    // Should never happen since one of the methods is supported
+                    e1.printStackTrace();
+                }
+            }
+        }
+    }
+}
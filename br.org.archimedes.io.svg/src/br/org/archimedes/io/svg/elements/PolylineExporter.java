@@ -16,9 +16,14 @@ package br.org.archimedes.io.svg.elements;
 import java.io.IOException;
 import java.util.List;
 
+import br.org.archimedes.Geometrics;
 import br.org.archimedes.exceptions.NotSupportedException;
+import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.interfaces.ElementExporter;
+import br.org.archimedes.io.svg.SVGExporterHelper;
+import br.org.archimedes.io.svg.SVGOutputStream;
 import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
 import br.org.archimedes.polyline.Polyline;
 
@@ -37,6 +42,14 @@ public class PolylineExporter implements ElementExporter<Polyline> {
      */
     public void exportElement (Polyline polyLine, Object outputObject) throws IOException {
 
+        if (outputObject instanceof SVGOutputStream) {
+            SVGOutputStream output = (SVGOutputStream) outputObject;
+            if (output.getSimplificationTolerance() > 0) {
+                exportSimplified(polyLine, output);
+                return;
+            }
+        }
+
         LineExporter auxiliaryExporter = new LineExporter();
         List<Line> lines = polyLine.getLines();
         for (Line line : lines) {
@@ -44,6 +57,32 @@ public class PolylineExporter implements ElementExporter<Polyline> {
         }
     }
 
+    /**
+     * Writes the polyline as a single path without the points closer than the output's tolerance
+     * to the simplified path.
+     */
+    private void exportSimplified (Polyline polyLine, SVGOutputStream output) throws IOException {
+
+        List<Point> points = polyLine.getPoints();
+        try {
+            points = Geometrics.simplify(points, output.getSimplificationTolerance());
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since a polyline always has points
+            e.printStackTrace();
+        }
+
+        StringBuilder polylineTag = new StringBuilder("<polyline points=\""); //$NON-NLS-1$
+        for (Point point : points) {
+            polylineTag.append(SVGExporterHelper.svgFor(point));
+            polylineTag.append(" "); //$NON-NLS-1$
+        }
+        polylineTag.setLength(polylineTag.length() - 1);
+        polylineTag.append("\" />\n"); //$NON-NLS-1$
+
+        output.write(polylineTag.toString().getBytes());
+    }
+
     public void exportElement (Polyline element, Object outputObject, Rectangle boundingBox)
             throws NotSupportedException {
 
@@ -45,6 +45,10 @@ public class Messages extends NLS {
     public static String SVGFilePickerPage_BrowseButtonText;
 
     public static String SVGFilePickerPage_BrowseButtonTooltip;
+
+    public static String SVGFilePickerPage_SimplifyButtonText;
+
+    public static String SVGFilePickerPage_SimplifyButtonTooltip;
     static {
         // initialize resource bundle
         NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -56,6 +56,8 @@ public class SVGFilePickerPage extends WizardPage {
 
     private Text filePathText;
 
+    private boolean simplifyPaths;
+
 
     /**
      * @see org.eclipse.jface.dialogs.IDialogPage#createControl(org.eclipse.swt.widgets.Composite)
@@ -123,9 +125,36 @@ public class SVGFilePickerPage extends WizardPage {
             }
         });
 
+        final Button simplifyButton = new Button(group, SWT.CHECK);
+        simplifyButton.setText(Messages.SVGFilePickerPage_SimplifyButtonText);
+        simplifyButton.setToolTipText(Messages.SVGFilePickerPage_SimplifyButtonTooltip);
+        simplifyButton.addSelectionListener(new SelectionListener() {
+
+            public void widgetDefaultSelected (SelectionEvent e) {
+
+                widgetSelected(e);
+            }
+
+            public void widgetSelected (SelectionEvent e) {
+
+                simplifyPaths = simplifyButton.getSelection();
+            }
+        });
+        data = new GridData(SWT.FILL, SWT.CENTER, true, false);
+        data.horizontalSpan = 2;
+        simplifyButton.setLayoutData(data);
+
         setControl(group);
     }
 
+    /**
+     * @return true if the user chose to simplify the paths, false otherwise
+     */
+    public boolean shouldSimplifyPaths () {
+
+        return simplifyPaths;
+    }
+
     /**
      * @see org.eclipse.jface.wizard.WizardPage#canFlipToNextPage()
      */
@@ -44,6 +44,8 @@ public class SVGWizardExporter extends Wizard implements IExportWizard,
 
     private IWorkbench workbench;
 
+    private SVGFilePickerPage filePickerPage;
+
 
     /**
      * @see org.eclipse.jface.wizard.Wizard#canFinish()
@@ -78,6 +80,7 @@ public class SVGWizardExporter extends Wizard implements IExportWizard,
     public boolean performFinish () {
 
         SVGExporter exporter = new SVGExporter();
+        exporter.setSimplifyPaths(filePickerPage.shouldSimplifyPaths());
         try {
             OutputStream output = new FileOutputStream(fileModel.getFilePath());
             Drawing drawing = (Drawing) selection.getFirstElement();
@@ -119,6 +122,7 @@ public class SVGWizardExporter extends Wizard implements IExportWizard,
     public void addPages () {
 
         super.addPages();
-        this.addPage(new SVGFilePickerPage(fileModel));
+        filePickerPage = new SVGFilePickerPage(fileModel);
+        this.addPage(filePickerPage);
     }
 }
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:05:47, by agent.<br>
+ * It is part of package br.org.archimedes.io.xml.elements on the br.org.archimedes.io.xml project.<br>
+ */
+package br.org.archimedes.io.xml.elements;
+
+import java.io.IOException;
+
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.exceptions.NotSupportedException;
+import br.org.archimedes.interfaces.ElementExporter;
+import br.org.archimedes.io.xml.rcp.ElementExporterEPLoader;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.rcp.extensionpoints.ElementEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.io.xml.elements.<br>
+ * Writes a block reference as the elements it places since the file format has no blocks.
+ *
+ * @author agent
+ */
+public class BlockReferenceXMLExporter implements ElementExporter<BlockReference> {
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.interfaces.ElementExporter#exportElement(br.org.archimedes
+     * .model.Element, java.lang.Object)
+     */
+    public void exportElement (BlockReference reference, Object outputObject)
+            throws IOException {
+
+        ElementEPLoader elementEPLoader = new ElementEPLoader();
+        ElementExporterEPLoader exporterLoader = new ElementExporterEPLoader();
+        for (Element element : reference.explode()) {
+            ElementExporter<Element> exporter = exporterLoader.getExporter(elementEPLoader
+                    .getElementId(element));
+            if (exporter != null) {
+                try {
+                    exporter.exportElement(element, outputObject);
+                }
+                catch (NotSupportedException e) {
+                    // wont reach here
+                }
+            }
+        }
+    }
+
+    public void exportElement (BlockReference reference, Object outputObject,
+            Rectangle boundingBox) throws IOException, NotSupportedException {
+
+        throw new NotSupportedException();
+    }
+}
@@ -73,8 +73,10 @@ public class Leader extends Element {
     @Override
     public void move (double deltaX, double deltaY) {
 
+        willChange();
         pointer.move(deltaX, deltaY);
         textBase.move(deltaX, deltaY);
+        invalidateBoundary();
     }
 
     /*
@@ -24,6 +24,7 @@ import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Layer;
 import br.org.archimedes.model.LineStyle;
 import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -33,6 +34,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -711,5 +713,15 @@ public class LineTest extends Tester {
     	assertEquals(line.getEndingPoint(), line.getTangencyLinePoint(point2, point2));
     }
 
+    @Test
+    public void intersectsRectanglesTouchedByTheSegment () throws Exception {
+
+        Line line = new Line(0, 0, 2, 2);
 
+        assertTrue(line.intersects(new Rectangle(1.5, 0, 3, 1.5)));
+        assertTrue(line.intersects(new Rectangle(0.5, 0.5, 1, 1)));
+        assertTrue(line.intersects(new Rectangle(2, 2, 3, 3)));
+        assertFalse(line.intersects(new Rectangle(1.5, 0, 3, 1)));
+        assertFalse(line.intersects(new Rectangle(3, 3, 4, 4)));
+    }
 }
@@ -32,6 +32,7 @@ import br.org.archimedes.model.Filletable;
 import br.org.archimedes.model.Offsetable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
 import br.org.archimedes.model.ReferencePoint;
 import br.org.archimedes.model.Vector;
 import br.org.archimedes.model.references.SquarePoint;
@@ -41,7 +42,7 @@ import br.org.archimedes.move.MoveCommand;
 /**
  * Belongs to package br.org.archimedes.line.
  */
-public class Line extends Element implements Offsetable, Filletable {
+public class Line extends Element implements Offsetable, Filletable, RectangleIntersectable {
 
 	private Point initialPoint;
 
@@ -124,38 +125,42 @@ public class Line extends Element implements Offsetable, Filletable {
 	 */
 	public boolean contains (Point point) throws NullArgumentException {
 
+		if (point == null) {
+			throw new NullArgumentException();
+		}
+		return contains(initialPoint.getX(), initialPoint.getY(), endingPoint.getX(), endingPoint
+				.getY(), point.getX(), point.getY());
+	}
+
+	/**
+	 * Tests if the segment between (initialX, initialY) and (endingX, endingY) contains the point
+	 * (x, y) with the same tolerance as {@link #contains(Point)} but without creating any object.
+	 * 
+	 * @return Return true if the segment contains the point, false otherwise.
+	 */
+	public static boolean contains (double initialX, double initialY, double endingX,
+			double endingY, double x, double y) {
+
 		boolean contains = false;
 
-		if (point != null) {
-			if ( !point.equals(getInitialPoint())) {
-				double angle = Geometrics.calculateAngle(getInitialPoint(), point);
+		if (Math.abs(x - initialX) > Constant.EPSILON || Math.abs(y - initialY) > Constant.EPSILON) {
+			double angle = Geometrics.calculateAngle(initialX, initialY, x, y);
+			double lineAngle = Geometrics.calculateAngle(initialX, initialY, endingX, endingY);
 
-				if (Math.abs(getAngle() - angle) <= Constant.EPSILON) {
-					double distance = Geometrics.calculateDistance(getInitialPoint(), point);
-					if (distance <= getLength() + Constant.EPSILON) {
-						contains = true;
-					}
+			if (Math.abs(lineAngle - angle) <= Constant.EPSILON) {
+				double distance = Geometrics.calculateDistance(initialX, initialY, x, y);
+				double length = Geometrics.calculateDistance(initialX, initialY, endingX, endingY);
+				if (distance <= length + Constant.EPSILON) {
+					contains = true;
 				}
 			}
-			else {
-				contains = true;
-			}
 		}
 		else {
-			throw new NullArgumentException();
+			contains = true;
 		}
 		return contains;
 	}
 
-	/**
-	 * @return Return the angle between the line and the x-axis.
-	 */
-	private double getAngle () {
-
-		return Geometrics.calculateAngle(initialPoint.getX(), initialPoint.getY(), endingPoint
-				.getX(), endingPoint.getY());
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * @see br.org.archimedes.model.Element#clone()
@@ -270,22 +275,26 @@ public class Line extends Element implements Offsetable, Filletable {
 		return getInitialPoint().equals(initial) && getEndingPoint().equals(ending);
 	}
 
-	/**
-	 * @return The length of the line
+	/*
+	 * (non-Javadoc)
+	 * @see br.org.archimedes.model.Element#isInside(br.org.archimedes.model.Rectangle)
 	 */
-	private double getLength () {
+	public boolean isInside (Rectangle rectangle) {
 
-		return Geometrics.calculateDistance(initialPoint.getX(), initialPoint.getY(), endingPoint
-				.getX(), endingPoint.getY());
+		return getInitialPoint().isInside(rectangle) && getEndingPoint().isInside(rectangle);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see br.org.archimedes.model.Element#isInside(br.org.archimedes.model.Rectangle)
+	 * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
 	 */
-	public boolean isInside (Rectangle rectangle) {
+	public boolean intersects (Rectangle rectangle) throws NullArgumentException {
 
-		return getInitialPoint().isInside(rectangle) && getEndingPoint().isInside(rectangle);
+		if (rectangle == null) {
+			throw new NullArgumentException();
+		}
+		return rectangle.intersectsSegment(initialPoint.getX(), initialPoint.getY(), endingPoint
+				.getX(), endingPoint.getY());
 	}
 
 	/*
@@ -294,10 +303,12 @@ public class Line extends Element implements Offsetable, Filletable {
 	 */
 	public void move (double deltaX, double deltaY) {
 
+		willChange();
 		getInitialPoint().setX(getInitialPoint().getX() + deltaX);
 		getInitialPoint().setY(getInitialPoint().getY() + deltaY);
 		getEndingPoint().setX(getEndingPoint().getX() + deltaX);
 		getEndingPoint().setY(getEndingPoint().getY() + deltaY);
+		invalidateBoundary();
 	}
 
 	public Rectangle getBoundaryRectangle () {
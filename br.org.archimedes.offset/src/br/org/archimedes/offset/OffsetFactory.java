@@ -25,6 +25,7 @@ import br.org.archimedes.gui.model.Workspace;
 import br.org.archimedes.interfaces.Command;
 import br.org.archimedes.interfaces.Parser;
 import br.org.archimedes.model.Element;
+import br.org.archimedes.model.MultipleOffsetable;
 import br.org.archimedes.model.Offsetable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.parser.DistanceParser;
@@ -36,6 +37,8 @@ import br.org.archimedes.undo.UndoCommand;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -343,10 +346,8 @@ public class OffsetFactory implements CommandFactory {
 
             localDistance *= (localPositive ? 1 : -1);
 
-            Element offseted = null;
             try {
-                offseted = element.cloneWithDistance(localDistance);
-                offseteds.add(offseted);
+                offseteds.addAll(cloneWithDistance(element, localDistance));
             }
             catch (InvalidParameterException e) {
                 // Couldn't offset this element. Ignore it but keep the exception for later throw
@@ -362,6 +363,27 @@ public class OffsetFactory implements CommandFactory {
         return offseteds;
     }
 
+    /**
+     * Offsets the element the same way for the preview and the command. Self intersecting
+     * offsets lose their loops.
+     * 
+     * @param element
+     *            The element to offset
+     * @param distance
+     *            The signed distance of the offset
+     * @return The elements resulting from the offset
+     * @throws InvalidParameterException
+     *             Thrown if the element cannot be offset by this distance
+     */
+    private Collection<? extends Element> cloneWithDistance (Offsetable element, double distance)
+            throws InvalidParameterException {
+
+        if (Utils.isInterfaceOf(element, MultipleOffsetable.class)) {
+            return ((MultipleOffsetable) element).cloneWithDistanceAndCleanup(distance);
+        }
+        return Collections.singletonList(element.cloneWithDistance(distance));
+    }
+
     /**
      * Makes an undo command.
      */
@@ -523,10 +545,10 @@ public class OffsetFactory implements CommandFactory {
                 }
 
                 localDistance *= (localPositive ? 1 : -1);
-                Element copyElement;
                 try {
-                    copyElement = element.cloneWithDistance(localDistance);
-                    copyElement.draw(br.org.archimedes.Utils.getOpenGLWrapper());
+                    for (Element copyElement : cloneWithDistance(element, localDistance)) {
+                        copyElement.draw(br.org.archimedes.Utils.getOpenGLWrapper());
+                    }
                 }
                 catch (InvalidParameterException e) {
                     // Will often happen. Don't want to print it.
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:12:12, by agent.<br>
+ * It is part of package br.org.archimedes.overkill on the br.org.archimedes.overkill.tests project.<br>
+ */
+
+package br.org.archimedes.overkill;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.Tester;
+import br.org.archimedes.arc.Arc;
+import br.org.archimedes.circle.Circle;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.LineStyle;
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.overkill.
+ *
+ * @author agent
+ */
+public class OverkillTest extends Tester {
+
+    private Overkill overkill;
+
+    private List<Element> elements;
+
+
+    @Before
+    public void setUp () {
+
+        overkill = new Overkill();
+        elements = new ArrayList<Element>();
+    }
+
+    @Test
+    public void removesDuplicatedLines () throws Exception {
+
+        Line line = new Line(0.0, 0.0, 10.0, 0.0);
+        elements.add(line);
+        elements.add(new Line(10.0, 0.0, 0.0, 0.0));
+
+        overkill.clean(elements);
+
+        assertEquals(2, overkill.getRemoved().size());
+        assertEquals(1, overkill.getAdded().size());
+        assertEquals(line, overkill.getAdded().get(0));
+    }
+
+    @Test
+    public void mergesOverlappingCollinearLines () throws Exception {
+
+        Line untouched = new Line(30.0, 30.0, 40.0, 40.0);
+        elements.add(new Line(0.0, 0.0, 10.0, 10.0));
+        elements.add(new Line(5.0, 5.0, 20.0, 20.0));
+        elements.add(untouched);
+
+        overkill.clean(elements);
+
+        assertEquals(2, overkill.getRemoved().size());
+        assertTrue( !overkill.getRemoved().contains(untouched));
+        assertEquals(1, overkill.getAdded().size());
+        assertEquals(new Line(0.0, 0.0, 20.0, 20.0), overkill.getAdded().get(0));
+    }
+
+    @Test
+    public void mergesLinesFarFromTheOriginWithinTolerance () throws Exception {
+
+        elements.add(new Line(1e5, 1e5, 1e5 + 10.0, 1e5 + 10.0000001));
+        elements.add(new Line(1e5 + 5.0, 1e5 + 5.0, 1e5 + 20.0, 1e5 + 20.0));
+
+        overkill.clean(elements);
+
+        assertEquals(2, overkill.getRemoved().size());
+        assertEquals(1, overkill.getAdded().size());
+    }
+
+    @Test
+    public void keepsParallelAndDisjointLines () throws Exception {
+
+        elements.add(new Line(0.0, 0.0, 10.0, 0.0));
+        elements.add(new Line(11.0, 0.0, 20.0, 0.0));
+        elements.add(new Line(0.0, 1e-3, 10.0, 1e-3));
+
+        overkill.clean(elements);
+
+        assertTrue(overkill.getRemoved().isEmpty());
+        assertTrue(overkill.getAdded().isEmpty());
+    }
+
+    @Test
+    public void onlyMergesElementsOfTheSameLayer () throws Exception {
+
+        Line other = new Line(0.0, 0.0, 10.0, 0.0);
+        other.setLayer(new Layer(Constant.BLACK, "Other", LineStyle.CONTINUOUS, 1.0)); //$NON-NLS-1$
+        elements.add(new Line(0.0, 0.0, 10.0, 0.0));
+        elements.add(other);
+
+        overkill.clean(elements);
+
+        assertTrue(overkill.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void removesElementsShorterThanTheTolerance () throws Exception {
+
+        // Longer than Constant.EPSILON so the line exists but under the default tolerance
+        Line line = new Line(0.0, 0.0, 0.0, Overkill.DEFAULT_TOLERANCE / 2);
+        elements.add(line);
+
+        overkill.clean(elements);
+
+        assertEquals(1, overkill.getRemoved().size());
+        assertEquals(line, overkill.getRemoved().get(0));
+        assertTrue(overkill.getAdded().isEmpty());
+    }
+
+    @Test
+    public void mergesOverlappingConcentricArcs () throws Exception {
+
+        Point center = new Point(0.0, 0.0);
+        double diagonal = Math.sqrt(2) / 2;
+        elements.add(new Arc(new Point(1.0, 0.0), new Point(0.0, 1.0), center, true));
+        elements.add(new Arc(new Point(diagonal, diagonal), new Point( -1.0, 0.0), center, true));
+
+        overkill.clean(elements);
+
+        assertEquals(2, overkill.getRemoved().size());
+        assertEquals(1, overkill.getAdded().size());
+        assertEquals(new Arc(new Point(1.0, 0.0), new Point( -1.0, 0.0), center, true), overkill
+                .getAdded().get(0));
+    }
+
+    @Test
+    public void turnsArcsCoveringTheWholeCircleIntoACircle () throws Exception {
+
+        Point center = new Point(0.0, 0.0);
+        elements.add(new Arc(new Point(0.0, -1.0), new Point(0.0, 1.0), center, true));
+        elements.add(new Arc(new Point(0.0, 1.0), new Point(0.0, -1.0), center, true));
+
+        overkill.clean(elements);
+
+        assertEquals(2, overkill.getRemoved().size());
+        assertEquals(1, overkill.getAdded().size());
+        assertEquals(new Circle(center, 1.0), overkill.getAdded().get(0));
+    }
+
+    @Test
+    public void circleAbsorbsItsArcs () throws Exception {
+
+        Point center = new Point(0.0, 0.0);
+        Arc arc = new Arc(new Point(0.0, -1.0), new Point(1.0, 0.0), center, true);
+        elements.add(new Circle(center, 1.0));
+        elements.add(arc);
+
+        overkill.clean(elements);
+
+        assertEquals(1, overkill.getRemoved().size());
+        assertEquals(arc, overkill.getRemoved().get(0));
+        assertTrue(overkill.getAdded().isEmpty());
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void refusesNonPositiveTolerance () throws Exception {
+
+        new Overkill(0);
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:12:12, by agent.<br>
+ * It is part of package br.org.archimedes.overkill on the br.org.archimedes.overkill project.<br>
+ */
+package br.org.archimedes.overkill;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Belongs to package br.org.archimedes.overkill.
+ *
+ * @author agent
+ */
+public class Messages extends NLS {
+
+    private static final String BUNDLE_NAME = "br.org.archimedes.overkill.messages"; //$NON-NLS-1$
+
+    public static String Canceled;
+
+    public static String Cleaned;
+
+    public static String NothingToClean;
+    static {
+        // initialize resource bundle
+        NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+    }
+
+
+    private Messages () {
+
+    }
+}
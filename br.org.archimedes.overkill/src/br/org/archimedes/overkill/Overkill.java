@@ -0,0 +1,669 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:12:12, by agent.<br>
+ * It is part of package br.org.archimedes.overkill on the br.org.archimedes.overkill project.<br>
+ */
+
+package br.org.archimedes.overkill;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.arc.Arc;
+import br.org.archimedes.circle.Circle;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.SpatialIndex;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.overkill.<br>
+ * Cleans a set of elements: removes zero length elements and exact duplicates, merges collinear
+ * lines that overlap or touch and concentric arcs of the same radius that overlap or touch.<br>
+ * Lines are indexed in a {@link SpatialIndex} so each line is only compared to the lines around
+ * it. Arcs and circles are hashed by their quantized center and radius and every other element
+ * by its quantized points, so only elements in the same or in a neighbour bucket are ever
+ * compared. Elements are only merged with elements of the same layer.
+ *
+ * @author agent
+ */
+public class Overkill {
+
+    /**
+     * Default distance under which two points are considered the same.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private double tolerance;
+
+    private List<Element> removed;
+
+    private List<Element> added;
+
+
+    /**
+     * Constructor. Uses the default tolerance.
+     */
+    public Overkill () {
+
+        tolerance = DEFAULT_TOLERANCE;
+        removed = new ArrayList<Element>();
+        added = new ArrayList<Element>();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tolerance
+     *            Distance under which two points are considered the same
+     * @throws InvalidArgumentException
+     *             Thrown if the tolerance is not positive
+     */
+    public Overkill (double tolerance) throws InvalidArgumentException {
+
+        this();
+        if (tolerance <= 0) {
+            throw new InvalidArgumentException();
+        }
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Computes the cleanup of the elements. The elements themselves are not changed, the result
+     * is available through {@link #getRemoved()} and {@link #getAdded()}.
+     *
+     * @param elements
+     *            The elements to clean
+     * @throws NullArgumentException
+     *             Thrown if the elements are null
+     */
+    public void clean (Collection<Element> elements) throws NullArgumentException {
+
+        if (elements == null) {
+            throw new NullArgumentException();
+        }
+
+        removed = new ArrayList<Element>();
+        added = new ArrayList<Element>();
+        List<Line> lines = new ArrayList<Line>();
+        Map<Key, List<Group>> circles = new HashMap<Key, List<Group>>();
+        Map<Key, List<Element>> others = new HashMap<Key, List<Element>>();
+
+        for (Element element : elements) {
+            if (isDegenerated(element)) {
+                removed.add(element);
+            }
+            else if (element instanceof Line) {
+                lines.add((Line) element);
+            }
+            else if (element instanceof Arc || element instanceof Circle) {
+                addToCircle(circles, element);
+            }
+            else {
+                addToOthers(others, element);
+            }
+        }
+
+        for (Group group : groupCollinear(lines)) {
+            mergeLines(group);
+        }
+        for (List<Group> groups : circles.values()) {
+            for (Group group : groups) {
+                mergeArcs(group);
+            }
+        }
+    }
+
+    /**
+     * @return The elements that should be removed by the last cleanup
+     */
+    public List<Element> getRemoved () {
+
+        return removed;
+    }
+
+    /**
+     * @return The elements that should be added by the last cleanup. They already have the layer
+     *         of the elements they replace.
+     */
+    public List<Element> getAdded () {
+
+        return added;
+    }
+
+    /**
+     * @return true if the element has no length, false otherwise
+     */
+    private boolean isDegenerated (Element element) throws NullArgumentException {
+
+        if (element instanceof Line) {
+            Line line = (Line) element;
+            return getLength(line) <= tolerance;
+        }
+        if (element instanceof Arc) {
+            Arc arc = (Arc) element;
+            return arc.getRadius() <= tolerance
+                    || getSweep(arc.getCenter(), arc.getInitialPoint(), arc.getEndingPoint())
+                            * arc.getRadius() <= tolerance;
+        }
+        if (element instanceof Circle) {
+            return ((Circle) element).getRadius() <= tolerance;
+        }
+        if (element instanceof Polyline) {
+            List<Point> points = element.getPoints();
+            for (Point point : points) {
+                if (Geometrics.calculateDistance(point, points.get(0)) > tolerance) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Groups the lines that overlap or touch and lie on the same carrier line.
+     *
+     * @return The groups of collinear lines
+     */
+    private Collection<Group> groupCollinear (List<Line> lines) {
+
+        SpatialIndex index = new SpatialIndex(lines);
+        Map<Element, Group> groups = new IdentityHashMap<Element, Group>();
+        for (Line line : lines) {
+            groups.put(line, new Group(line));
+        }
+
+        for (Line line : lines) {
+            Rectangle boundary = line.getBoundaryRectangle();
+            Point lowerLeft = boundary.getLowerLeft();
+            Point upperRight = boundary.getUpperRight();
+            Rectangle area = new Rectangle(lowerLeft.getX() - tolerance, lowerLeft.getY()
+                    - tolerance, upperRight.getX() + tolerance, upperRight.getY() + tolerance);
+            try {
+                for (Element neighbour : index.getElementsIn(area)) {
+                    if (neighbour != line && neighbour.getLayer() == line.getLayer()
+                            && areCollinear(line, (Line) neighbour)) {
+                        groups.get(line).union(groups.get(neighbour));
+                    }
+                }
+            }
+            catch (NullArgumentException e) {
+                // Should never happen
+                e.printStackTrace();
+            }
+        }
+
+        Map<Group, Group> roots = new IdentityHashMap<Group, Group>();
+        for (Line line : lines) {
+            Group root = groups.get(line).find();
+            if (roots.put(root, root) == null) {
+                root.members.clear();
+            }
+            root.members.add(line);
+        }
+        return roots.keySet();
+    }
+
+    /**
+     * @return true if the shorter line lies on the carrier of the longer one and they overlap or
+     *         touch, false otherwise
+     */
+    private boolean areCollinear (Line first, Line second) {
+
+        Point initial = first.getInitialPoint();
+        Point ending = first.getEndingPoint();
+        double length = getLength(first);
+        if (length < getLength(second)) {
+            return areCollinear(second, first);
+        }
+
+        double dx = (ending.getX() - initial.getX()) / length;
+        double dy = (ending.getY() - initial.getY()) / length;
+
+        double firstStart = 0;
+        double firstEnd = length;
+        double secondStart = Double.POSITIVE_INFINITY;
+        double secondEnd = Double.NEGATIVE_INFINITY;
+        for (Point point : second.getPoints()) {
+            double x = point.getX() - initial.getX();
+            double y = point.getY() - initial.getY();
+            if (Math.abs(x * dy - y * dx) > tolerance) {
+                return false;
+            }
+            double position = x * dx + y * dy;
+            secondStart = Math.min(secondStart, position);
+            secondEnd = Math.max(secondEnd, position);
+        }
+        return secondStart <= firstEnd + tolerance && secondEnd >= firstStart - tolerance;
+    }
+
+    /**
+     * Puts the arc or circle in the group of its center and radius, creating one if needed.
+     */
+    private void addToCircle (Map<Key, List<Group>> circles, Element element) {
+
+        Point center;
+        double radius;
+        if (element instanceof Arc) {
+            center = ((Arc) element).getCenter();
+            radius = ((Arc) element).getRadius();
+        }
+        else {
+            center = ((Circle) element).getCenter();
+            radius = ((Circle) element).getRadius();
+        }
+
+        Key key = new Key(element.getLayer(), Math.round(center.getX() / tolerance), Math
+                .round(center.getY() / tolerance), Math.round(radius / tolerance));
+        for (Key neighbour : key.getNeighbours()) {
+            List<Group> groups = circles.get(neighbour);
+            if (groups == null) {
+                continue;
+            }
+            for (Group group : groups) {
+                if (Math.abs(group.radius - radius) <= tolerance
+                        && Math.abs(group.center.getX() - center.getX()) <= tolerance
+                        && Math.abs(group.center.getY() - center.getY()) <= tolerance) {
+                    group.members.add(element);
+                    return;
+                }
+            }
+        }
+
+        Group group = new Group(element);
+        group.center = center;
+        group.radius = radius;
+        getList(circles, key).add(group);
+    }
+
+    /**
+     * Removes the element if an equal element was already seen.
+     */
+    private void addToOthers (Map<Key, List<Element>> others, Element element) {
+
+        List<Point> points = element.getPoints();
+        long[] values = new long[2 * points.size() + 1];
+        values[0] = element.getClass().getName().hashCode();
+        for (int i = 0; i < points.size(); i++) {
+            values[2 * i + 1] = Math.round(points.get(i).getX() / tolerance);
+            values[2 * i + 2] = Math.round(points.get(i).getY() / tolerance);
+        }
+
+        List<Element> seen = getList(others, new Key(element.getLayer(), values));
+        for (Element other : seen) {
+            if (other.equals(element)) {
+                removed.add(element);
+                return;
+            }
+        }
+        seen.add(element);
+    }
+
+    /**
+     * @return The length of the line
+     */
+    private double getLength (Line line) {
+
+        Point initial = line.getInitialPoint();
+        Point ending = line.getEndingPoint();
+        return Geometrics.calculateDistance(initial.getX(), initial.getY(), ending.getX(),
+                ending.getY());
+    }
+
+    /**
+     * Merges the overlapping lines of a carrier.
+     */
+    private void mergeLines (Group group) {
+
+        if (group.members.size() < 2) {
+            return;
+        }
+
+        Line longest = null;
+        double longestLength = 0;
+        for (Element element : group.members) {
+            Line line = (Line) element;
+            double length = getLength(line);
+            if (length > longestLength) {
+                longest = line;
+                longestLength = length;
+            }
+        }
+        Point origin = longest.getInitialPoint();
+        double dx = (longest.getEndingPoint().getX() - origin.getX()) / longestLength;
+        double dy = (longest.getEndingPoint().getY() - origin.getY()) / longestLength;
+
+        List<Interval> intervals = new ArrayList<Interval>(group.members.size());
+        for (Element element : group.members) {
+            Line line = (Line) element;
+            Point first = line.getInitialPoint();
+            Point second = line.getEndingPoint();
+            double firstPosition = (first.getX() - origin.getX()) * dx
+                    + (first.getY() - origin.getY()) * dy;
+            double secondPosition = (second.getX() - origin.getX()) * dx
+                    + (second.getY() - origin.getY()) * dy;
+            if (firstPosition <= secondPosition) {
+                intervals.add(new Interval(element, firstPosition, first, secondPosition, second));
+            }
+            else {
+                intervals.add(new Interval(element, secondPosition, second, firstPosition, first));
+            }
+        }
+
+        for (Interval run : mergeIntervals(intervals, tolerance)) {
+            if (run.members.size() > 1) {
+                try {
+                    Line merged = new Line(run.startPoint, run.endPoint);
+                    merged.setLayer(group.layer);
+                    removed.addAll(run.members);
+                    added.add(merged);
+                }
+                catch (InvalidArgumentException e) {
+                    // Should never happen since degenerated lines were removed
+                    e.printStackTrace();
+                }
+                catch (NullArgumentException e) {
+                    // Should never happen
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges the overlapping arcs of a center and radius. A circle covers all the arcs.
+     */
+    private void mergeArcs (Group group) {
+
+        if (group.members.size() < 2) {
+            return;
+        }
+
+        for (Element element : group.members) {
+            if (element instanceof Circle) {
+                List<Element> covered = new ArrayList<Element>(group.members);
+                covered.remove(element);
+                removed.addAll(covered);
+                return;
+            }
+        }
+
+        List<Interval> intervals = new ArrayList<Interval>(group.members.size());
+        for (Element element : group.members) {
+            Arc arc = (Arc) element;
+            double start = getAngle(group.center, arc.getInitialPoint());
+            double sweep = getSweep(group.center, arc.getInitialPoint(), arc.getEndingPoint());
+            intervals.add(new Interval(element, start, arc.getInitialPoint(), start + sweep, arc
+                    .getEndingPoint()));
+        }
+
+        double angleTolerance = tolerance / group.radius;
+        List<Interval> runs = mergeIntervals(intervals, angleTolerance);
+        Interval first = runs.get(0);
+        Interval last = runs.get(runs.size() - 1);
+        if (runs.size() > 1 && last.end + angleTolerance >= first.start + TWO_PI) {
+            if (first.end + TWO_PI > last.end) {
+                last.end = first.end + TWO_PI;
+                last.endPoint = first.endPoint;
+            }
+            last.members.addAll(first.members);
+            runs.remove(0);
+        }
+
+        for (Interval run : runs) {
+            if (run.members.size() < 2) {
+                continue;
+            }
+            try {
+                Element merged;
+                if (run.end - run.start + angleTolerance >= TWO_PI) {
+                    merged = new Circle(group.center.clone(), group.radius);
+                }
+                else {
+                    merged = new Arc(run.startPoint, run.endPoint, group.center, true);
+                }
+                merged.setLayer(group.layer);
+                removed.addAll(run.members);
+                added.add(merged);
+            }
+            catch (InvalidArgumentException e) {
+                // Should never happen since degenerated arcs were removed
+                e.printStackTrace();
+            }
+            catch (NullArgumentException e) {
+                // Should never happen
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Sorts the intervals by start and merges the ones that overlap or touch.
+     *
+     * @return The merged runs, sorted by start
+     */
+    private List<Interval> mergeIntervals (List<Interval> intervals, double gap) {
+
+        Collections.sort(intervals, new Comparator<Interval>() {
+
+            public int compare (Interval first, Interval second) {
+
+                return Double.compare(first.start, second.start);
+            }
+        });
+
+        List<Interval> runs = new ArrayList<Interval>();
+        Interval current = null;
+        for (Interval interval : intervals) {
+            if (current != null && interval.start <= current.end + gap) {
+                current.members.addAll(interval.members);
+                if (interval.end > current.end) {
+                    current.end = interval.end;
+                    current.endPoint = interval.endPoint;
+                }
+            }
+            else {
+                current = interval;
+                runs.add(current);
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * @return The angle of the point around the center in [0, 2 PI)
+     */
+    private double getAngle (Point center, Point point) {
+
+        double angle = Math.atan2(point.getY() - center.getY(), point.getX() - center.getX());
+        return angle < 0 ? angle + TWO_PI : angle;
+    }
+
+    /**
+     * @return The counter clockwise angle from the initial to the ending point in [0, 2 PI)
+     */
+    private double getSweep (Point center, Point initial, Point ending) {
+
+        double sweep = getAngle(center, ending) - getAngle(center, initial);
+        return sweep < 0 ? sweep + TWO_PI : sweep;
+    }
+
+    private static <K, V> List<V> getList (Map<K, List<V>> map, K key) {
+
+        List<V> list = map.get(key);
+        if (list == null) {
+            list = new ArrayList<V>(1);
+            map.put(key, list);
+        }
+        return list;
+    }
+
+
+    /**
+     * Hash key made of quantized values and a layer.
+     */
+    private static class Key {
+
+        private Layer layer;
+
+        private long[] values;
+
+
+        public Key (Layer layer, long... values) {
+
+            this.layer = layer;
+            this.values = values;
+        }
+
+        /**
+         * @return This key and all keys that differ by one in any of the values
+         */
+        public List<Key> getNeighbours () {
+
+            List<Key> neighbours = new ArrayList<Key>();
+            neighbours.add(this);
+            for (int i = 0; i < values.length; i++) {
+                int size = neighbours.size();
+                for (int j = 0; j < size; j++) {
+                    long[] lower = neighbours.get(j).values.clone();
+                    lower[i]--;
+                    long[] upper = neighbours.get(j).values.clone();
+                    upper[i]++;
+                    neighbours.add(new Key(layer, lower));
+                    neighbours.add(new Key(layer, upper));
+                }
+            }
+            return neighbours;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode () {
+
+            return 31 * Arrays.hashCode(values) + (layer == null ? 0 : layer.hashCode());
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals (Object object) {
+
+            if ( !(object instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) object;
+            return layer == other.layer && Arrays.equals(values, other.values);
+        }
+    }
+
+    /**
+     * Elements sharing a carrier line or a center and radius.
+     */
+    private static class Group {
+
+        private List<Element> members;
+
+        private Layer layer;
+
+        private Group parent;
+
+        private Point center;
+
+        private double radius;
+
+
+        public Group (Element first) {
+
+            members = new ArrayList<Element>();
+            members.add(first);
+            layer = first.getLayer();
+            parent = this;
+        }
+
+        /**
+         * @return The group representing all groups united to this one
+         */
+        public Group find () {
+
+            Group root = this;
+            while (root.parent != root) {
+                root = root.parent;
+            }
+            Group current = this;
+            while (current.parent != root) {
+                Group next = current.parent;
+                current.parent = root;
+                current = next;
+            }
+            return root;
+        }
+
+        /**
+         * Unites this group to the other one.
+         */
+        public void union (Group other) {
+
+            Group root = find();
+            Group otherRoot = other.find();
+            if (root != otherRoot) {
+                otherRoot.parent = root;
+            }
+        }
+    }
+
+    /**
+     * Range of positions along a carrier line or angles around a center covered by elements.
+     */
+    private static class Interval {
+
+        private List<Element> members;
+
+        private double start;
+
+        private Point startPoint;
+
+        private double end;
+
+        private Point endPoint;
+
+
+        public Interval (Element element, double start, Point startPoint, double end,
+                Point endPoint) {
+
+            members = new ArrayList<Element>();
+            members.add(element);
+            this.start = start;
+            this.startPoint = startPoint;
+            this.end = end;
+            this.endPoint = endPoint;
+        }
+    }
+}
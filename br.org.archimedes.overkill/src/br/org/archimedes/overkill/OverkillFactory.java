@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:12:12, by agent.<br>
+ * It is part of package br.org.archimedes.overkill on the br.org.archimedes.overkill project.<br>
+ */
+
+package br.org.archimedes.overkill;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import br.org.archimedes.controller.commands.MacroCommand;
+import br.org.archimedes.controller.commands.PutOrRemoveElementCommand;
+import br.org.archimedes.exceptions.IllegalActionException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.factories.SelectorFactory;
+import br.org.archimedes.interfaces.Command;
+import br.org.archimedes.interfaces.UndoableCommand;
+import br.org.archimedes.model.Element;
+
+/**
+ * Belongs to package br.org.archimedes.overkill.<br>
+ * Factory that removes duplicated, overlapping and zero length elements from the selection.
+ *
+ * @author agent
+ */
+public class OverkillFactory extends SelectorFactory {
+
+    private UndoableCommand command;
+
+
+    protected String getCancelMessage () {
+
+        return Messages.Canceled;
+    }
+
+    public String getName () {
+
+        return "overkill"; //$NON-NLS-1$
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#getCommands()
+     */
+    public List<Command> getCommands () {
+
+        List<Command> cmds = null;
+
+        if (command != null) {
+            cmds = new ArrayList<Command>();
+            cmds.add(command);
+            command = null;
+        }
+
+        return cmds;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.SelectorFactory#finishFactory(java.util.Set)
+     */
+    @Override
+    protected String finishFactory (Set<Element> selection) throws IllegalActionException {
+
+        String returnValue = Messages.NothingToClean;
+        Overkill overkill = new Overkill();
+
+        try {
+            overkill.clean(selection);
+            List<Element> removed = overkill.getRemoved();
+            List<Element> added = overkill.getAdded();
+            if ( !removed.isEmpty()) {
+                List<UndoableCommand> commands = new ArrayList<UndoableCommand>();
+                commands.add(new PutOrRemoveElementCommand(removed, true));
+                if ( !added.isEmpty()) {
+                    commands.add(new PutOrRemoveElementCommand(added, false));
+                }
+                command = new MacroCommand(commands);
+                returnValue = Messages.bind(Messages.Cleaned, removed.size(), added.size());
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+        }
+
+        return returnValue;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#isTransformFactory()
+     */
+    public boolean isTransformFactory () {
+
+        return true;
+    }
+}
@@ -18,10 +18,10 @@ import br.org.archimedes.controller.commands.PutOrRemoveElementCommand;
 import br.org.archimedes.exceptions.InvalidParameterException;
 import br.org.archimedes.exceptions.NullArgumentException;
 import br.org.archimedes.factories.CommandFactory;
+import br.org.archimedes.gui.model.Clipboard;
 import br.org.archimedes.interfaces.Command;
 import br.org.archimedes.interfaces.Parser;
 import br.org.archimedes.model.Element;
-import br.org.archimedes.model.Layer;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -95,18 +95,19 @@ public class PasteFactory implements CommandFactory {
             throw new InvalidParameterException();
         }
         try {
-        	
-        	Collection<Element> parametersClone = new ArrayList<Element>();
-        	
-        	for (Element element : (Collection<Element>)parameter) {
-        		
-        		Element cloned = element.clone();
-    			Layer layerClone = element.getLayer().clone();
-    			cloned.setLayer(layerClone);
-    			
-				parametersClone.add(cloned);
-			}
-            command = new PutOrRemoveElementCommand(parametersClone, false);
+            Clipboard clipboard;
+            if (parameter instanceof Clipboard) {
+                clipboard = (Clipboard) parameter;
+            }
+            else {
+                clipboard = new Clipboard();
+                clipboard.copy((Collection<Element>) parameter);
+            }
+            List<Element> copies = clipboard.paste();
+            if (clipboard != parameter) {
+                clipboard.clear();
+            }
+            command = new PutOrRemoveElementCommand(copies, false);
             result = Messages.CommandFinished;
             done = true;
         }
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:17:44, by agent.<br>
+ * It is part of package br.org.archimedes.polyline.join on the
+ * br.org.archimedes.polyline.join.tests project.<br>
+ */
+
+package br.org.archimedes.polyline.join;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.polyline.join.
+ *
+ * @author agent
+ */
+public class JoinerTest extends Tester {
+
+    private Joiner joiner;
+
+    private List<Element> elements;
+
+
+    @Before
+    public void setUp () {
+
+        joiner = new Joiner();
+        elements = new ArrayList<Element>();
+    }
+
+    @Test
+    public void chainsConnectedLinesWhateverTheirDirection () throws Exception {
+
+        elements.add(new Line(0.0, 0.0, 1.0, 0.0));
+        elements.add(new Line(2.0, 0.0, 1.0, 0.0));
+        elements.add(new Line(2.0, 0.0, 2.0, 1.0));
+
+        joiner.join(elements);
+
+        assertCollectionTheSame(elements, joiner.getRemoved());
+        assertEquals(1, joiner.getAdded().size());
+        assertEquals(new Polyline(new Point(0.0, 0.0), new Point(1.0, 0.0), new Point(2.0, 0.0),
+                new Point(2.0, 1.0)), joiner.getAdded().get(0));
+    }
+
+    @Test
+    public void closesLoops () throws Exception {
+
+        elements.add(new Line(0.0, 0.0, 1.0, 0.0));
+        elements.add(new Line(1.0, 0.0, 1.0, 1.0));
+        elements.add(new Line(1.0, 1.0, 0.0, 1.0));
+        elements.add(new Line(0.0, 1.0, 0.0, 0.0));
+
+        joiner.join(elements);
+
+        assertEquals(4, joiner.getRemoved().size());
+        assertEquals(1, joiner.getAdded().size());
+        assertTrue(((Polyline) joiner.getAdded().get(0)).isClosed());
+    }
+
+    @Test
+    public void stopsAtBranches () throws Exception {
+
+        elements.add(new Line(0.0, 0.0, 1.0, 0.0));
+        elements.add(new Line(1.0, 0.0, 2.0, 0.0));
+        Line firstBranch = new Line(1.0, 0.0, 1.0, 1.0);
+        Line secondBranch = new Line(1.0, 1.0, 1.0, 2.0);
+        elements.add(firstBranch);
+        elements.add(secondBranch);
+
+        joiner.join(elements);
+
+        assertEquals(2, joiner.getRemoved().size());
+        assertTrue(joiner.getRemoved().contains(firstBranch));
+        assertTrue(joiner.getRemoved().contains(secondBranch));
+        assertEquals(1, joiner.getAdded().size());
+    }
+
+    @Test
+    public void joinsEndpointsWithinTolerance () throws Exception {
+
+        elements.add(new Line(0.0, 0.0, 1.0, 0.0));
+        elements.add(new Line(1.0 + 1e-7, 0.0, 2.0, 0.0));
+
+        joiner.join(elements);
+
+        assertEquals(2, joiner.getRemoved().size());
+        assertEquals(new Polyline(new Point(0.0, 0.0), new Point(1.0, 0.0), new Point(2.0, 0.0)),
+                joiner.getAdded().get(0));
+    }
+
+    @Test
+    public void extendsOpenPolylines () throws Exception {
+
+        elements.add(new Polyline(new Point(0.0, 0.0), new Point(1.0, 0.0), new Point(1.0, 1.0)));
+        elements.add(new Line(1.0, 1.0, 0.0, 1.0));
+
+        joiner.join(elements);
+
+        assertEquals(2, joiner.getRemoved().size());
+        assertEquals(new Polyline(new Point(0.0, 0.0), new Point(1.0, 0.0), new Point(1.0, 1.0),
+                new Point(0.0, 1.0)), joiner.getAdded().get(0));
+    }
+
+    @Test
+    public void leavesIsolatedElementsAlone () throws Exception {
+
+        elements.add(new Line(0.0, 0.0, 1.0, 0.0));
+        elements.add(new Line(2.0, 0.0, 3.0, 0.0));
+
+        joiner.join(elements);
+
+        assertTrue(joiner.getRemoved().isEmpty());
+        assertTrue(joiner.getAdded().isEmpty());
+    }
+
+    @Test(expected = InvalidArgumentException.class)
+    public void refusesNonPositiveTolerance () throws Exception {
+
+        new Joiner( -1.0);
+    }
+}
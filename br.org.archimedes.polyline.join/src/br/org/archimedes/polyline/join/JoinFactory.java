@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:17:44, by agent.<br>
+ * It is part of package br.org.archimedes.polyline.join on the br.org.archimedes.polyline.join
+ * project.<br>
+ */
+
+package br.org.archimedes.polyline.join;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import br.org.archimedes.controller.commands.MacroCommand;
+import br.org.archimedes.controller.commands.PutOrRemoveElementCommand;
+import br.org.archimedes.exceptions.IllegalActionException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.factories.SelectorFactory;
+import br.org.archimedes.interfaces.Command;
+import br.org.archimedes.interfaces.UndoableCommand;
+import br.org.archimedes.model.Element;
+
+/**
+ * Belongs to package br.org.archimedes.polyline.join.<br>
+ * Factory that joins the connected lines and polylines of the selection into polylines.
+ *
+ * @author agent
+ */
+public class JoinFactory extends SelectorFactory {
+
+    private UndoableCommand command;
+
+
+    protected String getCancelMessage () {
+
+        return Messages.Canceled;
+    }
+
+    public String getName () {
+
+        return "join"; //$NON-NLS-1$
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#getCommands()
+     */
+    public List<Command> getCommands () {
+
+        List<Command> cmds = null;
+
+        if (command != null) {
+            cmds = new ArrayList<Command>();
+            cmds.add(command);
+            command = null;
+        }
+
+        return cmds;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.SelectorFactory#finishFactory(java.util.Set)
+     */
+    @Override
+    protected String finishFactory (Set<Element> selection) throws IllegalActionException {
+
+        String returnValue = Messages.NothingToJoin;
+        Joiner joiner = new Joiner();
+
+        try {
+            joiner.join(selection);
+            List<Element> removed = joiner.getRemoved();
+            List<Element> added = joiner.getAdded();
+            if ( !removed.isEmpty()) {
+                List<UndoableCommand> commands = new ArrayList<UndoableCommand>();
+                commands.add(new PutOrRemoveElementCommand(removed, true));
+                commands.add(new PutOrRemoveElementCommand(added, false));
+                command = new MacroCommand(commands);
+                returnValue = Messages.bind(Messages.Joined, removed.size(), added.size());
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+        }
+
+        return returnValue;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#isTransformFactory()
+     */
+    public boolean isTransformFactory () {
+
+        return true;
+    }
+}
@@ -0,0 +1,398 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:17:44, by agent.<br>
+ * It is part of package br.org.archimedes.polyline.join on the br.org.archimedes.polyline.join
+ * project.<br>
+ */
+
+package br.org.archimedes.polyline.join;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.org.archimedes.Geometrics;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Layer;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.polyline.join.<br>
+ * Chains lines and open polylines that share endpoints into polylines.<br>
+ * Endpoints are hashed on a grid of cells a few tolerances wide, so finding the endpoints that
+ * coincide with another only looks at its cell and at the neighbour cells it is close to. Chains
+ * only go through endpoints shared by exactly two elements of the same layer and stop at
+ * branches.
+ * Closed chains become closed polylines.
+ *
+ * @author agent
+ */
+public class Joiner {
+
+    /**
+     * Default distance under which two endpoints are considered the same.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+
+    /**
+     * Size of the endpoint grid cells in tolerances.
+     */
+    private static final double CELL_SIZE = 4;
+
+    private double tolerance;
+
+    private List<Element> removed;
+
+    private List<Element> added;
+
+
+    /**
+     * Constructor. Uses the default tolerance.
+     */
+    public Joiner () {
+
+        tolerance = DEFAULT_TOLERANCE;
+        removed = new ArrayList<Element>();
+        added = new ArrayList<Element>();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tolerance
+     *            Distance under which two endpoints are considered the same
+     * @throws InvalidArgumentException
+     *             Thrown if the tolerance is not positive
+     */
+    public Joiner (double tolerance) throws InvalidArgumentException {
+
+        this();
+        if (tolerance <= 0) {
+            throw new InvalidArgumentException();
+        }
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Computes the join of the elements. The elements themselves are not changed, the result is
+     * available through {@link #getRemoved()} and {@link #getAdded()}.
+     *
+     * @param elements
+     *            The elements to join. Elements other than lines and open polylines are ignored.
+     * @throws NullArgumentException
+     *             Thrown if the elements are null
+     */
+    public void join (Collection<Element> elements) throws NullArgumentException {
+
+        if (elements == null) {
+            throw new NullArgumentException();
+        }
+
+        removed = new ArrayList<Element>();
+        added = new ArrayList<Element>();
+        Map<Cell, List<Node>> nodes = new HashMap<Cell, List<Node>>(4 * elements.size());
+        List<Piece> pieces = new ArrayList<Piece>();
+
+        for (Element element : elements) {
+            List<Point> points;
+            if (element instanceof Line) {
+                Line line = (Line) element;
+                points = new ArrayList<Point>(2);
+                points.add(line.getInitialPoint());
+                points.add(line.getEndingPoint());
+            }
+            else if (element instanceof Polyline && !((Polyline) element).isClosed()) {
+                points = element.getPoints();
+            }
+            else {
+                continue;
+            }
+
+            Node start = getNode(nodes, points.get(0), element.getLayer());
+            Node end = getNode(nodes, points.get(points.size() - 1), element.getLayer());
+            if (start != end) {
+                Piece piece = new Piece(element, points, start, end);
+                start.pieces.add(piece);
+                end.pieces.add(piece);
+                pieces.add(piece);
+            }
+        }
+
+        for (Piece piece : pieces) {
+            if ( !piece.used) {
+                if (piece.start.pieces.size() != 2) {
+                    chain(piece.start, piece);
+                }
+                else if (piece.end.pieces.size() != 2) {
+                    chain(piece.end, piece);
+                }
+            }
+        }
+        // Whatever is left only goes through nodes with two pieces so it is a cycle
+        for (Piece piece : pieces) {
+            if ( !piece.used) {
+                chain(piece.start, piece);
+            }
+        }
+    }
+
+    /**
+     * @return The elements that should be removed by the last join
+     */
+    public List<Element> getRemoved () {
+
+        return removed;
+    }
+
+    /**
+     * @return The polylines that should be added by the last join. They already have the layer of
+     *         the elements they replace.
+     */
+    public List<Element> getAdded () {
+
+        return added;
+    }
+
+    /**
+     * @return The node at the point in the layer, creating it if there is none within the
+     *         tolerance
+     */
+    private Node getNode (Map<Cell, List<Node>> nodes, Point point, Layer layer) {
+
+        // The point's own cell is the most likely one so it comes first. Neighbour cells only
+        // need to be looked at when the point is closer than the tolerance to their border.
+        double cellSize = CELL_SIZE * tolerance;
+        double cellX = point.getX() / cellSize;
+        double cellY = point.getY() / cellSize;
+        long x = (long) Math.floor(cellX);
+        long y = (long) Math.floor(cellY);
+        long neighbourX = getNeighbour(x, cellX - x);
+        long neighbourY = getNeighbour(y, cellY - y);
+
+        Node found = findNode(nodes.get(new Cell(x, y)), point, layer);
+        if (found == null && neighbourX != x) {
+            found = findNode(nodes.get(new Cell(neighbourX, y)), point, layer);
+        }
+        if (found == null && neighbourY != y) {
+            found = findNode(nodes.get(new Cell(x, neighbourY)), point, layer);
+        }
+        if (found == null && neighbourX != x && neighbourY != y) {
+            found = findNode(nodes.get(new Cell(neighbourX, neighbourY)), point, layer);
+        }
+        if (found != null) {
+            return found;
+        }
+
+        Cell cell = new Cell(x, y);
+        List<Node> cellNodes = nodes.get(cell);
+        if (cellNodes == null) {
+            cellNodes = new ArrayList<Node>(1);
+            nodes.put(cell, cellNodes);
+        }
+        Node node = new Node(point, layer);
+        cellNodes.add(node);
+        return node;
+    }
+
+    /**
+     * @param cell
+     *            The cell of a coordinate
+     * @param offset
+     *            The position of the coordinate inside the cell, between 0 and 1
+     * @return The neighbour cell closer than the tolerance to the coordinate or the cell itself
+     *         if there is none
+     */
+    private long getNeighbour (long cell, double offset) {
+
+        double border = 1.0 / CELL_SIZE;
+        if (offset <= border) {
+            return cell - 1;
+        }
+        if (offset >= 1 - border) {
+            return cell + 1;
+        }
+        return cell;
+    }
+
+    /**
+     * @return The node of the list in the layer within the tolerance of the point, null if there
+     *         is none
+     */
+    private Node findNode (List<Node> candidates, Point point, Layer layer) {
+
+        if (candidates != null) {
+            for (Node node : candidates) {
+                if (node.layer == layer
+                        && Geometrics.calculateDistance(node.point.getX(), node.point.getY(),
+                                point.getX(), point.getY()) <= tolerance) {
+                    return node;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Follows the pieces from the node while they go through nodes with exactly two pieces and
+     * joins them if there is more than one.
+     *
+     * @param from
+     *            The node where the chain starts
+     * @param first
+     *            The first piece of the chain, touching the node
+     */
+    private void chain (Node from, Piece first) {
+
+        List<Piece> chain = new ArrayList<Piece>();
+        List<Point> points = new ArrayList<Point>();
+        points.add(from.point);
+
+        Node current = from;
+        Piece piece = first;
+        while (piece != null) {
+            piece.used = true;
+            chain.add(piece);
+            List<Point> piecePoints = piece.points;
+            int size = piecePoints.size();
+            boolean forward = piece.start == current;
+            for (int i = 1; i < size; i++) {
+                points.add(piecePoints.get(forward ? i : size - 1 - i));
+            }
+            current = forward ? piece.end : piece.start;
+
+            Piece next = null;
+            if (current.pieces.size() == 2) {
+                for (Piece candidate : current.pieces) {
+                    if ( !candidate.used) {
+                        next = candidate;
+                    }
+                }
+            }
+            piece = next;
+        }
+
+        if (chain.size() > 1) {
+            // Makes sure the joints use exactly the same point
+            if (current == from) {
+                points.set(points.size() - 1, from.point);
+            }
+            try {
+                Polyline polyline = new Polyline(points);
+                polyline.setLayer(from.layer);
+                for (Piece joined : chain) {
+                    removed.add(joined.element);
+                }
+                added.add(polyline);
+            }
+            catch (InvalidArgumentException e) {
+                // Should never happen since the chain has at least two distinct nodes
+                e.printStackTrace();
+            }
+            catch (NullArgumentException e) {
+                // Should never happen
+                e.printStackTrace();
+            }
+        }
+    }
+
+
+    /**
+     * Cell of the endpoint grid.
+     */
+    private static class Cell {
+
+        private long x;
+
+        private long y;
+
+
+        public Cell (long x, long y) {
+
+            this.x = x;
+            this.y = y;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode () {
+
+            long hash = x * 0x9E3779B97F4A7C15L + y;
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals (Object object) {
+
+            if ( !(object instanceof Cell)) {
+                return false;
+            }
+            Cell other = (Cell) object;
+            return x == other.x && y == other.y;
+        }
+    }
+
+    /**
+     * Point where endpoints of pieces of the same layer meet.
+     */
+    private static class Node {
+
+        private Point point;
+
+        private Layer layer;
+
+        private List<Piece> pieces;
+
+
+        public Node (Point point, Layer layer) {
+
+            this.point = point;
+            this.layer = layer;
+            pieces = new ArrayList<Piece>(2);
+        }
+    }
+
+    /**
+     * Element that may be joined, with its points from one node to the other.
+     */
+    private static class Piece {
+
+        private Element element;
+
+        private List<Point> points;
+
+        private Node start;
+
+        private Node end;
+
+        private boolean used;
+
+
+        public Piece (Element element, List<Point> points, Node start, Node end) {
+
+            this.element = element;
+            this.points = points;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
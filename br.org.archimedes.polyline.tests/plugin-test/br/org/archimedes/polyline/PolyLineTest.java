@@ -22,6 +22,7 @@ import br.org.archimedes.model.Layer;
 import br.org.archimedes.model.LineStyle;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.Vector;
 
 import org.junit.Test;
 
@@ -199,4 +200,36 @@ public class PolyLineTest extends Tester {
         
         assertEquals(layer, clone.getLayer());
     }
+
+    @Test
+    public void coordinatesFollowThePoints () throws Exception {
+
+        Polyline polyline = new Polyline(new Point(1, -2), new Point( -1, -2), new Point( -1, -5));
+
+        double[] coordinates = polyline.getCoordinates();
+
+        assertEquals(6, coordinates.length);
+        assertEquals(1.0, coordinates[0], 0.0);
+        assertEquals( -2.0, coordinates[1], 0.0);
+        assertEquals( -1.0, coordinates[4], 0.0);
+        assertEquals( -5.0, coordinates[5], 0.0);
+    }
+
+    @Test
+    public void boundaryFollowsTransformations () throws Exception {
+
+        Polyline polyline = new Polyline(new Point(0, 0), new Point(2, 0), new Point(2, 1));
+        assertEquals(new Rectangle(0, 0, 2, 1), polyline.getBoundaryRectangle());
+
+        polyline.move(1, 1);
+        assertEquals(new Rectangle(1, 1, 3, 2), polyline.getBoundaryRectangle());
+
+        polyline.scale(new Point(1, 1), 2);
+        assertEquals(new Rectangle(1, 1, 5, 3), polyline.getBoundaryRectangle());
+
+        List<Point> moved = new LinkedList<Point>();
+        moved.add(polyline.getPoints().get(2));
+        polyline.move(moved, new Vector(new Point(0, 2)));
+        assertEquals(new Rectangle(1, 1, 5, 5), polyline.getBoundaryRectangle());
+    }
 }
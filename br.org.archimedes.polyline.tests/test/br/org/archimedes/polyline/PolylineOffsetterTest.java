@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:47:40, by agent.<br>
+ * It is part of package br.org.archimedes.polyline on the br.org.archimedes.polyline.tests project.<br>
+ */
+
+package br.org.archimedes.polyline;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.polyline.
+ *
+ * @author agent
+ */
+public class PolylineOffsetterTest extends Tester {
+
+    @Test
+    public void offsetsOpenPolylineJoiningSegments () throws Exception {
+
+        PolylineOffsetter offsetter = new PolylineOffsetter(Arrays.asList(new Point(0, 0),
+                new Point(10, 0), new Point(10, 10)));
+
+        List<List<Point>> result = offsetter.offset(1);
+
+        assertEquals(1, result.size());
+        List<Point> expected = Arrays.asList(new Point(0, 1), new Point(9, 1), new Point(9, 10));
+        assertEquals(expected, result.get(0));
+    }
+
+    @Test
+    public void offsetsClosedPolylineOutwards () throws Exception {
+
+        PolylineOffsetter offsetter = new PolylineOffsetter(Arrays.asList(new Point(0, 0),
+                new Point(10, 0), new Point(10, 10), new Point(0, 10), new Point(0, 0)));
+
+        List<List<Point>> result = offsetter.offset( -1);
+
+        assertEquals(1, result.size());
+        List<Point> offset = result.get(0);
+        assertEquals(5, offset.size());
+        assertPointsTheSame(offset.get(0), offset.get(4));
+        assertCollectionTheSame(Arrays.asList(new Point( -1, -1), new Point(11, -1), new Point(
+                11, 11), new Point( -1, 11)), offset);
+    }
+
+    @Test
+    public void removesLoopsAndSplitsInwardOffset () throws Exception {
+
+        // A square with a thin notch coming from the top.
+        PolylineOffsetter offsetter = new PolylineOffsetter(Arrays.asList(new Point(0, 0),
+                new Point(10, 0), new Point(10, 10), new Point(6, 10), new Point(6, 2), new Point(
+                        4, 2), new Point(4, 10), new Point(0, 10), new Point(0, 0)));
+
+        List<List<Point>> result = offsetter.offset(1.5);
+
+        assertEquals(2, result.size());
+        List<Point> corners = new ArrayList<Point>();
+        for (List<Point> offset : result) {
+            assertPointsTheSame(offset.get(0), offset.get(offset.size() - 1));
+            corners.addAll(offset);
+        }
+        assertCollectionTheSame(Arrays.asList(new Point(1.5, 1.5), new Point(2.5, 1.5),
+                new Point(2.5, 8.5), new Point(1.5, 8.5), new Point(7.5, 1.5), new Point(8.5,
+                        1.5), new Point(8.5, 8.5), new Point(7.5, 8.5)), corners);
+    }
+
+    @Test
+    public void returnsNothingWhenOffsetConsumesEverything () throws Exception {
+
+        PolylineOffsetter offsetter = new PolylineOffsetter(Arrays.asList(new Point(0, 0),
+                new Point(4, 0), new Point(4, 2), new Point(0, 2), new Point(0, 0)));
+
+        assertTrue(offsetter.offset(1.5).isEmpty());
+    }
+
+    @Test
+    public void cleansLargeSelfIntersectingOffset () throws Exception {
+
+        // A comb with many teeth whose inward offset is split into one piece per tooth.
+        int teeth = 5000;
+        List<Point> comb = new ArrayList<Point>();
+        comb.add(new Point(0, 0));
+        comb.add(new Point(6 * teeth - 2, 0));
+        for (int i = teeth - 1; i >= 0; i--) {
+            double left = 6 * i;
+            comb.add(new Point(left + 4, 10));
+            comb.add(new Point(left, 10));
+            if (i > 0) {
+                comb.add(new Point(left, 2));
+                comb.add(new Point(left - 2, 2));
+            }
+        }
+        comb.add(new Point(0, 0));
+
+        List<List<Point>> result = new PolylineOffsetter(comb).offset(1.5);
+
+        assertEquals(teeth, result.size());
+        for (List<Point> offset : result) {
+            assertEquals(5, offset.size());
+            double left = offset.get(0).getX();
+            assertCollectionTheSame(Arrays.asList(new Point(left, 1.5), new Point(left + 1, 1.5),
+                    new Point(left + 1, 8.5), new Point(left, 8.5)), offset);
+        }
+    }
+}
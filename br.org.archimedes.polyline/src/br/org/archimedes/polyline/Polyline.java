@@ -41,10 +41,11 @@ import br.org.archimedes.line.Line;
 import br.org.archimedes.model.ComparablePoint;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Filletable;
-import br.org.archimedes.model.Offsetable;
+import br.org.archimedes.model.MultipleOffsetable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.PolyLinePointKey;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
 import br.org.archimedes.model.ReferencePoint;
 import br.org.archimedes.model.Vector;
 import br.org.archimedes.model.references.SquarePoint;
@@ -59,7 +60,8 @@ import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
  * 
  * @author nitao
  */
-public class Polyline extends Element implements Offsetable, Filletable {
+public class Polyline extends Element implements MultipleOffsetable, Filletable,
+        RectangleIntersectable {
 
     private List<Point> points;
 
@@ -158,16 +160,33 @@ public class Polyline extends Element implements Offsetable, Filletable {
         return lines;
     }
 
+    /**
+     * @return A new array with the coordinates of the points of this polyline in order, as
+     *         {x0, y0, x1, y1, ...}
+     */
+    public double[] getCoordinates () {
+
+        double[] coordinates = new double[points.size() * 2];
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            coordinates[2 * i] = point.getX();
+            coordinates[2 * i + 1] = point.getY();
+        }
+        return coordinates;
+    }
+
     /*
      * (non-Javadoc)
      * @see br.org.archimedes.model.Element#move(double, double)
      */
     public void move (double deltaX, double deltaY) {
 
+        willChange();
         for (Point point : points) {
             point.setX(point.getX() + deltaX);
             point.setY(point.getY() + deltaY);
         }
+        invalidateBoundary();
     }
 
     /*
@@ -176,6 +195,11 @@ public class Polyline extends Element implements Offsetable, Filletable {
      */
     public Rectangle getBoundaryRectangle () {
 
+        Rectangle cached = getCachedBoundary();
+        if (cached != null) {
+            return cached;
+        }
+
         double minx = Double.POSITIVE_INFINITY;
         double maxx = Double.NEGATIVE_INFINITY;
         double miny = Double.POSITIVE_INFINITY;
@@ -189,9 +213,32 @@ public class Polyline extends Element implements Offsetable, Filletable {
         }
 
         Rectangle answer = new Rectangle(minx, miny, maxx, maxy);
+        setCachedBoundary(answer);
         return answer;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
+     */
+    public boolean intersects (Rectangle rectangle) throws NullArgumentException {
+
+        if (rectangle == null) {
+            throw new NullArgumentException();
+        }
+
+        Point previous = points.get(0);
+        for (int i = 1; i < points.size(); i++) {
+            Point current = points.get(i);
+            if (rectangle.intersectsSegment(previous.getX(), previous.getY(), current.getX(),
+                    current.getY())) {
+                return true;
+            }
+            previous = current;
+        }
+        return false;
+    }
+
     /*
      * (non-Javadoc)
      * @see br.org.archimedes.model.Element#getSegment()
@@ -508,6 +555,28 @@ public class Polyline extends Element implements Offsetable, Filletable {
         return createPolyline(points);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.MultipleOffsetable#cloneWithDistanceAndCleanup(double)
+     */
+    public Collection<Polyline> cloneWithDistanceAndCleanup (double distance)
+            throws InvalidParameterException {
+
+        Collection<Polyline> polylines = new ArrayList<Polyline>();
+        for (List<Point> offsetPoints : new PolylineOffsetter(points).offset(distance)) {
+            Polyline polyline = createPolyline(offsetPoints);
+            if (polyline != null) {
+                polyline.setLayer(getLayer());
+                polylines.add(polyline);
+            }
+        }
+
+        if (polylines.isEmpty()) {
+            throw new InvalidParameterException();
+        }
+        return polylines;
+    }
+
     /**
      * @param points
      *            The points for this polyline
@@ -0,0 +1,759 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 17:47:40, by agent.<br>
+ * It is part of package br.org.archimedes.polyline on the br.org.archimedes.polyline project.<br>
+ */
+
+package br.org.archimedes.polyline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.polyline.<br>
+ * Offsets a sequence of points and removes the loops created when the offset crosses itself.<br>
+ * <br>
+ * The offset is done in three steps:
+ * <ol>
+ * <li>every segment is moved by the distance and consecutive segments are joined at the
+ * intersection of their supporting lines (clipped if that intersection is too far away);</li>
+ * <li>every crossing of the resulting path is found with a sweep line over the segments sorted by
+ * their lowest x coordinate and the path is split at those crossings;</li>
+ * <li>every piece closer than the distance to the original points is discarded and the remaining
+ * pieces are chained back through the crossings they share.</li>
+ * </ol>
+ * Coordinates are kept in arrays of doubles so that offsetting large outlines does not create one
+ * object per vertex until the result is built.
+ *
+ * @author agent
+ */
+public class PolylineOffsetter {
+
+    /**
+     * Maximum distance (relative to the offset distance) between an original vertex and its offset
+     * before the join is clipped.
+     */
+    private static final double MITER_LIMIT = 4.0;
+
+    /**
+     * Tolerance on the sine of the angle between two segments to consider them parallel.
+     */
+    private static final double PARALLEL_TOLERANCE = 1e-12;
+
+    /**
+     * Tolerance relative to the offset distance used to decide if a piece is too close to the
+     * original points.
+     */
+    private static final double DISTANCE_TOLERANCE = 1e-9;
+
+    private double[] xs;
+
+    private double[] ys;
+
+    private int size;
+
+    private boolean closed;
+
+    private int segmentCount;
+
+    private double[] nodeX;
+
+    private double[] nodeY;
+
+    private boolean[] insideJoins;
+
+    private int nodeCount;
+
+    private int pathCount;
+
+    private SegmentGrid grid;
+
+    private double limit;
+
+
+    /**
+     * Constructor.
+     *
+     * @param points
+     *            The points to be offset in order. If the first and the last points are the same,
+     *            the points are considered to be a closed path.
+     */
+    public PolylineOffsetter (List<Point> points) {
+
+        xs = new double[points.size()];
+        ys = new double[points.size()];
+        for (Point point : points) {
+            double x = point.getX();
+            double y = point.getY();
+            if (size == 0 || !isSamePoint(x, y, xs[size - 1], ys[size - 1])) {
+                xs[size] = x;
+                ys[size] = y;
+                size++;
+            }
+        }
+
+        closed = size > 2 && isSamePoint(xs[0], ys[0], xs[size - 1], ys[size - 1]);
+        if (closed) {
+            size--;
+        }
+        segmentCount = closed ? size : size - 1;
+    }
+
+    /**
+     * @param distance
+     *            The distance to offset. Positive distances move the points to the left of the path
+     *            (following the order of the points), negative ones to the right.
+     * @return The lists of points that compose the offset without any loop. A closed list has the
+     *         same first and last point. The result is empty if nothing is left of the offset.
+     */
+    public List<List<Point>> offset (double distance) {
+
+        List<List<Point>> result = new ArrayList<List<Point>>();
+        if (segmentCount < 1) {
+            return result;
+        }
+
+        if (Math.abs(distance) <= Constant.EPSILON) {
+            List<Point> copy = new ArrayList<Point>(size + 1);
+            for (int i = 0; i < size; i++) {
+                copy.add(new Point(xs[i], ys[i]));
+            }
+            if (closed) {
+                copy.add(new Point(xs[0], ys[0]));
+            }
+            result.add(copy);
+            return result;
+        }
+
+        buildRawPath(distance);
+        grid = new SegmentGrid(Math.abs(distance));
+        limit = Math.abs(distance) * (1 - DISTANCE_TOLERANCE);
+        boolean[] covered = findCoveredSegments();
+        List<Split> splits = findSelfIntersections(covered);
+        List<int[]> chains = collectValidChains(splits, covered);
+        for (List<Integer> chain : joinChains(chains)) {
+            List<Point> points = new ArrayList<Point>(chain.size());
+            for (Integer node : chain) {
+                points.add(new Point(nodeX[node], nodeY[node]));
+            }
+            if (hasLength(points)) {
+                result.add(points);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Fills the node arrays with the vertices of the offset path before any cleanup. The path has
+     * pathCount vertices and is closed if the original points were.
+     *
+     * @param distance
+     *            The offset distance
+     */
+    private void buildRawPath (double distance) {
+
+        double[] ax = new double[segmentCount];
+        double[] ay = new double[segmentCount];
+        double[] bx = new double[segmentCount];
+        double[] by = new double[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int next = (i + 1) % size;
+            double dx = xs[next] - xs[i];
+            double dy = ys[next] - ys[i];
+            double length = Math.sqrt(dx * dx + dy * dy);
+            double normalX = -dy / length * distance;
+            double normalY = dx / length * distance;
+            ax[i] = xs[i] + normalX;
+            ay[i] = ys[i] + normalY;
+            bx[i] = xs[next] + normalX;
+            by[i] = ys[next] + normalY;
+        }
+
+        nodeX = new double[2 * segmentCount + 2];
+        nodeY = new double[2 * segmentCount + 2];
+        insideJoins = new boolean[nodeX.length];
+        nodeCount = 0;
+        if (closed) {
+            addJoin(segmentCount - 1, 0, ax, ay, bx, by, distance);
+        }
+        else {
+            addPathNode(ax[0], ay[0]);
+        }
+        for (int i = 0; i < segmentCount - 1; i++) {
+            addJoin(i, i + 1, ax, ay, bx, by, distance);
+        }
+        if ( !closed) {
+            addPathNode(bx[segmentCount - 1], by[segmentCount - 1]);
+        }
+        else if (nodeCount > 1
+                && isSamePoint(nodeX[0], nodeY[0], nodeX[nodeCount - 1], nodeY[nodeCount - 1])) {
+            nodeCount--;
+        }
+        pathCount = nodeCount;
+    }
+
+    /**
+     * Adds the vertices that join the offset segment current to the offset segment next.
+     */
+    private void addJoin (int current, int next, double[] ax, double[] ay, double[] bx,
+            double[] by, double distance) {
+
+        double d1x = bx[current] - ax[current];
+        double d1y = by[current] - ay[current];
+        double d2x = bx[next] - ax[next];
+        double d2y = by[next] - ay[next];
+        double cross = d1x * d2y - d1y * d2x;
+        double norms = Math.sqrt((d1x * d1x + d1y * d1y) * (d2x * d2x + d2y * d2y));
+
+        if (Math.abs(cross) <= PARALLEL_TOLERANCE * norms) {
+            addPathNode(bx[current], by[current]);
+            if (d1x * d2x + d1y * d2y < 0) {
+                // The path turns back on itself so it gets a cap
+                addPathNode(ax[next], ay[next]);
+            }
+            return;
+        }
+
+        double t = ((ax[next] - ax[current]) * d2y - (ay[next] - ay[current]) * d2x) / cross;
+        double miterX = ax[current] + t * d1x;
+        double miterY = ay[current] + t * d1y;
+
+        int vertex = next % size;
+        double offX = miterX - xs[vertex];
+        double offY = miterY - ys[vertex];
+        double miterLength = Math.sqrt(offX * offX + offY * offY);
+        double limit = MITER_LIMIT * Math.abs(distance);
+        if (miterLength <= limit) {
+            addPathNode(miterX, miterY);
+            return;
+        }
+
+        boolean insideTurn = (cross > 0) == (distance > 0);
+        double bisectorX = offX / miterLength;
+        double bisectorY = offY / miterLength;
+        double currentAlong = d1x * bisectorX + d1y * bisectorY;
+        double nextAlong = d2x * bisectorX + d2y * bisectorY;
+        if (insideTurn || currentAlong <= 0 || nextAlong >= 0) {
+            addPathNode(bx[current], by[current]);
+            int joinStart = nodeCount - 1;
+            addPathNode(ax[next], ay[next]);
+            // Every point of a join inside the turn is closer than the distance to the vertex
+            insideJoins[joinStart] = insideTurn && nodeCount - 1 > joinStart;
+            return;
+        }
+
+        // Clips the miter with the line tangent to the round join at the bisector so that the
+        // join is never closer to the vertex than the distance.
+        double clip = Math.abs(distance);
+        double currentStart = (ax[current] - xs[vertex]) * bisectorX + (ay[current] - ys[vertex])
+                * bisectorY;
+        double nextStart = (ax[next] - xs[vertex]) * bisectorX + (ay[next] - ys[vertex])
+                * bisectorY;
+        double currentClip = (clip - currentStart) / currentAlong;
+        double nextClip = (clip - nextStart) / nextAlong;
+        addPathNode(ax[current] + currentClip * d1x, ay[current] + currentClip * d1y);
+        addPathNode(ax[next] + nextClip * d2x, ay[next] + nextClip * d2y);
+    }
+
+    /**
+     * @return The number of segments of the offset path.
+     */
+    private int getPathSegmentCount () {
+
+        return closed ? pathCount : pathCount - 1;
+    }
+
+    /**
+     * Finds the segments of the offset path that are too close to a single original segment. The
+     * points closer than the distance to a segment form a convex region so a segment with both
+     * ends inside the region of the same original segment can be discarded before looking for
+     * crossings. Joins inside a turn are always discarded.
+     *
+     * @return An array telling which segments of the offset path are discarded.
+     */
+    private boolean[] findCoveredSegments () {
+
+        int segments = getPathSegmentCount();
+        boolean[] covered = new boolean[segments];
+        for (int s = 0; s < segments; s++) {
+            int end = (s + 1) % pathCount;
+            covered[s] = insideJoins[s]
+                    || grid.hasSegmentCloserThan(nodeX[s], nodeY[s], nodeX[end], nodeY[end],
+                    limit);
+        }
+        return covered;
+    }
+
+    /**
+     * Finds every crossing between two non adjacent segments of the offset path. Segments are
+     * swept in increasing order of their lowest x coordinate and only compared to the segments
+     * still overlapping the sweep position.
+     *
+     * @param covered
+     *            The segments to be ignored
+     * @return The splits sorted by segment and by position in the segment.
+     */
+    private List<Split> findSelfIntersections (boolean[] covered) {
+
+        final int segments = getPathSegmentCount();
+        final double[] minX = new double[segments];
+        double[] maxX = new double[segments];
+        double[] minY = new double[segments];
+        double[] maxY = new double[segments];
+        Integer[] order = new Integer[segments];
+        for (int s = 0; s < segments; s++) {
+            int end = (s + 1) % pathCount;
+            minX[s] = Math.min(nodeX[s], nodeX[end]);
+            maxX[s] = Math.max(nodeX[s], nodeX[end]);
+            minY[s] = Math.min(nodeY[s], nodeY[end]);
+            maxY[s] = Math.max(nodeY[s], nodeY[end]);
+            order[s] = s;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+
+            public int compare (Integer first, Integer second) {
+
+                return Double.compare(minX[first], minX[second]);
+            }
+        });
+
+        List<Split> splits = new ArrayList<Split>();
+        int[] active = new int[segments];
+        int activeCount = 0;
+        for (Integer segment : order) {
+            int s = segment;
+            if (covered[s]) {
+                continue;
+            }
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                if (maxX[active[i]] >= minX[s] - Constant.EPSILON) {
+                    active[kept++] = active[i];
+                }
+            }
+            activeCount = kept;
+
+            for (int i = 0; i < activeCount; i++) {
+                int other = active[i];
+                if ( !areAdjacent(s, other, segments) && maxY[other] >= minY[s] - Constant.EPSILON
+                        && minY[other] <= maxY[s] + Constant.EPSILON) {
+                    intersect(s, other, splits);
+                }
+            }
+            active[activeCount++] = s;
+        }
+
+        Collections.sort(splits);
+        return splits;
+    }
+
+    /**
+     * @return true if both segments share a vertex of the path, false otherwise.
+     */
+    private boolean areAdjacent (int first, int second, int segments) {
+
+        int difference = Math.abs(first - second);
+        return difference <= 1 || (closed && difference == segments - 1);
+    }
+
+    /**
+     * Adds a split to both segments if they cross each other.
+     */
+    private void intersect (int first, int second, List<Split> splits) {
+
+        int firstEnd = (first + 1) % pathCount;
+        int secondEnd = (second + 1) % pathCount;
+        double px = nodeX[first];
+        double py = nodeY[first];
+        double rx = nodeX[firstEnd] - px;
+        double ry = nodeY[firstEnd] - py;
+        double qx = nodeX[second];
+        double qy = nodeY[second];
+        double sx = nodeX[secondEnd] - qx;
+        double sy = nodeY[secondEnd] - qy;
+
+        double denominator = rx * sy - ry * sx;
+        double norms = Math.sqrt((rx * rx + ry * ry) * (sx * sx + sy * sy));
+        if (Math.abs(denominator) <= PARALLEL_TOLERANCE * norms) {
+            return;
+        }
+
+        double t = ((qx - px) * sy - (qy - py) * sx) / denominator;
+        double u = ((qx - px) * ry - (qy - py) * rx) / denominator;
+        double tolerance = Constant.EPSILON;
+        if (t < -tolerance || t > 1 + tolerance || u < -tolerance || u > 1 + tolerance) {
+            return;
+        }
+        t = Math.min(1, Math.max(0, t));
+        u = Math.min(1, Math.max(0, u));
+
+        int node = addNode(px + t * rx, py + t * ry);
+        splits.add(new Split(first, t, node));
+        splits.add(new Split(second, u, node));
+    }
+
+    /**
+     * Splits the path at the crossings and chains consecutive pieces that are far enough from the
+     * original points.
+     *
+     * @param splits
+     *            The sorted splits of the path
+     * @param covered
+     *            The segments already known to be discarded
+     * @return The chains of nodes, in path order.
+     */
+    private List<int[]> collectValidChains (List<Split> splits, boolean[] covered) {
+
+        List<int[]> chains = new ArrayList<int[]>();
+        int[] chain = new int[16];
+        int chainSize = 0;
+
+        int segments = getPathSegmentCount();
+        int splitIndex = 0;
+        for (int s = 0; s < segments; s++) {
+            int start = s;
+            int end = (s + 1) % pathCount;
+            while (start != end) {
+                int next = end;
+                if (splitIndex < splits.size() && splits.get(splitIndex).segment == s) {
+                    next = splits.get(splitIndex++).node;
+                    if (next == start) {
+                        continue;
+                    }
+                }
+
+                double middleX = (nodeX[start] + nodeX[next]) / 2.0;
+                double middleY = (nodeY[start] + nodeY[next]) / 2.0;
+                if (covered[s] || grid.hasSegmentCloserThan(middleX, middleY, middleX, middleY,
+                        limit)) {
+                    if (chainSize > 1) {
+                        chains.add(trim(chain, chainSize));
+                    }
+                    chainSize = 0;
+                }
+                else {
+                    if (chainSize == 0) {
+                        chain[chainSize++] = start;
+                    }
+                    if (chainSize == chain.length) {
+                        int[] bigger = new int[2 * chain.length];
+                        System.arraycopy(chain, 0, bigger, 0, chainSize);
+                        chain = bigger;
+                    }
+                    chain[chainSize++] = next;
+                }
+                start = next;
+            }
+        }
+        if (chainSize > 1) {
+            chains.add(trim(chain, chainSize));
+        }
+
+        return chains;
+    }
+
+    /**
+     * Joins the chains that end where another starts.
+     *
+     * @param chains
+     *            The chains to be joined
+     * @return The joined chains
+     */
+    private List<List<Integer>> joinChains (List<int[]> chains) {
+
+        Map<Integer, List<Integer>> startingAt = new HashMap<Integer, List<Integer>>();
+        Set<Integer> endings = new HashSet<Integer>();
+        for (int i = 0; i < chains.size(); i++) {
+            int[] chain = chains.get(i);
+            List<Integer> starting = startingAt.get(chain[0]);
+            if (starting == null) {
+                starting = new ArrayList<Integer>(1);
+                startingAt.put(chain[0], starting);
+            }
+            starting.add(i);
+            endings.add(chain[chain.length - 1]);
+        }
+
+        boolean[] used = new boolean[chains.size()];
+        List<List<Integer>> joined = new ArrayList<List<Integer>>();
+        // Chains nobody leads to go first so that open results are not broken in two
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < chains.size(); i++) {
+                if (used[i] || (pass == 0 && endings.contains(chains.get(i)[0]))) {
+                    continue;
+                }
+                used[i] = true;
+                List<Integer> nodes = new ArrayList<Integer>();
+                append(nodes, chains.get(i), 0);
+                int last = nodes.get(nodes.size() - 1);
+                while (last != nodes.get(0)) {
+                    int following = findUnused(startingAt.get(last), used);
+                    if (following < 0) {
+                        break;
+                    }
+                    used[following] = true;
+                    append(nodes, chains.get(following), 1);
+                    last = nodes.get(nodes.size() - 1);
+                }
+                joined.add(nodes);
+            }
+        }
+
+        return joined;
+    }
+
+    /**
+     * @return The first unused chain index in the candidates or -1 if there is none.
+     */
+    private int findUnused (List<Integer> candidates, boolean[] used) {
+
+        if (candidates != null) {
+            for (Integer candidate : candidates) {
+                if ( !used[candidate]) {
+                    return candidate;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void append (List<Integer> nodes, int[] chain, int from) {
+
+        for (int i = from; i < chain.length; i++) {
+            nodes.add(chain[i]);
+        }
+    }
+
+    private int[] trim (int[] chain, int chainSize) {
+
+        int[] trimmed = new int[chainSize];
+        System.arraycopy(chain, 0, trimmed, 0, chainSize);
+        return trimmed;
+    }
+
+    /**
+     * @return true if the points are not all the same, false otherwise.
+     */
+    private boolean hasLength (List<Point> points) {
+
+        Point first = points.get(0);
+        for (Point point : points) {
+            if ( !first.equals(point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a vertex to the path being built unless it is the same as the last one.
+     */
+    private void addPathNode (double x, double y) {
+
+        if (nodeCount == 0 || !isSamePoint(x, y, nodeX[nodeCount - 1], nodeY[nodeCount - 1])) {
+            addNode(x, y);
+        }
+    }
+
+    /**
+     * @return The index of the added node
+     */
+    private int addNode (double x, double y) {
+
+        if (nodeCount == nodeX.length) {
+            double[] biggerX = new double[2 * nodeX.length];
+            double[] biggerY = new double[2 * nodeY.length];
+            System.arraycopy(nodeX, 0, biggerX, 0, nodeCount);
+            System.arraycopy(nodeY, 0, biggerY, 0, nodeCount);
+            nodeX = biggerX;
+            nodeY = biggerY;
+        }
+        nodeX[nodeCount] = x;
+        nodeY[nodeCount] = y;
+        return nodeCount++;
+    }
+
+    private static boolean isSamePoint (double x1, double y1, double x2, double y2) {
+
+        return Math.abs(x1 - x2) <= Constant.EPSILON && Math.abs(y1 - y2) <= Constant.EPSILON;
+    }
+
+    /**
+     * @return The square of the distance between (x, y) and the segment of the original points
+     *         starting at index start.
+     */
+    private double squaredDistanceToSegment (double x, double y, int start) {
+
+        int end = (start + 1) % size;
+        double dx = xs[end] - xs[start];
+        double dy = ys[end] - ys[start];
+        double t = ((x - xs[start]) * dx + (y - ys[start]) * dy) / (dx * dx + dy * dy);
+        t = Math.min(1, Math.max(0, t));
+        double px = xs[start] + t * dx - x;
+        double py = ys[start] + t * dy - y;
+        return px * px + py * py;
+    }
+
+
+    /**
+     * A crossing on a segment of the offset path.
+     */
+    private static class Split implements Comparable<Split> {
+
+        private final int segment;
+
+        private final double position;
+
+        private final int node;
+
+
+        public Split (int segment, double position, int node) {
+
+            this.segment = segment;
+            this.position = position;
+            this.node = node;
+        }
+
+        public int compareTo (Split other) {
+
+            if (segment != other.segment) {
+                return segment < other.segment ? -1 : 1;
+            }
+            return Double.compare(position, other.position);
+        }
+    }
+
+    /**
+     * A uniform grid over the original segments used to answer distance queries without scanning
+     * all of them. Cells are stored in compressed rows: the segments of cell c are the entries of
+     * items from cellStart[c] to cellStart[c + 1].
+     */
+    private class SegmentGrid {
+
+        private static final int MAX_CELLS_PER_AXIS = 1024;
+
+        private double originX;
+
+        private double originY;
+
+        private double cellSize;
+
+        private int columns;
+
+        private int rows;
+
+        private int[] cellStart;
+
+        private int[] items;
+
+
+        /**
+         * Builds the grid for the original segments.
+         *
+         * @param distance
+         *            The distance that will be queried
+         */
+        public SegmentGrid (double distance) {
+
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < size; i++) {
+                minX = Math.min(minX, xs[i]);
+                maxX = Math.max(maxX, xs[i]);
+                minY = Math.min(minY, ys[i]);
+                maxY = Math.max(maxY, ys[i]);
+            }
+            double width = maxX - minX;
+            double height = maxY - minY;
+            cellSize = Math.max(distance, Math.sqrt(width * height / segmentCount));
+            cellSize = Math.max(cellSize, Math.max(width, height) / MAX_CELLS_PER_AXIS);
+            cellSize = Math.max(cellSize, Constant.EPSILON);
+            originX = minX;
+            originY = minY;
+            columns = (int) (width / cellSize) + 1;
+            rows = (int) (height / cellSize) + 1;
+
+            cellStart = new int[columns * rows + 1];
+            for (int pass = 0; pass < 2; pass++) {
+                int[] fill = null;
+                if (pass == 1) {
+                    for (int c = 0; c < columns * rows; c++) {
+                        cellStart[c + 1] += cellStart[c];
+                    }
+                    items = new int[cellStart[columns * rows]];
+                    fill = new int[columns * rows];
+                }
+                for (int s = 0; s < segmentCount; s++) {
+                    int end = (s + 1) % size;
+                    int firstColumn = column(Math.min(xs[s], xs[end]));
+                    int lastColumn = column(Math.max(xs[s], xs[end]));
+                    int firstRow = row(Math.min(ys[s], ys[end]));
+                    int lastRow = row(Math.max(ys[s], ys[end]));
+                    for (int r = firstRow; r <= lastRow; r++) {
+                        for (int c = firstColumn; c <= lastColumn; c++) {
+                            int cell = r * columns + c;
+                            if (pass == 0) {
+                                cellStart[cell + 1]++;
+                            }
+                            else {
+                                items[cellStart[cell] + fill[cell]++] = s;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        private int column (double x) {
+
+            return Math.min(columns - 1, Math.max(0, (int) ((x - originX) / cellSize)));
+        }
+
+        private int row (double y) {
+
+            return Math.min(rows - 1, Math.max(0, (int) ((y - originY) / cellSize)));
+        }
+
+        /**
+         * @return true if some original segment is closer than the distance to both (x1, y1) and
+         *         (x2, y2), false otherwise.
+         */
+        public boolean hasSegmentCloserThan (double x1, double y1, double x2, double y2,
+                double distance) {
+
+            double squared = distance * distance;
+            int lastRow = row(y1 + distance);
+            int lastColumn = column(x1 + distance);
+            for (int r = row(y1 - distance); r <= lastRow; r++) {
+                for (int c = column(x1 - distance); c <= lastColumn; c++) {
+                    int cell = r * columns + c;
+                    for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                        if (squaredDistanceToSegment(x1, y1, items[i]) < squared
+                                && squaredDistanceToSegment(x2, y2, items[i]) < squared) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region.tests project.<br>
+ */
+
+package br.org.archimedes.region;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.arc.Arc;
+import br.org.archimedes.circle.Circle;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.region.
+ *
+ * @author agent
+ */
+public class ArrangementTest extends Tester {
+
+    private static final double DELTA = 1e-6;
+
+    private List<Element> elements;
+
+
+    @Before
+    public void setUp () {
+
+        elements = new ArrayList<Element>();
+    }
+
+    private void addSquare (double x1, double y1, double x2, double y2) throws Exception {
+
+        elements.add(new Line(x1, y1, x2, y1));
+        elements.add(new Line(x2, y1, x2, y2));
+        elements.add(new Line(x2, y2, x1, y2));
+        elements.add(new Line(x1, y2, x1, y1));
+    }
+
+    @Test
+    public void findsTheRegionBoundedByLines () throws Exception {
+
+        addSquare(0.0, 0.0, 1.0, 1.0);
+
+        Region region = new Arrangement(elements).getRegionAt(new Point(0.5, 0.5));
+
+        assertEquals(1.0, region.getArea(), DELTA);
+        assertEquals(4.0, region.getPerimeter(), DELTA);
+        assertEquals(1, region.getBoundaries().size());
+        assertTrue(region.getBoundaries().get(0).isClosed());
+    }
+
+    @Test
+    public void returnsNullOutsideEveryRegion () throws Exception {
+
+        addSquare(0.0, 0.0, 1.0, 1.0);
+
+        assertNull(new Arrangement(elements).getRegionAt(new Point(2.0, 0.5)));
+    }
+
+    @Test
+    public void splitsCrossingLines () throws Exception {
+
+        elements.add(new Line(1.0, -1.0, 1.0, 4.0));
+        elements.add(new Line(2.0, -1.0, 2.0, 4.0));
+        elements.add(new Line( -1.0, 1.0, 4.0, 1.0));
+        elements.add(new Line( -1.0, 2.0, 4.0, 2.0));
+
+        Arrangement arrangement = new Arrangement(elements);
+
+        assertEquals(1.0, arrangement.getRegionAt(new Point(1.5, 1.5)).getArea(), DELTA);
+        assertNull(arrangement.getRegionAt(new Point(0.5, 1.5)));
+    }
+
+    @Test
+    public void ignoresDanglingLines () throws Exception {
+
+        addSquare(0.0, 0.0, 1.0, 1.0);
+        elements.add(new Line(1.0, 1.0, 3.0, 3.0));
+        elements.add(new Line(0.2, 0.2, 0.4, 0.3));
+
+        Region region = new Arrangement(elements).getRegionAt(new Point(0.5, 0.5));
+
+        assertEquals(1.0, region.getArea(), DELTA);
+        assertEquals(4.0, region.getPerimeter(), DELTA);
+    }
+
+    @Test
+    public void subtractsIslands () throws Exception {
+
+        elements.add(new Polyline(new Point(0.0, 0.0), new Point(10.0, 0.0), new Point(10.0,
+                10.0), new Point(0.0, 10.0), new Point(0.0, 0.0)));
+        elements.add(new Polyline(new Point(4.0, 4.0), new Point(6.0, 4.0), new Point(6.0, 6.0),
+                new Point(4.0, 6.0), new Point(4.0, 4.0)));
+
+        Arrangement arrangement = new Arrangement(elements);
+        Region outer = arrangement.getRegionAt(new Point(1.0, 1.0));
+        Region island = arrangement.getRegionAt(new Point(5.0, 5.0));
+
+        assertEquals(96.0, outer.getArea(), DELTA);
+        assertEquals(48.0, outer.getPerimeter(), DELTA);
+        assertEquals(1, outer.getIslandCount());
+        assertEquals(2, outer.getBoundaries().size());
+        assertEquals(4.0, island.getArea(), DELTA);
+        assertEquals(0, island.getIslandCount());
+    }
+
+    @Test
+    public void computesExactAreasOfArcs () throws Exception {
+
+        elements.add(new Line( -1.0, 0.0, 1.0, 0.0));
+        elements.add(new Arc(new Point(1.0, 0.0), new Point( -1.0, 0.0), new Point(0.0, 0.0),
+                true));
+
+        Region region = new Arrangement(elements).getRegionAt(new Point(0.0, 0.5));
+
+        assertEquals(Math.PI / 2, region.getArea(), DELTA);
+        assertEquals(Math.PI + 2, region.getPerimeter(), DELTA);
+    }
+
+    @Test
+    public void splitsOverlappingCircles () throws Exception {
+
+        elements.add(new Circle(new Point(0.0, 0.0), 1.0));
+        elements.add(new Circle(new Point(1.0, 0.0), 1.0));
+
+        Arrangement arrangement = new Arrangement(elements);
+        double lens = 2 * Math.PI / 3 - Math.sqrt(3) / 2;
+
+        assertEquals(lens, arrangement.getRegionAt(new Point(0.5, 0.0)).getArea(), DELTA);
+        assertEquals(Math.PI - lens, arrangement.getRegionAt(new Point( -0.5, 0.0)).getArea(),
+                DELTA);
+    }
+
+    @Test(expected = NullArgumentException.class)
+    public void refusesNullPoints () throws Exception {
+
+        addSquare(0.0, 0.0, 1.0, 1.0);
+
+        new Arrangement(elements).getRegionAt(null);
+    }
+}
@@ -0,0 +1,694 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region project.<br>
+ */
+
+package br.org.archimedes.region;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import br.org.archimedes.arc.Arc;
+import br.org.archimedes.circle.Circle;
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.interfaces.IntersectionManager;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.model.SpatialIndex;
+import br.org.archimedes.model.Vector;
+import br.org.archimedes.polyline.Polyline;
+import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
+
+/**
+ * Belongs to package br.org.archimedes.region.<br>
+ * Planar arrangement of lines, polylines, arcs and circles: the elements are split at their
+ * intersections into edges that only meet at their ends and the faces they bound are kept in a
+ * doubly connected edge list.<br>
+ * Candidate intersections are found through a {@link SpatialIndex} of the elements and computed
+ * by the {@link IntersectionManager}. Faces are found by casting a ray from the picked point over
+ * a {@link SpatialIndex} of the edges, so a query only looks at the edges close to the ray.
+ * Other kinds of elements are ignored and overlapping elements should be cleaned beforehand.
+ *
+ * @author agent
+ */
+public class Arrangement {
+
+    /**
+     * Default distance under which two points are considered the same vertex.
+     */
+    public static final double DEFAULT_TOLERANCE = 1e-6;
+
+    /**
+     * Number of ray directions tried before giving up on a query that keeps hitting vertices.
+     */
+    private static final int RAY_ATTEMPTS = 8;
+
+    private double tolerance;
+
+    private IntersectionManager intersectionManager;
+
+    private Map<Cell, List<Vertex>> vertices;
+
+    private List<HalfEdge> edges;
+
+    private Map<Element, HalfEdge> edgeShapes;
+
+    private SpatialIndex edgeIndex;
+
+    private List<Boundary> boundaries;
+
+    private Map<Boundary, Boundary> parents;
+
+
+    /**
+     * Builds the arrangement of the elements with the default tolerance.
+     *
+     * @param elements
+     *            The elements to arrange
+     * @throws NullArgumentException
+     *             Thrown if the elements are null
+     */
+    public Arrangement (Collection<Element> elements) throws NullArgumentException {
+
+        this(elements, new IntersectionManagerEPLoader().getIntersectionManager(),
+                DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Builds the arrangement of the elements.
+     *
+     * @param elements
+     *            The elements to arrange
+     * @param intersectionManager
+     *            The intersection manager used to split the elements
+     * @param tolerance
+     *            Distance under which two points are considered the same vertex
+     * @throws NullArgumentException
+     *             Thrown if the elements or the intersection manager are null
+     */
+    public Arrangement (Collection<Element> elements, IntersectionManager intersectionManager,
+            double tolerance) throws NullArgumentException {
+
+        if (elements == null || intersectionManager == null) {
+            throw new NullArgumentException();
+        }
+        this.intersectionManager = intersectionManager;
+        this.tolerance = tolerance;
+        vertices = new HashMap<Cell, List<Vertex>>();
+        edges = new ArrayList<HalfEdge>();
+
+        List<Element> primitives = new ArrayList<Element>();
+        for (Element element : elements) {
+            if (element instanceof Polyline) {
+                primitives.addAll(((Polyline) element).getLines());
+            }
+            else if (element instanceof Line || element instanceof Arc
+                    || element instanceof Circle) {
+                primitives.add(element);
+            }
+        }
+
+        split(primitives);
+        pruneDanglingEdges();
+        linkEdges();
+        indexEdges();
+    }
+
+    /**
+     * @param point
+     *            A point inside the wanted region
+     * @return The bounded region containing the point or null if the point is outside every
+     *         region or on an edge
+     * @throws NullArgumentException
+     *             Thrown if the point is null
+     */
+    public Region getRegionAt (Point point) throws NullArgumentException {
+
+        if (point == null) {
+            throw new NullArgumentException();
+        }
+        if (parents == null) {
+            findHoles();
+        }
+
+        Boundary boundary = findBoundaryAround(point, null, 0);
+        if (boundary == null) {
+            return null;
+        }
+        if ( !boundary.isOuter()) {
+            boundary = parents.get(boundary);
+        }
+        return boundary == null ? null : new Region(boundary);
+    }
+
+    /**
+     * @return The number of edges of the arrangement
+     */
+    public int getEdgeCount () {
+
+        return edges.size();
+    }
+
+    /**
+     * Splits every primitive at its intersections with the others and creates the corresponding
+     * edges.
+     */
+    private void split (List<Element> primitives) throws NullArgumentException {
+
+        SpatialIndex index = new SpatialIndex(primitives);
+        for (Element primitive : primitives) {
+            List<Element> candidates = new ArrayList<Element>();
+            for (Element candidate : index.getElementsIn(primitive.getBoundaryRectangle())) {
+                if (candidate != primitive) {
+                    candidates.add(candidate);
+                }
+            }
+            Collection<Point> cuts = candidates.isEmpty() ? new ArrayList<Point>()
+                    : intersectionManager.getIntersectionsBetween(primitive, candidates);
+
+            if (primitive instanceof Line) {
+                splitLine((Line) primitive, cuts);
+            }
+            else if (primitive instanceof Arc) {
+                Arc arc = (Arc) primitive;
+                Point center = arc.getCenter();
+                double start = getAngle(center, arc.getInitialPoint());
+                double sweep = HalfEdge.normalize(getAngle(center, arc.getEndingPoint()) - start);
+                splitArc(center, arc.getRadius(), start, sweep, cuts, false);
+            }
+            else {
+                Circle circle = (Circle) primitive;
+                Point center = circle.getCenter();
+                double start = cuts.isEmpty() ? 0 : getAngle(center, cuts.iterator().next());
+                splitArc(center, circle.getRadius(), start, 2 * Math.PI, cuts, true);
+            }
+        }
+    }
+
+    private void splitLine (Line line, Collection<Point> cuts) {
+
+        Point initial = line.getInitialPoint();
+        Point ending = line.getEndingPoint();
+        double dx = ending.getX() - initial.getX();
+        double dy = ending.getY() - initial.getY();
+        double length = Math.hypot(dx, dy);
+        if (length <= tolerance) {
+            return;
+        }
+
+        List<Double> positions = new ArrayList<Double>();
+        positions.add(0.0);
+        positions.add(length);
+        for (Point cut : cuts) {
+            positions.add(((cut.getX() - initial.getX()) * dx + (cut.getY() - initial.getY())
+                    * dy)
+                    / length);
+        }
+        Collections.sort(positions);
+
+        Vertex previous = getVertex(initial);
+        for (double position : positions) {
+            if (position <= tolerance || position > length) {
+                continue;
+            }
+            Vertex vertex = position >= length - tolerance ? getVertex(ending)
+                    : getVertex(new Point(initial.getX() + dx * position / length, initial
+                            .getY()
+                            + dy * position / length));
+            if (vertex != previous) {
+                addEdge(HalfEdge.createSegment(previous, vertex));
+                previous = vertex;
+            }
+        }
+    }
+
+    /**
+     * Splits an arc or a full circle at the cuts. Full circles and single pieces covering more
+     * than half a turn get an extra vertex so that no edge starts and ends at the same vertex.
+     */
+    private void splitArc (Point center, double radius, double start, double sweep,
+            Collection<Point> cuts, boolean full) {
+
+        if (radius <= tolerance) {
+            return;
+        }
+        List<Double> offsets = new ArrayList<Double>();
+        offsets.add(0.0);
+        offsets.add(sweep);
+        for (Point cut : cuts) {
+            double offset = HalfEdge.normalize(getAngle(center, cut) - start);
+            if (offset < sweep) {
+                offsets.add(offset);
+            }
+        }
+        if (full && offsets.size() < 4) {
+            offsets.add(Math.PI);
+        }
+        Collections.sort(offsets);
+
+        double angleTolerance = tolerance / radius;
+        double previousOffset = 0;
+        Vertex first = getVertex(getPointAt(center, radius, start));
+        Vertex previous = first;
+        for (double offset : offsets) {
+            if (offset - previousOffset <= angleTolerance) {
+                continue;
+            }
+            Vertex vertex = (full && offset >= sweep - angleTolerance) ? first
+                    : getVertex(getPointAt(center, radius, start + offset));
+            if (vertex != previous) {
+                addEdge(HalfEdge.createArc(previous, vertex, center, radius, start
+                        + previousOffset, offset - previousOffset));
+                previous = vertex;
+                previousOffset = offset;
+            }
+        }
+    }
+
+    /**
+     * Adds the edge unless the same edge is already in the arrangement.
+     */
+    private void addEdge (HalfEdge edge) {
+
+        Vertex origin = edge.getOrigin();
+        double angle = edge.getAngle();
+        for (HalfEdge existing : origin.getOutgoing()) {
+            if (existing.getDestination() == edge.getDestination()
+                    && Math.abs(existing.getAngle() - angle) < 1e-9
+                    && Math.abs(existing.getCurvature() - edge.getCurvature()) < 1e-9) {
+                return;
+            }
+        }
+        origin.getOutgoing().add(edge);
+        edge.getDestination().getOutgoing().add(edge.getTwin());
+        edges.add(edge);
+    }
+
+    /**
+     * Removes the edges that have an end touching nothing else since they bound no face.
+     */
+    private void pruneDanglingEdges () {
+
+        LinkedList<Vertex> dangling = new LinkedList<Vertex>();
+        for (List<Vertex> cell : vertices.values()) {
+            for (Vertex vertex : cell) {
+                if (vertex.getOutgoing().size() == 1) {
+                    dangling.add(vertex);
+                }
+            }
+        }
+
+        Map<HalfEdge, HalfEdge> removed = new IdentityHashMap<HalfEdge, HalfEdge>();
+        while ( !dangling.isEmpty()) {
+            Vertex vertex = dangling.removeFirst();
+            if (vertex.getOutgoing().size() != 1) {
+                continue;
+            }
+            HalfEdge edge = vertex.getOutgoing().remove(0);
+            Vertex other = edge.getDestination();
+            other.getOutgoing().remove(edge.getTwin());
+            removed.put(edge, edge);
+            removed.put(edge.getTwin(), edge.getTwin());
+            if (other.getOutgoing().size() == 1) {
+                dangling.add(other);
+            }
+        }
+
+        List<HalfEdge> remaining = new ArrayList<HalfEdge>(edges.size());
+        for (HalfEdge edge : edges) {
+            if ( !removed.containsKey(edge)) {
+                remaining.add(edge);
+            }
+        }
+        edges = remaining;
+    }
+
+    /**
+     * Sorts the edges around each vertex and links every half edge to the next one around its
+     * face. Then walks all cycles to create the boundaries and groups the vertices in connected
+     * components.
+     */
+    private void linkEdges () {
+
+        Comparator<HalfEdge> counterClockwise = new Comparator<HalfEdge>() {
+
+            public int compare (HalfEdge first, HalfEdge second) {
+
+                int comparison = Double.compare(first.getAngle(), second.getAngle());
+                if (comparison == 0) {
+                    comparison = Double.compare(first.getCurvature(), second.getCurvature());
+                }
+                return comparison;
+            }
+        };
+
+        for (List<Vertex> cell : vertices.values()) {
+            for (Vertex vertex : cell) {
+                List<HalfEdge> outgoing = vertex.getOutgoing();
+                Collections.sort(outgoing, counterClockwise);
+                int size = outgoing.size();
+                for (int i = 0; i < size; i++) {
+                    // The face on the left of an incoming edge continues on the first outgoing
+                    // edge clockwise from it
+                    outgoing.get(i).getTwin().setNext(outgoing.get((i + size - 1) % size));
+                }
+            }
+        }
+
+        boundaries = new ArrayList<Boundary>();
+        for (HalfEdge edge : edges) {
+            edge.getOrigin().connect(edge.getDestination());
+            if (edge.getBoundary() == null) {
+                boundaries.add(new Boundary(edge));
+            }
+            if (edge.getTwin().getBoundary() == null) {
+                boundaries.add(new Boundary(edge.getTwin()));
+            }
+        }
+    }
+
+    /**
+     * Creates an element for each edge so the edges can be kept in a spatial index.
+     */
+    private void indexEdges () {
+
+        edgeShapes = new IdentityHashMap<Element, HalfEdge>();
+        for (HalfEdge edge : edges) {
+            try {
+                Element shape;
+                Point origin = edge.getOrigin().getPoint();
+                Point destination = edge.getDestination().getPoint();
+                if (edge.isArc()) {
+                    shape = new Arc(origin, destination, edge.getCenter(), true);
+                }
+                else {
+                    shape = new Line(origin, destination);
+                }
+                edgeShapes.put(shape, edge);
+            }
+            catch (InvalidArgumentException e) {
+                // Should never happen since vertices are farther than the tolerance
+                e.printStackTrace();
+            }
+            catch (NullArgumentException e) {
+                // Should never happen
+                e.printStackTrace();
+            }
+        }
+        edgeIndex = new SpatialIndex(new ArrayList<Element>(edgeShapes.keySet()));
+    }
+
+    /**
+     * Finds, for every clockwise boundary, the face it lies in.
+     */
+    private void findHoles () throws NullArgumentException {
+
+        parents = new IdentityHashMap<Boundary, Boundary>();
+        for (Boundary boundary : boundaries) {
+            if ( !boundary.isOuter()) {
+                Boundary parent = getParent(boundary);
+                if (parent != null) {
+                    parent.getHoles().add(boundary);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The counter clockwise boundary of the face around the clockwise boundary, null if
+     *         it lies in the unbounded face
+     */
+    private Boundary getParent (Boundary boundary) throws NullArgumentException {
+
+        if (parents.containsKey(boundary)) {
+            return parents.get(boundary);
+        }
+
+        // The ray goes to the left of the leftmost point so it never reaches the boundary again
+        // and the boundaries it hits are always further left.
+        Vertex component = boundary.getFirst().getOrigin().getComponent();
+        Boundary around = findBoundaryAround(boundary.getLeftmost(), component, Math.PI);
+        Boundary parent = null;
+        if (around != null) {
+            parent = around.isOuter() ? around : getParent(around);
+        }
+        parents.put(boundary, parent);
+        return parent;
+    }
+
+    /**
+     * Casts rays from the point until one hits an edge cleanly, away from vertices.
+     *
+     * @param point
+     *            The origin of the rays
+     * @param ignored
+     *            The connected component whose edges are ignored, null to consider every edge
+     * @param baseAngle
+     *            The direction of the first ray. The others deviate at most a quarter turn from
+     *            it.
+     * @return The boundary on the side of the point of the first edge hit, null if there is
+     *         none
+     */
+    private Boundary findBoundaryAround (Point point, Vertex ignored, double baseAngle)
+            throws NullArgumentException {
+
+        for (int attempt = 0; attempt < RAY_ATTEMPTS; attempt++) {
+            // Spreads the attempts over (-PI/2, PI/2) around the base angle without repeating
+            double angle = baseAngle + (attempt % 2 == 0 ? 1 : -1) * (Math.PI / 2) * attempt
+                    / (RAY_ATTEMPTS + 1);
+            Hit hit = castRay(point, Math.cos(angle), Math.sin(angle), ignored);
+            if (hit == null) {
+                return null;
+            }
+            if ( !hit.degenerated) {
+                return hit.edge.getBoundary();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The first edge hit by the ray from the point in the direction, null if none is hit
+     */
+    private Hit castRay (Point origin, double dx, double dy, Vertex ignored)
+            throws NullArgumentException {
+
+        Hit best = null;
+        try {
+            SpatialIndex.Ray ray = edgeIndex.castRay(origin, new Vector(new Point(dx, dy)));
+            while (ray.hasNext()) {
+                Collection<Element> group = ray.next();
+                if (best != null && ray.getDistance() > best.distance + tolerance) {
+                    break;
+                }
+                for (Element shape : group) {
+                    HalfEdge edge = edgeShapes.get(shape);
+                    if (ignored != null && edge.getOrigin().getComponent() == ignored) {
+                        continue;
+                    }
+                    best = intersect(edge, origin, dx, dy, best);
+                }
+            }
+        }
+        catch (InvalidArgumentException e) {
+            // Should never happen since the direction is a unit vector
+            e.printStackTrace();
+        }
+        return best;
+    }
+
+    /**
+     * Intersects the ray with the edge and keeps the closest hit.
+     *
+     * @return The closest of the hits
+     */
+    private Hit intersect (HalfEdge edge, Point origin, double dx, double dy, Hit best) {
+
+        Point start = edge.getOrigin().getPoint();
+        Point end = edge.getDestination().getPoint();
+        double ox = origin.getX();
+        double oy = origin.getY();
+        List<Double> distances = new ArrayList<Double>(2);
+        List<Boolean> atEnds = new ArrayList<Boolean>(2);
+
+        if (edge.isArc()) {
+            Point center = edge.getCenter();
+            double radius = edge.getRadius();
+            double fx = ox - center.getX();
+            double fy = oy - center.getY();
+            double half = fx * dx + fy * dy;
+            double discriminant = half * half - (fx * fx + fy * fy - radius * radius);
+            if (discriminant < 0) {
+                return best;
+            }
+            double root = Math.sqrt(discriminant);
+            boolean tangent = root * radius <= tolerance;
+            for (double distance : new double[] { -half - root, -half + root }) {
+                double angle = Math.atan2(oy + distance * dy - center.getY(), ox + distance * dx
+                        - center.getX());
+                double offset = HalfEdge.normalize(angle - edge.getStartAngle());
+                if (distance >= 0 && offset <= edge.getSweep()) {
+                    distances.add(distance);
+                    atEnds.add(tangent || offset * radius <= tolerance
+                            || (edge.getSweep() - offset) * radius <= tolerance);
+                }
+            }
+        }
+        else {
+            double ex = end.getX() - start.getX();
+            double ey = end.getY() - start.getY();
+            double denominator = dx * ey - dy * ex;
+            double length = Math.hypot(ex, ey);
+            if (Math.abs(denominator) <= tolerance / length) {
+                return best;
+            }
+            double sx = start.getX() - ox;
+            double sy = start.getY() - oy;
+            double distance = (sx * ey - sy * ex) / denominator;
+            double position = (sx * dy - sy * dx) / denominator;
+            if (distance >= 0 && position >= 0 && position <= 1) {
+                distances.add(distance);
+                atEnds.add(position * length <= tolerance || (1 - position) * length <= tolerance);
+            }
+        }
+
+        for (int i = 0; i < distances.size(); i++) {
+            double distance = distances.get(i);
+            if (best != null && distance > best.distance + tolerance) {
+                continue;
+            }
+            Hit hit = new Hit();
+            hit.distance = distance;
+            hit.degenerated = atEnds.get(i)
+                    || (best != null && Math.abs(distance - best.distance) <= tolerance);
+            if (best != null && distance > best.distance) {
+                best.degenerated = hit.degenerated;
+                continue;
+            }
+            Point point = new Point(ox + distance * dx, oy + distance * dy);
+            // The face containing the ray origin is on the left of the half edge going
+            // counter clockwise around it
+            boolean originOnLeft = edge.getTangentY(point) * dx - edge.getTangentX(point) * dy > 0;
+            hit.edge = originOnLeft ? edge : edge.getTwin();
+            best = hit;
+        }
+        return best;
+    }
+
+    /**
+     * @return The vertex at the point, creating it if there is none within the tolerance
+     */
+    private Vertex getVertex (Point point) {
+
+        double cellSize = 4 * tolerance;
+        long x = (long) Math.floor(point.getX() / cellSize);
+        long y = (long) Math.floor(point.getY() / cellSize);
+        for (long i = x - 1; i <= x + 1; i++) {
+            for (long j = y - 1; j <= y + 1; j++) {
+                List<Vertex> candidates = vertices.get(new Cell(i, j));
+                if (candidates != null) {
+                    for (Vertex vertex : candidates) {
+                        Point position = vertex.getPoint();
+                        if (Math.hypot(position.getX() - point.getX(), position.getY()
+                                - point.getY()) <= tolerance) {
+                            return vertex;
+                        }
+                    }
+                }
+            }
+        }
+
+        Cell cell = new Cell(x, y);
+        List<Vertex> cellVertices = vertices.get(cell);
+        if (cellVertices == null) {
+            cellVertices = new ArrayList<Vertex>(1);
+            vertices.put(cell, cellVertices);
+        }
+        Vertex vertex = new Vertex(point);
+        cellVertices.add(vertex);
+        return vertex;
+    }
+
+    private static double getAngle (Point center, Point point) {
+
+        return Math.atan2(point.getY() - center.getY(), point.getX() - center.getX());
+    }
+
+    private static Point getPointAt (Point center, double radius, double angle) {
+
+        return new Point(center.getX() + radius * Math.cos(angle), center.getY() + radius
+                * Math.sin(angle));
+    }
+
+
+    /**
+     * Edge hit by a ray.
+     */
+    private static class Hit {
+
+        private HalfEdge edge;
+
+        private double distance;
+
+        private boolean degenerated;
+    }
+
+    /**
+     * Cell of the vertex grid.
+     */
+    private static class Cell {
+
+        private long x;
+
+        private long y;
+
+
+        public Cell (long x, long y) {
+
+            this.x = x;
+            this.y = y;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode () {
+
+            long hash = x * 0x9E3779B97F4A7C15L + y;
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals (Object object) {
+
+            if ( !(object instanceof Cell)) {
+                return false;
+            }
+            Cell other = (Cell) object;
+            return x == other.x && y == other.y;
+        }
+    }
+}
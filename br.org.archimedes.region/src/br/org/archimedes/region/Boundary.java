@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region project.<br>
+ */
+
+package br.org.archimedes.region;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.region.<br>
+ * Closed cycle of half edges. A counter clockwise boundary (positive area) is the outer boundary
+ * of a bounded face. A clockwise one (negative area) is the outer boundary of a connected
+ * component, seen from the face around it.
+ *
+ * @author agent
+ */
+class Boundary {
+
+    private HalfEdge first;
+
+    private double area;
+
+    private double perimeter;
+
+    private Point leftmost;
+
+    private List<Boundary> holes;
+
+
+    /**
+     * Walks the cycle starting at the half edge, marking every half edge as belonging to this
+     * boundary.
+     *
+     * @param first
+     *            A half edge of the cycle
+     */
+    public Boundary (HalfEdge first) {
+
+        this.first = first;
+        holes = new ArrayList<Boundary>();
+        HalfEdge current = first;
+        do {
+            current.setBoundary(this);
+            area += current.getSignedArea();
+            perimeter += current.getLength();
+            Point candidate = current.getLeftmostPoint();
+            if (leftmost == null || candidate.getX() < leftmost.getX()) {
+                leftmost = candidate;
+            }
+            current = current.getNext();
+        } while (current != first);
+    }
+
+    /**
+     * @return The points of this boundary, closed by repeating the first one at the end
+     */
+    public List<Point> getPoints () {
+
+        List<Point> points = new ArrayList<Point>();
+        points.add(first.getOrigin().getPoint());
+        HalfEdge current = first;
+        do {
+            current.addPointsTo(points);
+            current = current.getNext();
+        } while (current != first);
+        return points;
+    }
+
+    /**
+     * @return true if this boundary bounds a face from inside, false if it is the outer side of a
+     *         connected component
+     */
+    public boolean isOuter () {
+
+        return area > 0;
+    }
+
+    public HalfEdge getFirst () {
+
+        return first;
+    }
+
+    /**
+     * @return The signed area enclosed by this boundary
+     */
+    public double getArea () {
+
+        return area;
+    }
+
+    public double getPerimeter () {
+
+        return perimeter;
+    }
+
+    public Point getLeftmost () {
+
+        return leftmost;
+    }
+
+    /**
+     * @return The clockwise boundaries of the components lying directly inside this one
+     */
+    public List<Boundary> getHoles () {
+
+        return holes;
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region project.<br>
+ */
+
+package br.org.archimedes.region;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import br.org.archimedes.Constant;
+import br.org.archimedes.Utils;
+import br.org.archimedes.controller.commands.PutOrRemoveElementCommand;
+import br.org.archimedes.exceptions.InvalidParameterException;
+import br.org.archimedes.exceptions.NoActiveDrawingException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.factories.CommandFactory;
+import br.org.archimedes.interfaces.Command;
+import br.org.archimedes.interfaces.Parser;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.parser.PointParser;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.region.<br>
+ * Creates the boundaries of the region around a picked point as closed polylines and tells its
+ * area and perimeter. The region is computed from the selected elements or from all unlocked
+ * elements when nothing is selected.
+ *
+ * @author agent
+ */
+public class BoundaryFactory implements CommandFactory {
+
+    private Arrangement arrangement;
+
+    private Command command;
+
+    private boolean active;
+
+
+    public String begin () {
+
+        active = true;
+        command = null;
+        try {
+            Collection<Element> elements = Utils.getController().getCurrentSelectedElements();
+            if (elements.isEmpty()) {
+                Drawing drawing = Utils.getController().getActiveDrawing();
+                elements = drawing.getUnlockedContents();
+            }
+            arrangement = new Arrangement(elements);
+        }
+        catch (NoActiveDrawingException e) {
+            deactivate();
+            return Messages.NoDrawing;
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+        }
+
+        Utils.getController().deselectAll();
+        return Messages.PickPoint;
+    }
+
+    public String next (Object parameter) throws InvalidParameterException {
+
+        if (isDone()) {
+            throw new InvalidParameterException();
+        }
+        if ( !(parameter instanceof Point)) {
+            throw new InvalidParameterException(Messages.PickPoint);
+        }
+
+        String result;
+        try {
+            Region region = arrangement.getRegionAt((Point) parameter);
+            if (region == null) {
+                result = Messages.NoRegion + Constant.NEW_LINE + Messages.PickPoint;
+            }
+            else {
+                List<Element> boundaries = new ArrayList<Element>();
+                for (Polyline boundary : region.getBoundaries()) {
+                    boundaries.add(boundary);
+                }
+                command = new PutOrRemoveElementCommand(boundaries, false);
+                result = Messages.bind(Messages.Created, region.getArea(), region.getPerimeter());
+                deactivate();
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should never happen since the parameter is a point
+            e.printStackTrace();
+            result = Messages.NoRegion;
+        }
+        return result;
+    }
+
+    public String cancel () {
+
+        deactivate();
+        return Messages.Canceled;
+    }
+
+    private void deactivate () {
+
+        active = false;
+        arrangement = null;
+    }
+
+    public boolean isDone () {
+
+        return !active;
+    }
+
+    public Parser getNextParser () {
+
+        Parser parser = null;
+        if (active) {
+            parser = new PointParser();
+        }
+        return parser;
+    }
+
+    public void drawVisualHelper () {
+
+    }
+
+    public List<Command> getCommands () {
+
+        List<Command> commands = null;
+        if (command != null) {
+            commands = new ArrayList<Command>();
+            commands.add(command);
+            command = null;
+        }
+        return commands;
+    }
+
+    public String getName () {
+
+        return "boundary"; //$NON-NLS-1$
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.factories.CommandFactory#isTransformFactory()
+     */
+    public boolean isTransformFactory () {
+
+        return false;
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region project.<br>
+ */
+
+package br.org.archimedes.region;
+
+import java.util.List;
+
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.region.<br>
+ * One side of an edge of the arrangement, going from its origin to the origin of its twin. The
+ * face it bounds is on its left. An edge is either a segment or an arc of circle.
+ *
+ * @author agent
+ */
+class HalfEdge {
+
+    /**
+     * Biggest angle of arc represented by a single segment when flattening arcs.
+     */
+    private static final double FLATTENING_ANGLE = Math.PI / 32;
+
+    private Vertex origin;
+
+    private HalfEdge twin;
+
+    private HalfEdge next;
+
+    private Boundary boundary;
+
+    private Point center;
+
+    private double radius;
+
+    private double startAngle;
+
+    private double sweep;
+
+
+    /**
+     * Creates the two half edges of a segment.
+     *
+     * @param from
+     *            The origin of the returned half edge
+     * @param to
+     *            The origin of its twin
+     * @return The half edge going from the first vertex to the second one
+     */
+    public static HalfEdge createSegment (Vertex from, Vertex to) {
+
+        HalfEdge forward = new HalfEdge(from);
+        HalfEdge backward = new HalfEdge(to);
+        forward.twin = backward;
+        backward.twin = forward;
+        return forward;
+    }
+
+    /**
+     * Creates the two half edges of an arc.
+     *
+     * @param from
+     *            The origin of the returned half edge
+     * @param to
+     *            The origin of its twin
+     * @param center
+     *            The center of the arc
+     * @param radius
+     *            The radius of the arc
+     * @param startAngle
+     *            The angle of the first vertex around the center
+     * @param sweep
+     *            The counter clockwise angle from the first to the second vertex
+     * @return The counter clockwise half edge going from the first vertex to the second one
+     */
+    public static HalfEdge createArc (Vertex from, Vertex to, Point center, double radius,
+            double startAngle, double sweep) {
+
+        HalfEdge forward = new HalfEdge(from);
+        HalfEdge backward = new HalfEdge(to);
+        forward.twin = backward;
+        backward.twin = forward;
+        forward.setArc(center, radius, startAngle, sweep);
+        backward.setArc(center, radius, startAngle + sweep, -sweep);
+        return forward;
+    }
+
+    private HalfEdge (Vertex origin) {
+
+        this.origin = origin;
+    }
+
+    private void setArc (Point center, double radius, double startAngle, double sweep) {
+
+        this.center = center;
+        this.radius = radius;
+        this.startAngle = startAngle;
+        this.sweep = sweep;
+    }
+
+    /**
+     * @return true if this half edge is an arc, false if it is a segment
+     */
+    public boolean isArc () {
+
+        return center != null;
+    }
+
+    /**
+     * @return The direction in which this half edge leaves its origin
+     */
+    public double getAngle () {
+
+        if (isArc()) {
+            return normalize(startAngle + (sweep > 0 ? Math.PI / 2 : -Math.PI / 2));
+        }
+        Point destination = getDestination().getPoint();
+        return normalize(Math.atan2(destination.getY() - origin.getPoint().getY(), destination
+                .getX()
+                - origin.getPoint().getX()));
+    }
+
+    /**
+     * @return The signed curvature of this half edge. Positive if it turns left, negative if it
+     *         turns right and 0 if it goes straight.
+     */
+    public double getCurvature () {
+
+        if (isArc()) {
+            return sweep > 0 ? 1 / radius : -1 / radius;
+        }
+        return 0;
+    }
+
+    /**
+     * @return The contribution of this half edge to the signed area of a closed boundary, that is
+     *         the integral of (x dy - y dx) / 2 along it.
+     */
+    public double getSignedArea () {
+
+        if (isArc()) {
+            double endAngle = startAngle + sweep;
+            return (radius * radius * sweep + radius * center.getX()
+                    * (Math.sin(endAngle) - Math.sin(startAngle)) - radius * center.getY()
+                    * (Math.cos(endAngle) - Math.cos(startAngle))) / 2;
+        }
+        Point start = origin.getPoint();
+        Point end = getDestination().getPoint();
+        return (start.getX() * end.getY() - end.getX() * start.getY()) / 2;
+    }
+
+    /**
+     * @return The length of this half edge
+     */
+    public double getLength () {
+
+        if (isArc()) {
+            return radius * Math.abs(sweep);
+        }
+        Point start = origin.getPoint();
+        Point end = getDestination().getPoint();
+        return Math.hypot(end.getX() - start.getX(), end.getY() - start.getY());
+    }
+
+    /**
+     * @return The point of this half edge with the smallest x coordinate
+     */
+    public Point getLeftmostPoint () {
+
+        Point leftmost = origin.getPoint();
+        if (isArc()) {
+            double offset = normalize(Math.PI - startAngle);
+            if (sweep < 0) {
+                offset = offset - 2 * Math.PI;
+            }
+            if (Math.abs(offset) < Math.abs(sweep)) {
+                leftmost = new Point(center.getX() - radius, center.getY());
+            }
+        }
+        return leftmost;
+    }
+
+    /**
+     * Adds the points of this half edge after its origin to the list, approximating arcs by
+     * segments.
+     *
+     * @param points
+     *            The list to add the points to
+     */
+    public void addPointsTo (List<Point> points) {
+
+        if (isArc()) {
+            int steps = (int) Math.ceil(Math.abs(sweep) / FLATTENING_ANGLE);
+            for (int i = 1; i < steps; i++) {
+                double angle = startAngle + sweep * i / steps;
+                points.add(new Point(center.getX() + radius * Math.cos(angle), center.getY()
+                        + radius * Math.sin(angle)));
+            }
+        }
+        points.add(getDestination().getPoint());
+    }
+
+    /**
+     * @param point
+     *            A point on this half edge
+     * @return The x coordinate of the unit direction of this half edge at the point
+     */
+    public double getTangentX (Point point) {
+
+        if (isArc()) {
+            double sin = (point.getY() - center.getY()) / radius;
+            return sweep > 0 ? -sin : sin;
+        }
+        return (getDestination().getPoint().getX() - origin.getPoint().getX()) / getLength();
+    }
+
+    /**
+     * @param point
+     *            A point on this half edge
+     * @return The y coordinate of the unit direction of this half edge at the point
+     */
+    public double getTangentY (Point point) {
+
+        if (isArc()) {
+            double cos = (point.getX() - center.getX()) / radius;
+            return sweep > 0 ? cos : -cos;
+        }
+        return (getDestination().getPoint().getY() - origin.getPoint().getY()) / getLength();
+    }
+
+    /**
+     * @return The angle in [0, 2 PI) equivalent to the given one
+     */
+    static double normalize (double angle) {
+
+        double normalized = angle % (2 * Math.PI);
+        return normalized < 0 ? normalized + 2 * Math.PI : normalized;
+    }
+
+    public Vertex getOrigin () {
+
+        return origin;
+    }
+
+    public Vertex getDestination () {
+
+        return twin.origin;
+    }
+
+    public HalfEdge getTwin () {
+
+        return twin;
+    }
+
+    public HalfEdge getNext () {
+
+        return next;
+    }
+
+    public void setNext (HalfEdge next) {
+
+        this.next = next;
+    }
+
+    public Boundary getBoundary () {
+
+        return boundary;
+    }
+
+    public void setBoundary (Boundary boundary) {
+
+        this.boundary = boundary;
+    }
+
+    public Point getCenter () {
+
+        return center;
+    }
+
+    public double getRadius () {
+
+        return radius;
+    }
+
+    public double getStartAngle () {
+
+        return startAngle;
+    }
+
+    public double getSweep () {
+
+        return sweep;
+    }
+}
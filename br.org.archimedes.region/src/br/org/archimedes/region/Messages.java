@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region project.<br>
+ */
+package br.org.archimedes.region;
+
+import org.eclipse.osgi.util.NLS;
+
+/**
+ * Belongs to package br.org.archimedes.region.
+ *
+ * @author agent
+ */
+public class Messages extends NLS {
+
+    private static final String BUNDLE_NAME = "br.org.archimedes.region.messages"; //$NON-NLS-1$
+
+    public static String Canceled;
+
+    public static String Created;
+
+    public static String NoDrawing;
+
+    public static String NoRegion;
+
+    public static String PickPoint;
+    static {
+        // initialize resource bundle
+        NLS.initializeMessages(BUNDLE_NAME, Messages.class);
+    }
+
+
+    private Messages () {
+
+    }
+}
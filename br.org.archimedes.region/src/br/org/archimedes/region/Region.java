@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region project.<br>
+ */
+
+package br.org.archimedes.region;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.org.archimedes.exceptions.InvalidArgumentException;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.polyline.Polyline;
+
+/**
+ * Belongs to package br.org.archimedes.region.<br>
+ * Bounded face of an {@link Arrangement}: the area enclosed by an outer boundary minus the
+ * islands inside it.
+ *
+ * @author agent
+ */
+public class Region {
+
+    private Boundary outer;
+
+
+    /**
+     * @param outer
+     *            The counter clockwise boundary of the face
+     */
+    Region (Boundary outer) {
+
+        this.outer = outer;
+    }
+
+    /**
+     * @return The area of the region, without the area of its islands
+     */
+    public double getArea () {
+
+        double area = outer.getArea();
+        for (Boundary hole : outer.getHoles()) {
+            area += hole.getArea();
+        }
+        return area;
+    }
+
+    /**
+     * @return The length of the outer boundary and of the boundaries of the islands
+     */
+    public double getPerimeter () {
+
+        double perimeter = outer.getPerimeter();
+        for (Boundary hole : outer.getHoles()) {
+            perimeter += hole.getPerimeter();
+        }
+        return perimeter;
+    }
+
+    /**
+     * @return The number of islands inside the region
+     */
+    public int getIslandCount () {
+
+        return outer.getHoles().size();
+    }
+
+    /**
+     * @return The outer boundary followed by the boundaries of the islands as closed polylines.
+     *         Arcs are approximated by segments.
+     */
+    public List<Polyline> getBoundaries () {
+
+        List<Polyline> boundaries = new ArrayList<Polyline>();
+        try {
+            boundaries.add(new Polyline(outer.getPoints()));
+            for (Boundary hole : outer.getHoles()) {
+                boundaries.add(new Polyline(hole.getPoints()));
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should never happen
+            e.printStackTrace();
+        }
+        catch (InvalidArgumentException e) {
+            // Should never happen since a boundary has at least two distinct vertices
+            e.printStackTrace();
+        }
+        return boundaries;
+    }
+
+    /**
+     * @return The points of the outer boundary, closed by repeating the first one at the end
+     */
+    public List<Point> getOuterPoints () {
+
+        return outer.getPoints();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:24:22, by agent.<br>
+ * It is part of package br.org.archimedes.region on the br.org.archimedes.region project.<br>
+ */
+
+package br.org.archimedes.region;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.region.<br>
+ * Point of the arrangement where edges meet. It also keeps track of the connected component it
+ * belongs to.
+ *
+ * @author agent
+ */
+class Vertex {
+
+    private Point point;
+
+    private List<HalfEdge> outgoing;
+
+    private Vertex parent;
+
+
+    /**
+     * @param point
+     *            The position of this vertex
+     */
+    public Vertex (Point point) {
+
+        this.point = point;
+        outgoing = new ArrayList<HalfEdge>(2);
+        parent = this;
+    }
+
+    /**
+     * @return The vertex representing the connected component of this vertex
+     */
+    public Vertex getComponent () {
+
+        Vertex root = this;
+        while (root.parent != root) {
+            root = root.parent;
+        }
+        Vertex current = this;
+        while (current.parent != root) {
+            Vertex next = current.parent;
+            current.parent = root;
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * Puts the other vertex in the same connected component as this one.
+     */
+    public void connect (Vertex other) {
+
+        Vertex root = getComponent();
+        Vertex otherRoot = other.getComponent();
+        if (root != otherRoot) {
+            otherRoot.parent = root;
+        }
+    }
+
+    public Point getPoint () {
+
+        return point;
+    }
+
+    /**
+     * @return The half edges leaving this vertex
+     */
+    public List<HalfEdge> getOutgoing () {
+
+        return outgoing;
+    }
+}
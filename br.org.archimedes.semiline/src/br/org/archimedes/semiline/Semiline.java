@@ -31,6 +31,7 @@ import br.org.archimedes.model.Filletable;
 import br.org.archimedes.model.Offsetable;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.RectangleIntersectable;
 import br.org.archimedes.model.ReferencePoint;
 import br.org.archimedes.model.Vector;
 import br.org.archimedes.model.references.SquarePoint;
@@ -40,7 +41,8 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
-public class Semiline extends Element implements Offsetable, Filletable {
+public class Semiline extends Element implements Offsetable, Filletable,
+        RectangleIntersectable {
 
     private Point initialPoint;
 
@@ -91,6 +93,21 @@ public class Semiline extends Element implements Offsetable, Filletable {
         return false;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.RectangleIntersectable#intersects(br.org.archimedes.model.Rectangle)
+     */
+    public boolean intersects (Rectangle rectangle) throws NullArgumentException {
+
+        if (rectangle == null) {
+            throw new NullArgumentException();
+        }
+        double x = initialPoint.getX();
+        double y = initialPoint.getY();
+        return rectangle.intersectsLine(x, y, directionPoint.getX() - x, directionPoint.getY() - y,
+                0, Double.POSITIVE_INFINITY);
+    }
+
     /**
      * Tests if the semiline contains a point.
      * 
@@ -136,10 +153,12 @@ public class Semiline extends Element implements Offsetable, Filletable {
 
     public void move (double deltaX, double deltaY) {
 
+        willChange();
         initialPoint.setX(initialPoint.getX() + deltaX);
         initialPoint.setY(initialPoint.getY() + deltaY);
         directionPoint.setX(directionPoint.getX() + deltaX);
         directionPoint.setY(directionPoint.getY() + deltaY);
+        invalidateBoundary();
     }
 
     /*
@@ -207,6 +226,16 @@ public class Semiline extends Element implements Offsetable, Filletable {
 				.getX(), getDirectionPoint().getY());
     }
 
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.model.Element#isUnbounded()
+     */
+    @Override
+    public boolean isUnbounded () {
+
+        return true;
+    }
+
     /**
      * @param point
      *            The point to be checked
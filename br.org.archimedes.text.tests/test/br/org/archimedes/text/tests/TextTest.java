@@ -136,7 +136,7 @@ public class TextTest extends Tester {
         Assert.assertEquals(10.0, t.getSize());
 
         Assert.assertNotNull(t.getFont());
-        Assert.assertEquals(Constant.DEFAULT_FONT, t.getFont());
+        Assert.assertEquals(Constant.getDefaultFont(), t.getFont());
     }
 
     /**
@@ -97,7 +97,7 @@ public class Text extends Element {
         this.verticalPoint = originPoint.addVector(new Vector(new Point(0, size)));
 
         if (font == null) {
-            this.font = Constant.DEFAULT_FONT;
+            this.font = Constant.getDefaultFont();
         }
         else {
             this.font = font;
@@ -189,7 +189,10 @@ public class Text extends Element {
 
     public void setText (String text) {
 
+        willChange();
         this.text = text;
+        resetWidthCache();
+        invalidateBoundary();
     }
 
     /**
@@ -255,6 +258,11 @@ public class Text extends Element {
     @Override
     public Rectangle getBoundaryRectangle () {
 
+        Rectangle cached = getCachedBoundary();
+        if (cached != null) {
+            return cached;
+        }
+
         Vector widthVector = new Vector(originPoint, horizontalPoint);
         widthVector = Geometrics.normalize(widthVector);
         widthVector = widthVector.multiply(getWidth());
@@ -272,7 +280,9 @@ public class Text extends Element {
         minY = min(p1.getY(), p2.getY(), p3.getY(), p4.getY());
         maxY = max(p1.getY(), p2.getY(), p3.getY(), p4.getY());
 
-        return new Rectangle(minX, minY, maxX, maxY);
+        Rectangle boundary = new Rectangle(minX, minY, maxX, maxY);
+        setCachedBoundary(boundary);
+        return boundary;
     }
 
     private double min (double d1, double d2, double d3, double d4) {
@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:06:47, by agent.<br>
+ * It is part of package br.org.archimedes.trims on the br.org.archimedes.trims.tests project.<br>
+ */
+
+package br.org.archimedes.trims;
+
+import static br.org.archimedes.trims.IsACollectionEquivalentTo.isACollectionEquivalentTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.argThat;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import br.org.archimedes.Tester;
+import br.org.archimedes.infiniteline.InfiniteLine;
+import br.org.archimedes.interfaces.IntersectionManager;
+import br.org.archimedes.interfaces.TrimManager;
+import br.org.archimedes.line.Line;
+import br.org.archimedes.model.Drawing;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.trims.
+ *
+ * @author agent
+ */
+public class CrossingTrimCommandTest extends Tester {
+
+    private Collection<Element> references;
+
+    private Map<Element, List<Point>> crossings;
+
+    private IntersectionManager intersectionManager;
+
+    private TrimManager trimManager;
+
+    private Drawing drawing;
+
+    private Line firstHatch;
+
+    private Line secondHatch;
+
+    private Set<Element> removed;
+
+    private Set<Element> added;
+
+
+    @Before
+    public void setUp () throws Exception {
+
+        references = new ArrayList<Element>();
+        references.add(new InfiniteLine(0.0, 0.0, 0.0, 100.0));
+        references.add(new InfiniteLine(50.0, 0.0, 50.0, 100.0));
+        firstHatch = new Line( -10.0, 10.0, 60.0, 10.0);
+        secondHatch = new Line( -10.0, 20.0, 60.0, 20.0);
+
+        drawing = new Drawing("Test"); //$NON-NLS-1$
+        for (Element element : references) {
+            drawing.putElement(element, drawing.getCurrentLayer());
+        }
+        drawing.putElement(firstHatch, drawing.getCurrentLayer());
+        drawing.putElement(secondHatch, drawing.getCurrentLayer());
+        br.org.archimedes.Utils.getController().setActiveDrawing(drawing);
+
+        crossings = new LinkedHashMap<Element, List<Point>>();
+        intersectionManager = mock(IntersectionManager.class);
+        trimManager = mock(TrimManager.class);
+        removed = null;
+        added = null;
+    }
+
+    private void addCrossing (Element element, Point crossing) {
+
+        List<Point> elementCrossings = crossings.get(element);
+        if (elementCrossings == null) {
+            elementCrossings = new ArrayList<Point>();
+            crossings.put(element, elementCrossings);
+        }
+        elementCrossings.add(crossing);
+    }
+
+    private CrossingTrimCommand createCommand () throws Exception {
+
+        CrossingTrimCommand command = new CrossingTrimCommand(references, crossings) {
+
+            @Override
+            protected void buildMacro (Set<Element> toRemove, Set<Element> toAdd) {
+
+                removed = toRemove;
+                added = toAdd;
+            }
+        };
+        command.setIntersectionManager(intersectionManager);
+        command.setTrimManager(trimManager);
+        return command;
+    }
+
+    private List<Point> stubCutPoints (Line hatch) throws Exception {
+
+        List<Point> cutPoints = new ArrayList<Point>();
+        cutPoints.add(new Point(0.0, hatch.getInitialPoint().getY()));
+        cutPoints.add(new Point(50.0, hatch.getInitialPoint().getY()));
+        when(
+                intersectionManager.getIntersectionsBetween(eq(hatch),
+                        argThat(isACollectionEquivalentTo(references)))).thenReturn(cutPoints);
+        return cutPoints;
+    }
+
+    private List<Element> stubTrim (Line hatch, List<Point> cutPoints, Point click)
+            throws Exception {
+
+        double y = hatch.getInitialPoint().getY();
+        List<Element> pieces = new ArrayList<Element>();
+        pieces.add(new Line( -10.0, y, 0.0, y));
+        pieces.add(new Line(50.0, y, 60.0, y));
+        when(trimManager.getTrimOf(hatch, cutPoints, click)).thenReturn(pieces);
+        return pieces;
+    }
+
+    @Test
+    public void trimsEveryCrossedElementInOneCommand () throws Exception {
+
+        Point firstCrossing = new Point(25.0, 10.0);
+        Point secondCrossing = new Point(25.0, 20.0);
+        addCrossing(firstHatch, firstCrossing);
+        addCrossing(secondHatch, secondCrossing);
+
+        Set<Element> expectedAdded = new HashSet<Element>();
+        expectedAdded.addAll(stubTrim(firstHatch, stubCutPoints(firstHatch), firstCrossing));
+        expectedAdded.addAll(stubTrim(secondHatch, stubCutPoints(secondHatch), secondCrossing));
+
+        createCommand().doIt(drawing);
+
+        Set<Element> expectedRemoved = new HashSet<Element>();
+        expectedRemoved.add(firstHatch);
+        expectedRemoved.add(secondHatch);
+        assertCollectionTheSame(expectedRemoved, removed);
+        assertCollectionTheSame(expectedAdded, added);
+    }
+
+    @Test
+    public void ignoresCrossingsOnAlreadyRemovedParts () throws Exception {
+
+        Point firstCrossing = new Point(20.0, 10.0);
+        Point secondCrossing = new Point(30.0, 10.0);
+        addCrossing(firstHatch, firstCrossing);
+        addCrossing(firstHatch, secondCrossing);
+
+        List<Point> cutPoints = stubCutPoints(firstHatch);
+        List<Element> pieces = stubTrim(firstHatch, cutPoints, firstCrossing);
+        stubTrim(firstHatch, cutPoints, secondCrossing);
+
+        createCommand().doIt(drawing);
+
+        verify(trimManager, times(1)).getTrimOf(eq(firstHatch), eq(cutPoints),
+                any(Point.class));
+        assertCollectionTheSame(pieces, added);
+    }
+
+    @Test
+    public void trimsEveryElementCrossedOnTheSamePoint () throws Exception {
+
+        Line crossingHatch = new Line(25.0, 0.0, 25.0, 30.0);
+        drawing.putElement(crossingHatch, drawing.getCurrentLayer());
+        Point crossing = new Point(25.0, 10.0);
+        addCrossing(firstHatch, crossing);
+        addCrossing(crossingHatch, crossing);
+
+        Set<Element> expectedAdded = new HashSet<Element>();
+        expectedAdded.addAll(stubTrim(firstHatch, stubCutPoints(firstHatch), crossing));
+        List<Point> cutPoints = new ArrayList<Point>();
+        cutPoints.add(new Point(25.0, 5.0));
+        when(
+                intersectionManager.getIntersectionsBetween(eq(crossingHatch),
+                        argThat(isACollectionEquivalentTo(references)))).thenReturn(cutPoints);
+        List<Element> pieces = new ArrayList<Element>();
+        pieces.add(new Line(25.0, 0.0, 25.0, 5.0));
+        when(trimManager.getTrimOf(crossingHatch, cutPoints, crossing)).thenReturn(pieces);
+        expectedAdded.addAll(pieces);
+
+        createCommand().doIt(drawing);
+
+        Set<Element> expectedRemoved = new HashSet<Element>();
+        expectedRemoved.add(firstHatch);
+        expectedRemoved.add(crossingHatch);
+        assertCollectionTheSame(expectedRemoved, removed);
+        assertCollectionTheSame(expectedAdded, added);
+    }
+}
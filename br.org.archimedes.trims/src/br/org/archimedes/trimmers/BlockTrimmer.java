@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 19:05:47, by agent.<br>
+ * It is part of package br.org.archimedes.trimmers on the br.org.archimedes.trims project.<br>
+ */
+package br.org.archimedes.trimmers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import br.org.archimedes.block.BlockReference;
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+import br.org.archimedes.trims.TrimManager;
+import br.org.archimedes.trims.interfaces.Trimmer;
+
+/**
+ * Belongs to package br.org.archimedes.trimmers.<br>
+ * Trims a block reference. A block cannot be partially trimmed so the reference is exploded and
+ * only the element of the block closest to the click is trimmed. The reference is kept as it is
+ * if that element is not cut.
+ *
+ * @author agent
+ */
+public class BlockTrimmer implements Trimmer {
+
+    private TrimManager manager;
+
+
+    public Collection<Element> trim (Element element, Collection<Point> cutPoints, Point click)
+            throws NullArgumentException {
+
+        if (element == null || cutPoints == null) {
+            throw new NullArgumentException();
+        }
+
+        BlockReference reference = (BlockReference) element;
+        List<Element> exploded = reference.explode();
+        Element clicked = null;
+        double distance = Double.MAX_VALUE;
+        for (Element piece : exploded) {
+            Point projection = piece.getProjectionOf(click);
+            if (projection != null && projection.calculateDistance(click) < distance) {
+                distance = projection.calculateDistance(click);
+                clicked = piece;
+            }
+        }
+
+        Collection<Point> pieceCutPoints = new ArrayList<Point>();
+        if (clicked != null) {
+            for (Point cutPoint : cutPoints) {
+                if (clicked.contains(cutPoint)) {
+                    pieceCutPoints.add(cutPoint);
+                }
+            }
+        }
+        if (pieceCutPoints.isEmpty()) {
+            return Collections.singleton(element);
+        }
+
+        if (manager == null) {
+            // Created late since this trimmer is built while the manager loads them
+            manager = new TrimManager();
+        }
+        exploded.remove(clicked);
+        Collection<Element> trimResult = new ArrayList<Element>(exploded);
+        trimResult.addAll(manager.getTrimOf(clicked, pieceCutPoints, click));
+        return trimResult;
+    }
+}
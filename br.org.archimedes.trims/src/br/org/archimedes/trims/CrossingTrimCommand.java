@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2026 Hugo Corbucci and others.<br>
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html<br>
+ * <br>
+ * Contributors:<br>
+ * agent - initial API and implementation<br>
+ * <br>
+ * This file was created on 2026/10/19, 18:06:47, by agent.<br>
+ * It is part of package br.org.archimedes.trims on the br.org.archimedes.trims project.<br>
+ */
+
+package br.org.archimedes.trims;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import br.org.archimedes.exceptions.NullArgumentException;
+import br.org.archimedes.model.Element;
+import br.org.archimedes.model.Point;
+
+/**
+ * Belongs to package br.org.archimedes.trims.<br>
+ * Trim of every element crossed by a fence or a crossing window. The crossed elements are already
+ * known so each crossing point is used as a click on its element without looking for the element
+ * under it. All trims are performed by a single macro command.
+ *
+ * @author agent
+ */
+public class CrossingTrimCommand extends TrimCommand {
+
+    private List<Element> crossed;
+
+
+    /**
+     * @param references
+     *            The references for this trim
+     * @param crossings
+     *            The crossed elements and the points where the fence or window crosses each of
+     *            them. Elements are trimmed in the iteration order of this map.
+     * @throws NullArgumentException
+     *             If one of the arguments is null
+     */
+    public CrossingTrimCommand (Collection<Element> references,
+            Map<Element, List<Point>> crossings) throws NullArgumentException {
+
+        super(references, crossings == null ? null : getPoints(crossings));
+        crossed = new ArrayList<Element>();
+        for (Entry<Element, List<Point>> entry : crossings.entrySet()) {
+            for (int i = 0; i < entry.getValue().size(); i++) {
+                crossed.add(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * @param crossings
+     *            The crossed elements and their crossing points
+     * @return Every crossing point, grouped by crossed element
+     */
+    private static List<Point> getPoints (Map<Element, List<Point>> crossings) {
+
+        List<Point> points = new ArrayList<Point>();
+        for (List<Point> elementCrossings : crossings.values()) {
+            points.addAll(elementCrossings);
+        }
+        return points;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see br.org.archimedes.trims.TrimCommand#getClickedElements(java.util.List)
+     */
+    @Override
+    protected List<Element> getClickedElements (List<Point> points) {
+
+        return crossed;
+    }
+}
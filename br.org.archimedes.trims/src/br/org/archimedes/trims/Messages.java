@@ -31,6 +31,9 @@ public class Messages extends NLS {
     public static String Trimmed;
     public static String TrimSelectElements;
     public static String TrimCancel;
+    public static String TrimFenceFirstPoint;
+    public static String TrimFenceNextPoint;
+    public static String TrimFenceNothingCrossed;
 
     public static String UndoPerformed;
     static {
@@ -26,6 +26,8 @@ import br.org.archimedes.interfaces.UndoableCommand;
 import br.org.archimedes.model.Drawing;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
+import br.org.archimedes.model.Rectangle;
+import br.org.archimedes.model.SpatialIndex;
 import br.org.archimedes.rcp.extensionpoints.IntersectionManagerEPLoader;
 import br.org.archimedes.rcp.extensionpoints.TrimManagerEPLoader;
 
@@ -60,6 +62,10 @@ public class TrimCommand implements UndoableCommand {
 
     private IntersectionManager intersectionManager;
 
+    private List<Element> clickedElements;
+
+    private Map<Element, Collection<Point>> cutPointsMap;
+
 
     /**
      * @param references
@@ -103,8 +109,11 @@ public class TrimCommand implements UndoableCommand {
                 references.addAll(drawing.getUnlockedContents());
             }
 
-            for (Point point : clicks) {
-                computeTrim(drawing, point);
+            clickedElements = getClickedElements(clicks);
+            cutPointsMap = computeCutPoints(new HashSet<Element>(clickedElements));
+
+            for (int i = 0; i < clicks.size(); i++) {
+                computeTrim(drawing, clicks.get(i), clickedElements.get(i));
             }
 
             if (trimMap.keySet().size() == 0) {
@@ -154,15 +163,16 @@ public class TrimCommand implements UndoableCommand {
      *            The base drawing
      * @param click
      *            A click point for the trim
+     * @param toTrim
+     *            The element under the click
      * @throws IllegalActionException
      *             In case no element was clicked
      * @throws NullArgumentException
      *             In case that the references of trimming are null
      */
-    protected void computeTrim (Drawing drawing, Point click) throws IllegalActionException,
-            NullArgumentException {
+    protected void computeTrim (Drawing drawing, Point click, Element toTrim)
+            throws IllegalActionException, NullArgumentException {
 
-        Element toTrim = getClickedElement(click);
         Element key = null;
         boolean isInMap = false;
 
@@ -170,9 +180,10 @@ public class TrimCommand implements UndoableCommand {
             throw new IllegalActionException();
         }
 
-        cutPoints = intersectionManager.getIntersectionsBetween(toTrim, references);
+        cutPoints = cutPointsMap.get(toTrim);
 
-        if (trimMap.containsKey(toTrim)) {
+        boolean alreadyTrimmed = trimMap.containsKey(toTrim);
+        if (alreadyTrimmed) {
             Set<Element> turnedTo = trimMap.get(toTrim);
             for (Element element : turnedTo) {
                 try {
@@ -189,7 +200,8 @@ public class TrimCommand implements UndoableCommand {
             }
         }
 
-        if (key == null || isInMap) {
+        // When the clicked part of an element was already removed there is nothing left to trim
+        if ( !alreadyTrimmed || isInMap) {
 
             Collection<Element> trimResult = trimManager.getTrimOf(toTrim, cutPoints, click);
             if ( !trimResult.isEmpty()) {
@@ -208,6 +220,55 @@ public class TrimCommand implements UndoableCommand {
         }
     }
 
+    /**
+     * Computes the cut points of all elements at once. The references are indexed in a single
+     * pass so that each element is only intersected with the references close to it.
+     * 
+     * @param toTrim
+     *            The elements that will be trimmed
+     * @return A map from each element to its cut points
+     * @throws NullArgumentException
+     *             Should not happen since elements are not null
+     */
+    private Map<Element, Collection<Point>> computeCutPoints (Collection<Element> toTrim)
+            throws NullArgumentException {
+
+        SpatialIndex index = new SpatialIndex(references);
+
+        Map<Element, Collection<Point>> cutPoints = new HashMap<Element, Collection<Point>>();
+        for (Element element : toTrim) {
+            Rectangle boundary = element.getBoundaryRectangle();
+            Collection<Element> candidates = references;
+            if (boundary != null && !element.isUnbounded()) {
+                candidates = index.getElementsIn(boundary);
+            }
+            cutPoints.put(element, intersectionManager.getIntersectionsBetween(element,
+                    candidates));
+        }
+        return cutPoints;
+    }
+
+    /**
+     * @param points
+     *            The points where a click occurred
+     * @return The element under each click, in the same order
+     * @throws IllegalActionException
+     *             In case there is no element under one of the clicks
+     */
+    protected List<Element> getClickedElements (List<Point> points)
+            throws IllegalActionException {
+
+        List<Element> clicked = new ArrayList<Element>(points.size());
+        for (Point point : points) {
+            Element element = getClickedElement(point);
+            if (element == null) {
+                throw new IllegalActionException();
+            }
+            clicked.add(element);
+        }
+        return clicked;
+    }
+
     /**
      * @param click
      *            The click point
@@ -22,10 +22,12 @@ import br.org.archimedes.factories.CommandFactory;
 import br.org.archimedes.interfaces.Command;
 import br.org.archimedes.interfaces.IntersectionManager;
 import br.org.archimedes.interfaces.Parser;
+import br.org.archimedes.model.Drawing;
 import br.org.archimedes.model.Element;
 import br.org.archimedes.model.Point;
 import br.org.archimedes.model.Rectangle;
 import br.org.archimedes.model.Selection;
+import br.org.archimedes.parser.PointParser;
 import br.org.archimedes.parser.ReturnDecoratorParser;
 import br.org.archimedes.parser.SelectionParser;
 import br.org.archimedes.parser.SimpleSelectionParser;
@@ -38,7 +40,9 @@ import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class TrimFactory implements CommandFactory {
@@ -53,7 +57,9 @@ public class TrimFactory implements CommandFactory {
 
     private int count;
 
-    private ArrayList<Point> points;
+    private Map<Element, List<Point>> crossings;
+
+    private List<Point> fence;
 
     private IntersectionManager intersectionManager;
 
@@ -100,7 +106,10 @@ public class TrimFactory implements CommandFactory {
         String result = null;
 
         if ( !isDone()) {
-            if (parameter == null) {
+            if (fence != null) {
+                result = tryGetFencePoint(parameter);
+            }
+            else if (parameter == null) {
                 active = false;
                 command = null;
                 result = Messages.Trimmed;
@@ -111,6 +120,10 @@ public class TrimFactory implements CommandFactory {
             else if ( !gotRef) {
                 result = tryGetReference(parameter);
             }
+            else if (parameter.equals("f") || parameter.equals("F")) { //$NON-NLS-1$ //$NON-NLS-2$
+                fence = new ArrayList<Point>();
+                result = Messages.TrimFenceFirstPoint;
+            }
             else {
                 result = tryGetSelection(parameter);
                 count++; // TODO Disconsider this when the command fails.
@@ -193,8 +206,8 @@ public class TrimFactory implements CommandFactory {
         }
         try {
             Selection selection = (Selection) parameter;
-            calculatePoints(selection);
-            command = new TrimCommand(references, points);
+            calculateCrossings(selection);
+            command = new CrossingTrimCommand(references, crossings);
             result = Messages.TrimSelectElements;
         }
         catch (ClassCastException e) {
@@ -210,17 +223,132 @@ public class TrimFactory implements CommandFactory {
     }
 
     /**
-     * Calculates the list of points on which to perform the trim/extend.
+     * Tries to get the next point of the fence. A return ends the fence and trims every element
+     * it crosses.
+     * 
+     * @param parameter
+     *            The potential point, "u" or null
+     * @return A message to the user.
+     * @throws InvalidParameterException
+     *             In case the parameter was not a point.
+     */
+    private String tryGetFencePoint (Object parameter) throws InvalidParameterException {
+
+        String result;
+        if (parameter == null) {
+            result = Messages.TrimSelectElements;
+            if (fence.size() > 1) {
+                result = trimFence();
+            }
+            fence = null;
+        }
+        else if (parameter.equals("u") || parameter.equals("U")) { //$NON-NLS-1$ //$NON-NLS-2$
+            if (fence.isEmpty()) {
+                fence = null;
+                result = Messages.TrimSelectElements;
+            }
+            else {
+                fence.remove(fence.size() - 1);
+                result = fence.isEmpty() ? Messages.TrimFenceFirstPoint
+                        : Messages.TrimFenceNextPoint;
+            }
+        }
+        else {
+            try {
+                fence.add((Point) parameter);
+            }
+            catch (ClassCastException e) {
+                throw new InvalidParameterException(Messages.TrimFenceNextPoint);
+            }
+            result = Messages.TrimFenceNextPoint;
+        }
+        return result;
+    }
+
+    /**
+     * Creates the command that trims every unlocked element crossed by the fence. Only the
+     * elements the drawing's index finds around the fence are intersected with it.
+     * 
+     * @return A message to the user.
+     */
+    private String trimFence () {
+
+        crossings = new LinkedHashMap<Element, List<Point>>();
+        try {
+            Polyline fenceLine = new Polyline(fence);
+            Rectangle area = fenceLine.getBoundaryRectangle();
+            Drawing drawing = br.org.archimedes.Utils.getController().getActiveDrawing();
+            for (Element element : drawing.getUnlockedIndex().getElementsIn(area)) {
+                addCrossings(element, fenceLine);
+            }
+        }
+        catch (InvalidArgumentException e) {
+            // Fence with repeated points. Nothing to trim.
+        }
+        catch (NullArgumentException e) {
+            // Should not happen
+            e.printStackTrace();
+        }
+        catch (NoActiveDrawingException e) {
+            // Should not happen because there is a drawing while trimming
+            e.printStackTrace();
+        }
+
+        if (crossings.isEmpty()) {
+            return Messages.TrimFenceNothingCrossed;
+        }
+        try {
+            command = new CrossingTrimCommand(references, crossings);
+            count++;
+        }
+        catch (NullArgumentException e) {
+            // Should not happen
+            e.printStackTrace();
+        }
+        return Messages.TrimSelectElements;
+    }
+
+    /**
+     * Adds the points where the element crosses the border as crossings of the element.
+     * 
+     * @param element
+     *            The crossed element
+     * @param border
+     *            The fence or the border of the crossing window
+     */
+    private void addCrossings (Element element, Polyline border) {
+
+        try {
+            for (Point intersection : intersectionManager.getIntersectionsBetween(element, border)) {
+                if (element.contains(intersection) && border.contains(intersection)) {
+                    List<Point> elementCrossings = crossings.get(element);
+                    if (elementCrossings == null) {
+                        elementCrossings = new ArrayList<Point>();
+                        crossings.put(element, elementCrossings);
+                    }
+                    elementCrossings.add(intersection);
+                }
+            }
+        }
+        catch (NullArgumentException e) {
+            // Should not happen
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Calculates the points on which to perform the trim and the element crossed on each of
+     * them.
      * 
      * @param selection
      *            The selection to use.
      * @throws InvalidArgumentException
      * @throws NullArgumentException
      */
-    private void calculatePoints (Selection selection)
+    private void calculateCrossings (Selection selection)
             throws NullArgumentException, InvalidArgumentException {
 
-        points = new ArrayList<Point>();
+        crossings = new LinkedHashMap<Element, List<Point>>();
 
         Rectangle area = selection.getRectangle();
 
@@ -230,21 +358,7 @@ public class TrimFactory implements CommandFactory {
             
             Set<Element> elements = selection.getSelectedElements();
             for (Element element : elements) {
-                Collection<Point> intersections = new ArrayList<Point>();
-                try {
-                    intersections = intersectionManager
-                            .getIntersectionsBetween(element, areaPl);
-                    for (Point intersection : intersections) {
-                        if (element.contains(intersection)
-                                && areaPl.contains(intersection)) {
-                            points.add(intersection);
-                        }
-                    }
-                }
-                catch (NullArgumentException e) {
-                    // Should not happen
-                    e.printStackTrace();
-                }
+                addCrossings(element, areaPl);
             }
         }
     }
@@ -275,6 +389,7 @@ public class TrimFactory implements CommandFactory {
         references = null;
         gotRef = false;
         count = 0;
+        fence = null;
 
     }
 
@@ -292,14 +407,18 @@ public class TrimFactory implements CommandFactory {
 
         Parser parser = null;
         if (active) {
-            if ( !gotRef) {
+            if (fence != null) {
+                Parser pointParser = new ReturnDecoratorParser(new PointParser());
+                parser = new StringDecoratorParser(pointParser, "u"); //$NON-NLS-1$
+            }
+            else if ( !gotRef) {
                 parser = new SimpleSelectionParser();
             }
             else {
                 Parser selectionParser = new SelectionParser();
                 Parser decoratedParser = new ReturnDecoratorParser(
                         selectionParser);
-                parser = new StringDecoratorParser(decoratedParser, "u"); //$NON-NLS-1$
+                parser = new StringDecoratorParser(decoratedParser, new String[] {"u", "f"}); //$NON-NLS-1$ //$NON-NLS-2$
             }
         }
         return parser;
@@ -321,6 +440,20 @@ public class TrimFactory implements CommandFactory {
 
     public void drawVisualHelper () {
 
+        if (fence != null && !fence.isEmpty() && !isDone()) {
+            List<Point> points = new ArrayList<Point>(fence);
+            points.add(br.org.archimedes.Utils.getWorkspace().getMousePosition());
+            try {
+                new Polyline(points).draw(br.org.archimedes.Utils.getOpenGLWrapper());
+            }
+            catch (InvalidArgumentException e) {
+                // Ignored while the mouse is over the last point
+            }
+            catch (NullArgumentException e) {
+                // Should not happen
+                e.printStackTrace();
+            }
+        }
     }
 
     public String getName () {